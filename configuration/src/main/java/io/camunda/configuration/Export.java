@@ -20,6 +20,8 @@ public class Export {
       Set.of("zeebe.broker.exporting.distributionInterval");
   private static final Set<String> LEGACY_SKIP_RECORDS_PROPERTIES =
       Set.of("zeebe.broker.exporting.skipRecords");
+  private static final Set<String> LEGACY_INDEPENDENT_PIPELINES_PROPERTIES =
+      Set.of("zeebe.broker.exporting.independentPipelines");
 
   /**
    * Configures the rate at which exporter positions are distributed to the followers. This is
@@ -38,6 +40,14 @@ public class Export {
    */
   private Set<Long> skipRecords = Set.of();
 
+  /**
+   * If enabled, every exporter reads the log with its own reader and on its own thread, and tracks
+   * its own position, instead of all exporters being handed each record one after another. This
+   * prevents a slow exporter from holding back the others, at the cost of reading the log once per
+   * exporter. Decoded records are shared between exporters through a small read-ahead cache.
+   */
+  private boolean independentPipelines = false;
+
   public Duration getDistributionInterval() {
     return UnifiedConfigurationHelper.validateLegacyConfiguration(
         PREFIX + ".distribution-interval",
@@ -63,4 +73,17 @@ public class Export {
   public void setSkipRecords(final Set<Long> skipRecords) {
     this.skipRecords = skipRecords;
   }
+
+  public boolean isIndependentPipelines() {
+    return UnifiedConfigurationHelper.validateLegacyConfiguration(
+        PREFIX + ".independent-pipelines",
+        independentPipelines,
+        Boolean.class,
+        BackwardsCompatibilityMode.SUPPORTED,
+        LEGACY_INDEPENDENT_PIPELINES_PROPERTIES);
+  }
+
+  public void setIndependentPipelines(final boolean independentPipelines) {
+    this.independentPipelines = independentPipelines;
+  }
 }
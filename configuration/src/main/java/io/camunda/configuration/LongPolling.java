@@ -20,14 +20,16 @@ public class LongPolling {
           "enabled", "zeebe.gateway.longPolling.enabled",
           "timeout", "zeebe.gateway.longPolling.timeout",
           "probeTimeout", "zeebe.gateway.longPolling.probeTimeout",
-          "minEmptyResponses", "zeebe.gateway.longPolling.minEmptyResponses");
+          "minEmptyResponses", "zeebe.gateway.longPolling.minEmptyResponses",
+          "partitionFanOut", "zeebe.gateway.longPolling.partitionFanOut");
 
   private static final Map<String, String> LEGACY_BROKER_PROPERTIES =
       Map.of(
           "enabled", "zeebe.broker.gateway.longPolling.enabled",
           "timeout", "zeebe.broker.gateway.longPolling.timeout",
           "probeTimeout", "zeebe.broker.gateway.longPolling.probeTimeout",
-          "minEmptyResponses", "zeebe.broker.gateway.longPolling.minEmptyResponses");
+          "minEmptyResponses", "zeebe.broker.gateway.longPolling.minEmptyResponses",
+          "partitionFanOut", "zeebe.broker.gateway.longPolling.partitionFanOut");
 
   private Map<String, String> legacyPropertiesMap = LEGACY_BROKER_PROPERTIES;
 
@@ -47,6 +49,12 @@ public class LongPolling {
   private int minEmptyResponses =
       ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
 
+  /**
+   * Set the maximum number of partitions which are asked concurrently for jobs. With more than one,
+   * partitions which had no jobs of the requested type are skipped until jobs become available
+   */
+  private int partitionFanOut = ConfigurationDefaults.DEFAULT_LONG_POLLING_PARTITION_FAN_OUT;
+
   public boolean isEnabled() {
     return UnifiedConfigurationHelper.validateLegacyConfiguration(
         PREFIX + ".enabled",
@@ -99,6 +107,19 @@ public class LongPolling {
     this.minEmptyResponses = minEmptyResponses;
   }
 
+  public int getPartitionFanOut() {
+    return UnifiedConfigurationHelper.validateLegacyConfiguration(
+        PREFIX + ".partition-fan-out",
+        partitionFanOut,
+        Integer.class,
+        BackwardsCompatibilityMode.SUPPORTED,
+        Set.of(legacyPropertiesMap.get("partitionFanOut")));
+  }
+
+  public void setPartitionFanOut(final int partitionFanOut) {
+    this.partitionFanOut = partitionFanOut;
+  }
+
   @Override
   public LongPolling clone() {
     final LongPolling copy = new LongPolling();
@@ -106,6 +127,7 @@ public class LongPolling {
     copy.timeout = timeout;
     copy.probeTimeout = probeTimeout;
     copy.minEmptyResponses = minEmptyResponses;
+    copy.partitionFanOut = partitionFanOut;
 
     return copy;
   }
@@ -51,6 +51,14 @@ public class Raft {
       "zeebe.broker.experimental.raft.preferSnapshotReplicationThreshold";
   private static final String LEGACY_PREALLOCATE_SEGMENT_FILES =
       "zeebe.broker.experimental.raft.preallocateSegmentFiles";
+  private static final String LEGACY_SORTED_ARRAY_JOURNAL_INDEX =
+      "zeebe.broker.experimental.raft.sortedArrayJournalIndex";
+  private static final String LEGACY_PERSIST_SEGMENT_INDEX =
+      "zeebe.broker.experimental.raft.persistSegmentIndex";
+  private static final String LEGACY_PREPARED_SEGMENT_COUNT =
+      "zeebe.broker.experimental.raft.preparedSegmentCount";
+  private static final String LEGACY_ADAPTIVE_APPEND_BATCHING =
+      "zeebe.broker.experimental.raft.adaptiveAppendBatching";
 
   /**
    * The heartbeat interval for Raft. The leader sends a heartbeat to a follower every
@@ -165,6 +173,35 @@ public class Raft {
    */
   private boolean preallocateSegmentFiles = true;
 
+  /**
+   * Defines whether the in-memory journal index is kept in sorted primitive arrays instead of skip
+   * list maps. This reduces the memory used by the index, and the garbage it produces, which grow
+   * with the size of the log on brokers with many large segments.
+   */
+  private boolean sortedArrayJournalIndex = false;
+
+  /**
+   * Defines whether the journal index entries of a segment are persisted in a file next to it once
+   * the segment is full. When enabled, the index is restored from these files after a restart,
+   * instead of being rebuilt by reading the log, e.g. when replaying it.
+   */
+  private boolean persistSegmentIndex = false;
+
+  /**
+   * Defines how many segments are created and allocated ahead of time in the background, such that
+   * rolling over to the next segment does not have to wait for it. If 0, the next segment is
+   * created when the current one is full.
+   */
+  private int preparedSegmentCount = 1;
+
+  /**
+   * Defines whether the size of append requests is adapted per follower, based on the observed
+   * round trip time and the follower's backlog. The batch size starts at the max append batch size,
+   * is reduced down to a quarter of it while the follower or the network is congested, and never
+   * exceeds it.
+   */
+  private boolean adaptiveAppendBatching = false;
+
   public Duration getHeartbeatInterval() {
     return UnifiedConfigurationHelper.validateLegacyConfiguration(
         PREFIX + ".heartbeat-interval",
@@ -359,4 +396,56 @@ public class Raft {
   public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
+
+  public boolean isSortedArrayJournalIndex() {
+    return UnifiedConfigurationHelper.validateLegacyConfiguration(
+        PREFIX + ".sorted-array-journal-index",
+        sortedArrayJournalIndex,
+        Boolean.class,
+        UnifiedConfigurationHelper.BackwardsCompatibilityMode.SUPPORTED,
+        Set.of(LEGACY_SORTED_ARRAY_JOURNAL_INDEX));
+  }
+
+  public void setSortedArrayJournalIndex(final boolean sortedArrayJournalIndex) {
+    this.sortedArrayJournalIndex = sortedArrayJournalIndex;
+  }
+
+  public boolean isPersistSegmentIndex() {
+    return UnifiedConfigurationHelper.validateLegacyConfiguration(
+        PREFIX + ".persist-segment-index",
+        persistSegmentIndex,
+        Boolean.class,
+        UnifiedConfigurationHelper.BackwardsCompatibilityMode.SUPPORTED,
+        Set.of(LEGACY_PERSIST_SEGMENT_INDEX));
+  }
+
+  public void setPersistSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+  }
+
+  public int getPreparedSegmentCount() {
+    return UnifiedConfigurationHelper.validateLegacyConfiguration(
+        PREFIX + ".prepared-segment-count",
+        preparedSegmentCount,
+        Integer.class,
+        UnifiedConfigurationHelper.BackwardsCompatibilityMode.SUPPORTED,
+        Set.of(LEGACY_PREPARED_SEGMENT_COUNT));
+  }
+
+  public void setPreparedSegmentCount(final int preparedSegmentCount) {
+    this.preparedSegmentCount = preparedSegmentCount;
+  }
+
+  public boolean isAdaptiveAppendBatching() {
+    return UnifiedConfigurationHelper.validateLegacyConfiguration(
+        PREFIX + ".adaptive-append-batching",
+        adaptiveAppendBatching,
+        Boolean.class,
+        UnifiedConfigurationHelper.BackwardsCompatibilityMode.SUPPORTED,
+        Set.of(LEGACY_ADAPTIVE_APPEND_BATCHING));
+  }
+
+  public void setAdaptiveAppendBatching(final boolean adaptiveAppendBatching) {
+    this.adaptiveAppendBatching = adaptiveAppendBatching;
+  }
 }
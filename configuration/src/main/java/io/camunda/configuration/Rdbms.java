@@ -23,6 +23,21 @@ public class Rdbms extends SecondaryStorageDatabase<RdbmsHistory> {
   /** The maximum size of the exporters execution queue before it is flushed to the database. */
   private Integer queueSize = RdbmsWriterConfig.DEFAULT_QUEUE_SIZE;
 
+  /**
+   * The maximum number of flow node instances, variables or jobs to insert with a single multi-row
+   * insert statement when the exporters execution queue is flushed. Larger values reduce the number
+   * of statements sent to the database, but mind its limit of bind parameters per statement (e.g.
+   * 2100 for SQL Server). If 1, each row is inserted with its own statement.
+   */
+  private Integer multiRowInsertBlockSize = RdbmsWriterConfig.DEFAULT_MULTI_ROW_INSERT_BLOCK_SIZE;
+
+  /**
+   * Whether the exporters execution queue is flushed on a dedicated thread, such that records are
+   * exported while the previous batch is written to the database. The exported position is only
+   * updated once the corresponding batch is committed.
+   */
+  private boolean asyncFlush = RdbmsWriterConfig.DEFAULT_ASYNC_FLUSH;
+
   /** Process definition cache configuration. Defines the size of the process definition cache. */
   private RdbmsCache processCache = new RdbmsCache();
 
@@ -47,8 +62,26 @@ public class Rdbms extends SecondaryStorageDatabase<RdbmsHistory> {
   private int batchOperationItemInsertBlockSize =
       RdbmsWriterConfig.DEFAULT_BATCH_OPERATION_ITEM_INSERT_BLOCK_SIZE;
 
+  /**
+   * If true, searches of process instances, flow node instances, jobs, user tasks, incidents and
+   * variables are rejected if their sort is not served by an index, i.e. if they sort by more than
+   * one field, in mixed directions, or by a field without an index. This keeps deep pages cheap on
+   * large tables.
+   *
+   * <p>The indexes serving these sorts, i.e. by the start and end date of process instances, the
+   * start date of flow node instances, the creation date of user tasks and incidents, and the name
+   * of variables, are only created by the schema migration if this is enabled.
+   */
+  private boolean strictSorting = false;
+
   @NestedConfigurationProperty private RdbmsHistory history = new RdbmsHistory();
 
+  /**
+   * An optional read replica of the database, e.g. a streaming replica of PostgreSQL, to which the
+   * queries of the readers are sent to take load off the primary database.
+   */
+  @NestedConfigurationProperty private RdbmsReadReplica readReplica = new RdbmsReadReplica();
+
   public String getPrefix() {
     return prefix;
   }
@@ -73,6 +106,30 @@ public class Rdbms extends SecondaryStorageDatabase<RdbmsHistory> {
     this.queueSize = queueSize;
   }
 
+  public Integer getMultiRowInsertBlockSize() {
+    return multiRowInsertBlockSize;
+  }
+
+  public void setMultiRowInsertBlockSize(final Integer multiRowInsertBlockSize) {
+    this.multiRowInsertBlockSize = multiRowInsertBlockSize;
+  }
+
+  public boolean isAsyncFlush() {
+    return asyncFlush;
+  }
+
+  public void setAsyncFlush(final boolean asyncFlush) {
+    this.asyncFlush = asyncFlush;
+  }
+
+  public boolean isStrictSorting() {
+    return strictSorting;
+  }
+
+  public void setStrictSorting(final boolean strictSorting) {
+    this.strictSorting = strictSorting;
+  }
+
   public RdbmsCache getProcessCache() {
     return processCache;
   }
@@ -106,6 +163,14 @@ public class Rdbms extends SecondaryStorageDatabase<RdbmsHistory> {
     this.batchOperationItemInsertBlockSize = batchOperationItemInsertBlockSize;
   }
 
+  public RdbmsReadReplica getReadReplica() {
+    return readReplica;
+  }
+
+  public void setReadReplica(final RdbmsReadReplica readReplica) {
+    this.readReplica = readReplica;
+  }
+
   @Override
   public RdbmsHistory getHistory() {
     return history;
@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.configuration;
+
+import java.time.Duration;
+
+/** Configuration of a connection pool. Settings which aren't set keep the pool's defaults. */
+public class RdbmsConnectionPool {
+
+  /** The maximum number of connections in the pool, including idle and in-use ones. */
+  private Integer maximumPoolSize;
+
+  /** The minimum number of idle connections the pool tries to keep. */
+  private Integer minimumIdle;
+
+  /** The maximum time to wait for a connection from the pool. Specified in Java Duration format. */
+  private Duration connectionTimeout;
+
+  /**
+   * The maximum time a connection may sit idle in the pool before it is closed. Specified in Java
+   * Duration format.
+   */
+  private Duration idleTimeout;
+
+  /** The maximum lifetime of a connection in the pool. Specified in Java Duration format. */
+  private Duration maxLifetime;
+
+  public Integer getMaximumPoolSize() {
+    return maximumPoolSize;
+  }
+
+  public void setMaximumPoolSize(final Integer maximumPoolSize) {
+    this.maximumPoolSize = maximumPoolSize;
+  }
+
+  public Integer getMinimumIdle() {
+    return minimumIdle;
+  }
+
+  public void setMinimumIdle(final Integer minimumIdle) {
+    this.minimumIdle = minimumIdle;
+  }
+
+  public Duration getConnectionTimeout() {
+    return connectionTimeout;
+  }
+
+  public void setConnectionTimeout(final Duration connectionTimeout) {
+    this.connectionTimeout = connectionTimeout;
+  }
+
+  public Duration getIdleTimeout() {
+    return idleTimeout;
+  }
+
+  public void setIdleTimeout(final Duration idleTimeout) {
+    this.idleTimeout = idleTimeout;
+  }
+
+  public Duration getMaxLifetime() {
+    return maxLifetime;
+  }
+
+  public void setMaxLifetime(final Duration maxLifetime) {
+    this.maxLifetime = maxLifetime;
+  }
+}
@@ -76,6 +76,14 @@ public class RdbmsHistory {
   /** The default time to live for usage metrics. Specified in Java Duration format. */
   private Duration usageMetricsTTL = RdbmsWriterConfig.HistoryConfig.DEFAULT_USAGE_METRICS_TTL;
 
+  /**
+   * Partitions the process instance, flow node instance, variable and job tables by their history
+   * cleanup date, such that the history cleanup drops whole partitions instead of deleting rows.
+   * Only supported on PostgreSQL, and only applied when the schema is created or updated by Camunda
+   * (auto-ddl).
+   */
+  private boolean partitionedCleanup = false;
+
   public Integer getHistoryCleanupBatchSize() {
     return historyCleanupBatchSize;
   }
@@ -170,4 +178,12 @@ public class RdbmsHistory {
   public void setUsageMetricsTTL(final Duration usageMetricsTTL) {
     this.usageMetricsTTL = usageMetricsTTL;
   }
+
+  public boolean isPartitionedCleanup() {
+    return partitionedCleanup;
+  }
+
+  public void setPartitionedCleanup(final boolean partitionedCleanup) {
+    this.partitionedCleanup = partitionedCleanup;
+  }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.configuration;
+
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+public class RdbmsReadReplica {
+
+  /**
+   * The JDBC URL of the read replica. If set, the queries of the readers are sent to the read
+   * replica, while all writes, and the reads which must see them, stay on the primary database.
+   */
+  private String url;
+
+  /** The username for the connection to the read replica. */
+  private String username;
+
+  /** The password for the connection to the read replica. */
+  private String password;
+
+  /** The connection pool configuration of the read replica. */
+  @NestedConfigurationProperty
+  private RdbmsConnectionPool connectionPool = new RdbmsConnectionPool();
+
+  public String getUrl() {
+    return url;
+  }
+
+  public void setUrl(final String url) {
+    this.url = url;
+  }
+
+  public String getUsername() {
+    return username;
+  }
+
+  public void setUsername(final String username) {
+    this.username = username;
+  }
+
+  public String getPassword() {
+    return password;
+  }
+
+  public void setPassword(final String password) {
+    this.password = password;
+  }
+
+  public RdbmsConnectionPool getConnectionPool() {
+    return connectionPool;
+  }
+
+  public void setConnectionPool(final RdbmsConnectionPool connectionPool) {
+    this.connectionPool = connectionPool;
+  }
+}
@@ -217,6 +217,7 @@ public class BrokerBasedPropertiesOverride {
     longPollingCfg.setTimeout(longPolling.getTimeout());
     longPollingCfg.setProbeTimeout(longPolling.getProbeTimeout());
     longPollingCfg.setMinEmptyResponses(longPolling.getMinEmptyResponses());
+    longPollingCfg.setPartitionFanOut(longPolling.getPartitionFanOut());
   }
 
   private void populateFromMembership(final BrokerBasedProperties override) {
@@ -277,6 +278,13 @@ public class BrokerBasedPropertiesOverride {
         .getExperimental()
         .getRaft()
         .setPreallocateSegmentFiles(raft.isPreallocateSegmentFiles());
+    override
+        .getExperimental()
+        .getRaft()
+        .setSortedArrayJournalIndex(raft.isSortedArrayJournalIndex());
+    override.getExperimental().getRaft().setPersistSegmentIndex(raft.isPersistSegmentIndex());
+    override.getExperimental().getRaft().setPreparedSegmentCount(raft.getPreparedSegmentCount());
+    override.getExperimental().getRaft().setAdaptiveAppendBatching(raft.isAdaptiveAppendBatching());
   }
 
   private void populateFromClusterMetadata(final BrokerBasedProperties override) {
@@ -383,6 +391,7 @@ public class BrokerBasedPropertiesOverride {
     final Export export = unifiedConfiguration.getCamunda().getData().getExport();
     final var exportingCfg =
         new ExportingCfg(export.getSkipRecords(), export.getDistributionInterval());
+    exportingCfg.setIndependentPipelines(export.isIndependentPipelines());
     override.setExporting(exportingCfg);
   }
 
@@ -606,6 +615,8 @@ public class BrokerBasedPropertiesOverride {
     final Map<String, Object> args =
         exporter.getArgs() == null ? new LinkedHashMap<>() : exporter.getArgs();
     setArgIfNotNull(args, "queueSize", database.getQueueSize());
+    setArgIfNotNull(args, "multiRowInsertBlockSize", database.getMultiRowInsertBlockSize());
+    setArgIfNotNull(args, "asyncFlush", database.isAsyncFlush());
     setArgIfNotNull(args, "flushInterval", database.getFlushInterval());
 
     if (database.getHistory() != null) {
@@ -167,6 +167,7 @@ public class GatewayBasedPropertiesOverride {
     longPollingCfg.setTimeout(longPolling.getTimeout());
     longPollingCfg.setProbeTimeout(longPolling.getProbeTimeout());
     longPollingCfg.setMinEmptyResponses(longPolling.getMinEmptyResponses());
+    longPollingCfg.setPartitionFanOut(longPolling.getPartitionFanOut());
   }
 
   private void populateFromCluster(final GatewayBasedProperties override) {
@@ -30,7 +30,8 @@ public class ApiGatewayLongPollingTest {
         "camunda.api.long-polling.enabled=true",
         "camunda.api.long-polling.timeout=20000",
         "camunda.api.long-polling.probe-timeout=30000",
-        "camunda.api.long-polling.min-empty-responses=5"
+        "camunda.api.long-polling.min-empty-responses=5",
+        "camunda.api.long-polling.partition-fan-out=3"
       })
   class WithOnlyUnifiedConfigSet {
     final GatewayBasedProperties gatewayCfg;
@@ -58,6 +59,11 @@ public class ApiGatewayLongPollingTest {
     void shouldSetMinEmptyResponses() {
       assertThat(gatewayCfg.getLongPolling().getMinEmptyResponses()).isEqualTo(5);
     }
+
+    @Test
+    void shouldSetPartitionFanOut() {
+      assertThat(gatewayCfg.getLongPolling().getPartitionFanOut()).isEqualTo(3);
+    }
   }
 
   @Nested
@@ -66,7 +72,8 @@ public class ApiGatewayLongPollingTest {
         "zeebe.broker.gateway.longPolling.enabled=false",
         "zeebe.broker.gateway.longPolling.timeout=2",
         "zeebe.broker.gateway.longPolling.probeTimeout=3",
-        "zeebe.broker.gateway.longPolling.minEmptyResponses=4"
+        "zeebe.broker.gateway.longPolling.minEmptyResponses=4",
+        "zeebe.broker.gateway.longPolling.partitionFanOut=2"
       })
   class WithOnlyLegacyBrokerLongPollingSet {
     final GatewayBasedProperties gatewayCfg;
@@ -98,6 +105,12 @@ public class ApiGatewayLongPollingTest {
       assertThat(gatewayCfg.getLongPolling().getMinEmptyResponses())
           .isEqualTo(ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD);
     }
+
+    @Test
+    void shouldNotSetPartitionFanOutFromLegacyBroker() {
+      assertThat(gatewayCfg.getLongPolling().getPartitionFanOut())
+          .isEqualTo(ConfigurationDefaults.DEFAULT_LONG_POLLING_PARTITION_FAN_OUT);
+    }
   }
 
   @Nested
@@ -106,7 +119,8 @@ public class ApiGatewayLongPollingTest {
         "zeebe.gateway.longPolling.enabled=true",
         "zeebe.gateway.longPolling.timeout=2",
         "zeebe.gateway.longPolling.probeTimeout=3",
-        "zeebe.gateway.longPolling.minEmptyResponses=4"
+        "zeebe.gateway.longPolling.minEmptyResponses=4",
+        "zeebe.gateway.longPolling.partitionFanOut=2"
       })
   class WithOnlyLegacyGatewayLongPollingSet {
     final GatewayBasedProperties gatewayCfg;
@@ -134,6 +148,11 @@ public class ApiGatewayLongPollingTest {
     void shouldSetMinEmptyResponsesFromLegacyGateway() {
       assertThat(gatewayCfg.getLongPolling().getMinEmptyResponses()).isEqualTo(4);
     }
+
+    @Test
+    void shouldSetPartitionFanOutFromLegacyGateway() {
+      assertThat(gatewayCfg.getLongPolling().getPartitionFanOut()).isEqualTo(2);
+    }
   }
 
   @Nested
@@ -144,16 +163,19 @@ public class ApiGatewayLongPollingTest {
         "camunda.api.long-polling.timeout=20000",
         "camunda.api.long-polling.probe-timeout=30000",
         "camunda.api.long-polling.min-empty-responses=5",
+        "camunda.api.long-polling.partition-fan-out=3",
         // legacy broker configuration
         "zeebe.broker.gateway.longPolling.enabled=false",
         "zeebe.broker.gateway.longPolling.timeout=2",
         "zeebe.broker.gateway.longPolling.probeTimeout=3",
         "zeebe.broker.gateway.longPolling.minEmptyResponses=4",
+        "zeebe.broker.gateway.longPolling.partitionFanOut=2",
         // legacy gateway configuration
         "zeebe.gateway.longPolling.enabled=false",
         "zeebe.gateway.longPolling.timeout=2",
         "zeebe.gateway.longPolling.probeTimeout=3",
-        "zeebe.gateway.longPolling.minEmptyResponses=4"
+        "zeebe.gateway.longPolling.minEmptyResponses=4",
+        "zeebe.gateway.longPolling.partitionFanOut=2"
       })
   class WithNewAndLegacySet {
     final GatewayBasedProperties gatewayCfg;
@@ -181,5 +203,10 @@ public class ApiGatewayLongPollingTest {
     void shouldSetMinEmptyResponseFromNew() {
       assertThat(gatewayCfg.getLongPolling().getMinEmptyResponses()).isEqualTo(5);
     }
+
+    @Test
+    void shouldSetPartitionFanOutFromNew() {
+      assertThat(gatewayCfg.getLongPolling().getPartitionFanOut()).isEqualTo(3);
+    }
   }
 }
@@ -41,12 +41,13 @@ public class DataExportTest {
 
     @Test
     void shouldSetDistributionInterval() {
-      assertThat(brokerCfg.getExporting().distributionInterval()).isEqualTo(Duration.ofMinutes(1));
+      assertThat(brokerCfg.getExporting().getDistributionInterval())
+          .isEqualTo(Duration.ofMinutes(1));
     }
 
     @Test
     void shouldSetSkipRecords() {
-      assertThat(brokerCfg.getExporting().skipRecords()).contains(10L, 20L);
+      assertThat(brokerCfg.getExporting().getSkipRecords()).contains(10L, 20L);
     }
   }
 
@@ -65,12 +66,13 @@ public class DataExportTest {
 
     @Test
     void shouldSetDistributionInterval() {
-      assertThat(brokerCfg.getExporting().distributionInterval()).isEqualTo(Duration.ofMinutes(2));
+      assertThat(brokerCfg.getExporting().getDistributionInterval())
+          .isEqualTo(Duration.ofMinutes(2));
     }
 
     @Test
     void shouldSetSkipRecords() {
-      assertThat(brokerCfg.getExporting().skipRecords()).contains(30L, 40L);
+      assertThat(brokerCfg.getExporting().getSkipRecords()).contains(30L, 40L);
     }
   }
 
@@ -93,12 +95,13 @@ public class DataExportTest {
 
     @Test
     void shouldSetDistributionIntervalFromNew() {
-      assertThat(brokerCfg.getExporting().distributionInterval()).isEqualTo(Duration.ofMinutes(1));
+      assertThat(brokerCfg.getExporting().getDistributionInterval())
+          .isEqualTo(Duration.ofMinutes(1));
     }
 
     @Test
     void shouldSetSkipRecordsFromNew() {
-      assertThat(brokerCfg.getExporting().skipRecords()).contains(10L, 20L);
+      assertThat(brokerCfg.getExporting().getSkipRecords()).contains(10L, 20L);
     }
   }
 }
@@ -97,6 +97,8 @@ public class SecondaryStorageRdbmsTest {
             + MAX_BATCH_OPERATIONS_CACHE_SIZE,
         "camunda.data.secondary-storage.rdbms.exportBatchOperationItemsOnCreation=true",
         "camunda.data.secondary-storage.rdbms.batchOperationItemInsertBlockSize=1234",
+        "camunda.data.secondary-storage.rdbms.multiRowInsertBlockSize=100",
+        "camunda.data.secondary-storage.rdbms.asyncFlush=true",
       })
   class WithOnlyUnifiedConfigSet {
     final OperateProperties operateProperties;
@@ -170,6 +172,8 @@ public class SecondaryStorageRdbmsTest {
       assertThat(exporterConfiguration.isExportBatchOperationItemsOnCreation()).isTrue();
 
       assertThat(exporterConfiguration.getBatchOperationItemInsertBlockSize()).isEqualTo(1234);
+      assertThat(exporterConfiguration.getMultiRowInsertBlockSize()).isEqualTo(100);
+      assertThat(exporterConfiguration.isAsyncFlush()).isTrue();
     }
 
     @Test
@@ -201,6 +205,45 @@ public class SecondaryStorageRdbmsTest {
       assertThat(args.get("flushInterval")).isEqualTo(Duration.parse(FLUSH_INTERVAL));
       assertThat(args.get("exportBatchOperationItemsOnCreation")).isEqualTo(true);
       assertThat(args.get("batchOperationItemInsertBlockSize")).isEqualTo(10000);
+      assertThat(args.get("multiRowInsertBlockSize")).isEqualTo(1);
+      assertThat(args.get("asyncFlush")).isEqualTo(false);
+    }
+  }
+
+  @Nested
+  @TestPropertySource(
+      properties = {
+        "camunda.data.secondary-storage.type=rdbms",
+        "camunda.data.secondary-storage.rdbms.read-replica.url=jdbc:postgresql://replica:5432/camunda",
+        "camunda.data.secondary-storage.rdbms.read-replica.username=" + USERNAME,
+        "camunda.data.secondary-storage.rdbms.read-replica.password=" + PASSWORD,
+        "camunda.data.secondary-storage.rdbms.read-replica.connection-pool.maximum-pool-size=20",
+        "camunda.data.secondary-storage.rdbms.read-replica.connection-pool.connection-timeout=PT5S",
+      })
+  class WithReadReplicaSet {
+    final UnifiedConfiguration unifiedConfiguration;
+
+    WithReadReplicaSet(@Autowired final UnifiedConfiguration unifiedConfiguration) {
+      this.unifiedConfiguration = unifiedConfiguration;
+    }
+
+    @Test
+    void testCamundaDataSecondaryStorageRdbmsReadReplicaProperties() {
+      final RdbmsReadReplica readReplica =
+          unifiedConfiguration
+              .getCamunda()
+              .getData()
+              .getSecondaryStorage()
+              .getRdbms()
+              .getReadReplica();
+
+      assertThat(readReplica.getUrl()).isEqualTo("jdbc:postgresql://replica:5432/camunda");
+      assertThat(readReplica.getUsername()).isEqualTo(USERNAME);
+      assertThat(readReplica.getPassword()).isEqualTo(PASSWORD);
+      assertThat(readReplica.getConnectionPool().getMaximumPoolSize()).isEqualTo(20);
+      assertThat(readReplica.getConnectionPool().getConnectionTimeout())
+          .isEqualTo(Duration.ofSeconds(5));
+      assertThat(readReplica.getConnectionPool().getMinimumIdle()).isNull();
     }
   }
 }
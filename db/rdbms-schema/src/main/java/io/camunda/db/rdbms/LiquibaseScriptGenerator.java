@@ -128,6 +128,12 @@ public class LiquibaseScriptGenerator {
     final var sqlScript = new StringBuilder();
 
     for (final var changeSet : changelog.getChangeSets()) {
+      if (changeSet.getPreconditions() != null) {
+        // conditional change sets, like the optional history partitioning, are only applied by
+        // Liquibase itself and not part of the generated scripts
+        continue;
+      }
+
       sqlScript.append("-- ");
       sqlScript.append(changeSet.getId());
       sqlScript.append("\n");
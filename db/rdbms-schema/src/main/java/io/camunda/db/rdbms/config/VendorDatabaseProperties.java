@@ -37,10 +37,17 @@ public class VendorDatabaseProperties {
 
   private static final String DISABLE_FK_BEFORE_TRUNCATE = "disableFkBeforeTruncate";
 
+  /**
+   * Optional property to specify whether the history tables can be partitioned by their history
+   * cleanup date, see the 'historyPartitioning' schema parameter. If not set, it is not supported.
+   */
+  private static final String HISTORY_PARTITIONING_SUPPORTED = "historyPartitioning.supported";
+
   private final Properties properties;
 
   private final int variableValuePreviewSize;
   private final boolean disableFkBeforeTruncate;
+  private final boolean historyPartitioningSupported;
   private final Integer charColumnMaxBytes;
   private final int userCharColumnSize;
   private final int errorMessageSize;
@@ -77,6 +84,9 @@ public class VendorDatabaseProperties {
     }
     disableFkBeforeTruncate =
         Boolean.parseBoolean(properties.getProperty(DISABLE_FK_BEFORE_TRUNCATE));
+
+    historyPartitioningSupported =
+        Boolean.parseBoolean(properties.getProperty(HISTORY_PARTITIONING_SUPPORTED));
   }
 
   public int variableValuePreviewSize() {
@@ -99,6 +109,10 @@ public class VendorDatabaseProperties {
     return disableFkBeforeTruncate;
   }
 
+  public boolean historyPartitioningSupported() {
+    return historyPartitioningSupported;
+  }
+
   public Properties properties() {
     return properties;
   }
@@ -11,6 +11,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import liquibase.Liquibase;
+import liquibase.change.core.CreateIndexChange;
+import liquibase.database.DatabaseFactory;
+import liquibase.precondition.core.ChangeLogPropertyDefinedPrecondition;
+import liquibase.resource.ClassLoaderResourceAccessor;
 import org.junit.jupiter.api.Test;
 
 class LiquibaseScriptGeneratorTest {
@@ -39,4 +44,61 @@ class LiquibaseScriptGeneratorTest {
     final var expected = Files.readString(Paths.get("src/test/resources/test_prefix.h2.sql"));
     assertThat(sqlScript).isEqualTo(expected);
   }
+
+  @Test
+  public void shouldNotGenerateConditionalChangeSets() throws Exception {
+    // when
+    final String sqlScript =
+        LiquibaseScriptGenerator.generateSqlScript(
+            "postgresql",
+            LiquibaseScriptGenerator.CHANGELOG_PATH + "changelog-master.xml",
+            "",
+            4000);
+
+    // then
+    assertThat(sqlScript).contains("-- create_process_instance_table");
+    assertThat(sqlScript).doesNotContain("partition_history_tables");
+  }
+
+  @Test
+  public void shouldOnlyCreateKeysetPaginationIndexesWithStrictSorting() throws Exception {
+    // when
+    final String sqlScript =
+        LiquibaseScriptGenerator.generateSqlScript(
+            "postgresql",
+            LiquibaseScriptGenerator.CHANGELOG_PATH + "changelog-master.xml",
+            "",
+            4000);
+    final var liquibase =
+        new Liquibase(
+            LiquibaseScriptGenerator.CHANGELOG_PATH + "changelog-master.xml",
+            new ClassLoaderResourceAccessor(),
+            DatabaseFactory.getInstance().getDatabase("postgresql"));
+    liquibase.setChangeLogParameter("prefix", "");
+    final var changeSet =
+        liquibase.getDatabaseChangeLog().getChangeSets().stream()
+            .filter(it -> it.getId().equals("create_keyset_pagination_indexes"))
+            .findFirst()
+            .orElseThrow();
+
+    // then
+    assertThat(sqlScript).doesNotContain("create_keyset_pagination_indexes");
+    assertThat(changeSet.getPreconditions().getNestedPreconditions())
+        .singleElement()
+        .isInstanceOfSatisfying(
+            ChangeLogPropertyDefinedPrecondition.class,
+            precondition -> {
+              assertThat(precondition.getProperty()).isEqualTo("strictSorting");
+              assertThat(precondition.getValue()).isEqualTo("true");
+            });
+    assertThat(changeSet.getChanges())
+        .map(change -> ((CreateIndexChange) change).getIndexName())
+        .containsExactly(
+            "IDX_PROCESS_INSTANCE_START_DATE",
+            "IDX_PROCESS_INSTANCE_END_DATE",
+            "IDX_FLOW_NODE_INSTANCE_START_DATE",
+            "IDX_USER_TASK_CREATION_DATE",
+            "IDX_INCIDENT_CREATION_DATE",
+            "IDX_VARIABLE_VAR_NAME");
+  }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.read;
+
+import io.camunda.db.rdbms.read.routing.ReadRouting.Target;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Locale;
+
+public class RdbmsReaderMetrics {
+
+  private static final String NAMESPACE = "camunda.rdbms.reader";
+
+  private final MeterRegistry meterRegistry;
+
+  public RdbmsReaderMetrics(final MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * @param query the name of the query, e.g. the mapper and its method
+   * @param target the database the query was sent to
+   */
+  public Timer queryLatency(final String query, final Target target) {
+    return Timer.builder(meterName("query.latency"))
+        .description("Latency of the queries of the readers, including waiting for a connection")
+        .tag("query", query)
+        .tag("target", target.name().toLowerCase(Locale.ROOT))
+        .publishPercentileHistogram()
+        .minimumExpectedValue(Duration.ofMillis(1))
+        .register(meterRegistry);
+  }
+
+  private String meterName(final String name) {
+    return NAMESPACE + "." + name;
+  }
+}
@@ -7,10 +7,36 @@
  */
 package io.camunda.db.rdbms.read.domain;
 
+import io.camunda.search.page.SearchQueryPage.TotalItemsMode;
 import io.camunda.search.sort.SortOrder;
 import java.util.List;
 
-public record DbQueryPage(Integer size, Integer from, List<KeySetPagination> keySetPagination) {
+public record DbQueryPage(
+    Integer size,
+    Integer from,
+    List<KeySetPagination> keySetPagination,
+    TotalItemsMode totalItemsMode) {
+
+  /** Same limit as the default of Elasticsearch and OpenSearch to track the total hits. */
+  public static final int CAPPED_TOTAL_ITEMS = 10_000;
+
+  public DbQueryPage(
+      final Integer size, final Integer from, final List<KeySetPagination> keySetPagination) {
+    this(size, from, keySetPagination, TotalItemsMode.EXACT);
+  }
+
+  /**
+   * Returns the maximum number of items to count, or null if all matching items are counted. Used
+   * by the count statements, which count over a limited sub query if a limit is set.
+   */
+  public Integer countLimit() {
+    return totalItemsMode == TotalItemsMode.CAPPED ? CAPPED_TOTAL_ITEMS : null;
+  }
+
+  /** Returns true if the page starts at an offset, i.e. it doesn't use key set pagination. */
+  public boolean isOffsetPage() {
+    return keySetPagination == null || keySetPagination.isEmpty();
+  }
 
   public record KeySetPagination(List<KeySetPaginationFieldEntry> entries) {}
 
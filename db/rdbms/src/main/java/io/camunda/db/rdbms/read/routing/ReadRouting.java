@@ -0,0 +1,71 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.read.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * Decides per thread whether queries are sent to the primary database or to its read replica, if
+ * one is configured, see {@link ReadRoutingDataSource}.
+ *
+ * <p>Queries of the readers are sent to the read replica, see {@link ReadRoutingMappers}, while all
+ * other statements, e.g. of the exporter, are sent to the primary. As a read replica lags behind
+ * the primary, callers which need to read their own writes must use {@link
+ * #readYourWrites(Supplier)}.
+ */
+public final class ReadRouting {
+
+  private static final ThreadLocal<Target> TARGET = new ThreadLocal<>();
+  private static final ThreadLocal<Boolean> READ_YOUR_WRITES = new ThreadLocal<>();
+
+  private ReadRouting() {}
+
+  /** Returns where the queries of the current thread are sent to. */
+  public static Target currentTarget() {
+    final var target = TARGET.get();
+    return target == null ? Target.PRIMARY : target;
+  }
+
+  /**
+   * Runs the given queries against the primary database, including the queries of any reader, such
+   * that they see all previously committed writes.
+   */
+  public static <T> T readYourWrites(final Supplier<T> queries) {
+    final var previousTarget = TARGET.get();
+    final var previousReadYourWrites = READ_YOUR_WRITES.get();
+    READ_YOUR_WRITES.set(Boolean.TRUE);
+    TARGET.set(Target.PRIMARY);
+    try {
+      return queries.get();
+    } finally {
+      READ_YOUR_WRITES.set(previousReadYourWrites);
+      TARGET.set(previousTarget);
+    }
+  }
+
+  /**
+   * Routes the following queries of the current thread as queries of a reader, i.e. to the read
+   * replica unless the caller needs to read its own writes.
+   *
+   * @return the previous target, to restore with {@link #restore(Target)}
+   */
+  static Target routeReaderQuery() {
+    final var previousTarget = TARGET.get();
+    TARGET.set(Boolean.TRUE.equals(READ_YOUR_WRITES.get()) ? Target.PRIMARY : Target.REPLICA);
+    return previousTarget;
+  }
+
+  static void restore(final Target previousTarget) {
+    TARGET.set(previousTarget);
+  }
+
+  public enum Target {
+    PRIMARY,
+    REPLICA
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.read.routing;
+
+import io.camunda.db.rdbms.read.routing.ReadRouting.Target;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * Hands out connections either of the primary database or of its read replica, depending on the
+ * {@link ReadRouting#currentTarget()} of the calling thread. Both data sources are expected to have
+ * their own connection pool, such that reads don't compete with the exporter for connections.
+ */
+public class ReadRoutingDataSource implements DataSource {
+
+  private final DataSource primary;
+  private final DataSource replica;
+
+  public ReadRoutingDataSource(final DataSource primary, final DataSource replica) {
+    this.primary = primary;
+    this.replica = replica;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return currentDataSource().getConnection();
+  }
+
+  @Override
+  public Connection getConnection(final String username, final String password)
+      throws SQLException {
+    return currentDataSource().getConnection(username, password);
+  }
+
+  @Override
+  public PrintWriter getLogWriter() throws SQLException {
+    return primary.getLogWriter();
+  }
+
+  @Override
+  public void setLogWriter(final PrintWriter out) throws SQLException {
+    primary.setLogWriter(out);
+    replica.setLogWriter(out);
+  }
+
+  @Override
+  public void setLoginTimeout(final int seconds) throws SQLException {
+    primary.setLoginTimeout(seconds);
+    replica.setLoginTimeout(seconds);
+  }
+
+  @Override
+  public int getLoginTimeout() throws SQLException {
+    return primary.getLoginTimeout();
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    return primary.getParentLogger();
+  }
+
+  @Override
+  public <T> T unwrap(final Class<T> iface) throws SQLException {
+    if (iface.isInstance(this)) {
+      return iface.cast(this);
+    }
+    return primary.unwrap(iface);
+  }
+
+  @Override
+  public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+    return iface.isInstance(this) || primary.isWrapperFor(iface);
+  }
+
+  private DataSource currentDataSource() {
+    return ReadRouting.currentTarget() == Target.REPLICA ? replica : primary;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.read.routing;
+
+import io.camunda.db.rdbms.read.RdbmsReaderMetrics;
+import io.camunda.db.rdbms.read.routing.ReadRouting.Target;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps the mappers used by the readers, such that their queries are sent to the read replica, if
+ * one is configured, and their latency is measured. The mappers used by the exporter must not be
+ * wrapped, as it writes to, and reads its own writes from, the primary database.
+ */
+public class ReadRoutingMappers {
+
+  private final boolean replicaEnabled;
+  private final RdbmsReaderMetrics metrics;
+
+  /**
+   * @param replicaEnabled whether the mappers' session factory uses a {@link
+   *     ReadRoutingDataSource}; if not, queries are only measured
+   */
+  public ReadRoutingMappers(final boolean replicaEnabled, final RdbmsReaderMetrics metrics) {
+    this.replicaEnabled = replicaEnabled;
+    this.metrics = metrics;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T wrap(final Class<T> mapperType, final T mapper) {
+    return (T)
+        Proxy.newProxyInstance(
+            mapperType.getClassLoader(),
+            new Class<?>[] {mapperType},
+            new RoutingHandler(mapperType.getSimpleName(), mapper));
+  }
+
+  private final class RoutingHandler implements InvocationHandler {
+
+    private final String mapperName;
+    private final Object mapper;
+    private final Map<Method, Timer> primaryTimers = new ConcurrentHashMap<>();
+    private final Map<Method, Timer> replicaTimers = new ConcurrentHashMap<>();
+
+    private RoutingHandler(final String mapperName, final Object mapper) {
+      this.mapperName = mapperName;
+      this.mapper = mapper;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args)
+        throws Throwable {
+      if (method.getDeclaringClass() == Object.class) {
+        return invokeMapper(method, args);
+      }
+
+      final var previousTarget = replicaEnabled ? ReadRouting.routeReaderQuery() : null;
+      final var target = ReadRouting.currentTarget();
+      final var startTime = System.nanoTime();
+      try {
+        return invokeMapper(method, args);
+      } finally {
+        timer(method, target).record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        if (replicaEnabled) {
+          ReadRouting.restore(previousTarget);
+        }
+      }
+    }
+
+    private Object invokeMapper(final Method method, final Object[] args) throws Throwable {
+      try {
+        return method.invoke(mapper, args);
+      } catch (final InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+
+    private Timer timer(final Method method, final Target target) {
+      final var timers = target == Target.REPLICA ? replicaTimers : primaryTimers;
+      return timers.computeIfAbsent(
+          method, m -> metrics.queryLatency(mapperName + "." + m.getName(), target));
+    }
+  }
+}
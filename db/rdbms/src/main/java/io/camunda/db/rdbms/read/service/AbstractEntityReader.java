@@ -17,6 +17,7 @@ import io.camunda.db.rdbms.read.domain.DbQuerySorting;
 import io.camunda.db.rdbms.sql.columns.SearchColumn;
 import io.camunda.search.page.SearchQueryPage;
 import io.camunda.search.page.SearchQueryPage.SearchQueryResultType;
+import io.camunda.search.page.SearchQueryPage.TotalItemsMode;
 import io.camunda.search.query.SearchQueryResult;
 import io.camunda.search.sort.SortOption;
 import io.camunda.search.sort.SortOption.FieldSorting;
@@ -29,6 +30,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -36,8 +38,19 @@ abstract class AbstractEntityReader<T> {
 
   private static final SearchColumn<?>[] EMPTY_SEARCHABLE_COLUMNS = new SearchColumn[0];
   private final Map<String, SearchColumn<T>> columns;
+  private final boolean strictSorting;
 
   public AbstractEntityReader(final SearchColumn<T>[] searchableColumns) {
+    this(searchableColumns, false);
+  }
+
+  /**
+   * @param strictSorting whether to only accept sorts which are served by an index, see {@link
+   *     #convertSort(SortOption, SearchColumn[])}
+   */
+  public AbstractEntityReader(
+      final SearchColumn<T>[] searchableColumns, final boolean strictSorting) {
+    this.strictSorting = strictSorting;
     final var searchColumns =
         Objects.requireNonNullElse(searchableColumns, (SearchColumn<T>[]) EMPTY_SEARCHABLE_COLUMNS);
 
@@ -51,13 +64,27 @@ abstract class AbstractEntityReader<T> {
         .orElseThrow(() -> new IllegalArgumentException("Unknown sortField: " + property));
   }
 
+  /**
+   * Converts the sort of a search, followed by the discriminator columns, which make the order
+   * unique for key set pagination.
+   *
+   * <p>With strict sorting, only sorts which can be read from an index are accepted, such that
+   * pages, also deep ones, don't need to sort all matching rows. That is, a sort by at most one
+   * column which is {@link SearchColumn#isSortIndexed() indexed} together with the discriminator
+   * columns, in a single direction. The discriminator columns then follow the direction of the
+   * sort, instead of being sorted ascending, so that the index can be scanned backwards.
+   *
+   * @throws IllegalArgumentException if a sort field is unknown, or, with strict sorting, if the
+   *     sort isn't served by an index
+   */
   @SafeVarargs
   public final DbQuerySorting<T> convertSort(
       final SortOption sortOption, final SearchColumn<T>... discriminatorColumns) {
     final var builder = new DbQuerySorting.Builder<T>();
     final var discriminatorColumnList = new ArrayList<>(Arrays.asList(discriminatorColumns));
+    final var fieldSortings = sortOption.getFieldSortings();
 
-    for (final FieldSorting fieldSorting : sortOption.getFieldSortings()) {
+    for (final FieldSorting fieldSorting : fieldSortings) {
       final var column = getSearchColumn(fieldSorting.field());
 
       // remove the column from the discriminator list to not sort double
@@ -65,13 +92,48 @@ abstract class AbstractEntityReader<T> {
       builder.addEntry(column, fieldSorting.order());
     }
 
+    var discriminatorOrder = SortOrder.ASC;
+    if (strictSorting && !fieldSortings.isEmpty()) {
+      checkSortIsIndexed(fieldSortings, Arrays.asList(discriminatorColumns));
+      discriminatorOrder = fieldSortings.getFirst().order();
+    }
+
     for (final SearchColumn<T> discriminatorColumn : discriminatorColumnList) {
-      builder.addEntry(discriminatorColumn, SortOrder.ASC);
+      builder.addEntry(discriminatorColumn, discriminatorOrder);
     }
 
     return builder.build();
   }
 
+  private void checkSortIsIndexed(
+      final List<FieldSorting> fieldSortings, final List<SearchColumn<T>> discriminatorColumns) {
+    final var sortedColumns =
+        fieldSortings.stream()
+            .map(fieldSorting -> getSearchColumn(fieldSorting.field()))
+            .filter(column -> !discriminatorColumns.contains(column))
+            .toList();
+    final var isSingleDirection =
+        fieldSortings.stream().map(FieldSorting::order).distinct().count() == 1;
+
+    if (sortedColumns.size() > 1
+        || !isSingleDirection
+        || sortedColumns.stream().anyMatch(column -> !column.isSortIndexed())) {
+      throw new IllegalArgumentException(
+          "Sort by "
+              + fieldSortings.stream()
+                  .map(fieldSorting -> fieldSorting.field() + " " + fieldSorting.order())
+                  .toList()
+              + " is not supported with strict sorting, as it isn't served by an index. Sort by"
+              + " at most one of "
+              + columns.values().stream()
+                  .filter(SearchColumn::isSortIndexed)
+                  .map(SearchColumn::property)
+                  .sorted()
+                  .toList()
+              + " instead.");
+    }
+  }
+
   public DbQueryPage convertPaging(final DbQuerySorting<T> sort, final SearchQueryPage page) {
     List<KeySetPagination> keySetPagination = new ArrayList<>();
     if (page.after() != null || page.before() != null) {
@@ -80,10 +142,10 @@ abstract class AbstractEntityReader<T> {
 
     if (SearchQueryResultType.UNLIMITED.equals(page.resultType())) {
       // assuming Integer.MAX_VALUE is enough
-      return new DbQueryPage(Integer.MAX_VALUE, 0, keySetPagination);
+      return new DbQueryPage(Integer.MAX_VALUE, 0, keySetPagination, TotalItemsMode.EXACT);
     }
 
-    return new DbQueryPage(page.size(), page.from(), keySetPagination);
+    return new DbQueryPage(page.size(), page.from(), keySetPagination, page.totalItemsMode());
   }
 
   /**
@@ -137,7 +199,16 @@ abstract class AbstractEntityReader<T> {
 
   protected final SearchQueryResult<T> buildSearchQueryResult(
       final long totalHits, final List<T> hits, final DbQuerySorting<T> dbSort) {
-    final var result = new SearchQueryResult.Builder<T>().total(totalHits).items(hits);
+    return buildSearchQueryResult(totalHits, false, hits, dbSort);
+  }
+
+  private SearchQueryResult<T> buildSearchQueryResult(
+      final long totalHits,
+      final boolean hasMoreTotalItems,
+      final List<T> hits,
+      final DbQuerySorting<T> dbSort) {
+    final var result =
+        new SearchQueryResult.Builder<T>().total(totalHits, hasMoreTotalItems).items(hits);
 
     if (!hits.isEmpty() && dbSort != null) {
       final var columns = dbSort.columns();
@@ -149,6 +220,47 @@ abstract class AbstractEntityReader<T> {
     return result.build();
   }
 
+  /**
+   * Builds the result of a search, counting the total hits only as far as requested by the page.
+   *
+   * <p>Counting runs the search's joins and filters over all matching rows, which is costly on
+   * large tables. It is skipped altogether if the page already tells the total, i.e. it's an offset
+   * page which isn't full, or if the page doesn't ask for the total. A capped count is limited by
+   * the count statement itself and reported as capped if the limit is reached.
+   *
+   * @param page the page the hits were searched with
+   * @param totalHits counts the total hits; the count statement must respect {@link
+   *     DbQueryPage#countLimit()} for capped counts to be cheap
+   */
+  protected final SearchQueryResult<T> buildSearchQueryResult(
+      final DbQueryPage page,
+      final LongSupplier totalHits,
+      final List<T> hits,
+      final DbQuerySorting<T> dbSort) {
+    final int pageSize = Objects.requireNonNullElse(page.size(), Integer.MAX_VALUE);
+    final int from = Objects.requireNonNullElse(page.from(), 0);
+    final boolean isFullPage = hits.size() >= pageSize;
+
+    final long total;
+    final boolean hasMoreTotalItems;
+    if (page.isOffsetPage() && !isFullPage && (from == 0 || !hits.isEmpty())) {
+      total = from + hits.size();
+      hasMoreTotalItems = false;
+    } else if (page.totalItemsMode() == TotalItemsMode.NONE) {
+      total = page.isOffsetPage() ? from + hits.size() : hits.size();
+      hasMoreTotalItems = isFullPage;
+    } else if (page.countLimit() != null) {
+      final long count = totalHits.getAsLong();
+      total = Math.min(count, page.countLimit());
+      hasMoreTotalItems = count >= page.countLimit();
+    } else {
+      total = totalHits.getAsLong();
+      hasMoreTotalItems = false;
+    }
+
+    return buildSearchQueryResult(total, hasMoreTotalItems, hits, dbSort);
+  }
+
   /**
    * Checks if the search result should be empty based on resource and tenant authorization.
    * Returns {@code true} if authorization is enabled but no authorized resource or tenant IDs are present.
@@ -65,10 +65,10 @@ public class DecisionInstanceDbReader extends AbstractEntityReader<DecisionInsta
                     .page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for process instance with filter {}", dbQuery);
-    final var totalHits = decisionInstanceMapper.count(dbQuery);
     final var hits = enhanceEntities(decisionInstanceMapper.search(dbQuery), query.resultConfig());
 
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(
+        dbQuery.page(), () -> decisionInstanceMapper.count(dbQuery), hits, dbSort);
   }
 
   public Optional<DecisionInstanceEntity> findOne(final String decisionInstanceId) {
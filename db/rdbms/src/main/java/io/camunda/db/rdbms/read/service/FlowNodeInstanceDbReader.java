@@ -29,7 +29,12 @@ public class FlowNodeInstanceDbReader extends AbstractEntityReader<FlowNodeInsta
   private final FlowNodeInstanceMapper flowNodeInstanceMapper;
 
   public FlowNodeInstanceDbReader(final FlowNodeInstanceMapper flowNodeInstanceMapper) {
-    super(FlowNodeInstanceSearchColumn.values());
+    this(flowNodeInstanceMapper, false);
+  }
+
+  public FlowNodeInstanceDbReader(
+      final FlowNodeInstanceMapper flowNodeInstanceMapper, final boolean strictSorting) {
+    super(FlowNodeInstanceSearchColumn.values(), strictSorting);
     this.flowNodeInstanceMapper = flowNodeInstanceMapper;
   }
 
@@ -59,12 +64,12 @@ public class FlowNodeInstanceDbReader extends AbstractEntityReader<FlowNodeInsta
                     .page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for process instance with filter {}", dbQuery);
-    final var totalHits = flowNodeInstanceMapper.count(dbQuery);
     final var hits =
         flowNodeInstanceMapper.search(dbQuery).stream()
             .map(FlowNodeInstanceEntityMapper::toEntity)
             .toList();
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(
+        dbQuery.page(), () -> flowNodeInstanceMapper.count(dbQuery), hits, dbSort);
   }
 
   public Optional<FlowNodeInstanceEntity> findOne(final long key) {
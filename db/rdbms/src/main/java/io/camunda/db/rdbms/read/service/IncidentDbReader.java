@@ -28,7 +28,11 @@ public class IncidentDbReader extends AbstractEntityReader<IncidentEntity>
   private final IncidentMapper incidentMapper;
 
   public IncidentDbReader(final IncidentMapper incidentMapper) {
-    super(IncidentSearchColumn.values());
+    this(incidentMapper, false);
+  }
+
+  public IncidentDbReader(final IncidentMapper incidentMapper, final boolean strictSorting) {
+    super(IncidentSearchColumn.values(), strictSorting);
     this.incidentMapper = incidentMapper;
   }
 
@@ -56,9 +60,9 @@ public class IncidentDbReader extends AbstractEntityReader<IncidentEntity>
                     .page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for incident with filter {}", dbQuery);
-    final var totalHits = incidentMapper.count(dbQuery);
     final var hits = incidentMapper.search(dbQuery);
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(
+        dbQuery.page(), () -> incidentMapper.count(dbQuery), hits, dbSort);
   }
 
   public Optional<IncidentEntity> findOne(final long key) {
@@ -28,7 +28,11 @@ public class JobDbReader extends AbstractEntityReader<JobEntity> implements JobR
   private final JobMapper jobMapper;
 
   public JobDbReader(final JobMapper jobMapper) {
-    super(JobSearchColumn.values());
+    this(jobMapper, false);
+  }
+
+  public JobDbReader(final JobMapper jobMapper, final boolean strictSorting) {
+    super(JobSearchColumn.values(), strictSorting);
     this.jobMapper = jobMapper;
   }
 
@@ -51,9 +55,8 @@ public class JobDbReader extends AbstractEntityReader<JobEntity> implements JobR
                     .page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for jobs with filter {}", dbQuery);
-    final var totalHits = jobMapper.count(dbQuery);
     final var hits = jobMapper.search(dbQuery).stream().map(JobEntityMapper::toEntity).toList();
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(dbQuery.page(), () -> jobMapper.count(dbQuery), hits, dbSort);
   }
 
   public Optional<JobEntity> findOne(final long jobKey) {
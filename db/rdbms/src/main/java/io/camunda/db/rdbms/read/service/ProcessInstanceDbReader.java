@@ -28,7 +28,12 @@ public class ProcessInstanceDbReader extends AbstractEntityReader<ProcessInstanc
   private final ProcessInstanceMapper processInstanceMapper;
 
   public ProcessInstanceDbReader(final ProcessInstanceMapper processInstanceMapper) {
-    super(ProcessInstanceSearchColumn.values());
+    this(processInstanceMapper, false);
+  }
+
+  public ProcessInstanceDbReader(
+      final ProcessInstanceMapper processInstanceMapper, final boolean strictSorting) {
+    super(ProcessInstanceSearchColumn.values(), strictSorting);
     this.processInstanceMapper = processInstanceMapper;
   }
 
@@ -62,9 +67,9 @@ public class ProcessInstanceDbReader extends AbstractEntityReader<ProcessInstanc
                     .page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for process instance with filter {}", dbQuery);
-    final var totalHits = processInstanceMapper.count(dbQuery);
     final var hits = processInstanceMapper.search(dbQuery);
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(
+        dbQuery.page(), () -> processInstanceMapper.count(dbQuery), hits, dbSort);
   }
 
   public SearchQueryResult<ProcessInstanceEntity> search(final ProcessInstanceQuery query) {
@@ -29,7 +29,11 @@ public class UserTaskDbReader extends AbstractEntityReader<UserTaskEntity>
   private final UserTaskMapper userTaskMapper;
 
   public UserTaskDbReader(final UserTaskMapper userTaskMapper) {
-    super(UserTaskSearchColumn.values());
+    this(userTaskMapper, false);
+  }
+
+  public UserTaskDbReader(final UserTaskMapper userTaskMapper, final boolean strictSorting) {
+    super(UserTaskSearchColumn.values(), strictSorting);
     this.userTaskMapper = userTaskMapper;
   }
 
@@ -57,10 +61,10 @@ public class UserTaskDbReader extends AbstractEntityReader<UserTaskEntity>
                     .page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for users with filter {}", dbQuery);
-    final var totalHits = userTaskMapper.count(dbQuery);
     final var hits =
         userTaskMapper.search(dbQuery).stream().map(UserTaskEntityMapper::toEntity).toList();
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(
+        dbQuery.page(), () -> userTaskMapper.count(dbQuery), hits, dbSort);
   }
 
   public Optional<UserTaskEntity> findOne(final long userTaskKey) {
@@ -30,7 +30,11 @@ public class VariableDbReader extends AbstractEntityReader<VariableEntity>
   private final VariableMapper variableMapper;
 
   public VariableDbReader(final VariableMapper variableMapper) {
-    super(VariableSearchColumn.values());
+    this(variableMapper, false);
+  }
+
+  public VariableDbReader(final VariableMapper variableMapper, final boolean strictSorting) {
+    super(VariableSearchColumn.values(), strictSorting);
     this.variableMapper = variableMapper;
   }
 
@@ -57,9 +61,9 @@ public class VariableDbReader extends AbstractEntityReader<VariableEntity>
                     .sort(dbSort)
                     .page(convertPaging(dbSort, query.page())));
     LOG.trace("[RDBMS DB] Search for variables with filter {}", query);
-    final var totalHits = variableMapper.count(dbQuery);
     final var hits = variableMapper.search(dbQuery);
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(
+        dbQuery.page(), () -> variableMapper.count(dbQuery), hits, dbSort);
   }
 
   public VariableEntity findOne(final Long key) {
@@ -7,6 +7,8 @@
  */
 package io.camunda.db.rdbms.sql;
 
+import java.util.List;
+
 public interface PurgeMapper {
 
   void disableForeignKeyChecks();
@@ -14,4 +16,27 @@ public interface PurgeMapper {
   void enableForeignKeyChecks();
 
   void truncateTable(String tableName);
+
+  /**
+   * Returns the names of all partitions of the given table, or an empty list if the table isn't
+   * partitioned. Only supported if {@link
+   * io.camunda.db.rdbms.config.VendorDatabaseProperties#historyPartitioningSupported()}.
+   */
+  List<String> selectHistoryPartitions(String tableName);
+
+  void createHistoryPartition(HistoryPartitionDto dto);
+
+  void dropHistoryPartition(HistoryPartitionDropDto dto);
+
+  /**
+   * @param from the inclusive lower bound of the history cleanup dates of the partition
+   * @param to the exclusive upper bound of the history cleanup dates of the partition
+   */
+  record HistoryPartitionDto(String tableName, String partitionName, String from, String to) {}
+
+  /**
+   * @param partitionName the name of the partition as returned by {@link
+   *     #selectHistoryPartitions(String)}, i.e. including the table prefix
+   */
+  record HistoryPartitionDropDto(String tableName, String partitionName) {}
 }
@@ -8,6 +8,8 @@
 package io.camunda.db.rdbms.sql.columns;
 
 import io.camunda.search.entities.FlowNodeInstanceEntity;
+import java.util.EnumSet;
+import java.util.Set;
 
 public enum FlowNodeInstanceSearchColumn implements SearchColumn<FlowNodeInstanceEntity> {
   FLOW_NODE_INSTANCE_KEY("flowNodeInstanceKey"),
@@ -25,6 +27,9 @@ public enum FlowNodeInstanceSearchColumn implements SearchColumn<FlowNodeInstanc
   INCIDENT_KEY("incidentKey"),
   INCIDENT("hasIncident");
 
+  private static final Set<FlowNodeInstanceSearchColumn> SORT_INDEXED_COLUMNS =
+      EnumSet.of(FLOW_NODE_INSTANCE_KEY, START_DATE);
+
   private final String property;
 
   FlowNodeInstanceSearchColumn(final String property) {
@@ -40,4 +45,9 @@ public enum FlowNodeInstanceSearchColumn implements SearchColumn<FlowNodeInstanc
   public Class<FlowNodeInstanceEntity> getEntityClass() {
     return FlowNodeInstanceEntity.class;
   }
+
+  @Override
+  public boolean isSortIndexed() {
+    return SORT_INDEXED_COLUMNS.contains(this);
+  }
 }
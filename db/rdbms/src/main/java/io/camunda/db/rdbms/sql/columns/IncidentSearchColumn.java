@@ -8,6 +8,8 @@
 package io.camunda.db.rdbms.sql.columns;
 
 import io.camunda.search.entities.IncidentEntity;
+import java.util.EnumSet;
+import java.util.Set;
 
 public enum IncidentSearchColumn implements SearchColumn<IncidentEntity> {
   INCIDENT_KEY("incidentKey"),
@@ -23,6 +25,9 @@ public enum IncidentSearchColumn implements SearchColumn<IncidentEntity> {
   JOB_KEY("jobKey"),
   TENANT_ID("tenantId");
 
+  private static final Set<IncidentSearchColumn> SORT_INDEXED_COLUMNS =
+      EnumSet.of(INCIDENT_KEY, CREATION_DATE);
+
   private final String property;
 
   IncidentSearchColumn(final String property) {
@@ -38,4 +43,9 @@ public enum IncidentSearchColumn implements SearchColumn<IncidentEntity> {
   public Class<IncidentEntity> getEntityClass() {
     return IncidentEntity.class;
   }
+
+  @Override
+  public boolean isSortIndexed() {
+    return SORT_INDEXED_COLUMNS.contains(this);
+  }
 }
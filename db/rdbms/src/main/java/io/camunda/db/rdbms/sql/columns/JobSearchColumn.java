@@ -8,6 +8,8 @@
 package io.camunda.db.rdbms.sql.columns;
 
 import io.camunda.search.entities.JobEntity;
+import java.util.EnumSet;
+import java.util.Set;
 
 public enum JobSearchColumn implements SearchColumn<JobEntity> {
   DEADLINE("deadline"),
@@ -31,6 +33,9 @@ public enum JobSearchColumn implements SearchColumn<JobEntity> {
   TYPE("type"),
   WORKER("worker");
 
+  private static final Set<JobSearchColumn> SORT_INDEXED_COLUMNS =
+      EnumSet.of(JOB_KEY);
+
   private final String property;
 
   JobSearchColumn(final String property) {
@@ -46,4 +51,9 @@ public enum JobSearchColumn implements SearchColumn<JobEntity> {
   public Class<JobEntity> getEntityClass() {
     return JobEntity.class;
   }
+
+  @Override
+  public boolean isSortIndexed() {
+    return SORT_INDEXED_COLUMNS.contains(this);
+  }
 }
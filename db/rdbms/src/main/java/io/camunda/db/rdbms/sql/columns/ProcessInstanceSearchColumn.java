@@ -8,6 +8,8 @@
 package io.camunda.db.rdbms.sql.columns;
 
 import io.camunda.search.entities.ProcessInstanceEntity;
+import java.util.EnumSet;
+import java.util.Set;
 
 public enum ProcessInstanceSearchColumn implements SearchColumn<ProcessInstanceEntity> {
   PROCESS_INSTANCE_KEY("processInstanceKey"),
@@ -24,6 +26,9 @@ public enum ProcessInstanceSearchColumn implements SearchColumn<ProcessInstanceE
   PARENT_ELEMENT_INSTANCE_KEY("parentFlowNodeInstanceKey"),
   HAS_INCIDENT("hasIncident");
 
+  private static final Set<ProcessInstanceSearchColumn> SORT_INDEXED_COLUMNS =
+      EnumSet.of(PROCESS_INSTANCE_KEY, START_DATE, END_DATE);
+
   private final String property;
 
   ProcessInstanceSearchColumn(final String property) {
@@ -39,4 +44,9 @@ public enum ProcessInstanceSearchColumn implements SearchColumn<ProcessInstanceE
   public Class<ProcessInstanceEntity> getEntityClass() {
     return ProcessInstanceEntity.class;
   }
+
+  @Override
+  public boolean isSortIndexed() {
+    return SORT_INDEXED_COLUMNS.contains(this);
+  }
 }
@@ -29,6 +29,14 @@ public interface SearchColumn<T> {
 
   Class<T> getEntityClass();
 
+  /**
+   * Whether sorting by this column, followed by the key of the entity, is served by an index, such
+   * that paging through the sorted rows doesn't need to sort all of them.
+   */
+  default boolean isSortIndexed() {
+    return false;
+  }
+
   default Class getPropertyType() {
     try {
       final var method = getEntityClass().getMethod(property());
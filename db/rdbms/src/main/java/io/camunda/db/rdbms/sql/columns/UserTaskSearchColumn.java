@@ -8,6 +8,8 @@
 package io.camunda.db.rdbms.sql.columns;
 
 import io.camunda.search.entities.UserTaskEntity;
+import java.util.EnumSet;
+import java.util.Set;
 
 public enum UserTaskSearchColumn implements SearchColumn<UserTaskEntity> {
   USER_TASK_KEY("userTaskKey"),
@@ -27,6 +29,9 @@ public enum UserTaskSearchColumn implements SearchColumn<UserTaskEntity> {
   PROCESS_INSTANCE_KEY("processInstanceKey"),
   PRIORITY("priority");
 
+  private static final Set<UserTaskSearchColumn> SORT_INDEXED_COLUMNS =
+      EnumSet.of(USER_TASK_KEY, CREATION_DATE);
+
   private final String property;
 
   UserTaskSearchColumn(final String property) {
@@ -42,4 +47,9 @@ public enum UserTaskSearchColumn implements SearchColumn<UserTaskEntity> {
   public Class<UserTaskEntity> getEntityClass() {
     return UserTaskEntity.class;
   }
+
+  @Override
+  public boolean isSortIndexed() {
+    return SORT_INDEXED_COLUMNS.contains(this);
+  }
 }
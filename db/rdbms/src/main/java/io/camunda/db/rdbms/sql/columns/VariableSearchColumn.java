@@ -8,6 +8,8 @@
 package io.camunda.db.rdbms.sql.columns;
 
 import io.camunda.search.entities.VariableEntity;
+import java.util.EnumSet;
+import java.util.Set;
 
 public enum VariableSearchColumn implements SearchColumn<VariableEntity> {
   VAR_KEY("variableKey"),
@@ -20,6 +22,9 @@ public enum VariableSearchColumn implements SearchColumn<VariableEntity> {
   IS_PREVIEW("isPreview"),
   PROCESS_DEFINITION_ID("processDefinitionId");
 
+  private static final Set<VariableSearchColumn> SORT_INDEXED_COLUMNS =
+      EnumSet.of(VAR_KEY, VAR_NAME);
+
   private final String property;
 
   VariableSearchColumn(final String property) {
@@ -35,4 +40,9 @@ public enum VariableSearchColumn implements SearchColumn<VariableEntity> {
   public Class<VariableEntity> getEntityClass() {
     return VariableEntity.class;
   }
+
+  @Override
+  public boolean isSortIndexed() {
+    return SORT_INDEXED_COLUMNS.contains(this);
+  }
 }
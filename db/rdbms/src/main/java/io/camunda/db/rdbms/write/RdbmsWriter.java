@@ -35,6 +35,7 @@ import io.camunda.db.rdbms.write.service.FlowNodeInstanceWriter;
 import io.camunda.db.rdbms.write.service.FormWriter;
 import io.camunda.db.rdbms.write.service.GroupWriter;
 import io.camunda.db.rdbms.write.service.HistoryCleanupService;
+import io.camunda.db.rdbms.write.service.HistoryPartitionService;
 import io.camunda.db.rdbms.write.service.IncidentWriter;
 import io.camunda.db.rdbms.write.service.JobWriter;
 import io.camunda.db.rdbms.write.service.MappingRuleWriter;
@@ -50,6 +51,7 @@ import io.camunda.db.rdbms.write.service.UsageMetricWriter;
 import io.camunda.db.rdbms.write.service.UserTaskWriter;
 import io.camunda.db.rdbms.write.service.UserWriter;
 import io.camunda.db.rdbms.write.service.VariableWriter;
+import java.util.concurrent.CompletableFuture;
 
 public class RdbmsWriter {
 
@@ -157,7 +159,9 @@ public class RdbmsWriter {
             correlatedMessageSubscriptionWriter,
             metrics,
             usageMetricWriter,
-            usageMetricTUWriter);
+            usageMetricTUWriter,
+            new HistoryPartitionService(
+                purgeMapper, vendorDatabaseProperties, config.history().defaultHistoryTTL()));
   }
 
   public AuthorizationWriter getAuthorizationWriter() {
@@ -271,4 +275,12 @@ public class RdbmsWriter {
   public void flush() {
     executionQueue.flush();
   }
+
+  public CompletableFuture<Integer> flushAsync() {
+    return executionQueue.flushAsync();
+  }
+
+  public void close() {
+    executionQueue.close();
+  }
 }
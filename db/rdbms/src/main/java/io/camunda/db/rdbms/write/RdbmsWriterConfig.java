@@ -17,6 +17,17 @@ public record RdbmsWriterConfig(
      * The number of batch operation items to insert in a single insert statement.
      */
     int batchOperationItemInsertBlockSize,
+    /*
+     * The maximum number of flow node instances, variables or jobs to insert with a single
+     * multi-row insert statement when flushing. If 1, each row is inserted with its own statement.
+     */
+    int multiRowInsertBlockSize,
+    /*
+     * Flush the execution queue on a dedicated thread, such that new records are queued while the
+     * previous batch is written and committed. If <code>false</code>, the exporter waits for each
+     * flush to complete.
+     */
+    boolean asyncFlush,
     /*
      * Export the batch operation items when the initial chunk records are processed. If set to
      * <code>false</code>, the batch operation items will be exported only when they have been
@@ -27,6 +38,8 @@ public record RdbmsWriterConfig(
 
   public static final int DEFAULT_QUEUE_SIZE = 1000;
   public static final int DEFAULT_BATCH_OPERATION_ITEM_INSERT_BLOCK_SIZE = 10000;
+  public static final int DEFAULT_MULTI_ROW_INSERT_BLOCK_SIZE = 1;
+  public static final boolean DEFAULT_ASYNC_FLUSH = false;
   public static final boolean DEFAULT_EXPORT_BATCH_OPERATION_ITEMS_ON_CREATION = true;
 
   public static Builder builder() {
@@ -38,6 +51,8 @@ public record RdbmsWriterConfig(
     private int partitionId;
     private int queueSize = DEFAULT_QUEUE_SIZE;
     private int batchOperationItemInsertBlockSize = DEFAULT_BATCH_OPERATION_ITEM_INSERT_BLOCK_SIZE;
+    private int multiRowInsertBlockSize = DEFAULT_MULTI_ROW_INSERT_BLOCK_SIZE;
+    private boolean asyncFlush = DEFAULT_ASYNC_FLUSH;
     private boolean exportBatchOperationItemsOnCreation =
         DEFAULT_EXPORT_BATCH_OPERATION_ITEMS_ON_CREATION;
     private HistoryConfig history = new HistoryConfig.Builder().build();
@@ -57,6 +72,16 @@ public record RdbmsWriterConfig(
       return this;
     }
 
+    public Builder multiRowInsertBlockSize(final int multiRowInsertBlockSize) {
+      this.multiRowInsertBlockSize = multiRowInsertBlockSize;
+      return this;
+    }
+
+    public Builder asyncFlush(final boolean asyncFlush) {
+      this.asyncFlush = asyncFlush;
+      return this;
+    }
+
     public Builder exportBatchOperationItemsOnCreation(
         final boolean exportBatchOperationItemsOnCreation) {
       this.exportBatchOperationItemsOnCreation = exportBatchOperationItemsOnCreation;
@@ -74,6 +99,8 @@ public record RdbmsWriterConfig(
           partitionId,
           queueSize,
           batchOperationItemInsertBlockSize,
+          multiRowInsertBlockSize,
+          asyncFlush,
           exportBatchOperationItemsOnCreation,
           history);
     }
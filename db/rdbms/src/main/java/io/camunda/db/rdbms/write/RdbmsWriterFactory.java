@@ -94,7 +94,12 @@ public class RdbmsWriterFactory {
   public RdbmsWriter createWriter(final RdbmsWriterConfig config) {
     final var executionQueue =
         new DefaultExecutionQueue(
-            sqlSessionFactory, config.partitionId(), config.queueSize(), metrics);
+            sqlSessionFactory,
+            config.partitionId(),
+            config.queueSize(),
+            config.multiRowInsertBlockSize(),
+            config.asyncFlush(),
+            metrics);
     return new RdbmsWriter(
         config,
         executionQueue,
@@ -11,11 +11,16 @@ import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.ibatis.executor.BatchResult;
@@ -32,15 +37,33 @@ public class DefaultExecutionQueue implements ExecutionQueue {
       Set.of(
           Pattern.compile(".*updateHistoryCleanupDate$"),
           Pattern.compile("io.camunda.db.rdbms.sql.SequenceFlowMapper.createIfNotExists"));
+  // single row inserts which can be combined into a multi-row insert, see multiRowInsertBlockSize
+  private static final Map<String, String> MULTI_ROW_INSERTS =
+      Map.of(
+          "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.insert",
+          "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.insertMultiple",
+          "io.camunda.db.rdbms.sql.VariableMapper.insert",
+          "io.camunda.db.rdbms.sql.VariableMapper.insertMultiple",
+          "io.camunda.db.rdbms.sql.JobMapper.insert",
+          "io.camunda.db.rdbms.sql.JobMapper.insertMultiple");
 
   private final SqlSessionFactory sessionFactory;
   private final List<PreFlushListener> preFlushListeners = new ArrayList<>();
   private final List<PostFlushListener> postFlushListeners = new ArrayList<>();
 
-  private final LinkedList<QueueItem> queue = new LinkedList<>();
+  private final List<QueueItem> queue = new ArrayList<>();
+  // positions of the queued items in insertion order, such that mergers find their items directly
+  private final Map<ContextType, List<Integer>> positionsByContextType = new HashMap<>();
+  private final Map<ItemKey, List<Integer>> positionsByKey = new HashMap<>();
 
   private final long partitionId; // for addressing the logger
   private final int queueFlushLimit;
+  private final int multiRowInsertBlockSize;
+  // if set, the queue is flushed on this thread while new items are queued, see flushAsync()
+  private final ExecutorService flushExecutor;
+  private PendingFlush pendingFlush;
+  // items queued by the pre flush listeners must not trigger another flush
+  private boolean notifyingPreFlushListeners;
 
   private final RdbmsWriterMetrics metrics;
 
@@ -49,10 +72,26 @@ public class DefaultExecutionQueue implements ExecutionQueue {
       final long partitionId,
       final int queueFlushLimit,
       final RdbmsWriterMetrics metrics) {
+    this(sessionFactory, partitionId, queueFlushLimit, 1, false, metrics);
+  }
+
+  public DefaultExecutionQueue(
+      final SqlSessionFactory sessionFactory,
+      final long partitionId,
+      final int queueFlushLimit,
+      final int multiRowInsertBlockSize,
+      final boolean asyncFlush,
+      final RdbmsWriterMetrics metrics) {
     this.sessionFactory = sessionFactory;
     this.partitionId = partitionId;
     this.queueFlushLimit = queueFlushLimit;
+    this.multiRowInsertBlockSize = multiRowInsertBlockSize;
     this.metrics = metrics;
+    flushExecutor =
+        asyncFlush
+            ? Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("rdbms-flush-partition-" + partitionId).daemon().factory())
+            : null;
   }
 
   @Override
@@ -64,6 +103,7 @@ public class DefaultExecutionQueue implements ExecutionQueue {
       }
 
       queue.add(entry);
+      indexItem(entry, queue.size() - 1);
       metrics.recordEnqueuedStatement(entry.statementId());
       checkQueueForFlush();
     }
@@ -87,6 +127,7 @@ public class DefaultExecutionQueue implements ExecutionQueue {
   @Override
   public int flush() {
     synchronized (queue) {
+      awaitPendingFlush();
       if (queue.isEmpty()) {
         LOG.trace(
             "[RDBMS ExecutionQueue, Partition {}] Skip Flushing because execution queue is empty",
@@ -109,57 +150,260 @@ public class DefaultExecutionQueue implements ExecutionQueue {
   }
 
   /**
-   * Iterate from end over the queue and try to find a last added compatible queueItem. The
-   * queueItem will be replaced with a new, combined queueItem.
+   * Hands the queued items over to the flush thread, such that new items can be queued while they
+   * are written and committed. Only one flush is in progress at a time: if the previous one is not
+   * completed yet, this waits for it first, and rethrows its error, if any. The items of a failed
+   * flush are put back at the head of the queue, to be retried by the next flush.
+   *
+   * <p>The pre flush listeners are called by the calling thread before the items are handed over,
+   * such that the items they queue are flushed with them. The post flush listeners are called by
+   * the flush thread once the items are committed.
+   *
+   * <p>If the queue was not created with asynchronous flushing enabled, this flushes synchronously.
+   *
+   * @return a future completed with the number of flushed items once they are committed
+   */
+  @Override
+  public CompletableFuture<Integer> flushAsync() {
+    if (flushExecutor == null) {
+      return CompletableFuture.completedFuture(flush());
+    }
+
+    synchronized (queue) {
+      awaitPendingFlush();
+      if (queue.isEmpty()) {
+        LOG.trace(
+            "[RDBMS ExecutionQueue, Partition {}] Skip Flushing because execution queue is empty",
+            partitionId);
+        return CompletableFuture.completedFuture(0);
+      }
+
+      notifyPreFlushListeners();
+      final List<QueueItem> items = optimizeQueueOrder(queue);
+      queue.clear();
+      reindexItems();
+      metrics.stopFlushLatencyMeasurement();
+
+      LOG.trace(
+          "[RDBMS ExecutionQueue, Partition {}] Hand over {} items to flush thread",
+          partitionId,
+          items.size());
+      final var future = CompletableFuture.supplyAsync(() -> flushItems(items), flushExecutor);
+      pendingFlush = new PendingFlush(items, future);
+      return future;
+    }
+  }
+
+  @Override
+  public void close() {
+    if (flushExecutor == null) {
+      return;
+    }
+
+    synchronized (queue) {
+      try {
+        awaitPendingFlush();
+      } finally {
+        flushExecutor.shutdownNow();
+      }
+    }
+  }
+
+  /**
+   * Try to find the last added queueItem which is compatible with any of the given mergers. The
+   * queueItem will be replaced with a new, combined queueItem. If multiple mergers are compatible
+   * with the same queueItem, the first one is used.
+   *
+   * <p>Mergers which declare the {@link QueueItemMerger#contextType()} (and {@link
+   * QueueItemMerger#id()}) of their items only check the items with the same context type (and id),
+   * otherwise all items are checked from the end of the queue.
    */
   @Override
   public boolean tryMergeWithExistingQueueItem(final QueueItemMerger... combiners) {
     synchronized (queue) {
-      int index = queue.size() - 1;
-      for (final Iterator<QueueItem> it = queue.descendingIterator(); it.hasNext(); ) {
-        final QueueItem item = it.next();
-
-        for (final QueueItemMerger merger : combiners) {
-          if (merger.canBeMerged(item)) {
-            LOG.trace("Merging new item with item {}, {}", item.contextType(), item.id());
-            queue.set(index, merger.merge(item));
-            metrics.recordMergedQueueItem(item.contextType(), item.statementId());
-            return true;
-          }
+      int index = -1;
+      QueueItemMerger compatibleMerger = null;
+      for (final QueueItemMerger merger : combiners) {
+        final int mergeableIndex = findLastMergeableItem(merger, index);
+        if (mergeableIndex > index) {
+          index = mergeableIndex;
+          compatibleMerger = merger;
+        }
+      }
+
+      if (compatibleMerger == null) {
+        return false;
+      }
+
+      final QueueItem item = queue.get(index);
+      LOG.trace("Merging new item with item {}, {}", item.contextType(), item.id());
+      final QueueItem mergedItem = compatibleMerger.merge(item);
+      queue.set(index, mergedItem);
+      if (!Objects.equals(item.contextType(), mergedItem.contextType())
+          || !Objects.equals(item.id(), mergedItem.id())) {
+        reindexItems();
+      }
+      metrics.recordMergedQueueItem(item.contextType(), item.statementId());
+      return true;
+    }
+  }
+
+  /**
+   * Returns the position of the last item which can be merged by the given merger, only considering
+   * items after the given position.
+   */
+  private int findLastMergeableItem(final QueueItemMerger merger, final int afterIndex) {
+    final ContextType contextType = merger.contextType();
+    if (contextType == null) {
+      for (int index = queue.size() - 1; index > afterIndex; index--) {
+        if (merger.canBeMerged(queue.get(index))) {
+          return index;
         }
+      }
+      return -1;
+    }
 
-        index--;
+    final Object id = merger.id();
+    final List<Integer> positions =
+        id == null
+            ? positionsByContextType.getOrDefault(contextType, List.of())
+            : positionsByKey.getOrDefault(new ItemKey(contextType, id), List.of());
+    for (int i = positions.size() - 1; i >= 0; i--) {
+      final int index = positions.get(i);
+      if (index <= afterIndex) {
+        break;
       }
 
-      return false;
+      if (merger.canBeMerged(queue.get(index))) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  private void indexItem(final QueueItem item, final int index) {
+    positionsByContextType
+        .computeIfAbsent(item.contextType(), ignored -> new ArrayList<>())
+        .add(index);
+    positionsByKey
+        .computeIfAbsent(new ItemKey(item.contextType(), item.id()), ignored -> new ArrayList<>())
+        .add(index);
+  }
+
+  private void reindexItems() {
+    positionsByContextType.clear();
+    positionsByKey.clear();
+    for (int index = 0; index < queue.size(); index++) {
+      indexItem(queue.get(index), index);
+    }
+  }
+
+  private void removeFlushedItems(final int flushedElements) {
+    queue.subList(0, flushedElements).clear();
+    reindexItems();
+  }
+
+  private int flushItems(final List<QueueItem> items) {
+    try (final var ignored = metrics.measureFlushDuration()) {
+      final int numFlushedElements = doFLush(items, flushedElements -> {}, () -> {});
+      metrics.recordBulkSize(numFlushedElements);
+
+      return numFlushedElements;
+    } catch (final Exception e) {
+      metrics.recordFailedFlush();
+      throw e;
+    }
+  }
+
+  /**
+   * Waits for the pending asynchronous flush, if any, to complete. If it failed, its items are put
+   * back at the head of the queue, and the error is rethrown.
+   */
+  private void awaitPendingFlush() {
+    if (pendingFlush == null) {
+      return;
+    }
+
+    final var flush = pendingFlush;
+    pendingFlush = null;
+    try {
+      flush.future().join();
+    } catch (final CompletionException e) {
+      queue.addAll(0, flush.items());
+      reindexItems();
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private void notifyPreFlushListeners() {
+    if (!preFlushListeners.isEmpty()) {
+      LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call pre flush listeners", partitionId);
+      notifyingPreFlushListeners = true;
+      try {
+        preFlushListeners.forEach(PreFlushListener::onPreFlush);
+      } finally {
+        notifyingPreFlushListeners = false;
+      }
     }
   }
 
   private int doFLush() {
+    return doFLush(
+        optimizeQueueOrder(queue), this::removeFlushedItems, this::notifyPreFlushListeners);
+  }
+
+  /**
+   * Executes and commits the given items in a single transaction.
+   *
+   * @param items the items to flush, in order
+   * @param onExecuted called with the number of executed items, even if executing them failed
+   * @param beforeCommit called once all items are executed, before they are committed
+   * @return number of flushed items
+   */
+  private int doFLush(
+      final List<QueueItem> items, final IntConsumer onExecuted, final Runnable beforeCommit) {
     LOG.debug(
         "[RDBMS ExecutionQueue, Partition {}] Flushing execution queue with {} items",
         partitionId,
-        queue.size());
+        items.size());
 
     final var startMillis = System.currentTimeMillis();
     final var session =
         sessionFactory.openSession(ExecutorType.BATCH, TransactionIsolationLevel.READ_UNCOMMITTED);
 
     var flushedElements = 0;
-    final var optimizedItems = optimizeQueueOrder(queue);
 
     try {
-      for (final var entry : optimizedItems) {
-        LOG.trace("[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
-        session.update(entry.statementId(), entry.parameter());
-        queue.remove();
-        flushedElements++;
+      try {
+        while (flushedElements < items.size()) {
+          final var entry = items.get(flushedElements);
+          final var rowCount = countMultiRowInsertRows(items, flushedElements);
+          if (rowCount > 1) {
+            LOG.trace(
+                "[RDBMS ExecutionQueue, Partition {}] Executing {} entries as multi-row insert, first entry: {}",
+                partitionId,
+                rowCount,
+                entry);
+            session.update(
+                MULTI_ROW_INSERTS.get(entry.statementId()),
+                items.subList(flushedElements, flushedElements + rowCount).stream()
+                    .map(QueueItem::parameter)
+                    .toList());
+          } else {
+            LOG.trace(
+                "[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
+            session.update(entry.statementId(), entry.parameter());
+          }
+          flushedElements += rowCount;
+        }
+      } finally {
+        onExecuted.accept(flushedElements);
       }
 
-      if (!preFlushListeners.isEmpty()) {
-        LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call pre flush listeners", partitionId);
-        preFlushListeners.forEach(PreFlushListener::onPreFlush);
-      }
+      beforeCommit.run();
 
       final var batchResult = session.flushStatements();
       for (final BatchResult singleBatchResult : batchResult) {
@@ -197,6 +441,28 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     }
   }
 
+  /**
+   * Counts how many items, starting at the given index, can be inserted with a single multi-row
+   * insert. These are consecutive items with the same insert statement, up to the {@link
+   * #multiRowInsertBlockSize}. As {@link #optimizeQueueOrder(List)} groups the items by statement,
+   * all inserts of a kind are consecutive unless the order of their context is preserved.
+   *
+   * @return the number of items to insert together, or 1 if the item is executed on its own
+   */
+  private int countMultiRowInsertRows(final List<QueueItem> items, final int fromIndex) {
+    final var statementId = items.get(fromIndex).statementId();
+    if (multiRowInsertBlockSize <= 1 || !MULTI_ROW_INSERTS.containsKey(statementId)) {
+      return 1;
+    }
+
+    final int toIndex = Math.min(items.size(), fromIndex + multiRowInsertBlockSize);
+    int index = fromIndex + 1;
+    while (index < toIndex && statementId.equals(items.get(index).statementId())) {
+      index++;
+    }
+    return index - fromIndex;
+  }
+
   /**
    * Optimizes the order of the queue items to minimize the number of executed statements. Primary
    * goal of this optimization is to batch as many statements as possible For this statements with
@@ -234,7 +500,7 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     return resultList;
   }
 
-  LinkedList<QueueItem> getQueue() {
+  List<QueueItem> getQueue() {
     return queue;
   }
 
@@ -244,16 +510,25 @@ public class DefaultExecutionQueue implements ExecutionQueue {
       return;
     }
 
+    if (notifyingPreFlushListeners) {
+      // the items are flushed with the flush which notified the listeners, or the next one
+      return;
+    }
+
     LOG.trace(
         "[RDBMS ExecutionQueue, Partition {}] Checking if queue is flushed. Queue size: {}",
         partitionId,
         queue.size());
     if (queue.size() >= queueFlushLimit) {
-      flush();
+      flushAsync();
     }
   }
 
   static boolean shouldIgnoreWhenNoRowsAffected(final String statementId) {
     return IGNORE_EMPTY_UPDATES.stream().anyMatch(p -> p.matcher(statementId).matches());
   }
+
+  private record ItemKey(ContextType contextType, Object id) {}
+
+  private record PendingFlush(List<QueueItem> items, CompletableFuture<Integer> future) {}
 }
@@ -7,6 +7,8 @@
  */
 package io.camunda.db.rdbms.write.queue;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface ExecutionQueue {
 
   void executeInQueue(QueueItem entry);
@@ -17,5 +19,17 @@ public interface ExecutionQueue {
 
   int flush();
 
+  /**
+   * Flushes the queue without blocking the caller while the items are written, if supported.
+   *
+   * @return a future completed with the number of flushed items once they are committed
+   */
+  default CompletableFuture<Integer> flushAsync() {
+    return CompletableFuture.completedFuture(flush());
+  }
+
+  /** Waits for a pending flush, if any, and releases the resources of the queue. */
+  default void close() {}
+
   boolean tryMergeWithExistingQueueItem(QueueItemMerger... combiners);
 }
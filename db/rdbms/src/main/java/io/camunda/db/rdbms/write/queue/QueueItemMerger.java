@@ -12,4 +12,24 @@ public interface QueueItemMerger {
   boolean canBeMerged(QueueItem queueItem);
 
   QueueItem merge(QueueItem originalItem);
+
+  /**
+   * The context type of the items this merger can be applied to. Allows the queue to only check
+   * items of this context type, instead of all items.
+   *
+   * @return the context type, or null if items of any context type can be merged
+   */
+  default ContextType contextType() {
+    return null;
+  }
+
+  /**
+   * The id of the items this merger can be applied to. Only considered if {@link #contextType()} is
+   * set, and allows the queue to look up the items by their context type and id directly.
+   *
+   * @return the id, or null if items with any id can be merged
+   */
+  default Object id() {
+    return null;
+  }
 }
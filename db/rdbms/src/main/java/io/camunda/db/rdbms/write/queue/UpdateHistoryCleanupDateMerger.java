@@ -33,6 +33,11 @@ public class UpdateHistoryCleanupDateMerger implements QueueItemMerger {
     this.cleanupDate = cleanupDate;
   }
 
+  @Override
+  public ContextType contextType() {
+    return contextType;
+  }
+
   @Override
   public boolean canBeMerged(final QueueItem queueItem) {
     return queueItem.contextType() == contextType
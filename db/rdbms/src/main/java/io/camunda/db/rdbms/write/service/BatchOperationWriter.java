@@ -8,6 +8,7 @@
 package io.camunda.db.rdbms.write.service;
 
 import io.camunda.db.rdbms.config.VendorDatabaseProperties;
+import io.camunda.db.rdbms.read.routing.ReadRouting;
 import io.camunda.db.rdbms.read.service.BatchOperationDbReader;
 import io.camunda.db.rdbms.sql.BatchOperationMapper;
 import io.camunda.db.rdbms.sql.BatchOperationMapper.BatchOperationErrorsDto;
@@ -60,8 +61,9 @@ public class BatchOperationWriter {
 
   public void createIfNotAlreadyExists(final BatchOperationDbModel batchOperation) {
     // here we read if the batch operation already exists in the database to avoid PK violations.
-    // since we flush directly after the insert statement, this is transactionally safe
-    if (reader.exists(batchOperation.batchOperationKey())) {
+    // since we flush directly after the insert statement, this is transactionally safe, as long as
+    // the check isn't answered by a read replica which lags behind
+    if (ReadRouting.readYourWrites(() -> reader.exists(batchOperation.batchOperationKey()))) {
       LOGGER.trace("Batch operation already exists: {}", batchOperation);
       return;
     }
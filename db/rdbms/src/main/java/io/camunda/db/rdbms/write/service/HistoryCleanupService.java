@@ -21,6 +21,7 @@ import org.slf4j.LoggerFactory;
 public class HistoryCleanupService {
 
   private static final Logger LOG = LoggerFactory.getLogger(HistoryCleanupService.class);
+  private static final int HISTORY_PARTITIONS_MAINTAINING_PARTITION_ID = 1;
 
   private final Duration defaultHistoryTTL;
   private final Duration batchOperationCancelProcessInstanceHistoryTTL;
@@ -48,6 +49,7 @@ public class HistoryCleanupService {
   private final CorrelatedMessageSubscriptionWriter correlatedMessageSubscriptionWriter;
   private final UsageMetricWriter usageMetricWriter;
   private final UsageMetricTUWriter usageMetricTUWriter;
+  private final HistoryPartitionService historyPartitionService;
 
   private final Map<Integer, Duration> lastCleanupInterval = new HashMap<>();
 
@@ -66,7 +68,8 @@ public class HistoryCleanupService {
       final CorrelatedMessageSubscriptionWriter correlatedMessageSubscriptionWriter,
       final RdbmsWriterMetrics metrics,
       final UsageMetricWriter usageMetricWriter,
-      final UsageMetricTUWriter usageMetricTUWriter) {
+      final UsageMetricTUWriter usageMetricTUWriter,
+      final HistoryPartitionService historyPartitionService) {
     LOG.info(
         "Creating HistoryCleanupService with default history ttl {}",
         config.history().defaultHistoryTTL());
@@ -99,6 +102,7 @@ public class HistoryCleanupService {
     this.metrics = metrics;
     this.usageMetricWriter = usageMetricWriter;
     this.usageMetricTUWriter = usageMetricTUWriter;
+    this.historyPartitionService = historyPartitionService;
   }
 
   public void scheduleProcessForHistoryCleanup(
@@ -155,6 +159,12 @@ public class HistoryCleanupService {
       final long start = System.currentTimeMillis();
 
       final var numDeletedRecords = new HashMap<String, Integer>();
+      if (partitionId == HISTORY_PARTITIONS_MAINTAINING_PARTITION_ID) {
+        // partitions are shared by all Zeebe partitions, so only one of them maintains them
+        // dropped partitions are no records, and must not shorten the cleanup interval
+        final var droppedPartitions = historyPartitionService.cleanupPartitions(cleanupDate);
+        LOG.debug("Dropped {} expired history partitions", droppedPartitions);
+      }
       numDeletedRecords.put(
           "processInstance",
           processInstanceWriter.cleanupHistory(partitionId, cleanupDate, cleanupBatchSize));
@@ -0,0 +1,206 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.service;
+
+import io.camunda.db.rdbms.config.VendorDatabaseProperties;
+import io.camunda.db.rdbms.sql.PurgeMapper;
+import io.camunda.db.rdbms.sql.PurgeMapper.HistoryPartitionDropDto;
+import io.camunda.db.rdbms.sql.PurgeMapper.HistoryPartitionDto;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maintains the partitions of the history tables, if these are partitioned by their history cleanup
+ * date, see the optional 'historyPartitioning' schema mode. Each partition holds the rows to clean
+ * up on a single day (UTC), such that expired rows are removed by dropping their partition as a
+ * whole instead of deleting them one by one.
+ *
+ * <p>Partitions are created ahead of time for all days on which rows may be scheduled for cleanup,
+ * i.e. until the history TTL is over. Rows which aren't scheduled for cleanup yet are kept in the
+ * open partition. Rows which are scheduled for a day without partition are kept in the default
+ * partition, and deleted one by one by the regular history cleanup.
+ */
+public class HistoryPartitionService {
+
+  /** The history tables which are partitioned in the 'historyPartitioning' schema mode. */
+  static final List<String> PARTITIONED_TABLE_NAMES =
+      List.of("PROCESS_INSTANCE", "FLOW_NODE_INSTANCE", "VARIABLE", "JOB");
+
+  /** Number of partitions created in addition to the ones until the history TTL is over. */
+  static final int ADDITIONAL_PARTITIONS = 2;
+
+  /** Time after which a partition which couldn't be created is tried again the first time. */
+  static final Duration INITIAL_RETRY_BACKOFF = Duration.ofMinutes(10);
+
+  /** Maximum time after which a partition which couldn't be created is tried again. */
+  static final Duration MAX_RETRY_BACKOFF = Duration.ofHours(6);
+
+  private static final Logger LOG = LoggerFactory.getLogger(HistoryPartitionService.class);
+  private static final DateTimeFormatter PARTITION_DAY_FORMAT =
+      DateTimeFormatter.ofPattern("yyyyMMdd", Locale.ROOT);
+  private static final Pattern PARTITION_NAME_PATTERN =
+      Pattern.compile(".*_H(\\d{8})$", Pattern.CASE_INSENSITIVE);
+
+  private final PurgeMapper purgeMapper;
+  private final boolean historyPartitioningSupported;
+  private final Duration historyTTL;
+
+  /**
+   * Partitions which couldn't be created, by their name. These are retried with an exponential
+   * backoff to not flood the logs, until they are created or their day is over.
+   */
+  private final Map<String, FailedPartition> failedPartitions = new HashMap<>();
+
+  public HistoryPartitionService(
+      final PurgeMapper purgeMapper,
+      final VendorDatabaseProperties vendorDatabaseProperties,
+      final Duration historyTTL) {
+    this.purgeMapper = purgeMapper;
+    historyPartitioningSupported = vendorDatabaseProperties.historyPartitioningSupported();
+    this.historyTTL = historyTTL;
+  }
+
+  /**
+   * Drops the partitions of all partitioned history tables whose rows are all to be cleaned up
+   * before the given date, and creates the partitions for the upcoming days. Tables which aren't
+   * partitioned are ignored.
+   *
+   * @return the number of dropped partitions
+   */
+  public int cleanupPartitions(final OffsetDateTime cleanupDate) {
+    if (!historyPartitioningSupported) {
+      return 0;
+    }
+
+    final var firstDay = cleanupDate.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate();
+    failedPartitions.values().removeIf(failedPartition -> failedPartition.day().isBefore(firstDay));
+
+    int droppedPartitions = 0;
+    for (final String tableName : PARTITIONED_TABLE_NAMES) {
+      droppedPartitions += cleanupPartitions(tableName, cleanupDate);
+    }
+    return droppedPartitions;
+  }
+
+  private int cleanupPartitions(final String tableName, final OffsetDateTime cleanupDate) {
+    final var partitionNames = purgeMapper.selectHistoryPartitions(tableName);
+    if (partitionNames.isEmpty()) {
+      return 0;
+    }
+
+    int droppedPartitions = 0;
+    final Set<LocalDate> existingPartitions = new HashSet<>();
+    for (final String partitionName : partitionNames) {
+      final var matcher = PARTITION_NAME_PATTERN.matcher(partitionName);
+      if (!matcher.matches()) {
+        // the default or the open partition
+        continue;
+      }
+
+      final var day = LocalDate.parse(matcher.group(1), PARTITION_DAY_FORMAT);
+      if (!startOf(day.plusDays(1)).isAfter(cleanupDate)) {
+        if (dropPartition(tableName, partitionName)) {
+          droppedPartitions++;
+        }
+      } else {
+        existingPartitions.add(day);
+      }
+    }
+
+    final var firstDay = cleanupDate.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate();
+    final var lastDay =
+        cleanupDate
+            .plus(historyTTL)
+            .withOffsetSameInstant(ZoneOffset.UTC)
+            .toLocalDate()
+            .plusDays(ADDITIONAL_PARTITIONS);
+    for (var day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+      if (!existingPartitions.contains(day)) {
+        createPartition(tableName, day, cleanupDate);
+      }
+    }
+
+    return droppedPartitions;
+  }
+
+  private boolean dropPartition(final String tableName, final String partitionName) {
+    LOG.debug("Drop expired history partition {} of table {}", partitionName, tableName);
+
+    try {
+      purgeMapper.dropHistoryPartition(new HistoryPartitionDropDto(tableName, partitionName));
+      return true;
+    } catch (final RuntimeException e) {
+      // e.g. if the table couldn't be locked in time; the partition is dropped on the next run
+      LOG.warn(
+          "Failed to drop expired history partition {} of table {}, retrying on the next history cleanup",
+          partitionName,
+          tableName,
+          e);
+      return false;
+    }
+  }
+
+  private void createPartition(
+      final String tableName, final LocalDate day, final OffsetDateTime cleanupDate) {
+    final var partitionName = tableName + "_H" + PARTITION_DAY_FORMAT.format(day);
+    final var failedPartition = failedPartitions.get(partitionName);
+    if (failedPartition != null && cleanupDate.isBefore(failedPartition.nextRetry())) {
+      return;
+    }
+
+    LOG.debug("Create history partition {} of table {}", partitionName, tableName);
+
+    try {
+      purgeMapper.createHistoryPartition(
+          new HistoryPartitionDto(
+              tableName,
+              partitionName,
+              startOf(day).toString(),
+              startOf(day.plusDays(1)).toString()));
+      failedPartitions.remove(partitionName);
+    } catch (final RuntimeException e) {
+      final var backoff =
+          failedPartition == null
+              ? INITIAL_RETRY_BACKOFF
+              : min(failedPartition.backoff().multipliedBy(2), MAX_RETRY_BACKOFF);
+      failedPartitions.put(
+          partitionName, new FailedPartition(day, backoff, cleanupDate.plus(backoff)));
+      // e.g. if the table couldn't be locked in time, or if rows of that day are already in the
+      // default partition; until it is created, these are deleted by the regular history cleanup
+      LOG.warn(
+          "Failed to create history partition {} of table {}, retrying in {}; until then, rows to clean up on {} are deleted one by one",
+          partitionName,
+          tableName,
+          backoff,
+          day,
+          e);
+    }
+  }
+
+  private static Duration min(final Duration duration, final Duration other) {
+    return duration.compareTo(other) <= 0 ? duration : other;
+  }
+
+  private static OffsetDateTime startOf(final LocalDate day) {
+    return day.atStartOfDay().atOffset(ZoneOffset.UTC);
+  }
+
+  private record FailedPartition(LocalDate day, Duration backoff, OffsetDateTime nextRetry) {}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.read.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.db.rdbms.read.RdbmsReaderMetrics;
+import io.camunda.db.rdbms.read.routing.ReadRouting.Target;
+import io.camunda.db.rdbms.sql.VariableMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReadRoutingMappersTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private VariableMapper variableMapper;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    variableMapper = mock(VariableMapper.class);
+  }
+
+  @Test
+  void shouldRouteReaderQueriesToReplica() {
+    // given
+    final var mapper = wrap(true);
+    when(variableMapper.count(null)).thenAnswer(i -> targetAsCount());
+
+    // when
+    final var target = mapper.count(null);
+
+    // then
+    assertThat(target).isEqualTo((long) Target.REPLICA.ordinal());
+    assertThat(ReadRouting.currentTarget()).isEqualTo(Target.PRIMARY);
+  }
+
+  @Test
+  void shouldRouteReaderQueriesToPrimaryIfReplicaIsDisabled() {
+    // given
+    final var mapper = wrap(false);
+    when(variableMapper.count(null)).thenAnswer(i -> targetAsCount());
+
+    // when
+    final var target = mapper.count(null);
+
+    // then
+    assertThat(target).isEqualTo((long) Target.PRIMARY.ordinal());
+  }
+
+  @Test
+  void shouldRouteReaderQueriesToPrimaryToReadYourWrites() {
+    // given
+    final var mapper = wrap(true);
+    when(variableMapper.count(null)).thenAnswer(i -> targetAsCount());
+
+    // when
+    final var target = ReadRouting.readYourWrites(() -> mapper.count(null));
+
+    // then
+    assertThat(target).isEqualTo((long) Target.PRIMARY.ordinal());
+    assertThat(ReadRouting.currentTarget()).isEqualTo(Target.PRIMARY);
+  }
+
+  @Test
+  void shouldRestoreTargetIfQueryFails() {
+    // given
+    final var mapper = wrap(true);
+    when(variableMapper.count(null)).thenThrow(new IllegalStateException("expected"));
+
+    // when
+    assertThatThrownBy(() -> mapper.count(null))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("expected");
+
+    // then
+    assertThat(ReadRouting.currentTarget()).isEqualTo(Target.PRIMARY);
+  }
+
+  @Test
+  void shouldMeasureQueryLatencyPerTarget() {
+    // given
+    final var mapper = wrap(true);
+
+    // when
+    mapper.count(null);
+    mapper.count(null);
+    ReadRouting.readYourWrites(() -> mapper.count(null));
+
+    // then
+    final var replicaTimer =
+        meterRegistry
+            .get("camunda.rdbms.reader.query.latency")
+            .tag("query", "VariableMapper.count")
+            .tag("target", "replica")
+            .timer();
+    final var primaryTimer =
+        meterRegistry
+            .get("camunda.rdbms.reader.query.latency")
+            .tag("query", "VariableMapper.count")
+            .tag("target", "primary")
+            .timer();
+    assertThat(replicaTimer.count()).isEqualTo(2);
+    assertThat(primaryTimer.count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldHandOutConnectionOfCurrentTarget() throws Exception {
+    // given
+    final var primary = mock(DataSource.class);
+    final var replica = mock(DataSource.class);
+    final var primaryConnection = mock(Connection.class);
+    final var replicaConnection = mock(Connection.class);
+    when(primary.getConnection()).thenReturn(primaryConnection);
+    when(replica.getConnection()).thenReturn(replicaConnection);
+    final var dataSource = new ReadRoutingDataSource(primary, replica);
+
+    // when
+    final var previousTarget = ReadRouting.routeReaderQuery();
+    final Connection connection;
+    try {
+      connection = dataSource.getConnection();
+    } finally {
+      ReadRouting.restore(previousTarget);
+    }
+
+    // then
+    assertThat(connection).isSameAs(replicaConnection);
+    assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+  }
+
+  private VariableMapper wrap(final boolean replicaEnabled) {
+    return new ReadRoutingMappers(replicaEnabled, new RdbmsReaderMetrics(meterRegistry))
+        .wrap(VariableMapper.class, variableMapper);
+  }
+
+  private static long targetAsCount() {
+    return ReadRouting.currentTarget().ordinal();
+  }
+}
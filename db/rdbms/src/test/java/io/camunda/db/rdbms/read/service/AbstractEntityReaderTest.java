@@ -18,11 +18,14 @@ import io.camunda.db.rdbms.read.domain.DbQuerySorting.SortingEntry;
 import io.camunda.db.rdbms.sql.columns.ProcessInstanceSearchColumn;
 import io.camunda.search.entities.ProcessInstanceEntity;
 import io.camunda.search.page.SearchQueryPage;
+import io.camunda.search.page.SearchQueryPage.TotalItemsMode;
 import io.camunda.search.query.SearchQueryResult;
 import io.camunda.search.sort.ProcessInstanceSort;
 import io.camunda.search.sort.SortOption.FieldSorting;
 import io.camunda.search.sort.SortOrder;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.Test;
 
@@ -62,6 +65,72 @@ class AbstractEntityReaderTest {
         .hasMessage("Unknown sortField: foo");
   }
 
+  @Test
+  void shouldAlignDiscriminatorWithIndexedSortIfStrict() {
+    final var reader = new ProcessInstanceDbReader(null, true);
+
+    final var convertedSort =
+        reader.convertSort(
+            ProcessInstanceSort.of(b -> b.startDate().desc()),
+            ProcessInstanceSearchColumn.PROCESS_INSTANCE_KEY);
+
+    assertThat(convertedSort.orderings())
+        .containsExactly(
+            new SortingEntry<>(ProcessInstanceSearchColumn.START_DATE, SortOrder.DESC),
+            new SortingEntry<>(ProcessInstanceSearchColumn.PROCESS_INSTANCE_KEY, SortOrder.DESC));
+  }
+
+  @Test
+  void shouldAcceptDefaultSortIfStrict() {
+    final var reader = new ProcessInstanceDbReader(null, true);
+
+    final var convertedSort =
+        reader.convertSort(
+            ProcessInstanceSort.of(b -> b), ProcessInstanceSearchColumn.PROCESS_INSTANCE_KEY);
+
+    assertThat(convertedSort.orderings())
+        .containsExactly(
+            new SortingEntry<>(ProcessInstanceSearchColumn.PROCESS_INSTANCE_KEY, SortOrder.ASC));
+  }
+
+  @Test
+  void shouldRejectSortWithoutIndexIfStrict() {
+    final var reader = new ProcessInstanceDbReader(null, true);
+
+    assertThatThrownBy(
+            () ->
+                reader.convertSort(
+                    ProcessInstanceSort.of(b -> b.processDefinitionName().asc()),
+                    ProcessInstanceSearchColumn.PROCESS_INSTANCE_KEY))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("[processDefinitionName ASC] is not supported with strict sorting")
+        .hasMessageContaining("startDate");
+  }
+
+  @Test
+  void shouldRejectSortByMultipleFieldsIfStrict() {
+    final var reader = new ProcessInstanceDbReader(null, true);
+
+    assertThatThrownBy(
+            () ->
+                reader.convertSort(
+                    ProcessInstanceSort.of(b -> b.state().asc().startDate().asc()),
+                    ProcessInstanceSearchColumn.PROCESS_INSTANCE_KEY))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRejectSortInMixedDirectionsIfStrict() {
+    final var reader = new ProcessInstanceDbReader(null, true);
+
+    assertThatThrownBy(
+            () ->
+                reader.convertSort(
+                    ProcessInstanceSort.of(b -> b.startDate().asc().processInstanceKey().desc()),
+                    ProcessInstanceSearchColumn.PROCESS_INSTANCE_KEY))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   void convertWithValidSortAndPage() {
     final DbQuerySorting<ProcessInstanceEntity> sort =
@@ -168,4 +237,116 @@ class AbstractEntityReaderTest {
             new KeySetPaginationFieldEntry(
                 "PROCESS_INSTANCE_KEY", Operator.LOWER, entity.processInstanceKey()));
   }
+
+  @Test
+  void shouldNotCountIfOffsetPageIsNotFull() {
+    // given
+    final var entities = Instancio.ofList(ProcessInstanceEntity.class).size(3).create();
+    final var dbPage = reader.convertPaging(sort(), SearchQueryPage.of(p -> p.from(20).size(10)));
+    final var counter = new CountingSupplier(100);
+
+    // when
+    final var result = reader.buildSearchQueryResult(dbPage, counter, entities, sort());
+
+    // then
+    assertThat(counter.invocations).hasValue(0);
+    assertThat(result.total()).isEqualTo(23);
+    assertThat(result.hasMoreTotalItems()).isFalse();
+  }
+
+  @Test
+  void shouldCountExactly() {
+    // given
+    final var entities = Instancio.ofList(ProcessInstanceEntity.class).size(10).create();
+    final var dbPage = reader.convertPaging(sort(), SearchQueryPage.of(p -> p.from(0).size(10)));
+    final var counter = new CountingSupplier(20_000);
+
+    // when
+    final var result = reader.buildSearchQueryResult(dbPage, counter, entities, sort());
+
+    // then
+    assertThat(dbPage.countLimit()).isNull();
+    assertThat(counter.invocations).hasValue(1);
+    assertThat(result.total()).isEqualTo(20_000);
+    assertThat(result.hasMoreTotalItems()).isFalse();
+  }
+
+  @Test
+  void shouldCapCount() {
+    // given
+    final var entities = Instancio.ofList(ProcessInstanceEntity.class).size(10).create();
+    final var dbPage =
+        reader.convertPaging(
+            sort(),
+            SearchQueryPage.of(p -> p.from(0).size(10).totalItemsMode(TotalItemsMode.CAPPED)));
+    final var counter = new CountingSupplier(DbQueryPage.CAPPED_TOTAL_ITEMS);
+
+    // when
+    final var result = reader.buildSearchQueryResult(dbPage, counter, entities, sort());
+
+    // then
+    assertThat(dbPage.countLimit()).isEqualTo(DbQueryPage.CAPPED_TOTAL_ITEMS);
+    assertThat(counter.invocations).hasValue(1);
+    assertThat(result.total()).isEqualTo(DbQueryPage.CAPPED_TOTAL_ITEMS);
+    assertThat(result.hasMoreTotalItems()).isTrue();
+  }
+
+  @Test
+  void shouldNotCapCountBelowLimit() {
+    // given
+    final var entities = Instancio.ofList(ProcessInstanceEntity.class).size(10).create();
+    final var dbPage =
+        reader.convertPaging(
+            sort(),
+            SearchQueryPage.of(p -> p.from(0).size(10).totalItemsMode(TotalItemsMode.CAPPED)));
+
+    // when
+    final var result =
+        reader.buildSearchQueryResult(dbPage, new CountingSupplier(42), entities, sort());
+
+    // then
+    assertThat(result.total()).isEqualTo(42);
+    assertThat(result.hasMoreTotalItems()).isFalse();
+  }
+
+  @Test
+  void shouldNotCountIfNotRequested() {
+    // given
+    final var entities = Instancio.ofList(ProcessInstanceEntity.class).size(10).create();
+    final var cursor = reader.buildSearchQueryResult(1L, entities, sort()).endCursor();
+    final var dbPage =
+        reader.convertPaging(
+            sort(),
+            SearchQueryPage.of(p -> p.size(10).after(cursor).totalItemsMode(TotalItemsMode.NONE)));
+    final var counter = new CountingSupplier(100);
+
+    // when
+    final var result = reader.buildSearchQueryResult(dbPage, counter, entities, sort());
+
+    // then
+    assertThat(counter.invocations).hasValue(0);
+    assertThat(result.total()).isEqualTo(10);
+    assertThat(result.hasMoreTotalItems()).isTrue();
+    assertThat(result.endCursor()).isNotNull();
+  }
+
+  private DbQuerySorting<ProcessInstanceEntity> sort() {
+    return DbQuerySorting.of(
+        b -> b.addEntry(ProcessInstanceSearchColumn.PROCESS_INSTANCE_KEY, SortOrder.ASC));
+  }
+
+  private static final class CountingSupplier implements LongSupplier {
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final long count;
+
+    private CountingSupplier(final long count) {
+      this.count = count;
+    }
+
+    @Override
+    public long getAsLong() {
+      invocations.incrementAndGet();
+      return count;
+    }
+  }
 }
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -18,6 +19,10 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -183,6 +188,112 @@ class DefaultExecutionQueueTest {
     verify(postFlushListener, never()).onPostFlush();
   }
 
+  @Test
+  public void whenFlushingAsynchronouslyNewItemsAreQueuedWhileCommitting() throws Exception {
+    // given
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 10, 1, true, metrics);
+    final var commitLatch = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              commitLatch.await();
+              return null;
+            })
+        .when(session)
+        .commit();
+    final var postFlushListener = mock(PostFlushListener.class);
+    executionQueue.registerPostFlushListener(postFlushListener);
+    final var item1 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1");
+    final var item2 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            2L,
+            "statement1",
+            "parameter2");
+    executionQueue.executeInQueue(item1);
+
+    // when
+    final var flushed = executionQueue.flushAsync();
+    executionQueue.executeInQueue(item2);
+
+    // then
+    assertThat(executionQueue.getQueue()).containsExactly(item2);
+    assertThat(flushed).isNotDone();
+    verify(postFlushListener, never()).onPostFlush();
+
+    commitLatch.countDown();
+    assertThat(flushed.get(5, TimeUnit.SECONDS)).isOne();
+    verify(postFlushListener).onPostFlush();
+    verify(session).update("statement1", "parameter1");
+    verify(session, never()).update("statement1", "parameter2");
+    executionQueue.close();
+  }
+
+  @Test
+  public void whenFlushingAsynchronouslyPreFlushListenersAreCalledBeforeHandingOver() {
+    // given
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 10, 1, true, metrics);
+    final var positionItem =
+        new QueueItem(
+            ContextType.EXPORTER_POSITION,
+            WriteStatementType.UPDATE,
+            1L,
+            "updatePosition",
+            "position");
+    executionQueue.registerPreFlushListener(() -> executionQueue.executeInQueue(positionItem));
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1"));
+
+    // when
+    final var flushed = executionQueue.flushAsync().join();
+
+    // then - the item queued by the listener is flushed with the others
+    assertThat(flushed).isEqualTo(2);
+    assertThat(executionQueue.getQueue()).isEmpty();
+    verify(session).update("updatePosition", "position");
+    executionQueue.close();
+  }
+
+  @Test
+  public void whenAsynchronousFlushFailsItemsAreQueuedAgain() {
+    // given
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 10, 1, true, metrics);
+    final var item1 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1");
+    executionQueue.executeInQueue(item1);
+    final var e = new RuntimeException("Some error");
+    when(session.flushStatements()).thenThrow(e).thenReturn(List.of());
+
+    // when
+    final var flushed = executionQueue.flushAsync();
+
+    // then - the error is rethrown by the next flush, which retries the items afterwards
+    assertThat(flushed).failsWithin(Duration.ofSeconds(5));
+    assertThatThrownBy(() -> executionQueue.flush()).isEqualTo(e);
+    assertThat(executionQueue.getQueue()).containsExactly(item1);
+    verify(session).rollback();
+
+    assertThat(executionQueue.flush()).isOne();
+    verify(session).commit();
+    executionQueue.close();
+  }
+
   @Test
   public void whenMatchingItemFoundShouldMergeItems() {
     final var item1 =
@@ -272,6 +383,116 @@ class DefaultExecutionQueueTest {
     assertThat(executionQueue.getQueue().get(1)).isSameAs(item2);
   }
 
+  @Test
+  public void whenMergerHasIdShouldMergeWithLastItemOfSameId() {
+    final var item1 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1");
+    final var item2 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.UPDATE,
+            1L,
+            "statement2",
+            "parameter2");
+    final var item3 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            2L,
+            "statement3",
+            "parameter3");
+    final var item4 =
+        new QueueItem(
+            ContextType.FLOW_NODE, WriteStatementType.INSERT, 1L, "statement4", "parameter4");
+    executionQueue.executeInQueue(item1);
+    executionQueue.executeInQueue(item2);
+    executionQueue.executeInQueue(item3);
+    executionQueue.executeInQueue(item4);
+
+    // when
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new KeyedMerger(ContextType.PROCESS_INSTANCE, 1L));
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(executionQueue.getQueue())
+        .extracting(QueueItem::parameter)
+        .containsExactly("parameter1", "parameter2+", "parameter3", "parameter4");
+  }
+
+  @Test
+  public void whenMergersMatchDifferentItemsShouldMergeWithLastItem() {
+    final var item1 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1");
+    final var item2 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            2L,
+            "statement2",
+            "parameter2");
+    executionQueue.executeInQueue(item1);
+    executionQueue.executeInQueue(item2);
+
+    // when
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new KeyedMerger(ContextType.PROCESS_INSTANCE, 1L),
+            new KeyedMerger(ContextType.PROCESS_INSTANCE, 2L));
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(executionQueue.getQueue())
+        .extracting(QueueItem::parameter)
+        .containsExactly("parameter1", "parameter2+");
+  }
+
+  @Test
+  public void whenQueueWasFlushedShouldOnlyMergeWithNewItems() {
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1"));
+    executionQueue.flush();
+    final var item2 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            2L,
+            "statement2",
+            "parameter2");
+    executionQueue.executeInQueue(item2);
+
+    // when
+    final var mergedFlushedItem =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new KeyedMerger(ContextType.PROCESS_INSTANCE, 1L));
+    final var mergedNewItem =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new KeyedMerger(ContextType.PROCESS_INSTANCE, 2L));
+
+    // then
+    assertThat(mergedFlushedItem).isFalse();
+    assertThat(mergedNewItem).isTrue();
+    assertThat(executionQueue.getQueue())
+        .extracting(QueueItem::parameter)
+        .containsExactly("parameter2+");
+  }
+
   @Test
   public void shouldSortQueueItemsDuringFlush() {
     executionQueue.executeInQueue(
@@ -325,6 +546,62 @@ class DefaultExecutionQueueTest {
     verify(session).update(eq("statement3"), any());
   }
 
+  @Test
+  public void shouldCombineInsertsIntoMultiRowInserts() {
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 0, 2, false, metrics);
+    for (long key = 1; key <= 3; key++) {
+      executionQueue.executeInQueue(
+          new QueueItem(
+              ContextType.VARIABLE,
+              WriteStatementType.INSERT,
+              key,
+              "io.camunda.db.rdbms.sql.VariableMapper.insert",
+              "variable" + key));
+    }
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.VARIABLE,
+            WriteStatementType.UPDATE,
+            1L,
+            "io.camunda.db.rdbms.sql.VariableMapper.update",
+            "variable1+"));
+
+    // when
+    final var flushedElements = executionQueue.flush();
+
+    // then - inserts are combined up to the block size, other statements are executed as before
+    assertThat(flushedElements).isEqualTo(4);
+    assertThat(executionQueue.getQueue()).isEmpty();
+    verify(session)
+        .update(
+            "io.camunda.db.rdbms.sql.VariableMapper.insertMultiple",
+            List.of("variable1", "variable2"));
+    verify(session).update("io.camunda.db.rdbms.sql.VariableMapper.insert", "variable3");
+    verify(session).update("io.camunda.db.rdbms.sql.VariableMapper.update", "variable1+");
+  }
+
+  @Test
+  public void whenMultiRowInsertsAreDisabledShouldInsertRowsOneByOne() {
+    for (long key = 1; key <= 2; key++) {
+      executionQueue.executeInQueue(
+          new QueueItem(
+              ContextType.VARIABLE,
+              WriteStatementType.INSERT,
+              key,
+              "io.camunda.db.rdbms.sql.VariableMapper.insert",
+              "variable" + key));
+    }
+
+    // when
+    executionQueue.flush();
+
+    // then
+    verify(session).update("io.camunda.db.rdbms.sql.VariableMapper.insert", "variable1");
+    verify(session).update("io.camunda.db.rdbms.sql.VariableMapper.insert", "variable2");
+    verify(session, never())
+        .update(eq("io.camunda.db.rdbms.sql.VariableMapper.insertMultiple"), any());
+  }
+
   @ParameterizedTest
   @CsvSource({
     // statementId, expectedResult
@@ -338,4 +615,17 @@ class DefaultExecutionQueueTest {
     assertThat(DefaultExecutionQueue.shouldIgnoreWhenNoRowsAffected(statementId))
         .isEqualTo(expected);
   }
+
+  private record KeyedMerger(ContextType contextType, Object id) implements QueueItemMerger {
+
+    @Override
+    public boolean canBeMerged(final QueueItem queueItem) {
+      return queueItem.contextType() == contextType && queueItem.id().equals(id);
+    }
+
+    @Override
+    public QueueItem merge(final QueueItem originalItem) {
+      return originalItem.copy(b -> b.parameter(originalItem.parameter() + "+"));
+    }
+  }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import io.camunda.db.rdbms.write.domain.ProcessInstanceDbModel;
+import io.camunda.db.rdbms.write.domain.ProcessInstanceDbModel.ProcessInstanceDbModelBuilder;
+import io.camunda.search.entities.ProcessInstanceEntity.ProcessInstanceState;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of the exporter write pattern on a large queue: try to merge an update
+ * into the queued item of the same entity, or enqueue a new item if there is none.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ExecutionQueuePerformanceTest {
+
+  @Param({"1000", "10000", "100000"})
+  public int queueSize;
+
+  private DefaultExecutionQueue executionQueue;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    // no flush limit, and no flush, so no session factory is required
+    executionQueue =
+        new DefaultExecutionQueue(null, 1, 0, new RdbmsWriterMetrics(new SimpleMeterRegistry()));
+
+    // only even keys are queued, such that about half of the operations enqueue a new item until
+    // every key is queued
+    for (long key = 0; key < 2L * queueSize; key += 2) {
+      executionQueue.executeInQueue(processInstance(key));
+    }
+  }
+
+  @Benchmark
+  public boolean measureEnqueueOrMerge() {
+    final long key = ThreadLocalRandom.current().nextLong(2L * queueSize);
+    final var merged =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new UpsertMerger<>(
+                ContextType.PROCESS_INSTANCE,
+                key,
+                ProcessInstanceDbModel.class,
+                (final ProcessInstanceDbModelBuilder b) ->
+                    b.state(ProcessInstanceState.COMPLETED)));
+
+    if (!merged) {
+      executionQueue.executeInQueue(processInstance(key));
+    }
+    return merged;
+  }
+
+  @JMHTest("measureEnqueueOrMerge")
+  void shouldEnqueueOrMergeInConstantTime(final JMHTestCase testCase) {
+    // given - an ops/s score as measured locally with the largest queue
+    // when running this test on different hardware, you're likely to have a different score
+    final var referenceScore = 800_000;
+
+    // when
+    final var assertResult = testCase.withOptions(o -> o.param("queueSize", "100000")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private static QueueItem processInstance(final long key) {
+    return new QueueItem(
+        ContextType.PROCESS_INSTANCE,
+        WriteStatementType.INSERT,
+        key,
+        "io.camunda.db.rdbms.sql.ProcessInstanceMapper.insert",
+        new ProcessInstanceDbModelBuilder()
+            .processInstanceKey(key)
+            .state(ProcessInstanceState.ACTIVE)
+            .build());
+  }
+}
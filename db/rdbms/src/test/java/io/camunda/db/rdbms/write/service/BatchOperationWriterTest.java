@@ -10,14 +10,22 @@ package io.camunda.db.rdbms.write.service;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.db.rdbms.config.VendorDatabaseProperties;
+import io.camunda.db.rdbms.read.RdbmsReaderMetrics;
+import io.camunda.db.rdbms.read.routing.ReadRouting;
+import io.camunda.db.rdbms.read.routing.ReadRouting.Target;
+import io.camunda.db.rdbms.read.routing.ReadRoutingMappers;
+import io.camunda.db.rdbms.read.service.BatchOperationDbReader;
 import io.camunda.db.rdbms.sql.BatchOperationMapper;
 import io.camunda.db.rdbms.sql.BatchOperationMapper.BatchOperationItemsDto;
 import io.camunda.db.rdbms.write.RdbmsWriterConfig;
+import io.camunda.db.rdbms.write.domain.BatchOperationDbModel;
 import io.camunda.db.rdbms.write.domain.BatchOperationItemDbModel;
 import io.camunda.db.rdbms.write.queue.ExecutionQueue;
 import io.camunda.db.rdbms.write.queue.QueueItem;
 import io.camunda.search.entities.BatchOperationEntity.BatchOperationItemState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.stream.LongStream;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -67,4 +75,35 @@ class BatchOperationWriterTest {
     assertThat(capturedItems.get(1).items()).hasSize(10);
     assertThat(capturedItems.get(2).items()).hasSize(5);
   }
+
+  @Test
+  void shouldCheckIfBatchOperationExistsOnPrimary() {
+    // given - a reader whose queries are routed to the read replica
+    final var reader =
+        new BatchOperationDbReader(
+            new ReadRoutingMappers(true, new RdbmsReaderMetrics(new SimpleMeterRegistry()))
+                .wrap(BatchOperationMapper.class, batchOperationMapper));
+    final var writer =
+        new BatchOperationWriter(
+            reader,
+            executionQueue,
+            batchOperationMapper,
+            RdbmsWriterConfig.builder().build(),
+            vendorDatabaseProperties);
+    final var targets = new ArrayList<Target>();
+    Mockito.when(batchOperationMapper.count(Mockito.any()))
+        .thenAnswer(
+            i -> {
+              targets.add(ReadRouting.currentTarget());
+              return 0L;
+            });
+
+    // when
+    writer.createIfNotAlreadyExists(
+        new BatchOperationDbModel.Builder().batchOperationKey("42").build());
+
+    // then
+    assertThat(targets).containsExactly(Target.PRIMARY);
+    Mockito.verify(executionQueue).executeInQueue(Mockito.any(QueueItem.class));
+  }
 }
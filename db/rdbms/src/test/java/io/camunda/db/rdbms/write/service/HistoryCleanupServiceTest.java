@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,6 +44,7 @@ class HistoryCleanupServiceTest {
   private CorrelatedMessageSubscriptionWriter correlatedMessageSubscriptionWriter;
   private UsageMetricWriter usageMetricWriter;
   private UsageMetricTUWriter usageMetricTUWriter;
+  private HistoryPartitionService historyPartitionService;
 
   private HistoryCleanupService historyCleanupService;
 
@@ -62,6 +64,7 @@ class HistoryCleanupServiceTest {
     correlatedMessageSubscriptionWriter = mock(CorrelatedMessageSubscriptionWriter.class);
     usageMetricWriter = mock(UsageMetricWriter.class);
     usageMetricTUWriter = mock(UsageMetricTUWriter.class);
+    historyPartitionService = mock(HistoryPartitionService.class);
 
     when(processInstanceWriter.cleanupHistory(anyInt(), any(), anyInt())).thenReturn(0);
     when(flowNodeInstanceWriter.cleanupHistory(anyInt(), any(), anyInt())).thenReturn(0);
@@ -111,7 +114,8 @@ class HistoryCleanupServiceTest {
             correlatedMessageSubscriptionWriter,
             mock(RdbmsWriterMetrics.class, Mockito.RETURNS_DEEP_STUBS),
             usageMetricWriter,
-            usageMetricTUWriter);
+            usageMetricTUWriter,
+            historyPartitionService);
   }
 
   @Test
@@ -151,6 +155,29 @@ class HistoryCleanupServiceTest {
     verify(correlatedMessageSubscriptionWriter).cleanupHistory(PARTITION_ID, CLEANUP_DATE, 100);
   }
 
+  @Test
+  void shouldCleanupHistoryPartitionsOnlyOnFirstPartition() {
+    // when
+    historyCleanupService.cleanupHistory(1, CLEANUP_DATE);
+    historyCleanupService.cleanupHistory(2, CLEANUP_DATE);
+
+    // then
+    verify(historyPartitionService, times(1)).cleanupPartitions(CLEANUP_DATE);
+  }
+
+  @Test
+  void shouldNotCountDroppedHistoryPartitionsAsDeletedRecords() {
+    // given
+    when(historyPartitionService.cleanupPartitions(any())).thenReturn(4);
+    historyCleanupService.cleanupHistory(1, CLEANUP_DATE);
+
+    // when
+    final var nextCleanupInterval = historyCleanupService.cleanupHistory(1, CLEANUP_DATE);
+
+    // then - nothing was deleted, so the interval is doubled
+    assertThat(nextCleanupInterval).isEqualTo(Duration.ofHours(2));
+  }
+
   @Test
   void testFirstCleanupMetricsHistory() {
     // given
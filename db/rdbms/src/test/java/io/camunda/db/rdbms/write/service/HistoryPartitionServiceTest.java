@@ -0,0 +1,189 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.camunda.db.rdbms.config.VendorDatabaseProperties;
+import io.camunda.db.rdbms.sql.PurgeMapper;
+import io.camunda.db.rdbms.sql.PurgeMapper.HistoryPartitionDropDto;
+import io.camunda.db.rdbms.sql.PurgeMapper.HistoryPartitionDto;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class HistoryPartitionServiceTest {
+
+  private static final OffsetDateTime CLEANUP_DATE =
+      OffsetDateTime.of(2026, 3, 10, 12, 0, 0, 0, ZoneOffset.UTC);
+  private static final Duration HISTORY_TTL = Duration.ofDays(3);
+
+  private PurgeMapper purgeMapper;
+  private VendorDatabaseProperties vendorDatabaseProperties;
+  private HistoryPartitionService historyPartitionService;
+
+  @BeforeEach
+  void setUp() {
+    purgeMapper = mock(PurgeMapper.class);
+    vendorDatabaseProperties = mock(VendorDatabaseProperties.class);
+    when(vendorDatabaseProperties.historyPartitioningSupported()).thenReturn(true);
+    when(purgeMapper.selectHistoryPartitions(anyString())).thenReturn(List.of());
+
+    historyPartitionService =
+        new HistoryPartitionService(purgeMapper, vendorDatabaseProperties, HISTORY_TTL);
+  }
+
+  @Test
+  void shouldIgnoreIfNotSupported() {
+    // given
+    when(vendorDatabaseProperties.historyPartitioningSupported()).thenReturn(false);
+    final var service =
+        new HistoryPartitionService(purgeMapper, vendorDatabaseProperties, HISTORY_TTL);
+
+    // when
+    final var droppedPartitions = service.cleanupPartitions(CLEANUP_DATE);
+
+    // then
+    assertThat(droppedPartitions).isZero();
+    verifyNoInteractions(purgeMapper);
+  }
+
+  @Test
+  void shouldIgnoreTablesWhichAreNotPartitioned() {
+    // when
+    final var droppedPartitions = historyPartitionService.cleanupPartitions(CLEANUP_DATE);
+
+    // then
+    assertThat(droppedPartitions).isZero();
+    verify(purgeMapper, times(HistoryPartitionService.PARTITIONED_TABLE_NAMES.size()))
+        .selectHistoryPartitions(anyString());
+    verify(purgeMapper, never()).dropHistoryPartition(any());
+    verify(purgeMapper, never()).createHistoryPartition(any());
+  }
+
+  @Test
+  void shouldDropExpiredPartitions() {
+    // given
+    when(purgeMapper.selectHistoryPartitions("VARIABLE"))
+        .thenReturn(
+            List.of(
+                "variable_default",
+                "variable_h20260308",
+                "variable_h20260309",
+                "variable_h20260310"));
+
+    // when
+    final var droppedPartitions = historyPartitionService.cleanupPartitions(CLEANUP_DATE);
+
+    // then - the partition of the current day still contains rows to be cleaned up later
+    assertThat(droppedPartitions).isEqualTo(2);
+    final var captor = ArgumentCaptor.forClass(HistoryPartitionDropDto.class);
+    verify(purgeMapper, times(2)).dropHistoryPartition(captor.capture());
+    assertThat(captor.getAllValues())
+        .containsExactly(
+            new HistoryPartitionDropDto("VARIABLE", "variable_h20260308"),
+            new HistoryPartitionDropDto("VARIABLE", "variable_h20260309"));
+  }
+
+  @Test
+  void shouldRetryToDropPartitionWhichFailed() {
+    // given
+    when(purgeMapper.selectHistoryPartitions("VARIABLE"))
+        .thenReturn(List.of("variable_default", "variable_open", "variable_h20260309"));
+    doThrow(new RuntimeException("expected"))
+        .doNothing()
+        .when(purgeMapper)
+        .dropHistoryPartition(any(HistoryPartitionDropDto.class));
+
+    // when
+    final var failedRun = historyPartitionService.cleanupPartitions(CLEANUP_DATE);
+    final var retriedRun = historyPartitionService.cleanupPartitions(CLEANUP_DATE);
+
+    // then
+    assertThat(failedRun).isZero();
+    assertThat(retriedRun).isOne();
+    verify(purgeMapper, times(2))
+        .dropHistoryPartition(new HistoryPartitionDropDto("VARIABLE", "variable_h20260309"));
+  }
+
+  @Test
+  void shouldCreateUpcomingPartitions() {
+    // given
+    when(purgeMapper.selectHistoryPartitions("JOB"))
+        .thenReturn(List.of("job_default", "job_h20260310", "job_h20260311"));
+
+    // when
+    historyPartitionService.cleanupPartitions(CLEANUP_DATE);
+
+    // then - until the history TTL is over, plus the additional partitions
+    final var captor = ArgumentCaptor.forClass(HistoryPartitionDto.class);
+    verify(purgeMapper, times(4)).createHistoryPartition(captor.capture());
+    assertThat(captor.getAllValues())
+        .extracting(HistoryPartitionDto::partitionName)
+        .containsExactly("JOB_H20260312", "JOB_H20260313", "JOB_H20260314", "JOB_H20260315");
+    assertThat(captor.getAllValues().getFirst())
+        .isEqualTo(
+            new HistoryPartitionDto(
+                "JOB", "JOB_H20260312", "2026-03-12T00:00Z", "2026-03-13T00:00Z"));
+  }
+
+  @Test
+  void shouldRetryToCreatePartitionWhichFailedWithBackoff() {
+    // given
+    when(purgeMapper.selectHistoryPartitions("JOB")).thenReturn(List.of("job_default"));
+    doThrow(new RuntimeException("expected"))
+        .when(purgeMapper)
+        .createHistoryPartition(any(HistoryPartitionDto.class));
+    final var firstRetry = CLEANUP_DATE.plus(HistoryPartitionService.INITIAL_RETRY_BACKOFF);
+
+    // when
+    historyPartitionService.cleanupPartitions(CLEANUP_DATE);
+    historyPartitionService.cleanupPartitions(firstRetry.minusSeconds(1));
+    historyPartitionService.cleanupPartitions(firstRetry);
+    historyPartitionService.cleanupPartitions(
+        firstRetry.plus(HistoryPartitionService.INITIAL_RETRY_BACKOFF));
+
+    // then - every partition from the current day on is tried once, and again after the backoff,
+    // which doubles after every failure
+    verify(purgeMapper, times(12)).createHistoryPartition(any());
+  }
+
+  @Test
+  void shouldSkipOnlyFailedPartitionsDuringBackoff() {
+    // given
+    when(purgeMapper.selectHistoryPartitions("JOB")).thenReturn(List.of("job_default"));
+    doThrow(new RuntimeException("expected"))
+        .doNothing()
+        .when(purgeMapper)
+        .createHistoryPartition(any(HistoryPartitionDto.class));
+
+    // when - only the partition of the first day fails
+    historyPartitionService.cleanupPartitions(CLEANUP_DATE);
+    historyPartitionService.cleanupPartitions(CLEANUP_DATE.plusMinutes(1));
+
+    // then
+    final var captor = ArgumentCaptor.forClass(HistoryPartitionDto.class);
+    verify(purgeMapper, times(11)).createHistoryPartition(captor.capture());
+    assertThat(captor.getAllValues())
+        .extracting(HistoryPartitionDto::partitionName)
+        .containsOnlyOnce("JOB_H20260310");
+  }
+}
@@ -7,8 +7,12 @@
  */
 package io.camunda.application.commons.rdbms;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.camunda.configuration.UnifiedConfiguration;
 import io.camunda.db.rdbms.config.VendorDatabaseProperties;
 import io.camunda.db.rdbms.config.VendorDatabasePropertiesLoader;
+import io.camunda.db.rdbms.read.routing.ReadRoutingDataSource;
 import io.camunda.db.rdbms.sql.AuthorizationMapper;
 import io.camunda.db.rdbms.sql.BatchOperationMapper;
 import io.camunda.db.rdbms.sql.CorrelatedMessageSubscriptionMapper;
@@ -34,6 +38,7 @@ import io.camunda.db.rdbms.sql.UsageMetricTUMapper;
 import io.camunda.db.rdbms.sql.UserMapper;
 import io.camunda.db.rdbms.sql.UserTaskMapper;
 import io.camunda.db.rdbms.sql.VariableMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.util.Map;
 import java.util.Properties;
@@ -48,6 +53,7 @@ import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.mapper.MapperFactoryBean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
@@ -59,6 +65,8 @@ import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 public class MyBatisConfiguration {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(MyBatisConfiguration.class);
+  private static final String READ_REPLICA_PREFIX =
+      "camunda.data.secondary-storage.rdbms.read-replica";
 
   @Bean
   @ConditionalOnProperty(
@@ -69,7 +77,11 @@ public class MyBatisConfiguration {
   public MultiTenantSpringLiquibase rdbmsExporterLiquibase(
       final DataSource dataSource,
       final VendorDatabaseProperties vendorDatabaseProperties,
-      @Value("${camunda.data.secondary-storage.rdbms.prefix:}") final String prefix) {
+      @Value("${camunda.data.secondary-storage.rdbms.prefix:}") final String prefix,
+      @Value("${camunda.data.secondary-storage.rdbms.history.partitioned-cleanup:false}")
+          final boolean partitionedCleanup,
+      @Value("${camunda.data.secondary-storage.rdbms.strict-sorting:false}")
+          final boolean strictSorting) {
     final String trimmedPrefix = StringUtils.trimToEmpty(prefix);
     LOGGER.info(
         "Initializing Liquibase for RDBMS with global table trimmedPrefix '{}'.", trimmedPrefix);
@@ -83,7 +95,11 @@ public class MyBatisConfiguration {
             "prefix",
             trimmedPrefix,
             "userCharColumnSize",
-            Integer.toString(vendorDatabaseProperties.userCharColumnSize())));
+            Integer.toString(vendorDatabaseProperties.userCharColumnSize()),
+            "historyPartitioning",
+            Boolean.toString(partitionedCleanup),
+            "strictSorting",
+            Boolean.toString(strictSorting)));
     // changelog file located in src/main/resources directly in the module
     moduleConfig.setChangeLog("db/changelog/rdbms-exporter/changelog-master.xml");
 
@@ -106,9 +122,53 @@ public class MyBatisConfiguration {
     return VendorDatabasePropertiesLoader.load(databaseId);
   }
 
+  /**
+   * The connection pool of the read replica, which the queries of the readers are sent to. It is
+   * not exposed as {@link DataSource} bean, as it must not replace the primary data source.
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = READ_REPLICA_PREFIX, name = "url")
+  public ReadReplica rdbmsReadReplica(
+      final UnifiedConfiguration unifiedConfiguration, final MeterRegistry meterRegistry) {
+    final var readReplica =
+        unifiedConfiguration
+            .getCamunda()
+            .getData()
+            .getSecondaryStorage()
+            .getRdbms()
+            .getReadReplica();
+    final var connectionPool = readReplica.getConnectionPool();
+    final var config = new HikariConfig();
+    config.setJdbcUrl(readReplica.getUrl());
+    config.setUsername(readReplica.getUsername());
+    config.setPassword(readReplica.getPassword());
+    if (connectionPool.getMaximumPoolSize() != null) {
+      config.setMaximumPoolSize(connectionPool.getMaximumPoolSize());
+    }
+    if (connectionPool.getMinimumIdle() != null) {
+      config.setMinimumIdle(connectionPool.getMinimumIdle());
+    }
+    if (connectionPool.getConnectionTimeout() != null) {
+      config.setConnectionTimeout(connectionPool.getConnectionTimeout().toMillis());
+    }
+    if (connectionPool.getIdleTimeout() != null) {
+      config.setIdleTimeout(connectionPool.getIdleTimeout().toMillis());
+    }
+    if (connectionPool.getMaxLifetime() != null) {
+      config.setMaxLifetime(connectionPool.getMaxLifetime().toMillis());
+    }
+    config.setPoolName("camunda-rdbms-read-replica");
+    config.setReadOnly(true);
+    config.setMetricRegistry(meterRegistry);
+    LOGGER.info("Sending the queries of the RDBMS readers to the read replica.");
+
+    return new ReadReplica(new HikariDataSource(config));
+  }
+
   @Bean
   public SqlSessionFactory sqlSessionFactory(
       final DataSource dataSource,
+      final ObjectProvider<ReadReplica> readReplica,
       final DatabaseIdProvider databaseIdProvider,
       final VendorDatabaseProperties databaseProperties,
       @Value("${camunda.data.secondary-storage.rdbms.prefix:}") final String prefix)
@@ -120,7 +180,9 @@ public class MyBatisConfiguration {
 
     final SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
     factoryBean.setConfiguration(configuration);
-    factoryBean.setDataSource(dataSource);
+    final var replica = readReplica.getIfAvailable();
+    factoryBean.setDataSource(
+        replica == null ? dataSource : new ReadRoutingDataSource(dataSource, replica.dataSource()));
     factoryBean.setDatabaseIdProvider(databaseIdProvider);
     factoryBean.addMapperLocations(
         new PathMatchingResourcePatternResolver().getResources("classpath*:mapper/*.xml"));
@@ -282,4 +344,12 @@ public class MyBatisConfiguration {
     factoryBean.setSqlSessionFactory(sqlSessionFactory);
     return factoryBean;
   }
+
+  public record ReadReplica(HikariDataSource dataSource) implements AutoCloseable {
+
+    @Override
+    public void close() {
+      dataSource.close();
+    }
+  }
 }
@@ -7,10 +7,13 @@
  */
 package io.camunda.application.commons.rdbms;
 
+import io.camunda.application.commons.rdbms.MyBatisConfiguration.ReadReplica;
 import io.camunda.configuration.SecondaryStorage.SecondaryStorageType;
 import io.camunda.configuration.conditions.ConditionalOnSecondaryStorageType;
 import io.camunda.db.rdbms.RdbmsService;
 import io.camunda.db.rdbms.config.VendorDatabaseProperties;
+import io.camunda.db.rdbms.read.RdbmsReaderMetrics;
+import io.camunda.db.rdbms.read.routing.ReadRoutingMappers;
 import io.camunda.db.rdbms.read.service.AuthorizationDbReader;
 import io.camunda.db.rdbms.read.service.BatchOperationDbReader;
 import io.camunda.db.rdbms.read.service.BatchOperationItemDbReader;
@@ -76,6 +79,7 @@ import javax.sql.DataSource;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -87,156 +91,215 @@ import org.springframework.context.annotation.Import;
 public class RdbmsConfiguration {
 
   private static final Logger LOG = LoggerFactory.getLogger(RdbmsConfiguration.class);
+  private static final String STRICT_SORTING =
+      "${camunda.data.secondary-storage.rdbms.strict-sorting:false}";
 
   @Bean
-  public VariableDbReader variableRdbmsReader(final VariableMapper variableMapper) {
-    return new VariableDbReader(variableMapper);
+  public VariableDbReader variableRdbmsReader(
+      final VariableMapper variableMapper,
+      final ReadRoutingMappers readRoutingMappers,
+      @Value(STRICT_SORTING) final boolean strictSorting) {
+    return new VariableDbReader(
+        readRoutingMappers.wrap(VariableMapper.class, variableMapper), strictSorting);
   }
 
   @Bean
-  public AuthorizationDbReader authorizationReader(final AuthorizationMapper authorizationMapper) {
-    return new AuthorizationDbReader(authorizationMapper);
+  public AuthorizationDbReader authorizationReader(
+      final AuthorizationMapper authorizationMapper, final ReadRoutingMappers readRoutingMappers) {
+    return new AuthorizationDbReader(
+        readRoutingMappers.wrap(AuthorizationMapper.class, authorizationMapper));
   }
 
   @Bean
   public DecisionDefinitionDbReader decisionDefinitionReader(
-      final DecisionDefinitionMapper decisionDefinitionMapper) {
-    return new DecisionDefinitionDbReader(decisionDefinitionMapper);
+      final DecisionDefinitionMapper decisionDefinitionMapper,
+      final ReadRoutingMappers readRoutingMappers) {
+    return new DecisionDefinitionDbReader(
+        readRoutingMappers.wrap(DecisionDefinitionMapper.class, decisionDefinitionMapper));
   }
 
   @Bean
   public DecisionInstanceDbReader decisionInstanceReader(
-      final DecisionInstanceMapper decisionInstanceMapper) {
-    return new DecisionInstanceDbReader(decisionInstanceMapper);
+      final DecisionInstanceMapper decisionInstanceMapper,
+      final ReadRoutingMappers readRoutingMappers) {
+    return new DecisionInstanceDbReader(
+        readRoutingMappers.wrap(DecisionInstanceMapper.class, decisionInstanceMapper));
   }
 
   @Bean
   public DecisionRequirementsDbReader decisionRequirementsReader(
-      final DecisionRequirementsMapper decisionRequirementsMapper) {
-    return new DecisionRequirementsDbReader(decisionRequirementsMapper);
+      final DecisionRequirementsMapper decisionRequirementsMapper,
+      final ReadRoutingMappers readRoutingMappers) {
+    return new DecisionRequirementsDbReader(
+        readRoutingMappers.wrap(DecisionRequirementsMapper.class, decisionRequirementsMapper));
   }
 
   @Bean
   public FlowNodeInstanceDbReader flowNodeInstanceReader(
-      final FlowNodeInstanceMapper flowNodeInstanceMapper) {
-    return new FlowNodeInstanceDbReader(flowNodeInstanceMapper);
+      final FlowNodeInstanceMapper flowNodeInstanceMapper,
+      final ReadRoutingMappers readRoutingMappers,
+      @Value(STRICT_SORTING) final boolean strictSorting) {
+    return new FlowNodeInstanceDbReader(
+        readRoutingMappers.wrap(FlowNodeInstanceMapper.class, flowNodeInstanceMapper),
+        strictSorting);
   }
 
   @Bean
-  public GroupDbReader groupReader(final GroupMapper groupMapper) {
-    return new GroupDbReader(groupMapper);
+  public GroupDbReader groupReader(
+      final GroupMapper groupMapper, final ReadRoutingMappers readRoutingMappers) {
+    return new GroupDbReader(readRoutingMappers.wrap(GroupMapper.class, groupMapper));
   }
 
   @Bean
-  public GroupMemberDbReader groupMemberReader(final GroupMapper groupMapper) {
-    return new GroupMemberDbReader(groupMapper);
+  public GroupMemberDbReader groupMemberReader(
+      final GroupMapper groupMapper, final ReadRoutingMappers readRoutingMappers) {
+    return new GroupMemberDbReader(readRoutingMappers.wrap(GroupMapper.class, groupMapper));
   }
 
   @Bean
-  public IncidentDbReader incidentReader(final IncidentMapper incidentMapper) {
-    return new IncidentDbReader(incidentMapper);
+  public IncidentDbReader incidentReader(
+      final IncidentMapper incidentMapper,
+      final ReadRoutingMappers readRoutingMappers,
+      @Value(STRICT_SORTING) final boolean strictSorting) {
+    return new IncidentDbReader(
+        readRoutingMappers.wrap(IncidentMapper.class, incidentMapper), strictSorting);
   }
 
   @Bean
   public ProcessDefinitionDbReader processDefinitionReader(
-      final ProcessDefinitionMapper processDefinitionMapper) {
-    return new ProcessDefinitionDbReader(processDefinitionMapper);
+      final ProcessDefinitionMapper processDefinitionMapper,
+      final ReadRoutingMappers readRoutingMappers) {
+    return new ProcessDefinitionDbReader(
+        readRoutingMappers.wrap(ProcessDefinitionMapper.class, processDefinitionMapper));
   }
 
   @Bean
   public ProcessDefinitionStatisticsDbReader processDefinitionStatisticsReader(
-      final ProcessDefinitionMapper processDefinitionMapper) {
-    return new ProcessDefinitionStatisticsDbReader(processDefinitionMapper);
+      final ProcessDefinitionMapper processDefinitionMapper,
+      final ReadRoutingMappers readRoutingMappers) {
+    return new ProcessDefinitionStatisticsDbReader(
+        readRoutingMappers.wrap(ProcessDefinitionMapper.class, processDefinitionMapper));
   }
 
   @Bean
   public ProcessInstanceDbReader processInstanceReader(
-      final ProcessInstanceMapper processInstanceMapper) {
-    return new ProcessInstanceDbReader(processInstanceMapper);
+      final ProcessInstanceMapper processInstanceMapper,
+      final ReadRoutingMappers readRoutingMappers,
+      @Value(STRICT_SORTING) final boolean strictSorting) {
+    return new ProcessInstanceDbReader(
+        readRoutingMappers.wrap(ProcessInstanceMapper.class, processInstanceMapper), strictSorting);
   }
 
   @Bean
   public ProcessInstanceStatisticsDbReader processInstanceStatisticsReader(
-      final ProcessInstanceMapper processInstanceMapper) {
-    return new ProcessInstanceStatisticsDbReader(processInstanceMapper);
+      final ProcessInstanceMapper processInstanceMapper,
+      final ReadRoutingMappers readRoutingMappers) {
+    return new ProcessInstanceStatisticsDbReader(
+        readRoutingMappers.wrap(ProcessInstanceMapper.class, processInstanceMapper));
   }
 
   @Bean
-  public TenantDbReader tenantReader(final TenantMapper tenantMapper) {
-    return new TenantDbReader(tenantMapper);
+  public TenantDbReader tenantReader(
+      final TenantMapper tenantMapper, final ReadRoutingMappers readRoutingMappers) {
+    return new TenantDbReader(readRoutingMappers.wrap(TenantMapper.class, tenantMapper));
   }
 
   @Bean
-  public TenantMemberDbReader tenantMemberReader(final TenantMapper tenantMapper) {
-    return new TenantMemberDbReader(tenantMapper);
+  public TenantMemberDbReader tenantMemberReader(
+      final TenantMapper tenantMapper, final ReadRoutingMappers readRoutingMappers) {
+    return new TenantMemberDbReader(readRoutingMappers.wrap(TenantMapper.class, tenantMapper));
   }
 
   @Bean
-  public UserDbReader userReader(final UserMapper userTaskMapper) {
-    return new UserDbReader(userTaskMapper);
+  public UserDbReader userReader(
+      final UserMapper userTaskMapper, final ReadRoutingMappers readRoutingMappers) {
+    return new UserDbReader(readRoutingMappers.wrap(UserMapper.class, userTaskMapper));
   }
 
   @Bean
-  public RoleDbReader roleReader(final RoleMapper roleMapper) {
-    return new RoleDbReader(roleMapper);
+  public RoleDbReader roleReader(
+      final RoleMapper roleMapper, final ReadRoutingMappers readRoutingMappers) {
+    return new RoleDbReader(readRoutingMappers.wrap(RoleMapper.class, roleMapper));
   }
 
   @Bean
-  public RoleMemberDbReader roleMemberReader(final RoleMapper roleMapper) {
-    return new RoleMemberDbReader(roleMapper);
+  public RoleMemberDbReader roleMemberReader(
+      final RoleMapper roleMapper, final ReadRoutingMappers readRoutingMappers) {
+    return new RoleMemberDbReader(readRoutingMappers.wrap(RoleMapper.class, roleMapper));
   }
 
   @Bean
-  public UserTaskDbReader userTaskReader(final UserTaskMapper userTaskMapper) {
-    return new UserTaskDbReader(userTaskMapper);
+  public UserTaskDbReader userTaskReader(
+      final UserTaskMapper userTaskMapper,
+      final ReadRoutingMappers readRoutingMappers,
+      @Value(STRICT_SORTING) final boolean strictSorting) {
+    return new UserTaskDbReader(
+        readRoutingMappers.wrap(UserTaskMapper.class, userTaskMapper), strictSorting);
   }
 
   @Bean
-  public FormDbReader formReader(final FormMapper formMapper) {
-    return new FormDbReader(formMapper);
+  public FormDbReader formReader(
+      final FormMapper formMapper, final ReadRoutingMappers readRoutingMappers) {
+    return new FormDbReader(readRoutingMappers.wrap(FormMapper.class, formMapper));
   }
 
   @Bean
-  public MappingRuleDbReader mappingReader(final MappingRuleMapper mappingMapper) {
-    return new MappingRuleDbReader(mappingMapper);
+  public MappingRuleDbReader mappingReader(
+      final MappingRuleMapper mappingMapper, final ReadRoutingMappers readRoutingMappers) {
+    return new MappingRuleDbReader(readRoutingMappers.wrap(MappingRuleMapper.class, mappingMapper));
   }
 
   @Bean
   public MessageSubscriptionDbReader messageSubscriptionDbReader(
-      final MessageSubscriptionMapper messageSubscriptionMapper) {
-    return new MessageSubscriptionDbReader(messageSubscriptionMapper);
+      final MessageSubscriptionMapper messageSubscriptionMapper,
+      final ReadRoutingMappers readRoutingMappers) {
+    return new MessageSubscriptionDbReader(
+        readRoutingMappers.wrap(MessageSubscriptionMapper.class, messageSubscriptionMapper));
   }
 
   @Bean
   public BatchOperationDbReader batchOperationReader(
-      final BatchOperationMapper batchOperationMapper) {
-    return new BatchOperationDbReader(batchOperationMapper);
+      final BatchOperationMapper batchOperationMapper,
+      final ReadRoutingMappers readRoutingMappers) {
+    return new BatchOperationDbReader(
+        readRoutingMappers.wrap(BatchOperationMapper.class, batchOperationMapper));
   }
 
   @Bean
-  public SequenceFlowDbReader sequenceFlowReader(final SequenceFlowMapper sequenceFlowMapper) {
-    return new SequenceFlowDbReader(sequenceFlowMapper);
+  public SequenceFlowDbReader sequenceFlowReader(
+      final SequenceFlowMapper sequenceFlowMapper, final ReadRoutingMappers readRoutingMappers) {
+    return new SequenceFlowDbReader(
+        readRoutingMappers.wrap(SequenceFlowMapper.class, sequenceFlowMapper));
   }
 
   @Bean
   public BatchOperationItemDbReader batchOperationItemReader(
-      final BatchOperationMapper batchOperationMapper) {
-    return new BatchOperationItemDbReader(batchOperationMapper);
+      final BatchOperationMapper batchOperationMapper,
+      final ReadRoutingMappers readRoutingMappers) {
+    return new BatchOperationItemDbReader(
+        readRoutingMappers.wrap(BatchOperationMapper.class, batchOperationMapper));
   }
 
   @Bean
-  public JobDbReader jobReader(final JobMapper jobMapper) {
-    return new JobDbReader(jobMapper);
+  public JobDbReader jobReader(
+      final JobMapper jobMapper,
+      final ReadRoutingMappers readRoutingMappers,
+      @Value(STRICT_SORTING) final boolean strictSorting) {
+    return new JobDbReader(readRoutingMappers.wrap(JobMapper.class, jobMapper), strictSorting);
   }
 
   @Bean
-  public UsageMetricsDbReader usageMetricReader(final UsageMetricMapper usageMetricMapper) {
-    return new UsageMetricsDbReader(usageMetricMapper);
+  public UsageMetricsDbReader usageMetricReader(
+      final UsageMetricMapper usageMetricMapper, final ReadRoutingMappers readRoutingMappers) {
+    return new UsageMetricsDbReader(
+        readRoutingMappers.wrap(UsageMetricMapper.class, usageMetricMapper));
   }
 
   @Bean
-  public UsageMetricTUDbReader usageMetricTUReader(final UsageMetricTUMapper usageMetricTUMapper) {
-    return new UsageMetricTUDbReader(usageMetricTUMapper);
+  public UsageMetricTUDbReader usageMetricTUReader(
+      final UsageMetricTUMapper usageMetricTUMapper, final ReadRoutingMappers readRoutingMappers) {
+    return new UsageMetricTUDbReader(
+        readRoutingMappers.wrap(UsageMetricTUMapper.class, usageMetricTUMapper));
   }
 
   @Bean
@@ -244,6 +307,13 @@ public class RdbmsConfiguration {
     return new ProcessDefinitionInstanceStatisticsDbReader();
   }
 
+  @Bean
+  public ReadRoutingMappers readRoutingMappers(
+      final ObjectProvider<ReadReplica> readReplica, final MeterRegistry meterRegistry) {
+    return new ReadRoutingMappers(
+        readReplica.getIfAvailable() != null, new RdbmsReaderMetrics(meterRegistry));
+  }
+
   @Bean
   public RdbmsWriterMetrics rdbmsExporterMetrics(final MeterRegistry meterRegistry) {
     return new RdbmsWriterMetrics(meterRegistry);
@@ -251,8 +321,11 @@ public class RdbmsConfiguration {
 
   @Bean
   public CorrelatedMessageSubscriptionDbReader correlatedMessageSubscriptionReader(
-      final CorrelatedMessageSubscriptionMapper correlatedMessageSubscriptionMapper) {
-    return new CorrelatedMessageSubscriptionDbReader(correlatedMessageSubscriptionMapper);
+      final CorrelatedMessageSubscriptionMapper correlatedMessageSubscriptionMapper,
+      final ReadRoutingMappers readRoutingMappers) {
+    return new CorrelatedMessageSubscriptionDbReader(
+        readRoutingMappers.wrap(
+            CorrelatedMessageSubscriptionMapper.class, correlatedMessageSubscriptionMapper));
   }
 
   @Bean
@@ -268,7 +341,6 @@ public class RdbmsConfiguration {
       final UserTaskMapper userTaskMapper,
       final VariableMapper variableMapper,
       final RdbmsWriterMetrics metrics,
-      final BatchOperationDbReader batchOperationReader,
       final JobMapper jobMapper,
       final SequenceFlowMapper sequenceFlowMapper,
       final UsageMetricMapper usageMetricMapper,
@@ -288,7 +360,8 @@ public class RdbmsConfiguration {
         userTaskMapper,
         variableMapper,
         metrics,
-        batchOperationReader,
+        // not the batchOperationReader bean, whose queries may be sent to the read replica
+        new BatchOperationDbReader(batchOperationMapper),
         jobMapper,
         sequenceFlowMapper,
         usageMetricMapper,
@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.it.rdbms.db;
+
+import static io.camunda.zeebe.test.util.testcontainers.TestSearchContainers.createDefaultPostgresContainer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.db.rdbms.RdbmsService;
+import io.camunda.db.rdbms.write.RdbmsWriter;
+import io.camunda.db.rdbms.write.RdbmsWriterConfig.HistoryConfig;
+import io.camunda.it.rdbms.db.fixtures.CommonFixtures;
+import io.camunda.it.rdbms.db.fixtures.VariableFixtures;
+import io.camunda.it.rdbms.db.util.CamundaRdbmsTestApplication;
+import io.camunda.it.rdbms.db.util.RdbmsTestConfiguration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Verifies the partitions of the history tables on PostgreSQL, which are only created with the
+ * 'historyPartitioning' schema mode and maintained by the history cleanup of the first partition.
+ */
+@Tag("rdbms")
+public class HistoryPartitioningIT {
+
+  private static final int MAINTAINING_PARTITION_ID = 1;
+  private static final DateTimeFormatter PARTITION_DAY_FORMAT =
+      DateTimeFormatter.ofPattern("yyyyMMdd");
+
+  private static final CamundaRdbmsTestApplication TEST_APPLICATION =
+      new CamundaRdbmsTestApplication(RdbmsTestConfiguration.class)
+          .withRdbms()
+          .withDatabaseContainer(createDefaultPostgresContainer())
+          .withProperty("camunda.data.secondary-storage.rdbms.history.partitioned-cleanup", true);
+
+  private JdbcTemplate jdbcTemplate;
+  private RdbmsService rdbmsService;
+  private RdbmsWriter rdbmsWriter;
+
+  @BeforeAll
+  static void startApplication() {
+    TEST_APPLICATION.start();
+  }
+
+  @AfterAll
+  static void stopApplication() {
+    TEST_APPLICATION.close();
+  }
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = TEST_APPLICATION.bean(JdbcTemplate.class);
+    rdbmsService = TEST_APPLICATION.getRdbmsService();
+    rdbmsWriter = rdbmsService.createWriter(MAINTAINING_PARTITION_ID);
+  }
+
+  @Test
+  void shouldCreatePartitionsUntilHistoryTtlIsOver() {
+    // given
+    final var cleanupDate = OffsetDateTime.now(ZoneOffset.UTC);
+
+    // when
+    rdbmsWriter.getHistoryCleanupService().cleanupHistory(MAINTAINING_PARTITION_ID, cleanupDate);
+
+    // then
+    assertThat(selectPartitions("variable"))
+        .contains(
+            "variable_open",
+            "variable_default",
+            partitionName("variable", cleanupDate),
+            partitionName("variable", cleanupDate.plus(HistoryConfig.DEFAULT_HISTORY_TTL)));
+  }
+
+  @Test
+  void shouldDetachAndDropExpiredPartitions() {
+    // given - variables which are scheduled for cleanup on the current day, and running ones
+    final var cleanupDate = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS);
+    final var historyCleanupService = rdbmsWriter.getHistoryCleanupService();
+    historyCleanupService.cleanupHistory(MAINTAINING_PARTITION_ID, cleanupDate);
+
+    final var processInstanceKey = CommonFixtures.nextKey();
+    VariableFixtures.createAndSaveRandomVariables(
+        rdbmsService, b -> b.processInstanceKey(processInstanceKey));
+    final var runningVariables =
+        VariableFixtures.createAndSaveRandomVariables(rdbmsService, b -> b);
+    historyCleanupService.scheduleProcessForHistoryCleanup(
+        processInstanceKey, cleanupDate.minus(HistoryConfig.DEFAULT_HISTORY_TTL).plusHours(1));
+    rdbmsWriter.flush();
+
+    final var expiredPartition = partitionName("variable", cleanupDate);
+    assertThat(countRows(expiredPartition)).isEqualTo(20);
+
+    // when
+    historyCleanupService.cleanupHistory(MAINTAINING_PARTITION_ID, cleanupDate.plusDays(1));
+
+    // then - the partition is neither attached nor left behind as a table of its own
+    assertThat(selectPartitions("variable"))
+        .doesNotContain(expiredPartition)
+        .contains(partitionName("variable", cleanupDate.plusDays(1)));
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?)::text", String.class, expiredPartition))
+        .isNull();
+    assertThat(countVariables(processInstanceKey)).isZero();
+    assertThat(countVariables(runningVariables.getFirst().processInstanceKey())).isOne();
+  }
+
+  private List<String> selectPartitions(final String tableName) {
+    return jdbcTemplate.queryForList(
+        "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid"
+            + " WHERE i.inhparent = to_regclass(?)",
+        String.class,
+        tableName);
+  }
+
+  private int countRows(final String tableName) {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + tableName, Integer.class);
+  }
+
+  private int countVariables(final long processInstanceKey) {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM variable WHERE process_instance_key = ?",
+        Integer.class,
+        processInstanceKey);
+  }
+
+  private static String partitionName(final String tableName, final OffsetDateTime day) {
+    return tableName
+        + "_h"
+        + PARTITION_DAY_FORMAT.format(day.withOffsetSameInstant(ZoneOffset.UTC));
+  }
+}
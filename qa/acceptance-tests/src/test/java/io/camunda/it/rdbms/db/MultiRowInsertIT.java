@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.it.rdbms.db;
+
+import static io.camunda.it.rdbms.db.fixtures.CommonFixtures.nextKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.db.rdbms.RdbmsService;
+import io.camunda.db.rdbms.write.RdbmsWriter;
+import io.camunda.it.rdbms.db.fixtures.ElementInstanceFixtures;
+import io.camunda.it.rdbms.db.fixtures.JobFixtures;
+import io.camunda.it.rdbms.db.fixtures.VariableFixtures;
+import io.camunda.it.rdbms.db.util.CamundaRdbmsInvocationContextProviderExtension;
+import io.camunda.it.rdbms.db.util.CamundaRdbmsTestApplication;
+import io.camunda.search.query.FlowNodeInstanceQuery;
+import io.camunda.search.query.JobQuery;
+import io.camunda.search.query.VariableQuery;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exports the same amount of flow node instances, variables and jobs with and without multi-row
+ * inserts, and logs the throughput of both, e.g. to compare them on a local database.
+ */
+@Tag("rdbms")
+public class MultiRowInsertIT {
+
+  @RegisterExtension
+  static final CamundaRdbmsInvocationContextProviderExtension TEST_APPLICATIONS =
+      new CamundaRdbmsInvocationContextProviderExtension("camundaWithH2", "camundaWithPostgresSQL");
+
+  private static final Logger LOG = LoggerFactory.getLogger(MultiRowInsertIT.class);
+  private static final int PARTITION_ID = 0;
+  private static final int ROW_COUNT = 2000;
+
+  @TestTemplate
+  public void shouldExportWithAndWithoutMultiRowInserts(
+      final CamundaRdbmsTestApplication testApplication) {
+    final RdbmsService rdbmsService = testApplication.getRdbmsService();
+
+    final long singleRowProcessInstanceKey =
+        exportProcessInstance(
+            rdbmsService.createWriter(
+                b -> b.partitionId(PARTITION_ID).queueSize(0).multiRowInsertBlockSize(1)),
+            "single-row inserts");
+    final long multiRowProcessInstanceKey =
+        exportProcessInstance(
+            rdbmsService.createWriter(
+                b -> b.partitionId(PARTITION_ID).queueSize(0).multiRowInsertBlockSize(50)),
+            "multi-row inserts");
+
+    assertExported(rdbmsService, singleRowProcessInstanceKey);
+    assertExported(rdbmsService, multiRowProcessInstanceKey);
+  }
+
+  private long exportProcessInstance(final RdbmsWriter rdbmsWriter, final String mode) {
+    final long processInstanceKey = nextKey();
+    for (int i = 0; i < ROW_COUNT; i++) {
+      rdbmsWriter
+          .getFlowNodeInstanceWriter()
+          .create(
+              ElementInstanceFixtures.createRandomized(
+                  b -> b.processInstanceKey(processInstanceKey)));
+      rdbmsWriter
+          .getVariableWriter()
+          .create(VariableFixtures.createRandomized(b -> b.processInstanceKey(processInstanceKey)));
+      rdbmsWriter
+          .getJobWriter()
+          .create(JobFixtures.createRandomized(b -> b.processInstanceKey(processInstanceKey)));
+    }
+
+    final long start = System.nanoTime();
+    rdbmsWriter.flush();
+    final long durationMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+    LOG.info(
+        "Exported {} rows with {} in {} ms ({} rows/s)",
+        3 * ROW_COUNT,
+        mode,
+        durationMillis,
+        3L * ROW_COUNT * 1000 / durationMillis);
+    return processInstanceKey;
+  }
+
+  private void assertExported(final RdbmsService rdbmsService, final long processInstanceKey) {
+    assertThat(
+            rdbmsService
+                .getFlowNodeInstanceReader()
+                .search(
+                    FlowNodeInstanceQuery.of(
+                        b -> b.filter(f -> f.processInstanceKeys(processInstanceKey))))
+                .total())
+        .isEqualTo(ROW_COUNT);
+    assertThat(
+            rdbmsService
+                .getVariableReader()
+                .search(
+                    VariableQuery.of(b -> b.filter(f -> f.processInstanceKeys(processInstanceKey))))
+                .total())
+        .isEqualTo(ROW_COUNT);
+    assertThat(
+            rdbmsService
+                .getJobReader()
+                .search(JobQuery.of(b -> b.filter(f -> f.processInstanceKeys(processInstanceKey))))
+                .total())
+        .isEqualTo(ROW_COUNT);
+  }
+}
@@ -11,7 +11,12 @@ import io.camunda.util.ObjectBuilder;
 import java.util.function.Function;
 
 public record SearchQueryPage(
-    Integer from, Integer size, String after, String before, SearchQueryResultType resultType) {
+    Integer from,
+    Integer size,
+    String after,
+    String before,
+    SearchQueryResultType resultType,
+    TotalItemsMode totalItemsMode) {
 
   public static final Integer DEFAULT_FROM = 0;
   public static final Integer DEFAULT_SIZE = 100;
@@ -38,7 +43,13 @@ public record SearchQueryPage(
   }
 
   public SearchQueryPage sanitize() {
-    return new Builder().from(from).size(size).after(after).before(before).build();
+    return new Builder()
+        .from(from)
+        .size(size)
+        .after(after)
+        .before(before)
+        .totalItemsMode(totalItemsMode)
+        .build();
   }
 
   public static SearchQueryPage of(final Function<Builder, ObjectBuilder<SearchQueryPage>> fn) {
@@ -51,6 +62,7 @@ public record SearchQueryPage(
     private Integer size = DEFAULT_SIZE;
     private String after;
     private String before;
+    private TotalItemsMode totalItemsMode = TotalItemsMode.EXACT;
 
     public Builder from(final Integer value) {
       from = value;
@@ -72,12 +84,24 @@ public record SearchQueryPage(
       return this;
     }
 
+    public Builder totalItemsMode(final TotalItemsMode value) {
+      totalItemsMode = value;
+      return this;
+    }
+
     @Override
     public SearchQueryPage build() {
       final var sanitizedFrom = (from == null) ? DEFAULT_FROM : Math.max(0, from);
       final var sanitizedSize = (size == null) ? DEFAULT_SIZE : Math.max(0, size);
+      final var sanitizedTotalItemsMode =
+          (totalItemsMode == null) ? TotalItemsMode.EXACT : totalItemsMode;
       return new SearchQueryPage(
-          sanitizedFrom, sanitizedSize, after, before, SearchQueryResultType.PAGINATED);
+          sanitizedFrom,
+          sanitizedSize,
+          after,
+          before,
+          SearchQueryResultType.PAGINATED,
+          sanitizedTotalItemsMode);
     }
   }
 
@@ -86,4 +110,19 @@ public record SearchQueryPage(
     PAGINATED,
     SINGLE_RESULT
   }
+
+  /** How the total number of items matching a query is counted. */
+  public enum TotalItemsMode {
+    /** Counts all matching items. */
+    EXACT,
+    /**
+     * Counts matching items up to a limit only; if there are more, the total is reported as capped.
+     */
+    CAPPED,
+    /**
+     * Doesn't count matching items; the total only reflects the items of the page, and is reported
+     * as capped if there may be more.
+     */
+    NONE
+  }
 }
@@ -11,6 +11,7 @@ import static io.camunda.search.page.SearchQueryPage.SearchQueryResultType.SINGL
 import static io.camunda.search.page.SearchQueryPage.SearchQueryResultType.UNLIMITED;
 
 import io.camunda.search.page.SearchQueryPage;
+import io.camunda.search.page.SearchQueryPage.TotalItemsMode;
 import io.camunda.search.page.SearchQueryPageBuilders;
 import io.camunda.util.ObjectBuilder;
 import java.util.Objects;
@@ -33,12 +34,12 @@ public interface SearchQueryBase {
     }
 
     public T singleResult() {
-      page(new SearchQueryPage(0, 2, null, null, SINGLE_RESULT));
+      page(new SearchQueryPage(0, 2, null, null, SINGLE_RESULT, TotalItemsMode.EXACT));
       return self();
     }
 
     public T unlimited() {
-      page(new SearchQueryPage(0, 0, null, null, UNLIMITED));
+      page(new SearchQueryPage(0, 0, null, null, UNLIMITED, TotalItemsMode.EXACT));
       return self();
     }
 
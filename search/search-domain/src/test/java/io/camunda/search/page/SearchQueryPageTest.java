@@ -9,7 +9,9 @@ package io.camunda.search.page;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.search.page.SearchQueryPage.TotalItemsMode;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -26,6 +28,21 @@ class SearchQueryPageTest {
     assertThat(page.size()).isEqualTo(targetSize);
   }
 
+  @Test
+  void shouldCountExactlyByDefault() {
+    final var page = new SearchQueryPage.Builder().totalItemsMode(null).build();
+
+    assertThat(page.totalItemsMode()).isEqualTo(TotalItemsMode.EXACT);
+  }
+
+  @Test
+  void shouldKeepTotalItemsModeWhenSanitizing() {
+    final var page =
+        new SearchQueryPage.Builder().totalItemsMode(TotalItemsMode.CAPPED).build().sanitize();
+
+    assertThat(page.totalItemsMode()).isEqualTo(TotalItemsMode.CAPPED);
+  }
+
   private static Stream<Arguments> sanitize() {
     return Stream.of(
         Arguments.arguments(0, 20, 0, 20),
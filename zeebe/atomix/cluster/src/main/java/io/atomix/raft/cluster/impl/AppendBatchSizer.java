@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+/**
+ * Determines the maximum size of the append requests sent to a single member.
+ *
+ * <p>If adaptive batching is disabled, this is always the configured max append batch size.
+ * Otherwise, it starts at the configured size, and then adapts to the observed round trip time and
+ * the member's backlog:
+ *
+ * <ul>
+ *   <li>if a full batch was acknowledged while the member is still lagging behind, and the round
+ *       trip time was not notably higher than the lowest one recently observed, the batch size is
+ *       doubled, such that fewer requests are necessary to catch up after it was reduced
+ *   <li>if the round trip time is notably higher than the lowest one recently observed, the member
+ *       or the network is likely queuing requests, so the batch size is halved
+ *   <li>if a request failed, the batch size is halved
+ * </ul>
+ *
+ * The batch size is bounded between a quarter of the configured size and the configured size
+ * itself, such that a request never exceeds the configured max append batch size, which receivers
+ * and the transport may rely on. As requests are sent as soon as all entries are batched, this does
+ * not delay any request at low load.
+ */
+final class AppendBatchSizer {
+  static final int MIN_BATCH_SIZE_DIVISOR = 4;
+
+  /**
+   * Round trips which take longer than this factor of the lowest recently observed round trip time,
+   * plus {@link #CONGESTION_SLACK_MILLIS}, are considered congested.
+   */
+  private static final int CONGESTION_FACTOR = 2;
+
+  private static final long CONGESTION_SLACK_MILLIS = 2;
+
+  /**
+   * The lowest round trip time is tracked over windows of this many samples, such that it follows
+   * permanent changes of the network latency.
+   */
+  private static final int MIN_ROUND_TRIP_WINDOW = 100;
+
+  private final boolean adaptive;
+  private final int minBatchSize;
+  private final int maxBatchSize;
+
+  private int batchSize;
+  private long minRoundTripMillis;
+  private long windowMinRoundTripMillis;
+  private int windowSamples;
+
+  AppendBatchSizer(final int maxBatchSize, final boolean adaptive) {
+    this.adaptive = adaptive;
+    this.maxBatchSize = maxBatchSize;
+    minBatchSize = Math.max(1, maxBatchSize / MIN_BATCH_SIZE_DIVISOR);
+    reset();
+  }
+
+  void reset() {
+    batchSize = maxBatchSize;
+    minRoundTripMillis = Long.MAX_VALUE;
+    windowMinRoundTripMillis = Long.MAX_VALUE;
+    windowSamples = 0;
+  }
+
+  int batchSize() {
+    return batchSize;
+  }
+
+  /**
+   * Adapts the batch size after a successful round trip.
+   *
+   * @param roundTripMillis the time between sending the request and receiving its response
+   * @param requestBytes the approximate size of the entries in the request; 0 for heartbeats, which
+   *     are only used to observe the round trip time
+   * @param backlogEntries the number of entries the member still has to replicate
+   */
+  void onRoundTrip(final long roundTripMillis, final int requestBytes, final long backlogEntries) {
+    if (!adaptive) {
+      return;
+    }
+
+    final boolean congested = isCongested(roundTripMillis);
+    observeRoundTrip(roundTripMillis);
+    if (requestBytes == 0) {
+      return;
+    }
+
+    if (congested) {
+      shrink();
+    } else if (requestBytes >= batchSize && backlogEntries > 0) {
+      batchSize = (int) Math.min(maxBatchSize, (long) batchSize * 2);
+    }
+  }
+
+  /** Shrinks the batch size after a failed request. */
+  void onFailure() {
+    if (adaptive) {
+      shrink();
+    }
+  }
+
+  private void shrink() {
+    batchSize = Math.max(minBatchSize, batchSize / 2);
+  }
+
+  private boolean isCongested(final long roundTripMillis) {
+    return minRoundTripMillis != Long.MAX_VALUE
+        && roundTripMillis > minRoundTripMillis * CONGESTION_FACTOR + CONGESTION_SLACK_MILLIS;
+  }
+
+  private void observeRoundTrip(final long roundTripMillis) {
+    windowMinRoundTripMillis = Math.min(windowMinRoundTripMillis, roundTripMillis);
+    minRoundTripMillis = Math.min(minRoundTripMillis, roundTripMillis);
+
+    if (++windowSamples >= MIN_ROUND_TRIP_WINDOW) {
+      minRoundTripMillis = windowMinRoundTripMillis;
+      windowMinRoundTripMillis = Long.MAX_VALUE;
+      windowSamples = 0;
+    }
+  }
+}
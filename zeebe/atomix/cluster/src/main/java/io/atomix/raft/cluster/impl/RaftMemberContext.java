@@ -43,6 +43,7 @@ public final class RaftMemberContext {
   private long heartbeatTime;
   private long responseTime;
   private int inFlightAppendCount;
+  private long inFlightAppendBytes;
   private boolean appendSucceeded;
   private boolean configuring;
   private boolean installing;
@@ -51,13 +52,17 @@ public final class RaftMemberContext {
   private volatile RaftLogReader reader;
   private SnapshotChunkReader snapshotChunkReader;
   private IndexedRaftLogEntry currentEntry;
+  private final AppendBatchSizer appendBatchSizer;
 
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxAppendBatchSize,
+      final boolean adaptiveAppendBatching) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    appendBatchSizer = new AppendBatchSizer(maxAppendBatchSize, adaptiveAppendBatching);
   }
 
   /** Resets the member state. */
@@ -69,6 +74,8 @@ public final class RaftMemberContext {
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
+    inFlightAppendBytes = 0;
+    appendBatchSizer.reset();
     configuring = false;
     installing = false;
     appendSucceeded = false;
@@ -178,14 +185,63 @@ public final class RaftMemberContext {
     appendSucceeded(false);
   }
 
-  /** Starts an append request to the member. */
-  public void startAppend() {
+  /**
+   * Starts an append request to the member.
+   *
+   * @param bytes the approximate size of the entries sent with the request
+   */
+  public void startAppend(final int bytes) {
     inFlightAppendCount++;
+    inFlightAppendBytes += bytes;
   }
 
-  /** Completes an append request to the member. */
-  public void completeAppend() {
+  /**
+   * Completes an append request to the member.
+   *
+   * @param bytes the approximate size of the entries sent with the request
+   */
+  public void completeAppend(final int bytes) {
     inFlightAppendCount--;
+    inFlightAppendBytes -= bytes;
+  }
+
+  /**
+   * Returns the approximate size of the entries sent to the member which were not acknowledged yet.
+   *
+   * @return the size of the in-flight entries in bytes
+   */
+  public long getInFlightAppendBytes() {
+    return inFlightAppendBytes;
+  }
+
+  /**
+   * Returns the maximum size of the entries to send with the next append request to the member.
+   *
+   * @return the append batch size in bytes
+   */
+  public int getAppendBatchSize() {
+    return appendBatchSizer.batchSize();
+  }
+
+  /**
+   * Adapts the append batch size after an append request to the member succeeded, if adaptive
+   * batching is enabled.
+   *
+   * @param roundTripMillis the time between sending the request and receiving the response
+   * @param requestBytes the approximate size of the entries sent with the request
+   * @param backlogEntries the number of entries the member still has to replicate
+   */
+  public void observeAppendRoundTrip(
+      final long roundTripMillis, final int requestBytes, final long backlogEntries) {
+    appendBatchSizer.onRoundTrip(roundTripMillis, requestBytes, backlogEntries);
+  }
+
+  /**
+   * Adapts the append batch size after an append request to the member failed, if adaptive batching
+   * is enabled.
+   */
+  public void observeAppendFailure() {
+    appendBatchSizer.onFailure();
   }
 
   /**
@@ -256,6 +312,8 @@ public final class RaftMemberContext {
         .add("matchIndex", matchIndex)
         .add("heartbeatTime", heartbeatTime)
         .add("appending", inFlightAppendCount)
+        .add("appendingBytes", inFlightAppendBytes)
+        .add("appendBatchSize", appendBatchSizer.batchSize())
         .add("appendSucceeded", appendSucceeded)
         .add("configuring", configuring)
         .add("installing", installing)
@@ -423,6 +423,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendBatchSize();
   }
 
+  public boolean isAdaptiveAppendBatching() {
+    return partitionConfig.isAdaptiveAppendBatching();
+  }
+
   public int getMaxAppendsPerFollower() {
     return partitionConfig.getMaxAppendsPerFollower();
   }
@@ -33,6 +33,8 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
   private final Counter commitRate;
   private final StatefulGauge nonCommittedEntriesValue;
   private final Map<String, StatefulGauge> nonReplicatedEntries;
+  private final Map<String, StatefulGauge> appendBatchSize;
+  private final Map<String, StatefulGauge> inFlightAppendBytes;
 
   public LeaderAppenderMetrics(final String partitionName, final MeterRegistry meterRegistry) {
     super(partitionName);
@@ -41,6 +43,8 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
     appendDataRate = new HashMap<>();
     appendRate = new HashMap<>();
     nonReplicatedEntries = new HashMap<>();
+    appendBatchSize = new HashMap<>();
+    inFlightAppendBytes = new HashMap<>();
 
     commitRate =
         Counter.builder(LeaderMetricsDoc.COMMIT_RATE.getName())
@@ -79,6 +83,20 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
         .set(remainingEntries);
   }
 
+  public void observeAppendBatchSize(final String memberId, final int batchSize) {
+    appendBatchSize
+        .computeIfAbsent(
+            memberId, id -> registerFollowerGauge(LeaderMetricsDoc.APPEND_BATCH_SIZE, id))
+        .set(batchSize);
+  }
+
+  public void observeInFlightAppendBytes(final String memberId, final long bytes) {
+    inFlightAppendBytes
+        .computeIfAbsent(
+            memberId, id -> registerFollowerGauge(LeaderMetricsDoc.IN_FLIGHT_APPEND_BYTES, id))
+        .set(bytes);
+  }
+
   private Timer getAppendLatency(final String memberId) {
     return appendLatency.computeIfAbsent(
         memberId,
@@ -130,6 +148,16 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
         .register(meterRegistry);
   }
 
+  private StatefulGauge registerFollowerGauge(
+      final LeaderMetricsDoc meterDoc, final String memberId) {
+    return StatefulGauge.builder(meterDoc.getName())
+        .description(meterDoc.getDescription())
+        .baseUnit(meterDoc.getBaseUnit())
+        .tag(RaftKeyNames.FOLLOWER.asString(), memberId)
+        .tag(RaftKeyNames.PARTITION_GROUP.asString(), partitionGroupName)
+        .register(meterRegistry);
+  }
+
   @Override
   public void close() {
     meterRegistry.remove(commitRate);
@@ -138,5 +166,7 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
     appendRate.values().forEach(meterRegistry::remove);
     appendDataRate.values().forEach(meterRegistry::remove);
     nonReplicatedEntries.values().forEach(meterRegistry::remove);
+    appendBatchSize.values().forEach(meterRegistry::remove);
+    inFlightAppendBytes.values().forEach(meterRegistry::remove);
   }
 }
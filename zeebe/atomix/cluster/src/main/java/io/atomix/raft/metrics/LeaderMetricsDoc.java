@@ -114,6 +114,64 @@ public enum LeaderMetricsDoc implements ExtendedMeterDocumentation {
       };
     }
   },
+  /** The maximum size of the next append request to a given follower */
+  APPEND_BATCH_SIZE {
+    @Override
+    public String getName() {
+      return "atomix.append.batch.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+
+    @Override
+    public String getDescription() {
+      return "The maximum size of the next append request to a given follower";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {
+        PartitionKeyNames.PARTITION, RaftKeyNames.FOLLOWER, RaftKeyNames.PARTITION_GROUP
+      };
+    }
+  },
+  /** The size of the entries sent to a given follower which were not acknowledged yet */
+  IN_FLIGHT_APPEND_BYTES {
+    @Override
+    public String getName() {
+      return "atomix.append.inflight.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+
+    @Override
+    public String getDescription() {
+      return "The size of the entries sent to a given follower which were not acknowledged yet";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {
+        PartitionKeyNames.PARTITION, RaftKeyNames.FOLLOWER, RaftKeyNames.PARTITION_GROUP
+      };
+    }
+  },
   /** The count of entries committed (counting entries, not their size) */
   COMMIT_RATE {
     @Override
@@ -35,6 +35,7 @@ public class RaftPartitionConfig {
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
   private int maxAppendsPerFollower = 2;
   private int maxAppendBatchSize = 32 * 1024;
+  private boolean adaptiveAppendBatching = false;
   private boolean priorityElectionEnabled = DEFAULT_PRIORITY_ELECTION;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
@@ -102,6 +103,20 @@ public class RaftPartitionConfig {
     this.maxAppendBatchSize = maxAppendBatchSize;
   }
 
+  /**
+   * Returns whether the size of append requests is adapted per follower, based on the observed
+   * round trip time and the follower's backlog, starting from {@link #getMaxAppendBatchSize()}.
+   *
+   * @return true if adaptive append batching is enabled
+   */
+  public boolean isAdaptiveAppendBatching() {
+    return adaptiveAppendBatching;
+  }
+
+  public void setAdaptiveAppendBatching(final boolean adaptiveAppendBatching) {
+    this.adaptiveAppendBatching = adaptiveAppendBatching;
+  }
+
   public boolean isPriorityElectionEnabled() {
     return priorityElectionEnabled;
   }
@@ -220,6 +235,8 @@ public class RaftPartitionConfig {
         + maxAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", adaptiveAppendBatching="
+        + adaptiveAppendBatching
         + ", priorityElectionEnabled="
         + priorityElectionEnabled
         + ", requestTimeout="
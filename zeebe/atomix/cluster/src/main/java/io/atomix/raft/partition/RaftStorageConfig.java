@@ -30,12 +30,18 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_SORTED_ARRAY_JOURNAL_INDEX = false;
+  private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
+  private static final int DEFAULT_PREPARED_SEGMENT_COUNT = 1;
 
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean sortedArrayJournalIndex = DEFAULT_SORTED_ARRAY_JOURNAL_INDEX;
+  private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
+  private int preparedSegmentCount = DEFAULT_PREPARED_SEGMENT_COUNT;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +131,58 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return true if the journal index is kept in sorted primitive arrays, false otherwise
+   */
+  public boolean isSortedArrayJournalIndex() {
+    return sortedArrayJournalIndex;
+  }
+
+  /**
+   * Sets whether the journal index should be kept in sorted primitive arrays instead of skip list
+   * maps, reducing its memory footprint.
+   *
+   * @param sortedArrayJournalIndex true to use the sorted array index, false otherwise
+   */
+  public void setSortedArrayJournalIndex(final boolean sortedArrayJournalIndex) {
+    this.sortedArrayJournalIndex = sortedArrayJournalIndex;
+  }
+
+  /**
+   * @return true if the journal index of sealed segments is persisted, false otherwise
+   */
+  public boolean isPersistSegmentIndex() {
+    return persistSegmentIndex;
+  }
+
+  /**
+   * Sets whether the journal index entries of a segment are persisted once it is sealed, such that
+   * the index is restored instead of rebuilt by reading the segments after a restart.
+   *
+   * @param persistSegmentIndex true to persist the index of sealed segments, false otherwise
+   */
+  public void setPersistSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+  }
+
+  /**
+   * @return the number of segments which are prepared ahead of time
+   */
+  public int getPreparedSegmentCount() {
+    return preparedSegmentCount;
+  }
+
+  /**
+   * Sets how many segments are created and allocated ahead of time in the background, such that
+   * rolling over to the next segment does not have to wait for it. If 0, the next segment is
+   * created when the current one is full.
+   *
+   * @param preparedSegmentCount the number of segments to prepare ahead of time
+   */
+  public void setPreparedSegmentCount(final int preparedSegmentCount) {
+    this.preparedSegmentCount = preparedSegmentCount;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +196,12 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", sortedArrayJournalIndex="
+        + sortedArrayJournalIndex
+        + ", persistSegmentIndex="
+        + persistSegmentIndex
+        + ", preparedSegmentCount="
+        + preparedSegmentCount
         + '}';
   }
 }
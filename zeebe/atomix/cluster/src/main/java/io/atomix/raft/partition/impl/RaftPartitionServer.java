@@ -310,6 +310,9 @@ public class RaftPartitionServer implements HealthMonitorable {
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
         .withPreallocateSegmentFiles(storageConfig.isPreallocateSegmentFiles())
+        .withSortedArrayJournalIndex(storageConfig.isSortedArrayJournalIndex())
+        .withPersistSegmentIndex(storageConfig.isPersistSegmentIndex())
+        .withPreparedSegmentCount(storageConfig.getPreparedSegmentCount())
         .build();
   }
 
@@ -58,6 +58,8 @@ public class InstallRequest extends AbstractRaftRequest {
   private final boolean initial;
   // true if this is the last chunk
   private final boolean complete;
+  // the checksums of all files of the snapshot in SFV format, only sent with the first chunk
+  private final ByteBuffer checksums;
 
   public InstallRequest(
       final long currentTerm,
@@ -69,7 +71,8 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer nextChunkId,
       final ByteBuffer data,
       final boolean initial,
-      final boolean complete) {
+      final boolean complete,
+      final ByteBuffer checksums) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -80,6 +83,7 @@ public class InstallRequest extends AbstractRaftRequest {
     this.initial = initial;
     this.complete = complete;
     this.term = term;
+    this.checksums = checksums;
   }
 
   /**
@@ -170,10 +174,30 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns the checksums of all files of the snapshot, which allows the receiver to reuse files it
+   * already has; may be null if this is not the first chunk, or if the sender doesn't provide them.
+   *
+   * @return the checksums of the snapshot's files in SFV format
+   */
+  public ByteBuffer checksums() {
+    return checksums;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        checksums);
   }
 
   @Override
@@ -194,7 +218,8 @@ public class InstallRequest extends AbstractRaftRequest {
         && Objects.equals(leader, that.leader)
         && Objects.equals(chunkId, that.chunkId)
         && Objects.equals(nextChunkId, that.nextChunkId)
-        && Objects.equals(data, that.data);
+        && Objects.equals(data, that.data)
+        && Objects.equals(checksums, that.checksums);
   }
 
   @Override
@@ -212,6 +237,7 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("data", StringUtils.printShortBuffer(data))
         .add("initial", initial)
         .add("complete", complete)
+        .add("checksums", checksums == null ? "null" : StringUtils.printShortBuffer(checksums))
         .toString();
   }
 
@@ -233,6 +259,7 @@ public class InstallRequest extends AbstractRaftRequest {
     private boolean complete;
     private boolean initial;
     private long term;
+    private ByteBuffer checksums;
 
     /**
      * Sets the request current term.
@@ -346,6 +373,17 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets the checksums of all files of the snapshot, in SFV format.
+     *
+     * @param checksums the checksums of the snapshot's files; may be null
+     * @return the request builder
+     */
+    public Builder withChecksums(final ByteBuffer checksums) {
+      this.checksums = checksums;
+      return this;
+    }
+
     /**
      * @throws IllegalStateException if member is null
      */
@@ -353,7 +391,17 @@ public class InstallRequest extends AbstractRaftRequest {
     public InstallRequest build() {
       validate();
       return new InstallRequest(
-          currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+          currentTerm,
+          leader,
+          index,
+          term,
+          version,
+          chunkId,
+          nextChunkId,
+          data,
+          initial,
+          complete,
+          checksums);
     }
 
     @Override
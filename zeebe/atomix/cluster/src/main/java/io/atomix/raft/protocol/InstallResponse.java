@@ -20,6 +20,9 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Snapshot installation response.
@@ -31,22 +34,40 @@ import io.atomix.raft.RaftError;
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  protected List<String> reusedChunks;
 
-  public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final List<String> reusedChunks) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.reusedChunks = reusedChunks;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * Returns the names of the chunks which the receiver reused from its own snapshot, and which thus
+   * don't need to be sent anymore.
+   *
+   * @return the reused chunk names, empty if none were reused
+   */
+  public List<String> reusedChunks() {
+    // if not given in response, e.g. by an older version, defaults to null
+    return reusedChunks == null ? List.of() : reusedChunks;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("reusedChunks", reusedChunks().size())
         .toString();
   }
 
@@ -62,17 +83,23 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected List<String> reusedChunks = new ArrayList<>();
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, reusedChunks);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withReusedChunks(final Collection<String> reusedChunks) {
+      this.reusedChunks = new ArrayList<>(reusedChunks);
+      return this;
+    }
   }
 }
@@ -43,6 +43,8 @@ import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -51,6 +53,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
@@ -66,7 +69,6 @@ final class LeaderAppender {
   private static final Logger LOGGER = LoggerFactory.getLogger(LeaderAppender.class);
   private static final int MIN_BACKOFF_FAILURE_COUNT = 5;
 
-  private final int maxBatchSizePerAppend;
   private final RaftContext raft;
   private boolean open = true;
 
@@ -83,7 +85,6 @@ final class LeaderAppender {
   LeaderAppender(final LeaderRole leader) {
     raft = checkNotNull(leader.raft, "context cannot be null");
     metrics = new LeaderAppenderMetrics(raft.getName(), raft.getMeterRegistry());
-    maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
     leaderTime = System.currentTimeMillis();
     leaderIndex =
         raft.getLog().isEmpty() ? raft.getLog().getFirstIndex() : raft.getLog().getLastIndex() + 1;
@@ -170,12 +171,13 @@ final class LeaderAppender {
     // Build a list of entries to send to the member.
     final List<ReplicatableJournalRecord> entries = new ArrayList<>();
 
-    // Build a list of entries up to the MAX_BATCH_SIZE. Note that entries in the log may
-    // be null if they've been compacted and the member to which we're sending entries is just
+    // Build a list of entries up to the member's append batch size. Note that entries in the log
+    // may be null if they've been compacted and the member to which we're sending entries is just
     // joining the cluster or is otherwise far behind. Null entries are simply skipped and not
     // counted towards the size of the batch.
-    // If there exists an entry in the log with size >= MAX_BATCH_SIZE the logic ensures that
+    // If there exists an entry in the log with size >= the batch size the logic ensures that
     // entry will be sent in a batch of size one
+    final int maxBatchSize = member.getAppendBatchSize();
     int size = 0;
 
     // Iterate through the log until the last index or the end of the log is reached.
@@ -185,7 +187,7 @@ final class LeaderAppender {
       final var replicatableRecord = entry.getReplicatableJournalRecord();
       entries.add(replicatableRecord);
       size += replicatableRecord.approximateSize();
-      if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
+      if (entry.index() == lastIndex || size >= maxBatchSize) {
         break;
       }
     }
@@ -203,7 +205,10 @@ final class LeaderAppender {
     }
 
     // Start the append to the member.
-    member.startAppend();
+    final int requestBytes = approximateSize(request);
+    member.startAppend(requestBytes);
+    metrics.observeInFlightAppendBytes(
+        member.getMember().memberId().id(), member.getInFlightAppendBytes());
 
     final long timestamp = System.currentTimeMillis();
 
@@ -216,11 +221,13 @@ final class LeaderAppender {
                 // Complete the append to the member.
                 final long appendLatency = System.currentTimeMillis() - timestamp;
                 metrics.appendComplete(appendLatency, member.getMember().memberId().id());
-                member.completeAppend();
+                member.completeAppend(requestBytes);
+                metrics.observeInFlightAppendBytes(
+                    member.getMember().memberId().id(), member.getInFlightAppendBytes());
 
                 if (error == null) {
                   LOGGER.trace("Received {} from {}", response, member.getMember().memberId());
-                  handleAppendResponse(member, request, response, timestamp);
+                  handleAppendResponse(member, request, response, timestamp, requestBytes);
                 } else {
                   handleAppendResponseFailure(member, request, error);
                 }
@@ -233,6 +240,14 @@ final class LeaderAppender {
     }
   }
 
+  private static int approximateSize(final VersionedAppendRequest request) {
+    int size = 0;
+    for (final ReplicatableJournalRecord entry : request.entries()) {
+      size += entry.approximateSize();
+    }
+    return size;
+  }
+
   /** Succeeds an attempt to contact a member. */
   private void succeedAttempt(final RaftMemberContext member) {
     // Reset the member failure count and time.
@@ -426,6 +441,8 @@ final class LeaderAppender {
               .withInitial(member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
+              .withChecksums(
+                  member.getNextSnapshotChunk() == null ? encodeChecksums(persistedSnapshot) : null)
               .build();
       return Optional.of(request);
     } catch (final UncheckedIOException e) {
@@ -441,6 +458,30 @@ final class LeaderAppender {
     }
   }
 
+  /**
+   * Encodes the checksums of all files of the snapshot, which are sent with the first chunk such
+   * that the member can reuse the files it already has. Returns null if there are none, in which
+   * case the member receives all files.
+   */
+  private ByteBuffer encodeChecksums(final PersistedSnapshot persistedSnapshot) {
+    final var checksums = persistedSnapshot.getChecksums();
+    if (checksums == null) {
+      return null;
+    }
+
+    try {
+      final var output = new ByteArrayOutputStream();
+      checksums.write(output);
+      return ByteBuffer.wrap(output.toByteArray());
+    } catch (final IOException e) {
+      LOGGER.debug(
+          "Failed to encode the checksums of snapshot {}, will send all of its files",
+          persistedSnapshot.getId(),
+          e);
+      return null;
+    }
+  }
+
   /** Connects to the member and sends a snapshot request. */
   private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
     // Start the install to the member.
@@ -499,6 +540,10 @@ final class LeaderAppender {
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+    // the member already has these files from its own snapshot, so they don't need to be sent
+    if (!response.reusedChunks().isEmpty()) {
+      member.getSnapshotChunkReader().skip(Set.copyOf(response.reusedChunks()));
+    }
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
@@ -628,6 +673,12 @@ final class LeaderAppender {
       final RaftMemberContext member, final VersionedAppendRequest request, final Throwable error) {
     failHeartbeat();
 
+    if (!request.entries().isEmpty()) {
+      member.observeAppendFailure();
+      metrics.observeAppendBatchSize(
+          member.getMember().memberId().id(), member.getAppendBatchSize());
+    }
+
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
   }
@@ -671,9 +722,10 @@ final class LeaderAppender {
       final RaftMemberContext member,
       final VersionedAppendRequest request,
       final AppendResponse response,
-      final long timestamp) {
+      final long timestamp,
+      final int requestBytes) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleAppendResponseOk(member, request, response);
+      handleAppendResponseOk(member, request, response, timestamp, requestBytes);
     } else {
       handleAppendResponseError(member, request, response);
     }
@@ -683,7 +735,9 @@ final class LeaderAppender {
   private void handleAppendResponseOk(
       final RaftMemberContext member,
       final VersionedAppendRequest request,
-      final AppendResponse response) {
+      final AppendResponse response,
+      final long timestamp,
+      final int requestBytes) {
     // Reset the member failure count and update the member's availability status if necessary.
     succeedAttempt(member);
 
@@ -694,9 +748,8 @@ final class LeaderAppender {
       member.appendSucceeded();
       updateMatchIndex(member, response);
       metrics.observeAppend(
-          member.getMember().memberId().id(),
-          request.entries().size(),
-          request.entries().stream().mapToInt(ReplicatableJournalRecord::approximateSize).sum());
+          member.getMember().memberId().id(), request.entries().size(), requestBytes);
+      observeAppendRoundTrip(member, System.currentTimeMillis() - timestamp, requestBytes);
 
       commitEntries();
 
@@ -733,6 +786,13 @@ final class LeaderAppender {
     }
   }
 
+  private void observeAppendRoundTrip(
+      final RaftMemberContext member, final long roundTripMillis, final int requestBytes) {
+    final long backlogEntries = raft.getLog().getLastIndex() - member.getMatchIndex();
+    member.observeAppendRoundTrip(roundTripMillis, requestBytes, backlogEntries);
+    metrics.observeAppendBatchSize(member.getMember().memberId().id(), member.getAppendBatchSize());
+  }
+
   /**
    * Sends an AppendRequest to the given member.
    *
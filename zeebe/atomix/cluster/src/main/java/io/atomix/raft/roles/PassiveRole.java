@@ -54,14 +54,17 @@ import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotException.SnapshotAlreadyExistsException;
+import io.camunda.zeebe.snapshots.impl.SfvChecksumImpl;
 import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import io.camunda.zeebe.util.CheckedRunnable;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -211,6 +214,8 @@ public class PassiveRole extends InactiveRole {
       raft.notifySnapshotReplicationStarted();
     }
 
+    final var reusedChunks = reuseSnapshotFiles(request);
+
     try {
       pendingSnapshot.apply(snapshotChunk).join();
     } catch (final Exception e) {
@@ -273,9 +278,43 @@ public class PassiveRole extends InactiveRole {
             InstallResponse.builder()
                 .withStatus(RaftResponse.Status.OK)
                 .withPreferredChunkSize(snapshotChunkSize)
+                .withReusedChunks(reusedChunks)
                 .build()));
   }
 
+  /**
+   * Reuses the files of the latest snapshot which the leader sends again, based on the checksums
+   * sent along with the first chunk, such that the leader can skip them. As this is only an
+   * optimization, failing to reuse files just means that all of them are received.
+   */
+  private Set<String> reuseSnapshotFiles(final InstallRequest request) {
+    if (!request.isInitial() || request.checksums() == null) {
+      return Set.of();
+    }
+
+    final var manifest = new SfvChecksumImpl();
+    manifest.updateFromSfvFile(
+        StandardCharsets.UTF_8.decode(request.checksums().duplicate()).toString().split("\n"));
+
+    try {
+      final var reusedChunks = pendingSnapshot.reuseFiles(manifest).join();
+      if (!reusedChunks.isEmpty()) {
+        log.debug(
+            "Reusing {} of {} files of snapshot {} from the latest snapshot",
+            reusedChunks.size(),
+            manifest.getChecksums().size(),
+            pendingSnapshot.snapshotId().getSnapshotIdAsString());
+      }
+      return reusedChunks;
+    } catch (final Exception e) {
+      log.warn(
+          "Failed to reuse files of the latest snapshot for snapshot {}, will receive all files",
+          pendingSnapshot,
+          e);
+      return Set.of();
+    }
+  }
+
   @Override
   public CompletableFuture<ReconfigureResponse> onReconfigure(final ReconfigureRequest request) {
     raft.checkThread();
@@ -65,6 +65,9 @@ public final class RaftStorage {
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
   private final boolean preallocateSegmentFiles;
+  private final boolean sortedArrayJournalIndex;
+  private final boolean persistSegmentIndex;
+  private final int preparedSegmentCount;
   private final MeterRegistry meterRegistry;
   private final RaftLogFlusher.Factory flusherFactory;
 
@@ -78,6 +81,9 @@ public final class RaftStorage {
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
       final boolean preallocateSegmentFiles,
+      final boolean sortedArrayJournalIndex,
+      final boolean persistSegmentIndex,
+      final int preparedSegmentCount,
       final MeterRegistry meterRegistry) {
     this.prefix = prefix;
     this.partitionId = partitionId;
@@ -88,6 +94,9 @@ public final class RaftStorage {
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
     this.preallocateSegmentFiles = preallocateSegmentFiles;
+    this.sortedArrayJournalIndex = sortedArrayJournalIndex;
+    this.persistSegmentIndex = persistSegmentIndex;
+    this.preparedSegmentCount = preparedSegmentCount;
     this.meterRegistry = meterRegistry;
 
     try {
@@ -197,6 +206,9 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
         .withPreallocateSegmentFiles(preallocateSegmentFiles)
+        .withSortedArrayJournalIndex(sortedArrayJournalIndex)
+        .withPersistSegmentIndex(persistSegmentIndex)
+        .withPreparedSegmentCount(preparedSegmentCount)
         .withMetaStore(metaStore)
         .withFlusher(flusherFactory.createFlusher(threadFactory))
         .build();
@@ -253,6 +265,9 @@ public final class RaftStorage {
         RaftLogFlusher.Factory::direct;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
     private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+    private static final boolean DEFAULT_SORTED_ARRAY_JOURNAL_INDEX = false;
+    private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
+    private static final int DEFAULT_PREPARED_SEGMENT_COUNT = 1;
 
     // impossible value to make it clear it's unset and there's an error
     private static final int DEFAULT_PARTITION_ID = -1;
@@ -265,6 +280,9 @@ public final class RaftStorage {
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
     private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+    private boolean sortedArrayJournalIndex = DEFAULT_SORTED_ARRAY_JOURNAL_INDEX;
+    private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
+    private int preparedSegmentCount = DEFAULT_PREPARED_SEGMENT_COUNT;
     private int partitionId = DEFAULT_PARTITION_ID;
     private final MeterRegistry meterRegistry;
 
@@ -372,6 +390,43 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets whether the journal index should be kept in sorted primitive arrays instead of skip list
+     * maps, reducing its memory footprint.
+     *
+     * @param sortedArrayJournalIndex true to use the sorted array index, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withSortedArrayJournalIndex(final boolean sortedArrayJournalIndex) {
+      this.sortedArrayJournalIndex = sortedArrayJournalIndex;
+      return this;
+    }
+
+    /**
+     * Sets whether the journal index entries of a segment are persisted once it is sealed, such
+     * that the index is restored instead of rebuilt by reading the segments after a restart.
+     *
+     * @param persistSegmentIndex true to persist the index of sealed segments, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withPersistSegmentIndex(final boolean persistSegmentIndex) {
+      this.persistSegmentIndex = persistSegmentIndex;
+      return this;
+    }
+
+    /**
+     * Sets how many segments are created and allocated ahead of time in the background, such that
+     * rolling over to the next segment does not have to wait for it. If 0, the next segment is
+     * created when the current one is full.
+     *
+     * @param preparedSegmentCount the number of segments to prepare ahead of time
+     * @return this builder for chaining
+     */
+    public Builder withPreparedSegmentCount(final int preparedSegmentCount) {
+      this.preparedSegmentCount = preparedSegmentCount;
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -400,6 +455,9 @@ public final class RaftStorage {
           persistedSnapshotStore,
           journalIndexDensity,
           preallocateSegmentFiles,
+          sortedArrayJournalIndex,
+          persistSegmentIndex,
+          preparedSegmentCount,
           meterRegistry);
     }
   }
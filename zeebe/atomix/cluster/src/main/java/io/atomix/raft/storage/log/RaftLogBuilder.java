@@ -129,6 +129,43 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets whether the journal index should be kept in sorted primitive arrays instead of skip list
+   * maps, reducing its memory footprint.
+   *
+   * @param sortedArrayJournalIndex true to use the sorted array index, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withSortedArrayJournalIndex(final boolean sortedArrayJournalIndex) {
+    journalBuilder.withSortedArrayIndex(sortedArrayJournalIndex);
+    return this;
+  }
+
+  /**
+   * Sets whether the journal index entries of a segment are persisted once it is sealed, such that
+   * the index is restored instead of rebuilt by reading the segments after a restart.
+   *
+   * @param persistSegmentIndex true to persist the index of sealed segments, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPersistSegmentIndex(final boolean persistSegmentIndex) {
+    journalBuilder.withPersistSegmentIndex(persistSegmentIndex);
+    return this;
+  }
+
+  /**
+   * Sets how many segments are created and allocated ahead of time in the background, such that
+   * rolling over to the next segment does not have to wait for it. If 0, the next segment is
+   * created when the current one is full.
+   *
+   * @param preparedSegmentCount the number of segments to prepare ahead of time
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPreparedSegmentCount(final int preparedSegmentCount) {
+    journalBuilder.withPreparedSegmentCount(preparedSegmentCount);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
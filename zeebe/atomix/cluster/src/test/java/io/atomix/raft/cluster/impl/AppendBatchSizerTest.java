@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class AppendBatchSizerTest {
+  private static final int BATCH_SIZE = 1024;
+
+  @Test
+  void shouldKeepBatchSizeIfNotAdaptive() {
+    // given
+    final var sizer = new AppendBatchSizer(BATCH_SIZE, false);
+
+    // when
+    sizer.onRoundTrip(1, BATCH_SIZE, 100);
+    sizer.onFailure();
+
+    // then
+    assertThat(sizer.batchSize()).isEqualTo(BATCH_SIZE);
+  }
+
+  @Test
+  void shouldStartAtConfiguredBatchSize() {
+    // when
+    final var sizer = new AppendBatchSizer(BATCH_SIZE, true);
+
+    // then
+    assertThat(sizer.batchSize()).isEqualTo(BATCH_SIZE);
+  }
+
+  @Test
+  void shouldGrowBatchSizeWhenFullBatchWasAcknowledgedAndMemberIsLagging() {
+    // given
+    final var sizer = new AppendBatchSizer(BATCH_SIZE, true);
+    sizer.onFailure();
+
+    // when
+    sizer.onRoundTrip(10, BATCH_SIZE / 2, 100);
+
+    // then
+    assertThat(sizer.batchSize()).isEqualTo(BATCH_SIZE);
+  }
+
+  @Test
+  void shouldNotGrowBatchSizeWhenMemberIsNotLagging() {
+    // given
+    final var sizer = new AppendBatchSizer(BATCH_SIZE, true);
+    sizer.onFailure();
+
+    // when
+    sizer.onRoundTrip(10, BATCH_SIZE / 2, 0);
+
+    // then
+    assertThat(sizer.batchSize()).isEqualTo(BATCH_SIZE / 2);
+  }
+
+  @Test
+  void shouldNotGrowBatchSizeWhenBatchWasNotFull() {
+    // given
+    final var sizer = new AppendBatchSizer(BATCH_SIZE, true);
+    sizer.onFailure();
+
+    // when
+    sizer.onRoundTrip(10, BATCH_SIZE / 4, 100);
+
+    // then
+    assertThat(sizer.batchSize()).isEqualTo(BATCH_SIZE / 2);
+  }
+
+  @Test
+  void shouldNotGrowBatchSizeBeyondConfiguredSize() {
+    // given
+    final var sizer = new AppendBatchSizer(BATCH_SIZE, true);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      sizer.onRoundTrip(10, sizer.batchSize(), 100);
+    }
+
+    // then
+    assertThat(sizer.batchSize()).isEqualTo(BATCH_SIZE);
+  }
+
+  @Test
+  void shouldShrinkBatchSizeWhenRoundTripIsCongested() {
+    // given
+    final var sizer = new AppendBatchSizer(BATCH_SIZE, true);
+    sizer.onRoundTrip(10, 0, 0);
+
+    // when
+    sizer.onRoundTrip(100, BATCH_SIZE, 100);
+
+    // then
+    assertThat(sizer.batchSize()).isEqualTo(BATCH_SIZE / 2);
+  }
+
+  @Test
+  void shouldShrinkBatchSizeOnFailureDownToMinimum() {
+    // given
+    final var sizer = new AppendBatchSizer(BATCH_SIZE, true);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      sizer.onFailure();
+    }
+
+    // then
+    assertThat(sizer.batchSize()).isEqualTo(BATCH_SIZE / AppendBatchSizer.MIN_BATCH_SIZE_DIVISOR);
+  }
+
+  @Test
+  void shouldResetBatchSize() {
+    // given
+    final var sizer = new AppendBatchSizer(BATCH_SIZE, true);
+    sizer.onFailure();
+
+    // when
+    sizer.reset();
+
+    // then
+    assertThat(sizer.batchSize()).isEqualTo(BATCH_SIZE);
+  }
+}
@@ -17,6 +17,9 @@ import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.exporter.api.context.ScheduledTask;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -204,10 +207,15 @@ final class ExporterContainer implements Controller {
   }
 
   private boolean acceptRecord(final RecordMetadata metadata) {
+    return acceptRecord(metadata.getRecordType(), metadata.getValueType(), metadata.getIntent());
+  }
+
+  private boolean acceptRecord(
+      final RecordType recordType, final ValueType valueType, final Intent intent) {
     final Context.RecordFilter filter = context.getFilter();
-    return filter.acceptType(metadata.getRecordType())
-        && filter.acceptValue(metadata.getValueType())
-        && filter.acceptIntent(metadata.getIntent());
+    return filter.acceptType(recordType)
+        && filter.acceptValue(valueType)
+        && filter.acceptIntent(intent);
   }
 
   void configureExporter() throws Exception {
@@ -232,6 +240,26 @@ final class ExporterContainer implements Controller {
     }
   }
 
+  /**
+   * Exports an already decoded record, e.g. one shared between the {@link ExporterPipeline}s of
+   * several exporters. Behaves like {@link #exportRecord(RecordMetadata, TypedRecord)} otherwise.
+   */
+  boolean exportRecord(final Record<?> record) {
+    try {
+      if (position < record.getPosition()) {
+        if (acceptRecord(record.getRecordType(), record.getValueType(), record.getIntent())) {
+          export(record);
+        } else {
+          updatePositionOnSkipIfUpToDate(record.getPosition());
+        }
+      }
+      return true;
+    } catch (final Exception ex) {
+      context.getLogger().warn("Error on exporting record with key {}", record.getKey(), ex);
+      return false;
+    }
+  }
+
   void softPauseExporter() {
     exporterIsSoftPaused = true;
   }
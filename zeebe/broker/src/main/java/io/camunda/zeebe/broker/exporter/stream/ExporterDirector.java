@@ -40,6 +40,7 @@ import java.time.Duration;
 import java.time.InstantSource;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -60,6 +61,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
+  private static final Duration EXPORTING_PROGRESS_INTERVAL = Duration.ofSeconds(1);
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
@@ -97,6 +99,19 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   // The actor is still running, but it is not actively doing any work.
   private boolean idle;
   private final InstantSource clock;
+  // When enabled, every exporter is driven by its own pipeline actor instead of this actor
+  private final boolean independentPipelines;
+  private final Map<String, ExporterPipeline> pipelines = new HashMap<>();
+  private final ExporterRecordCache recordCache;
+  // Only used when exporters are driven by this actor; otherwise, each pipeline tracks its progress
+  private final ExportingProgress exportingProgress = new ExportingProgress();
+  private ActorSchedulingService actorSchedulingService;
+  // Only used to look up the last position of the log, to compute the exporting lag
+  private LogStreamReader lastPositionReader;
+  private ScheduledTimer exportingProgressTimer;
+  // set while a report of the pipelines' lowest exported position is scheduled on this actor
+  private final AtomicBoolean exportedPositionReportScheduled = new AtomicBoolean();
+  private long lastReportedExportedPosition = -1;
 
   public ExporterDirector(
       final ExporterDirectorContext context, final ExporterPhase exporterPhase) {
@@ -136,12 +151,18 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
     positionsToSkipFilter = context.getPositionsToSkipFilter();
+    independentPipelines = context.isIndependentPipelines();
+    recordCache =
+        independentPipelines
+            ? new ExporterRecordCache(partitionId, ExporterRecordCache.DEFAULT_CAPACITY)
+            : null;
 
     // needs name to be initialized
     healthReport = HealthReport.healthy(this);
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -167,6 +188,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         () -> {
           metrics.setExporterPaused();
           exporterPhase = ExporterPhase.PAUSED;
+          pipelines.values().forEach(pipeline -> pipeline.changePhase(ExporterPhase.PAUSED));
         });
   }
 
@@ -187,7 +209,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
     return actor.call(
         () -> {
-          containers.stream().forEach(ExporterContainer::softPauseExporter);
+          if (independentPipelines) {
+            pipelines.values().forEach(pipeline -> pipeline.changePhase(ExporterPhase.SOFT_PAUSED));
+          } else {
+            containers.stream().forEach(ExporterContainer::softPauseExporter);
+          }
           exporterPhase = ExporterPhase.SOFT_PAUSED;
           metrics.setExporterSoftPaused();
         });
@@ -208,7 +234,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
     return actor.call(
         () -> {
-          if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
+          if (independentPipelines) {
+            pipelines.values().forEach(pipeline -> pipeline.changePhase(ExporterPhase.EXPORTING));
+          } else if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
             containers.stream().forEach(ExporterContainer::undoSoftPauseExporter);
           }
           exporterPhase = ExporterPhase.EXPORTING;
@@ -231,24 +259,52 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
-    return actor.call(
-        () -> {
-          containers.stream()
-              .filter(c -> c.getId().equals(exporterId))
-              .findFirst()
-              .ifPresentOrElse(
-                  container -> removeExporter(exporterId, container),
-                  () ->
+    final var removed = new CompletableActorFuture<Void>();
+    actor.run(
+        () ->
+            containers.stream()
+                .filter(c -> c.getId().equals(exporterId))
+                .findFirst()
+                .ifPresentOrElse(
+                    container -> removeExporter(exporterId, container, removed),
+                    () -> {
                       LOG.debug(
-                          "Exporter '{}' is not found. It may already be removed.", exporterId));
-          return null;
+                          "Exporter '{}' is not found. It may already be removed.", exporterId);
+                      removed.complete(null);
+                    }));
+    return removed;
+  }
+
+  private void removeExporter(
+      final String exporterId,
+      final ExporterContainer container,
+      final CompletableActorFuture<Void> removed) {
+    final var pipeline = pipelines.remove(exporterId);
+    if (pipeline == null) {
+      container.close();
+      removeExporterState(exporterId, container);
+      removed.complete(null);
+      return;
+    }
+
+    // the pipeline closes the exporter; its state must only be removed afterwards, as the pipeline
+    // would otherwise write it again when the exporter acknowledges a position in the meantime
+    containers.remove(container);
+    actor.runOnCompletion(
+        pipeline.closeAsync(),
+        (ok, error) -> {
+          if (error != null) {
+            LOG.warn("Failed to close the pipeline of exporter '{}'", exporterId, error);
+          }
+          removeExporterState(exporterId, container);
+          removed.complete(null);
         });
   }
 
-  private void removeExporter(final String exporterId, final ExporterContainer container) {
-    container.close();
+  private void removeExporterState(final String exporterId, final ExporterContainer container) {
     containers.remove(container);
     state.removeExporterState(exporterId);
+    metrics.removeExporterLag(exporterId);
     // After removing this exporter, the exporter index has changed. Reset it so that we don't
     // miss to export the record to any of the exporters whose index has changed.
     recordExporter.resetExporterIndex();
@@ -338,7 +394,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     // initializes metadata and position in the runtime state
     container.initMetadata();
     if (exporterMode == ExporterMode.ACTIVE) {
-      container.openExporter();
+      if (independentPipelines) {
+        startPipeline(container);
+      } else {
+        container.openExporter();
+      }
     }
     containers.add(container);
     LOG.debug("Exporter '{}' is enabled.", exporterId);
@@ -370,7 +430,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorStarting() {
     if (exporterMode == ExporterMode.ACTIVE) {
-      logStreamReader = logStream.newLogStreamReader();
+      if (!independentPipelines) {
+        logStreamReader = logStream.newLogStreamReader();
+      }
+      lastPositionReader = logStream.newLogStreamReader();
     }
   }
 
@@ -409,6 +472,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     if (logStreamReader != null) {
       logStreamReader.close();
     }
+    if (lastPositionReader != null) {
+      lastPositionReader.close();
+    }
     logStream.removeRecordAvailableListener(this);
   }
 
@@ -421,7 +487,22 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorCloseRequested() {
     isOpened.set(false);
-    containers.forEach(ExporterContainer::close);
+    for (final ExporterContainer container : containers) {
+      if (!pipelines.containsKey(container.getId())) {
+        container.close();
+      }
+    }
+    for (final ExporterPipeline pipeline : pipelines.values()) {
+      // the pipelines close their exporters
+      actor.runOnCompletionBlockingCurrentPhase(
+          pipeline.closeAsync(),
+          (ok, error) -> {
+            if (error != null) {
+              LOG.warn("Failed to close the pipeline of exporter '{}'", pipeline.getExporterId());
+            }
+          });
+    }
+    pipelines.clear();
     exporterDistributionService.close();
   }
 
@@ -525,6 +606,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       exporterDistributionTimer.cancel();
       exporterDistributionTimer = null;
     }
+    if (exportingProgressTimer != null) {
+      exportingProgressTimer.cancel();
+      exportingProgressTimer = null;
+    }
+    if (lastPositionReader != null) {
+      lastPositionReader.close();
+      lastPositionReader = null;
+    }
     if (logStreamReader != null) {
       // We have to close it, otherwise it will prevent journal segment deletion
       logStreamReader.close();
@@ -543,6 +632,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void startActiveExportingMode() {
+    if (independentPipelines) {
+      startIndependentPipelines();
+      return;
+    }
+
     final var containerOpenFutures = new ArrayList<ActorFuture<Boolean>>();
     for (final ExporterContainer container : containers) {
       container.initMetadata();
@@ -589,23 +683,131 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void restartActiveExportingMode() {
+    lastPositionReader = logStream.newLogStreamReader();
+    if (independentPipelines) {
+      // the pipelines of the new exporters are already started when adding them
+      startActiveExportingTimers();
+      return;
+    }
+
     logStreamReader = logStream.newLogStreamReader();
     startActiveExportingFrom(-1);
   }
 
+  private void startIndependentPipelines() {
+    for (final ExporterContainer container : containers) {
+      container.initMetadata();
+      startPipeline(container);
+    }
+
+    allExportersOpened = true;
+    if (state.hasExporters()) {
+      startActiveExportingTimers();
+    } else {
+      becomeIdle();
+    }
+  }
+
+  private void startPipeline(final ExporterContainer container) {
+    final EventFilter pipelineFilter =
+        positionsToSkipFilter.and(createEventFilter(List.of(container)));
+    final var pipeline =
+        new ExporterPipeline(
+            name,
+            partitionId,
+            container,
+            logStream,
+            zeebeDb,
+            new ExporterMetrics(meterRegistry),
+            pipelineFilter,
+            recordCache,
+            clock,
+            exporterPhase,
+            this::onPipelineFailure,
+            this::onPipelineProgress);
+    pipelines.put(container.getId(), pipeline);
+    actorSchedulingService.submitActor(pipeline, SchedulingHints.ioBound());
+  }
+
+  private void onPipelineFailure(final Throwable failure) {
+    actor.run(
+        () -> {
+          if (failure instanceof UnrecoverableException) {
+            updateHealthStatusWithError(failure);
+          }
+          onFailure();
+        });
+  }
+
   private void startActiveExportingFrom(final long snapshotPosition) {
     final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
     if (failedToRecoverReader) {
       throw new IllegalStateException(
           String.format(ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED, -1, getName()));
     }
+    exportingProgress.reset(snapshotPosition);
     logStream.registerRecordAvailableListener(this);
     if (!exporterPhase.equals(ExporterPhase.PAUSED)) {
       actor.submit(this::readNextEvent);
     }
 
+    startActiveExportingTimers();
+  }
+
+  private void startActiveExportingTimers() {
     exporterDistributionTimer =
         actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
+    exportingProgressTimer =
+        actor.runAtFixedRate(EXPORTING_PROGRESS_INTERVAL, this::updateExportingProgress);
+  }
+
+  private void updateExportingProgress() {
+    final long lastLogPosition = lastPositionReader.seekToEnd();
+    if (!independentPipelines) {
+      for (final ExporterContainer container : containers) {
+        metrics.setExporterLag(
+            container.getId(),
+            exportingProgress.lagInRecords(lastLogPosition),
+            exportingProgress.lagInBytes(lastLogPosition));
+      }
+      return;
+    }
+
+    for (final ExporterPipeline pipeline : pipelines.values()) {
+      final var progress = pipeline.getProgress();
+      metrics.setExporterLag(
+          pipeline.getExporterId(),
+          progress.lagInRecords(lastLogPosition),
+          progress.lagInBytes(lastLogPosition));
+    }
+  }
+
+  /**
+   * Called by the pipelines, on their own actors, whenever they handled a record. Reports are
+   * coalesced, such that this actor only computes the lowest position once for all the records
+   * handled in the meantime.
+   */
+  private void onPipelineProgress() {
+    if (exportedPositionReportScheduled.compareAndSet(false, true)) {
+      actor.run(this::reportLowestExportedPosition);
+    }
+  }
+
+  private void reportLowestExportedPosition() {
+    exportedPositionReportScheduled.set(false);
+
+    long lowestHandledPosition = Long.MAX_VALUE;
+    for (final ExporterPipeline pipeline : pipelines.values()) {
+      lowestHandledPosition =
+          Math.min(lowestHandledPosition, pipeline.getProgress().lastHandledPosition());
+    }
+
+    if (lowestHandledPosition != Long.MAX_VALUE
+        && lowestHandledPosition > lastReportedExportedPosition) {
+      // flow control only cares about the exporter which lags behind the most
+      lastReportedExportedPosition = lowestHandledPosition;
+      logStream.getFlowControl().onExported(lowestHandledPosition);
+    }
   }
 
   private void startPassiveExportingMode() {
@@ -646,6 +848,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     for (final ExporterContainer container : containers) {
       container.updatePositionOnSkipIfUpToDate(eventPosition);
     }
+    exportingProgress.onRecordHandled(eventPosition, currentEvent.getLength());
 
     actor.submit(this::readNextEvent);
   }
@@ -663,7 +866,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private boolean shouldExport() {
-    return isOpened.get()
+    return !independentPipelines
+        && isOpened.get()
         && allExportersOpened
         && !idle
         && logStreamReader.hasNext()
@@ -672,6 +876,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void exportEvent(final LoggedEvent event) {
+    final int length = event.getLength();
     try {
       recordExporter.wrap(event);
     } catch (final Exception exception) {
@@ -682,16 +887,24 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
 
     final ActorFuture<Boolean> retryFuture =
-        exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
+        exportingRetryStrategy.runWithRetry(
+            recordExporter::export,
+            () -> isClosed() || recordExporter.getDecodingFailure() != null);
 
     actor.runOnCompletion(
         retryFuture,
         (bool, throwable) -> {
-          if (throwable != null) {
+          final var decodingFailure = recordExporter.getDecodingFailure();
+          if (decodingFailure != null) {
+            LOG.warn(ERROR_MESSAGE_DESERIALIZATION_ERROR_EXPORTING_ABORTED, event, decodingFailure);
+            updateHealthStatusWithError(decodingFailure);
+            onFailure();
+          } else if (throwable != null) {
             LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
             onFailure();
           } else {
             logStream.getFlowControl().onExported(recordExporter.getTypedEvent().getPosition());
+            exportingProgress.onRecordHandled(recordExporter.getTypedEvent().getPosition(), length);
             metrics.eventExported(recordExporter.getTypedEvent().getValueType());
             inExportingPhase = false;
             actor.submit(this::readNextEvent);
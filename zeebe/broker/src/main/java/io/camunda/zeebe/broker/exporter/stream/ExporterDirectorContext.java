@@ -33,6 +33,7 @@ public final class ExporterDirectorContext {
   private EventFilter positionsToSkipFilter;
   private MeterRegistry meterRegistry;
   private InstantSource clock;
+  private boolean independentPipelines;
 
   public int getId() {
     return id;
@@ -78,6 +79,10 @@ public final class ExporterDirectorContext {
     return clock;
   }
 
+  public boolean isIndependentPipelines() {
+    return independentPipelines;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -135,6 +140,15 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * If enabled, every exporter is driven by its own {@link ExporterPipeline}, i.e. its own actor
+   * and log stream reader, instead of all exporters being driven by the director in lockstep.
+   */
+  public ExporterDirectorContext independentPipelines(final boolean independentPipelines) {
+    this.independentPipelines = independentPipelines;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
@@ -31,6 +31,8 @@ public final class ExporterMetrics {
 
   private final Map<String, AtomicLong> lastExportedPositions = new HashMap<>();
   private final Map<String, AtomicLong> lastUpdatedExportedPositions = new HashMap<>();
+  private final Map<String, AtomicLong> lagInRecords = new HashMap<>();
+  private final Map<String, AtomicLong> lagInBytes = new HashMap<>();
   private final AtomicInteger exporterState = new AtomicInteger();
   private final Map<ValueType, Timer> exportingLatency = new HashMap<>();
   private final Table<String, ValueType, Timer> exporterExportingDuration = Table.simple();
@@ -81,6 +83,27 @@ public final class ExporterMetrics {
         .set(position);
   }
 
+  public void setExporterLag(final String exporter, final long records, final long bytes) {
+    lagInRecords
+        .computeIfAbsent(
+            exporter,
+            id -> registerPerExporterGauge(ExporterMetricsDoc.EXPORTER_LAG_RECORDS, id, records))
+        .set(records);
+    lagInBytes
+        .computeIfAbsent(
+            exporter,
+            id -> registerPerExporterGauge(ExporterMetricsDoc.EXPORTER_LAG_BYTES, id, bytes))
+        .set(bytes);
+  }
+
+  /** Removes the lag gauges of the given exporter, e.g. when it is removed or disabled. */
+  public void removeExporterLag(final String exporter) {
+    lagInRecords.remove(exporter);
+    lagInBytes.remove(exporter);
+    removePerExporterGauge(ExporterMetricsDoc.EXPORTER_LAG_RECORDS, exporter);
+    removePerExporterGauge(ExporterMetricsDoc.EXPORTER_LAG_BYTES, exporter);
+  }
+
   public void exportingLatency(
       final ValueType valueType, final long written, final long exporting) {
     exportingLatency
@@ -143,6 +166,15 @@ public final class ExporterMetrics {
     return position;
   }
 
+  private void removePerExporterGauge(
+      final ExtendedMeterDocumentation meterDoc, final String exporterId) {
+    final var gauge =
+        meterRegistry.find(meterDoc.getName()).tag(LABEL_NAME_EXPORTER, exporterId).gauge();
+    if (gauge != null) {
+      meterRegistry.remove(gauge);
+    }
+  }
+
   private Timer registerExportingDuration(final String exporterId, final ValueType valueType) {
     final var meterDoc = ExporterMetricsDoc.EXPORTING_DURATION;
     return Timer.builder(meterDoc.getName())
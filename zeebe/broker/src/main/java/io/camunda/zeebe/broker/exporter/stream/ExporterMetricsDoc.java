@@ -112,6 +112,46 @@ public enum ExporterMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /** The number of records in the log which were not yet exported by an exporter */
+  EXPORTER_LAG_RECORDS {
+    @Override
+    public String getName() {
+      return "zeebe.exporter.lag.records";
+    }
+
+    @Override
+    public Meter.Type getType() {
+      return Meter.Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The number of records in the log which were not yet exported by the exporter";
+    }
+  },
+
+  /**
+   * The approximate size of the records in the log which were not yet exported by an exporter,
+   * estimated from the average size of the recently exported records
+   */
+  EXPORTER_LAG_BYTES {
+    @Override
+    public String getName() {
+      return "zeebe.exporter.lag.bytes";
+    }
+
+    @Override
+    public Meter.Type getType() {
+      return Meter.Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The approximate size in bytes of the records in the log which were not yet exported "
+          + "by the exporter";
+    }
+  },
+
   /** Number of events processed by exporter by action (see {@link ExporterActionKeyNames} */
   EXPORTER_EVENTS {
     @Override
@@ -0,0 +1,313 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.RetryStrategy;
+import io.camunda.zeebe.stream.api.EventFilter;
+import io.camunda.zeebe.util.exception.UnrecoverableException;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+
+/**
+ * Exports the records of a partition to a single exporter, on its own actor and with its own log
+ * stream reader and position, such that a slow exporter doesn't hold back the others. Used by the
+ * {@link ExporterDirector} when independent exporter pipelines are enabled.
+ *
+ * <p>The director still owns the lifecycle of the exporter: it configures it, initializes its
+ * metadata, and removes its state when it's removed. The pipeline opens the exporter, exports to
+ * it, and persists its position in its own {@link ExportersState}, i.e. with its own transaction
+ * context. Decoded records are shared with the other pipelines of the partition through an {@link
+ * ExporterRecordCache}.
+ *
+ * <p>As every record is handled once per exporter, the pipeline does not update the partition wide
+ * exported/skipped event counters; per exporter progress is exposed via the exporter lag metrics.
+ */
+final class ExporterPipeline extends Actor implements LogRecordAwaiter {
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private static final String ERROR_MESSAGE_RECOVER_FAILED =
+      "Expected to find event with the exporter position %d in log stream, but nothing was found. Failed to recover exporter '%s'.";
+
+  private final String name;
+  private final int partitionId;
+  private final ExporterContainer container;
+  private final LogStream logStream;
+  private final ZeebeDb zeebeDb;
+  private final ExporterMetrics metrics;
+  private final EventFilter eventFilter;
+  private final ExporterRecordCache recordCache;
+  private final InstantSource clock;
+  private final Consumer<Throwable> failureListener;
+  private final Runnable progressListener;
+  private final RetryStrategy exportingRetryStrategy;
+  private final RecordMetadata metadata = new RecordMetadata();
+  private final ExportingProgress progress = new ExportingProgress();
+
+  private LogStreamReader logStreamReader;
+  private ExporterPhase exporterPhase;
+  private boolean exporterOpened;
+  private boolean inExportingPhase;
+
+  ExporterPipeline(
+      final String directorName,
+      final int partitionId,
+      final ExporterContainer container,
+      final LogStream logStream,
+      final ZeebeDb zeebeDb,
+      final ExporterMetrics metrics,
+      final EventFilter eventFilter,
+      final ExporterRecordCache recordCache,
+      final InstantSource clock,
+      final ExporterPhase exporterPhase,
+      final Consumer<Throwable> failureListener,
+      final Runnable progressListener) {
+    name = directorName + "-" + container.getId();
+    this.partitionId = partitionId;
+    this.container = container;
+    this.logStream = logStream;
+    this.zeebeDb = zeebeDb;
+    this.metrics = metrics;
+    this.eventFilter = eventFilter;
+    this.recordCache = recordCache;
+    this.clock = clock;
+    this.exporterPhase = exporterPhase;
+    this.failureListener = failureListener;
+    this.progressListener = progressListener;
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+  }
+
+  @Override
+  protected Map<String, String> createContext() {
+    final var context = super.createContext();
+    context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+    return context;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    logStreamReader = logStream.newLogStreamReader();
+  }
+
+  @Override
+  protected void onActorStarted() {
+    // from now on, the exporter's controller runs on this actor and updates its own state entry
+    container.initContainer(
+        actor, metrics, new ExportersState(zeebeDb, zeebeDb.createContext()), exporterPhase);
+
+    final ActorFuture<Boolean> openFuture =
+        new BackOffRetryStrategy(actor, Duration.ofSeconds(10), Duration.ofMillis(150))
+            .runWithRetry(
+                () -> {
+                  try {
+                    container.openExporter();
+                    return true;
+                  } catch (final Exception e) {
+                    LOG.warn("Failed to open exporter '{}'. Retrying...", container.getId());
+                    LOG.debug("Failed to open exporter '{}' => Stacktrace:", container.getId(), e);
+                    return false;
+                  }
+                },
+                actor::isClosed);
+
+    actor.runOnCompletion(
+        openFuture,
+        (opened, error) -> {
+          if (error != null) {
+            // the pipeline was closed while retrying
+            return;
+          }
+          exporterOpened = true;
+          startExportingFrom(container.getPosition());
+        });
+  }
+
+  @Override
+  protected void onActorCloseRequested() {
+    container.close();
+  }
+
+  @Override
+  protected void onActorClosing() {
+    logStream.removeRecordAvailableListener(this);
+    if (logStreamReader != null) {
+      logStreamReader.close();
+    }
+  }
+
+  @Override
+  protected void handleFailure(final Throwable failure) {
+    LOG.error(
+        "Actor '{}' failed in phase {} with: {} .",
+        name,
+        actor.getLifecyclePhase(),
+        failure,
+        failure);
+    actor.fail(failure);
+    failureListener.accept(failure);
+  }
+
+  @Override
+  public void onActorFailed() {
+    // a failed actor is not closed anymore, so release the exporter and the reader here
+    container.close();
+    onActorClosing();
+  }
+
+  @Override
+  public void onRecordAvailable() {
+    actor.run(this::readNextEvent);
+  }
+
+  /**
+   * Changes the phase of the exporter, with the same semantics as pausing, soft pausing and
+   * resuming the {@link ExporterDirector}.
+   */
+  void changePhase(final ExporterPhase newPhase) {
+    actor.run(
+        () -> {
+          if (newPhase == ExporterPhase.SOFT_PAUSED) {
+            container.softPauseExporter();
+          } else if (newPhase == ExporterPhase.EXPORTING
+              && exporterPhase == ExporterPhase.SOFT_PAUSED) {
+            container.undoSoftPauseExporter();
+          }
+
+          exporterPhase = newPhase;
+          if (newPhase != ExporterPhase.PAUSED) {
+            actor.submit(this::readNextEvent);
+          }
+        });
+  }
+
+  String getExporterId() {
+    return container.getId();
+  }
+
+  ExportingProgress getProgress() {
+    return progress;
+  }
+
+  private void startExportingFrom(final long position) {
+    if (!logStreamReader.seekToNextEvent(position)) {
+      throw new IllegalStateException(
+          String.format(ERROR_MESSAGE_RECOVER_FAILED, position, container.getId()));
+    }
+    progress.reset(position);
+
+    logStream.registerRecordAvailableListener(this);
+    actor.submit(this::readNextEvent);
+  }
+
+  private void readNextEvent() {
+    if (shouldExport()) {
+      final LoggedEvent currentEvent = logStreamReader.next();
+      if (eventFilter.applies(currentEvent)) {
+        inExportingPhase = true;
+        exportEvent(currentEvent);
+      } else {
+        skipRecord(currentEvent);
+      }
+    }
+  }
+
+  private boolean shouldExport() {
+    return exporterOpened
+        && !actor.isClosed()
+        && logStreamReader.hasNext()
+        && !inExportingPhase
+        && exporterPhase != ExporterPhase.PAUSED;
+  }
+
+  private void skipRecord(final LoggedEvent currentEvent) {
+    final long eventPosition = currentEvent.getPosition();
+    container.updatePositionOnSkipIfUpToDate(eventPosition);
+    onRecordHandled(eventPosition, currentEvent.getLength());
+    actor.submit(this::readNextEvent);
+  }
+
+  private void exportEvent(final LoggedEvent event) {
+    final long position = event.getPosition();
+    final int length = event.getLength();
+    final Record<?> record;
+    try {
+      record = recordCache.get(event, metadata);
+    } catch (final Exception exception) {
+      LOG.warn(
+          "Expected to export record '{}' successfully, but exception was thrown when deserializing the record.",
+          event,
+          exception);
+      failureListener.accept(new UnrecoverableException(exception));
+      actor.close();
+      return;
+    }
+
+    if (record == null) {
+      // the value type is unknown to this broker version, so there is nothing to export
+      inExportingPhase = false;
+      onRecordHandled(position, length);
+      actor.submit(this::readNextEvent);
+      return;
+    }
+
+    metrics.exportingLatency(record.getValueType(), record.getTimestamp(), clock.millis());
+    final ActorFuture<Boolean> retryFuture =
+        exportingRetryStrategy.runWithRetry(() -> exportRecord(record), actor::isClosed);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (exported, error) -> {
+          if (error != null) {
+            LOG.error(
+                "Expected to export record '{}' successfully, but exception was thrown.",
+                event,
+                error);
+            failureListener.accept(error);
+            actor.close();
+          } else {
+            onRecordHandled(position, length);
+            inExportingPhase = false;
+            actor.submit(this::readNextEvent);
+          }
+        });
+  }
+
+  private void onRecordHandled(final long position, final int length) {
+    progress.onRecordHandled(position, length);
+    progressListener.run();
+  }
+
+  private boolean exportRecord(final Record<?> record) {
+    try (final var timer =
+        metrics.startExporterExportingTimer(record.getValueType(), container.getId())) {
+      if (container.exportRecord(record)) {
+        metrics.setLastExportedPosition(container.getId(), record.getPosition());
+        return true;
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.stream.impl.TypedEventRegistry;
+import io.camunda.zeebe.stream.impl.records.CopiedRecords;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A read-ahead cache of decoded records, shared by the {@link ExporterPipeline}s of a partition,
+ * such that a record is only decoded once even if it is exported by several independent exporters.
+ *
+ * <p>The cached records are copies which don't reference the reader's buffers, and are never
+ * modified after they were decoded, so they can be handed to exporters running on different
+ * threads. The cache is bounded; when it is full, the records with the lowest positions are evicted
+ * first, as these were already seen by the leading pipeline. A pipeline which lags behind by more
+ * than the capacity simply decodes its records on its own.
+ */
+final class ExporterRecordCache {
+  static final int DEFAULT_CAPACITY = 1024;
+
+  private final int partitionId;
+  private final int capacity;
+  private final ConcurrentNavigableMap<Long, Record<?>> records = new ConcurrentSkipListMap<>();
+  private final AtomicInteger size = new AtomicInteger();
+
+  ExporterRecordCache(final int partitionId, final int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException(
+          "Expected capacity to be greater than 0, but was %d".formatted(capacity));
+    }
+    this.partitionId = partitionId;
+    this.capacity = capacity;
+  }
+
+  /**
+   * Returns the decoded record for the given event, decoding and caching it if it wasn't cached
+   * yet.
+   *
+   * @param event the event to decode, as read by the calling pipeline's reader
+   * @param metadata a reusable metadata instance of the calling pipeline
+   * @return the decoded record, or null if the event has a value type which cannot be exported
+   */
+  Record<?> get(final LoggedEvent event, final RecordMetadata metadata) {
+    final long position = event.getPosition();
+    final var cached = records.get(position);
+    if (cached != null) {
+      return cached;
+    }
+
+    event.readMetadata(metadata);
+    if (!TypedEventRegistry.EVENT_REGISTRY.containsKey(metadata.getValueType())) {
+      return null;
+    }
+
+    final Record<?> record = CopiedRecords.createCopiedRecord(partitionId, event);
+    put(position, record);
+    return record;
+  }
+
+  int size() {
+    return size.get();
+  }
+
+  private void put(final long position, final Record<?> record) {
+    if (size.get() >= capacity) {
+      final Entry<Long, Record<?>> lowest = records.firstEntry();
+      if (lowest != null && lowest.getKey() > position) {
+        // the calling pipeline lags behind every other one; caching its records would only evict
+        // the records the others still need
+        return;
+      }
+    }
+
+    if (records.putIfAbsent(position, record) == null && size.incrementAndGet() > capacity) {
+      if (records.pollFirstEntry() != null) {
+        size.decrementAndGet();
+      }
+    }
+  }
+}
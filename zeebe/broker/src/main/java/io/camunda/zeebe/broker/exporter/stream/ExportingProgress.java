@@ -0,0 +1,56 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+/**
+ * Tracks how far exporting has progressed through the log, such that the lag to the end of the log
+ * can be computed from another actor.
+ *
+ * <p>As every record in the log has its own position, the lag in records is the difference between
+ * the last position in the log and the last handled position. The lag in bytes is estimated from
+ * the average length of the recently handled records, as the log cannot be measured in bytes
+ * between two positions without reading it.
+ */
+final class ExportingProgress {
+  /** The weight of a newly handled record in the moving average is 1 / this value. */
+  private static final int AVERAGE_RECORD_LENGTH_WINDOW = 64;
+
+  private volatile long lastHandledPosition = -1;
+  private volatile long averageRecordLength;
+
+  /**
+   * Marks the given position as handled, i.e. exported or skipped by every exporter this progress
+   * belongs to.
+   *
+   * @param position the position of the handled record
+   * @param length the length of the handled record in bytes
+   */
+  void onRecordHandled(final long position, final int length) {
+    final long average = averageRecordLength;
+    averageRecordLength =
+        average == 0 ? length : average + (length - average) / AVERAGE_RECORD_LENGTH_WINDOW;
+    lastHandledPosition = position;
+  }
+
+  /** Resets the progress to start at the given position, e.g. after seeking the reader. */
+  void reset(final long position) {
+    lastHandledPosition = position;
+  }
+
+  long lastHandledPosition() {
+    return lastHandledPosition;
+  }
+
+  long lagInRecords(final long lastLogPosition) {
+    return Math.max(0, lastLogPosition - lastHandledPosition);
+  }
+
+  long lagInBytes(final long lastLogPosition) {
+    return lagInRecords(lastLogPosition) * averageRecordLength;
+  }
+}
@@ -13,6 +13,7 @@ import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
+import io.camunda.zeebe.util.exception.UnrecoverableException;
 import java.time.InstantSource;
 import java.util.List;
 
@@ -24,8 +25,10 @@ class RecordExporter {
   private final TypedRecordImpl typedEvent;
   private final ExporterMetrics exporterMetrics;
 
+  private LoggedEvent rawEvent;
   private boolean shouldExport;
   private int exporterIndex;
+  private UnrecoverableException decodingFailure;
   private final InstantSource clock;
 
   RecordExporter(
@@ -40,10 +43,13 @@ class RecordExporter {
   }
 
   void wrap(final LoggedEvent rawEvent) {
+    this.rawEvent = rawEvent;
+    decodingFailure = null;
     rawEvent.readMetadata(rawMetadata);
 
+    // most exporters filter out the majority of records, or only need a few of their properties
     final UnifiedRecordValue recordValue =
-        recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+        recordValues.readRecordValueLazily(rawEvent, rawMetadata.getValueType());
 
     shouldExport = recordValue != null;
     if (shouldExport) {
@@ -79,6 +85,7 @@ class RecordExporter {
           exporterIndex++;
           exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
         } else {
+          verifyRecordValue();
           return false;
         }
       }
@@ -87,6 +94,29 @@ class RecordExporter {
     return true;
   }
 
+  /**
+   * The record value is decoded lazily, while the exporters access it, so a value which cannot be
+   * decoded only shows up as a failed export. Decodes it eagerly to tell it apart from a failure of
+   * the exporter, which is retried; a value which cannot be decoded is not retried, but reported
+   * via {@link #getDecodingFailure()}.
+   */
+  private void verifyRecordValue() {
+    try {
+      final UnifiedRecordValue recordValue =
+          recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+      typedEvent.wrap(rawEvent, rawMetadata, recordValue);
+    } catch (final Exception e) {
+      decodingFailure = new UnrecoverableException(e);
+    }
+  }
+
+  /**
+   * @return the failure to decode the value of the current record, or null if it could be decoded
+   */
+  UnrecoverableException getDecodingFailure() {
+    return decodingFailure;
+  }
+
   TypedRecordImpl getTypedEvent() {
     return typedEvent;
   }
@@ -83,11 +83,19 @@ public final class RaftPartitionFactory {
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
+    storageConfig.setSortedArrayJournalIndex(
+        brokerCfg.getExperimental().getRaft().isSortedArrayJournalIndex());
+    storageConfig.setPersistSegmentIndex(
+        brokerCfg.getExperimental().getRaft().isPersistSegmentIndex());
+    storageConfig.setPreparedSegmentCount(
+        brokerCfg.getExperimental().getRaft().getPreparedSegmentCount());
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
     partitionConfig.setMaxAppendBatchSize(
         (int) brokerCfg.getExperimental().getMaxAppendBatchSizeInBytes());
+    partitionConfig.setAdaptiveAppendBatching(
+        brokerCfg.getExperimental().getRaft().isAdaptiveAppendBatching());
     partitionConfig.setMaxAppendsPerFollower(
         brokerCfg.getExperimental().getMaxAppendsPerFollower());
     partitionConfig.setPriorityElectionEnabled(
@@ -10,21 +10,87 @@ package io.camunda.zeebe.broker.system.configuration;
 import static io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.DEFAULT_DISTRIBUTION_INTERVAL;
 
 import java.time.Duration;
+import java.util.Objects;
 import java.util.Set;
 
 /**
  * Exporting component configuration. This configuration pertains to configurations that are common
  * to all exporters.
  */
-public record ExportingCfg(Set<Long> skipRecords, Duration distributionInterval) {
+public class ExportingCfg {
+
+  private Set<Long> skipRecords = Set.of();
+  private Duration distributionInterval = DEFAULT_DISTRIBUTION_INTERVAL;
+
+  /**
+   * If true, every exporter reads and exports the log on its own, such that a slow exporter doesn't
+   * hold back the others.
+   */
+  private boolean independentPipelines = false;
+
+  public ExportingCfg() {}
 
   public ExportingCfg(final Set<Long> skipRecords, final Duration distributionInterval) {
+    setSkipRecords(skipRecords);
+    setDistributionInterval(distributionInterval);
+  }
+
+  public Set<Long> getSkipRecords() {
+    return skipRecords;
+  }
+
+  public void setSkipRecords(final Set<Long> skipRecords) {
     this.skipRecords = skipRecords == null ? Set.of() : skipRecords;
+  }
+
+  public Duration getDistributionInterval() {
+    return distributionInterval;
+  }
+
+  public void setDistributionInterval(final Duration distributionInterval) {
     this.distributionInterval =
         distributionInterval == null ? DEFAULT_DISTRIBUTION_INTERVAL : distributionInterval;
   }
 
+  public boolean isIndependentPipelines() {
+    return independentPipelines;
+  }
+
+  public void setIndependentPipelines(final boolean independentPipelines) {
+    this.independentPipelines = independentPipelines;
+  }
+
   public static ExportingCfg defaultExportingCfg() {
-    return new ExportingCfg(null, null);
+    return new ExportingCfg();
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(skipRecords, distributionInterval, independentPipelines);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof final ExportingCfg that)) {
+      return false;
+    }
+    return independentPipelines == that.independentPipelines
+        && Objects.equals(skipRecords, that.skipRecords)
+        && Objects.equals(distributionInterval, that.distributionInterval);
+  }
+
+  @Override
+  public String toString() {
+    return "ExportingCfg{"
+        + "skipRecords="
+        + skipRecords
+        + ", distributionInterval="
+        + distributionInterval
+        + ", independentPipelines="
+        + independentPipelines
+        + '}';
   }
 }
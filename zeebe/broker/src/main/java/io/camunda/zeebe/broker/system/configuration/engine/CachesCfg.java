@@ -12,6 +12,7 @@ import io.camunda.zeebe.engine.EngineConfiguration;
 
 public final class CachesCfg implements ConfigurationEntry {
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
+  private int drgCacheWarmUpSize = EngineConfiguration.DEFAULT_DRG_CACHE_WARM_UP_SIZE;
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
   private int resourceCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
@@ -26,6 +27,14 @@ public final class CachesCfg implements ConfigurationEntry {
     this.drgCacheCapacity = drgCacheCapacity;
   }
 
+  public int getDrgCacheWarmUpSize() {
+    return drgCacheWarmUpSize;
+  }
+
+  public void setDrgCacheWarmUpSize(final int drgCacheWarmUpSize) {
+    this.drgCacheWarmUpSize = drgCacheWarmUpSize;
+  }
+
   public int getFormCacheCapacity() {
     return formCacheCapacity;
   }
@@ -63,6 +72,8 @@ public final class CachesCfg implements ConfigurationEntry {
     return "CachesCfg{"
         + "drgCacheCapacity="
         + drgCacheCapacity
+        + ", drgCacheWarmUpSize="
+        + drgCacheWarmUpSize
         + ", formCacheCapacity="
         + formCacheCapacity
         + ", processCacheCapacity="
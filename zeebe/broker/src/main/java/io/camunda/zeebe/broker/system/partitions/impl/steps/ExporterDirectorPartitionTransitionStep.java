@@ -110,7 +110,7 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
     final var exporterDescriptors = getEnabledExporterDescriptors(context);
     final BrokerCfg brokerCfg = context.getBrokerCfg();
     final ExportingCfg exportingCfg = brokerCfg.getExporting();
-    final var exporterFilter = SkipPositionsFilter.of(exportingCfg.skipRecords());
+    final var exporterFilter = SkipPositionsFilter.of(exportingCfg.getSkipRecords());
     final ExporterMode exporterMode =
         targetRole == Role.LEADER ? ExporterMode.ACTIVE : ExporterMode.PASSIVE;
     final ExporterDirectorContext exporterCtx =
@@ -120,11 +120,12 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .clock(context.getStreamClock())
             .logStream(context.getLogStream())
             .zeebeDb(context.getZeebeDb())
-            .distributionInterval(exportingCfg.distributionInterval())
+            .distributionInterval(exportingCfg.getDistributionInterval())
             .partitionMessagingService(context.getMessagingService())
             .descriptors(exporterDescriptors)
             .exporterMode(exporterMode)
             .positionsToSkipFilter(exporterFilter)
+            .independentPipelines(exportingCfg.isIndependentPipelines())
             .meterRegistry(context.getPartitionTransitionMeterRegistry());
 
     final ExporterDirector director =
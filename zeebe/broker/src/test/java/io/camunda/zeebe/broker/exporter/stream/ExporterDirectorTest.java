@@ -29,6 +29,8 @@ import io.camunda.zeebe.broker.exporter.util.PojoConfigurationExporter;
 import io.camunda.zeebe.broker.exporter.util.PojoConfigurationExporter.PojoExporterConfiguration;
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.exporter.api.context.Context;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
@@ -548,6 +550,27 @@ public final class ExporterDirectorTest {
         .satisfies(phase -> assertThat(phase).isEqualTo(ExporterPhase.CLOSED));
   }
 
+  @Test
+  public void shouldNotRetryExportingOnUndecodableRecordValue() {
+    // given
+    startExporterDirector(exporterDescriptors);
+
+    // when - the value is only decoded once the exporters access it
+    rule.writeEvent(
+        ValueType.DEPLOYMENT, DeploymentIntent.CREATED, new UndecodableDeploymentRecord());
+
+    // then
+    Awaitility.await("Until director is unhealthy")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getDirector().getHealthReport().status())
+                    .isEqualTo(HealthStatus.DEAD));
+    assertThat(rule.getDirector().getPhase())
+        .succeedsWithin(Duration.ofSeconds(5))
+        .satisfies(phase -> assertThat(phase).isEqualTo(ExporterPhase.CLOSED));
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+  }
+
   @Test
   public void shouldExecuteScheduledTask() throws Exception {
     // given
@@ -918,4 +941,12 @@ public final class ExporterDirectorTest {
       final RecordExporter recordExporter, final AtomicReference<RecordExporter> exporterRef) {
     return exporterRef.updateAndGet(ignored -> spy(recordExporter));
   }
+
+  /** Encodes the resources of a deployment as a string, instead of as an array. */
+  private static final class UndecodableDeploymentRecord extends UnifiedRecordValue {
+    UndecodableDeploymentRecord() {
+      super(1);
+      declareProperty(new StringProperty("resources", "not-an-array"));
+    }
+  }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterPipelineTest {
+
+  private static final String EXPORTER_ID_1 = "exporter-1";
+  private static final String EXPORTER_ID_2 = "exporter-2";
+
+  @Rule public final ExporterRule rule = ExporterRule.activeExporter().withIndependentPipelines();
+
+  private final List<ControlledTestExporter> exporters = new ArrayList<>();
+  private final List<ExporterDescriptor> exporterDescriptors = new ArrayList<>();
+
+  @Before
+  public void init() {
+    createExporter(EXPORTER_ID_1, Map.of("x", 1));
+    createExporter(EXPORTER_ID_2, Map.of("y", 2));
+  }
+
+  @Test
+  public void shouldNotHoldBackOtherExportersWhenOneIsFailing() {
+    // given
+    final var isFailing = new AtomicBoolean(true);
+    exporters
+        .get(0)
+        .onExport(
+            record -> {
+              if (isFailing.get()) {
+                throw new IllegalStateException("expected");
+              }
+            });
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    final long firstPosition = writeEvent();
+    final long secondPosition = writeEvent();
+    final long lastPosition = writeEvent();
+
+    // then
+    Awaitility.await("the healthy exporter has exported all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(exporters.get(1).getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(firstPosition, secondPosition, lastPosition));
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+
+    // when
+    isFailing.set(false);
+
+    // then
+    Awaitility.await("the failing exporter catches up once it recovered")
+        .atMost(Duration.ofSeconds(15))
+        .untilAsserted(
+            () ->
+                assertThat(exporters.get(0).getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(firstPosition, secondPosition, lastPosition));
+  }
+
+  @Test
+  public void shouldTrackPositionPerExporter() {
+    // given
+    exporters.get(0).shouldAutoUpdatePosition(true);
+    rule.startExporterDirector(exporterDescriptors);
+    final ExportersState state = rule.getExportersState();
+
+    // when
+    writeEvent();
+    final long lastPosition = writeEvent();
+
+    // then
+    Awaitility.await("the first exporter has acknowledged all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(lastPosition));
+    Awaitility.await("the second exporter has exported all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(exporters.get(1).getExportedRecords()).hasSize(2));
+    assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(-1L);
+    assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldNotUpdatePositionWhenSoftPaused() {
+    // given
+    exporters.forEach(exporter -> exporter.shouldAutoUpdatePosition(true));
+
+    // when
+    rule.startExporterDirector(exporterDescriptors, ExporterPhase.SOFT_PAUSED);
+    writeEvent();
+    writeEvent();
+
+    // then
+    Awaitility.await("all exporters have exported all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(exporters)
+                    .allSatisfy(exporter -> assertThat(exporter.getExportedRecords()).hasSize(2)));
+    assertThat(rule.getExportersState().getPosition(EXPORTER_ID_1)).isEqualTo(-1L);
+    assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2)).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldRemoveExporter() {
+    // given
+    exporters.forEach(exporter -> exporter.shouldAutoUpdatePosition(true));
+    rule.startExporterDirector(exporterDescriptors);
+    final long position = writeEvent();
+    Awaitility.await("all exporters have acknowledged the record")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(position));
+
+    // when
+    rule.getDirector().removeExporter(EXPORTER_ID_2).join();
+
+    // then
+    verify(exporters.get(1), timeout(5_000)).close();
+    assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2))
+        .isEqualTo(ExportersState.VALUE_NOT_FOUND);
+
+    // when
+    final long nextPosition = writeEvent();
+
+    // then
+    Awaitility.await("the remaining exporter keeps exporting")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID_1))
+                    .isEqualTo(nextPosition));
+    assertThat(exporters.get(1).getExportedRecords()).hasSize(1);
+  }
+
+  private void createExporter(final String exporterId, final Map<String, Object> arguments) {
+    final ControlledTestExporter exporter = spy(new ControlledTestExporter());
+
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), arguments));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+
+    exporters.add(exporter);
+    exporterDescriptors.add(descriptor);
+  }
+
+  private long writeEvent() {
+    return rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+  }
+}
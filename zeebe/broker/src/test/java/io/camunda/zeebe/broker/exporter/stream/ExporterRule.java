@@ -17,9 +17,13 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.util.TestStreams;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
 import io.camunda.zeebe.scheduler.testing.ActorSchedulerRule;
@@ -63,6 +67,7 @@ public final class ExporterRule implements TestRule {
   private ExporterDirector director;
   private Duration distributionInterval = Duration.ofSeconds(15);
   private EventFilter positionsToSkipFilter = SkipPositionsFilter.of(Set.of());
+  private boolean independentPipelines;
 
   private ExporterRule(final ExporterMode exporterMode) {
     this.exporterMode = exporterMode;
@@ -97,6 +102,11 @@ public final class ExporterRule implements TestRule {
     return this;
   }
 
+  public ExporterRule withIndependentPipelines() {
+    independentPipelines = true;
+    return this;
+  }
+
   @Override
   public Statement apply(final Statement base, final Description description) {
     return chain.apply(base, description);
@@ -138,7 +148,8 @@ public final class ExporterRule implements TestRule {
             .partitionMessagingService(partitionMessagingService)
             .descriptors(descriptorsWithInitializationInfo)
             .meterRegistry(new SimpleMeterRegistry())
-            .positionsToSkipFilter(positionsToSkipFilter);
+            .positionsToSkipFilter(positionsToSkipFilter)
+            .independentPipelines(independentPipelines);
 
     director = new ExporterDirector(context, phase, recordExporter);
     director.startAsync(actorSchedulerRule.get()).join();
@@ -178,6 +189,20 @@ public final class ExporterRule implements TestRule {
         .write();
   }
 
+  /**
+   * Writes the value as an event of the given value type, even if the value's class is not
+   * registered for it, e.g. to write a value which cannot be read as a record of that type.
+   */
+  public long writeEvent(
+      final ValueType valueType, final Intent intent, final UnifiedRecordValue value) {
+    final var metadata =
+        new RecordMetadata().recordType(RecordType.EVENT).valueType(valueType).intent(intent);
+    return streams
+        .newLogStreamWriter(STREAM_NAME)
+        .tryWrite(WriteContext.internal(), LogAppendEntry.of(metadata, value))
+        .get();
+  }
+
   public void closeExporterDirector() throws Exception {
     director.stopAsync().join();
     capturedZeebeDb.close();
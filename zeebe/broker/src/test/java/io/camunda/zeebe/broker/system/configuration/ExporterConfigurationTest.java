@@ -26,8 +26,23 @@ class ExporterConfigurationTest {
     final ExportingCfg exportingCfg = cfg.getExporting();
 
     // then
-    assertThat(exportingCfg.skipRecords()).isEqualTo(Set.of());
-    assertThat(exportingCfg.distributionInterval()).isEqualTo(Duration.ofSeconds(15));
+    assertThat(exportingCfg.getSkipRecords()).isEqualTo(Set.of());
+    assertThat(exportingCfg.getDistributionInterval()).isEqualTo(Duration.ofSeconds(15));
+    assertThat(exportingCfg.isIndependentPipelines()).isFalse();
+  }
+
+  @Test
+  void shouldSetIndependentPipelinesFromEnvironment() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporting.independentPipelines", "true");
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+    final ExportingCfg exportingCfg = cfg.getExporting();
+
+    // then
+    assertThat(exportingCfg.isIndependentPipelines()).isTrue();
+    assertThat(exportingCfg.getSkipRecords()).isEqualTo(Set.of(112233L, 445566L));
   }
 
   @Test
@@ -40,7 +55,7 @@ class ExporterConfigurationTest {
     final ExportingCfg exportingCfg = cfg.getExporting();
 
     // then
-    assertThat(exportingCfg.skipRecords()).isEqualTo(Set.of(1L, 2L, 3L, 0L));
+    assertThat(exportingCfg.getSkipRecords()).isEqualTo(Set.of(1L, 2L, 3L, 0L));
   }
 
   @Test
@@ -52,7 +67,7 @@ class ExporterConfigurationTest {
     final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
     final ExportingCfg exportingCfg = cfg.getExporting();
     // then
-    assertThat(exportingCfg.skipRecords()).isEqualTo(Set.of(112233L, 445566L));
+    assertThat(exportingCfg.getSkipRecords()).isEqualTo(Set.of(112233L, 445566L));
   }
 
   @Test
@@ -61,7 +76,7 @@ class ExporterConfigurationTest {
     final ExportingCfg exportingCfg = new ExportingCfg(Set.of(1L, 2L), null);
 
     // then
-    assertThat(exportingCfg.skipRecords()).isEqualTo(Set.of(1L, 2L));
+    assertThat(exportingCfg.getSkipRecords()).isEqualTo(Set.of(1L, 2L));
   }
 
   @Test
@@ -74,7 +89,7 @@ class ExporterConfigurationTest {
     final ExportingCfg exportingCfg = cfg.getExporting();
 
     // then
-    assertThat(exportingCfg.skipRecords()).isEqualTo(Set.of(1L, 2L, 3L));
+    assertThat(exportingCfg.getSkipRecords()).isEqualTo(Set.of(1L, 2L, 3L));
   }
 
   @Test
@@ -87,7 +102,7 @@ class ExporterConfigurationTest {
     final ExportingCfg exportingCfg = cfg.getExporting();
 
     // then
-    assertThat(exportingCfg.distributionInterval()).isEqualTo(Duration.ofSeconds(1));
+    assertThat(exportingCfg.getDistributionInterval()).isEqualTo(Duration.ofSeconds(1));
   }
 
   @Test
@@ -99,6 +114,6 @@ class ExporterConfigurationTest {
     final ExportingCfg exportingCfg = cfg.getExporting();
 
     // then
-    assertThat(exportingCfg.distributionInterval()).isEqualTo(Duration.ofSeconds(5));
+    assertThat(exportingCfg.getDistributionInterval()).isEqualTo(Duration.ofSeconds(5));
   }
 }
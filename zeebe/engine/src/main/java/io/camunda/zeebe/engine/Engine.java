@@ -176,7 +176,14 @@ public class Engine implements RecordProcessor {
           processingResultBuilder.withProcessInASeparateBatch();
         }
 
-        currentProcessor.processRecord(record);
+        // the cache is cleared before the transaction could be rolled back
+        final var variableState = processingState.getVariableState();
+        variableState.enableCache();
+        try {
+          currentProcessor.processRecord(record);
+        } finally {
+          variableState.disableCache();
+        }
       }
     }
     return processingResultBuilder.build();
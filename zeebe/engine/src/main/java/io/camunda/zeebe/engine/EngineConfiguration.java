@@ -21,6 +21,7 @@ public final class EngineConfiguration {
   public static final int BATCH_SIZE_CALCULATION_BUFFER = 1024 * 8;
 
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
+  public static final int DEFAULT_DRG_CACHE_WARM_UP_SIZE = 100;
   public static final int DEFAULT_FORM_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_AUTHORIZATIONS_CACHE_CAPACITY = 1000;
@@ -56,6 +57,7 @@ public final class EngineConfiguration {
   private int messagesTtlCheckerBatchLimit = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration messagesTtlCheckerInterval = DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
   private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
+  private int drgCacheWarmUpSize = DEFAULT_DRG_CACHE_WARM_UP_SIZE;
   private int formCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int resourceCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
@@ -120,6 +122,15 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public int getDrgCacheWarmUpSize() {
+    return drgCacheWarmUpSize;
+  }
+
+  public EngineConfiguration setDrgCacheWarmUpSize(final int drgCacheWarmUpSize) {
+    this.drgCacheWarmUpSize = drgCacheWarmUpSize;
+    return this;
+  }
+
   public int getFormCacheCapacity() {
     return formCacheCapacity;
   }
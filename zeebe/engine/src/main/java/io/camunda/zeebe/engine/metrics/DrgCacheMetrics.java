@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import static io.camunda.zeebe.engine.metrics.EngineMetricsDoc.DRG_CACHE_EVICTIONS;
+import static io.camunda.zeebe.engine.metrics.EngineMetricsDoc.DRG_CACHE_RESULT;
+import static io.camunda.zeebe.engine.metrics.EngineMetricsDoc.DRG_CACHE_WARMED_UP;
+
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.CacheResult;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.EngineKeyNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/** Metrics of the cache of parsed decision requirements graphs (DRG) of a partition. */
+public final class DrgCacheMetrics {
+
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter evictions;
+  private final Counter warmedUp;
+
+  public DrgCacheMetrics(final MeterRegistry meterRegistry) {
+    hits = registerResultCounter(meterRegistry, CacheResult.HIT);
+    misses = registerResultCounter(meterRegistry, CacheResult.MISS);
+    evictions =
+        Counter.builder(DRG_CACHE_EVICTIONS.getName())
+            .description(DRG_CACHE_EVICTIONS.getDescription())
+            .register(meterRegistry);
+    warmedUp =
+        Counter.builder(DRG_CACHE_WARMED_UP.getName())
+            .description(DRG_CACHE_WARMED_UP.getDescription())
+            .register(meterRegistry);
+  }
+
+  public void countHit() {
+    hits.increment();
+  }
+
+  public void countMiss() {
+    misses.increment();
+  }
+
+  public void countEviction() {
+    evictions.increment();
+  }
+
+  public void countWarmedUp(final long count) {
+    warmedUp.increment(count);
+  }
+
+  private static Counter registerResultCounter(
+      final MeterRegistry meterRegistry, final CacheResult result) {
+    return Counter.builder(DRG_CACHE_RESULT.getName())
+        .description(DRG_CACHE_RESULT.getDescription())
+        .tag(EngineKeyNames.CACHE_RESULT.asString(), result.toString())
+        .register(meterRegistry);
+  }
+}
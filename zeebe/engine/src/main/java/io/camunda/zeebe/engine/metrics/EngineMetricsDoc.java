@@ -260,6 +260,80 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
       return new KeyName[] {EngineKeyNames.JOB_ACTION};
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of lookups of parsed decision requirements graphs (DRG) in the DRG cache */
+  DRG_CACHE_RESULT {
+    @Override
+    public String getDescription() {
+      return "Number of lookups of parsed decision requirements graphs (DRG) in the DRG cache, by result";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.dmn.drg.cache.result";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {EngineKeyNames.CACHE_RESULT};
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of parsed decision requirements graphs (DRG) evicted from the DRG cache */
+  DRG_CACHE_EVICTIONS {
+    @Override
+    public String getDescription() {
+      return "Number of parsed decision requirements graphs (DRG) evicted from the DRG cache because it was full";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.dmn.drg.cache.evictions.total";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of decision requirements graphs (DRG) parsed into the cache on recovery */
+  DRG_CACHE_WARMED_UP {
+    @Override
+    public String getDescription() {
+      return "Number of decision requirements graphs (DRG) parsed into the DRG cache when the partition was recovered";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.dmn.drg.cache.warmed.up.total";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
@@ -322,6 +396,14 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
       }
     },
 
+    /** Whether a cached value was found; see {@link CacheResult} for possible values. */
+    CACHE_RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
+    },
+
     /** The possible actions performed on a job; see {@link JobAction} for possible values. */
     JOB_ACTION {
       @Override
@@ -392,6 +474,16 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
     }
   }
 
+  public enum CacheResult {
+    HIT,
+    MISS;
+
+    @Override
+    public String toString() {
+      return name().toLowerCase();
+    }
+  }
+
   public enum IncidentAction {
     CREATED,
     RESOLVED;
@@ -27,6 +27,7 @@ import io.camunda.zeebe.engine.processing.variable.VariableStateEvaluationContex
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.state.routing.RoutingInfo;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.InstantSource;
 
 public final class BpmnBehaviorsImpl implements BpmnBehaviors {
@@ -66,10 +67,12 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
       final JobStreamer jobStreamer,
       final InstantSource clock,
       final AuthorizationCheckBehavior authCheckBehavior,
-      final TransientPendingSubscriptionState transientProcessMessageSubscriptionState) {
+      final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
+      final MeterRegistry meterRegistry) {
     expressionBehavior =
         new ExpressionProcessor(
-            ExpressionLanguageFactory.createExpressionLanguage(new ZeebeFeelEngineClock(clock)),
+            ExpressionLanguageFactory.createExpressionLanguage(
+                new ZeebeFeelEngineClock(clock), meterRegistry),
             new VariableStateEvaluationContextLookup(processingState.getVariableState()));
 
     variableBehavior =
@@ -13,6 +13,7 @@ import io.camunda.zeebe.engine.processing.bpmn.clock.ZeebeFeelEngineClock;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
 import io.camunda.zeebe.engine.processing.deployment.transform.BpmnValidator;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.InstantSource;
 
 public final class BpmnFactory {
@@ -21,12 +22,21 @@ public final class BpmnFactory {
     return new BpmnTransformer(createExpressionLanguage(new ZeebeFeelEngineClock(clock)));
   }
 
+  public static BpmnTransformer createTransformer(
+      final InstantSource clock, final MeterRegistry meterRegistry) {
+    return new BpmnTransformer(
+        ExpressionLanguageFactory.createExpressionLanguage(
+            new ZeebeFeelEngineClock(clock), meterRegistry));
+  }
+
   public static BpmnValidator createValidator(
       final InstantSource clock,
       final ExpressionProcessor expressionProcessor,
-      final int validatorResultsOutputMaxSize) {
+      final int validatorResultsOutputMaxSize,
+      final MeterRegistry meterRegistry) {
     return new BpmnValidator(
-        createExpressionLanguage(new ZeebeFeelEngineClock(clock)),
+        ExpressionLanguageFactory.createExpressionLanguage(
+            new ZeebeFeelEngineClock(clock), meterRegistry),
         expressionProcessor,
         validatorResultsOutputMaxSize);
   }
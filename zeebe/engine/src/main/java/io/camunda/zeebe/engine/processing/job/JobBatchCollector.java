@@ -104,6 +104,7 @@ final class JobBatchCollector {
     jobState.forEachActivatableJobs(
         value.getTypeBuffer(),
         tenantIds,
+        maxActivatedCount,
         (key, jobRecord) -> {
           if (!isAuthorizedForJob(jobRecord, authorizedProcessIds)) {
             // Skip Jobs the user is not authorized for
@@ -25,23 +25,30 @@ import io.camunda.zeebe.dmn.DecisionEngine;
 import io.camunda.zeebe.dmn.DecisionEngineFactory;
 import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.engine.metrics.DrgCacheMetrics;
 import io.camunda.zeebe.engine.state.mutable.MutableDecisionState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRequirementsRecord;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import org.agrona.DirectBuffer;
+import org.slf4j.Logger;
 
 public final class DbDecisionState implements MutableDecisionState {
 
+  private static final Logger LOG = Loggers.STREAM_PROCESSING;
+
   private final DecisionEngine decisionEngine = DecisionEngineFactory.createDecisionEngine();
 
   private final DbString tenantIdKey;
@@ -120,6 +127,8 @@ public final class DbDecisionState implements MutableDecisionState {
       decisionKeyByDecisionIdAndVersionTag;
 
   private final LoadingCache<TenantIdAndDrgKey, DeployedDrg> drgCache;
+  private final DrgCacheMetrics drgCacheMetrics;
+  private final int drgCacheWarmUpSize;
 
   public DbDecisionState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
@@ -226,9 +235,20 @@ public final class DbDecisionState implements MutableDecisionState {
             tenantAwareDecisionIdAndVersionTag,
             fkDecision);
 
+    drgCacheMetrics = new DrgCacheMetrics(zeebeDb.getMeterRegistry());
+    drgCacheWarmUpSize = Math.min(config.getDrgCacheWarmUpSize(), config.getDrgCacheCapacity());
+    // the cache is only accessed by the stream processor; with a single segment the least recently
+    // used DRG of the whole cache is evicted, instead of the one of a segment
     drgCache =
         CacheBuilder.newBuilder()
             .maximumSize(config.getDrgCacheCapacity())
+            .concurrencyLevel(1)
+            .<TenantIdAndDrgKey, DeployedDrg>removalListener(
+                notification -> {
+                  if (notification.wasEvicted()) {
+                    drgCacheMetrics.countEviction();
+                  }
+                })
             .build(
                 new CacheLoader<>() {
                   @Override
@@ -240,6 +260,34 @@ public final class DbDecisionState implements MutableDecisionState {
                 });
   }
 
+  /**
+   * Parses the latest versions of the most recently deployed DRGs into the cache, such that the
+   * first evaluations of their decisions after a restart don't have to parse them. The latest
+   * versions are the ones evaluated by default, and DRGs with higher keys were deployed more
+   * recently.
+   */
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    if (drgCacheWarmUpSize <= 0) {
+      return;
+    }
+
+    final List<TenantIdAndDrgKey> latestDrgs = new ArrayList<>();
+    latestDecisionRequirementsKeysById.forEach(
+        (key, drgKey) ->
+            latestDrgs.add(
+                new TenantIdAndDrgKey(
+                    key.tenantKey().toString(), drgKey.inner().wrappedKey().getValue())));
+
+    final var warmedUp =
+        latestDrgs.stream()
+            .sorted(Comparator.comparingLong(TenantIdAndDrgKey::drgKey).reversed())
+            .limit(drgCacheWarmUpSize)
+            .filter(this::warmUpDrg)
+            .count();
+    drgCacheMetrics.countWarmedUp(warmedUp);
+  }
+
   @Override
   public Optional<PersistedDecision> findLatestDecisionByIdAndTenant(
       final DirectBuffer decisionId, final String tenantId) {
@@ -371,9 +419,17 @@ public final class DbDecisionState implements MutableDecisionState {
 
   private Optional<DeployedDrg> findDeployedDrg(
       final long decisionRequirementsKey, final String tenantId) {
+    final var key = new TenantIdAndDrgKey(tenantId, decisionRequirementsKey);
+    final var cachedDrg = drgCache.getIfPresent(key);
+    if (cachedDrg != null) {
+      drgCacheMetrics.countHit();
+      return Optional.of(cachedDrg);
+    }
+
+    drgCacheMetrics.countMiss();
     try {
       // The cache automatically fetches it from the state if the key does not exist.
-      return Optional.of(drgCache.get(new TenantIdAndDrgKey(tenantId, decisionRequirementsKey)));
+      return Optional.of(drgCache.get(key));
     } catch (final ExecutionException e) {
       // We reach this when we couldn't load the DRG from the state.
       return Optional.empty();
@@ -656,6 +712,17 @@ public final class DbDecisionState implements MutableDecisionState {
         tenantAwareDecisionRequirementsId, fkDecisionRequirements);
   }
 
+  private boolean warmUpDrg(final TenantIdAndDrgKey key) {
+    try {
+      drgCache.get(key);
+      return true;
+    } catch (final ExecutionException | RuntimeException e) {
+      // the DRG is parsed again on its first evaluation, which reports the failure
+      LOG.debug("Failed to parse DRG with key '{}' into the DRG cache", key.drgKey, e);
+      return false;
+    }
+  }
+
   private record TenantIdAndDrgKey(String tenantId, Long drgKey) {}
 
   /**
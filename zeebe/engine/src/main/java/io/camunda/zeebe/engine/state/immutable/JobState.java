@@ -42,6 +42,17 @@ public interface JobState {
       final List<String> tenantIds,
       BiFunction<Long, JobRecord, Boolean> callback);
 
+  /**
+   * Same as {@link #forEachActivatableJobs(DirectBuffer, List, BiFunction)}, but hints how many
+   * jobs the callback is expected to accept before stopping the iteration, such that the job
+   * records can be looked up in appropriately sized batches.
+   */
+  void forEachActivatableJobs(
+      DirectBuffer type,
+      final List<String> tenantIds,
+      int expectedJobCount,
+      BiFunction<Long, JobRecord, Boolean> callback);
+
   JobRecord getJob(long key);
 
   JobRecord getJob(final long key, final AuthorizedTenants authorizedTenantIds);
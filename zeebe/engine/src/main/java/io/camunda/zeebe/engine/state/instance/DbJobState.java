@@ -24,6 +24,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
@@ -36,6 +37,15 @@ public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
 
+  /**
+   * The activatable jobs are read in batches which grow up to the max size, such that the job
+   * records can be looked up at once; starting small avoids reading many records which are not
+   * visited when the callback stops early.
+   */
+  private static final int INITIAL_ACTIVATABLE_JOBS_BATCH_SIZE = 8;
+
+  private static final int MAX_ACTIVATABLE_JOBS_BATCH_SIZE = 128;
+
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
   // see https://github.com/zeebe-io/zeebe/issues/1914
@@ -43,6 +53,7 @@ public final class DbJobState implements JobState, MutableJobState {
   private final JobRecordValue jobRecordToWrite = new JobRecordValue();
 
   private final DbLong jobKey;
+  private final List<DbLong> activatableJobKeys = new ArrayList<>();
   private final DbForeignKey<DbLong> fkJob;
   private final ColumnFamily<DbLong, JobRecordValue> jobsColumnFamily;
 
@@ -406,20 +417,36 @@ public final class DbJobState implements JobState, MutableJobState {
       final DirectBuffer type,
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
+    forEachActivatableJobs(type, tenantIds, INITIAL_ACTIVATABLE_JOBS_BATCH_SIZE, callback);
+  }
+
+  @Override
+  public void forEachActivatableJobs(
+      final DirectBuffer type,
+      final List<String> tenantIds,
+      final int expectedJobCount,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
     jobTypeKey.wrapBuffer(type);
+    final var batch =
+        new ActivatableJobsBatch(
+            Math.clamp(expectedJobCount, 1, MAX_ACTIVATABLE_JOBS_BATCH_SIZE), callback);
 
-    activatableColumnFamily.whileEqualPrefix(
+    // activated jobs are removed from this column family, so the prefix is likely followed by many
+    // deleted keys of other job types; bound the iteration to avoid skipping over them
+    activatableColumnFamily.whileEqualPrefixBounded(
         jobTypeKey,
         ((tenantAwareCompositeKey, zbNil) -> {
           final DbLong jobKey = tenantAwareCompositeKey.wrappedKey().second().inner();
           final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
 
           if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
+            return batch.add(jobKey.getValue());
           }
           // we want to continue with the iteration
           return true;
         }));
+
+    batch.visitJobs();
   }
 
   @Override
@@ -550,4 +577,58 @@ public final class DbJobState implements JobState, MutableJobState {
       backoffColumnFamily.deleteIfExists(backoffJobKey);
     }
   }
+
+  /**
+   * Collects the keys of activatable jobs, and looks up their records at once whenever enough keys
+   * were collected, passing them to the callback in the order of their keys.
+   */
+  private final class ActivatableJobsBatch {
+    private final BiFunction<Long, JobRecord, Boolean> callback;
+    private int batchSize;
+    private int size;
+    private boolean shouldContinue = true;
+
+    private ActivatableJobsBatch(
+        final int batchSize, final BiFunction<Long, JobRecord, Boolean> callback) {
+      this.batchSize = batchSize;
+      this.callback = callback;
+    }
+
+    /**
+     * @return false if the callback indicated to stop visiting jobs, true otherwise
+     */
+    private boolean add(final long key) {
+      if (activatableJobKeys.size() == size) {
+        activatableJobKeys.add(new DbLong());
+      }
+      activatableJobKeys.get(size++).wrapLong(key);
+
+      if (size == batchSize) {
+        visitJobs();
+        batchSize = Math.min(batchSize * 2, MAX_ACTIVATABLE_JOBS_BATCH_SIZE);
+      }
+      return shouldContinue;
+    }
+
+    private void visitJobs() {
+      if (size == 0 || !shouldContinue) {
+        return;
+      }
+
+      jobsColumnFamily.multiGet(
+          activatableJobKeys.subList(0, size),
+          (key, job) -> {
+            if (!shouldContinue) {
+              return;
+            }
+
+            if (job == null) {
+              LOG.warn("Expected to find job with key {}, but no job found", key.getValue());
+              return;
+            }
+            shouldContinue = callback.apply(key.getValue(), job.getRecord());
+          });
+      size = 0;
+    }
+  }
 }
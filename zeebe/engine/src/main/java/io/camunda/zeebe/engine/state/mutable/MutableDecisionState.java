@@ -10,8 +10,9 @@ package io.camunda.zeebe.engine.state.mutable;
 import io.camunda.zeebe.engine.state.immutable.DecisionState;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRequirementsRecord;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 
-public interface MutableDecisionState extends DecisionState {
+public interface MutableDecisionState extends DecisionState, StreamProcessorLifecycleAware {
 
   /**
    * Put the given decision in the state. Update the latest version of the decision if it is newer.
@@ -63,6 +63,17 @@ public interface MutableVariableState extends VariableState {
 
   void removeAllVariables(long scopeKey);
 
+  /**
+   * Caches the scope hierarchy and the variables of the scopes which are read, until {@link
+   * #disableCache()} is called, so that repeated reads of the same scopes don't access the
+   * database. Changes made through this state update the cache, but rolling back the transaction
+   * does not, so the cache must only be enabled while processing a single command.
+   */
+  void enableCache();
+
+  /** Disables and clears the cache enabled by {@link #enableCache()}. */
+  void disableCache();
+
   /**
    * Stores the given variable document record in the state, associating it with the provided key.
    *
@@ -22,7 +22,9 @@ import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentReco
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
@@ -30,12 +32,17 @@ import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.MutableInteger;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  private static final long UNKNOWN_PARENT = Long.MIN_VALUE;
+  private static final int MAX_CACHED_SCOPES = 1_000;
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -67,6 +74,13 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  // read cache, only used while enabled, see enableCache()
+  private boolean cacheEnabled;
+  private final Long2LongHashMap cachedParentScopeKeys = new Long2LongHashMap(UNKNOWN_PARENT);
+  private final Long2ObjectHashMap<LocalVariables> cachedLocalVariables =
+      new Long2ObjectHashMap<>();
+  private final DirectBuffer cachedNameView = new UnsafeBuffer(0, 0);
+
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
     childKey = new DbLong();
@@ -127,6 +141,7 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    cachedLocalVariables.remove(scopeKey);
   }
 
   @Override
@@ -135,6 +150,7 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+    cachedParentScopeKeys.remove(childKey);
   }
 
   @Override
@@ -146,10 +162,12 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+    cachedParentScopeKeys.remove(scopeKey);
   }
 
   @Override
   public void removeAllVariables(final long scopeKey) {
+    cachedLocalVariables.remove(scopeKey);
     visitVariablesLocal(
         scopeKey,
         dbString -> true,
@@ -197,11 +215,20 @@ public class DbVariableState implements MutableVariableState {
 
     long currentScopeKey = scopeKey;
     do {
-      final VariableInstance variable =
-          getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
-
-      if (variable != null) {
-        return variable.getValue();
+      final LocalVariables localVariables = cachedLocalVariables.get(currentScopeKey);
+      if (localVariables != null) {
+        cachedNameView.wrap(name, nameOffset, nameLength);
+        final DirectBuffer value = localVariables.get(cachedNameView);
+        if (value != null) {
+          return value;
+        }
+      } else {
+        final VariableInstance variable =
+            getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
+
+        if (variable != null) {
+          return variable.getValue();
+        }
       }
 
       currentScopeKey = getParentScopeKey(currentScopeKey);
@@ -220,11 +247,10 @@ public class DbVariableState implements MutableVariableState {
 
     visitVariables(
         scopeKey,
-        name -> !collectedVariables.contains(name.getBuffer()),
-        (name, value) -> {
-          final DirectBuffer variableNameBuffer = name.getBuffer();
+        name -> !collectedVariables.contains(name),
+        (variableNameBuffer, value) -> {
           writer.writeString(variableNameBuffer);
-          writer.writeRaw(value.getValue());
+          writer.writeRaw(value);
 
           // must create a new name wrapper, because we keep them all in the hashset at the same
           // time
@@ -252,12 +278,12 @@ public class DbVariableState implements MutableVariableState {
 
     visitVariables(
         scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
+        variablesToCollect::contains,
         (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+          writer.writeString(name);
+          writer.writeRaw(value);
 
-          variablesToCollect.remove(name.getBuffer());
+          variablesToCollect.remove(name);
         },
         variablesToCollect::isEmpty);
 
@@ -319,10 +345,33 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public long getParentScopeKey(final long childScopeKey) {
+    if (cacheEnabled) {
+      final long cachedParentScopeKey = cachedParentScopeKeys.get(childScopeKey);
+      if (cachedParentScopeKey != UNKNOWN_PARENT) {
+        return cachedParentScopeKey;
+      }
+    }
+
     childKey.wrapLong(childScopeKey);
 
     final ParentScopeKey parentScopeKey = childParentColumnFamily.get(childKey);
-    return parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+    final long parentScopeKeyValue = parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+    if (cacheEnabled) {
+      cachedParentScopeKeys.put(childScopeKey, parentScopeKeyValue);
+    }
+    return parentScopeKeyValue;
+  }
+
+  @Override
+  public void enableCache() {
+    cacheEnabled = true;
+  }
+
+  @Override
+  public void disableCache() {
+    cacheEnabled = false;
+    cachedParentScopeKeys.clear();
+    cachedLocalVariables.clear();
   }
 
   @Override
@@ -359,20 +408,45 @@ public class DbVariableState implements MutableVariableState {
    */
   private void visitVariables(
       final long scopeKey,
-      final Predicate<DbString> filter,
-      final BiConsumer<DbString, VariableInstance> variableConsumer,
+      final Predicate<DirectBuffer> filter,
+      final BiConsumer<DirectBuffer, DirectBuffer> variableConsumer,
       final BooleanSupplier completionCondition) {
     long currentScope = scopeKey;
 
     boolean completed;
     do {
-      completed = visitVariablesLocal(currentScope, filter, variableConsumer, completionCondition);
+      if (cacheEnabled) {
+        completed =
+            getCachedLocalVariables(currentScope)
+                .visit(filter, variableConsumer, completionCondition);
+      } else {
+        completed =
+            visitVariablesLocal(
+                currentScope,
+                name -> filter.test(name.getBuffer()),
+                (name, variable) -> variableConsumer.accept(name.getBuffer(), variable.getValue()),
+                completionCondition);
+      }
 
       currentScope = getParentScopeKey(currentScope);
 
     } while (!completed && currentScope >= 0);
   }
 
+  private LocalVariables getCachedLocalVariables(final long scopeKey) {
+    LocalVariables localVariables = cachedLocalVariables.get(scopeKey);
+    if (localVariables == null) {
+      if (cachedLocalVariables.size() >= MAX_CACHED_SCOPES) {
+        cachedLocalVariables.clear();
+      }
+
+      localVariables = new LocalVariables();
+      visitVariablesLocal(scopeKey, name -> true, localVariables::add, () -> false);
+      cachedLocalVariables.put(scopeKey, localVariables);
+    }
+    return localVariables;
+  }
+
   /**
    * Provides all variables of a scope to the given consumer until a condition is met.
    *
@@ -402,4 +476,43 @@ public class DbVariableState implements MutableVariableState {
         });
     return false;
   }
+
+  /** A copy of the variables of a scope, in the order in which they are stored. */
+  private static final class LocalVariables {
+    private final List<DirectBuffer> names = new ArrayList<>();
+    private final List<DirectBuffer> values = new ArrayList<>();
+    private final Map<DirectBuffer, DirectBuffer> valuesByName = new HashMap<>();
+
+    private void add(final DbString name, final VariableInstance variable) {
+      final DirectBuffer nameCopy = BufferUtil.cloneBuffer(name.getBuffer());
+      final DirectBuffer valueCopy = BufferUtil.cloneBuffer(variable.getValue());
+      names.add(nameCopy);
+      values.add(valueCopy);
+      valuesByName.put(nameCopy, valueCopy);
+    }
+
+    private DirectBuffer get(final DirectBuffer name) {
+      return valuesByName.get(name);
+    }
+
+    /**
+     * @return true if the completion condition was met
+     */
+    private boolean visit(
+        final Predicate<DirectBuffer> variableFilter,
+        final BiConsumer<DirectBuffer, DirectBuffer> variableConsumer,
+        final BooleanSupplier completionCondition) {
+      for (int i = 0; i < names.size(); i++) {
+        final DirectBuffer name = names.get(i);
+        if (variableFilter.test(name)) {
+          variableConsumer.accept(name, values.get(i));
+
+          if (completionCondition.getAsBoolean()) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+  }
 }
@@ -13,14 +13,23 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.CacheResult;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.EngineKeyNames;
 import io.camunda.zeebe.engine.state.immutable.DecisionState.DecisionRequirementsIdentifier;
 import io.camunda.zeebe.engine.state.immutable.DecisionState.PersistedDecisionRequirementsVisitor;
 import io.camunda.zeebe.engine.state.mutable.MutableDecisionState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRequirementsRecord;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.micrometer.core.instrument.search.RequiredSearch;
 import java.util.function.LongConsumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -33,6 +42,8 @@ public final class DecisionStateTest {
 
   private static final String TENANT_ID = "tenant";
   private MutableProcessingState processingState;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
   private MutableDecisionState decisionState;
 
   @BeforeEach
@@ -1079,6 +1090,78 @@ public final class DecisionStateTest {
     assertThat(foundDecision.getDecisionKey()).isEqualTo(decision.getDecisionKey());
   }
 
+  @Test
+  void shouldEvictLeastRecentlyUsedDrg() {
+    // given
+    final var cachingDecisionState =
+        new DbDecisionState(
+            zeebeDb, transactionContext, new EngineConfiguration().setDrgCacheCapacity(2));
+    for (long key = 1; key <= 3; key++) {
+      cachingDecisionState.storeDecisionRequirements(
+          sampleDecisionRequirementsRecord()
+              .setDecisionRequirementsId("drg-" + key)
+              .setDecisionRequirementsKey(key));
+    }
+    cachingDecisionState.findDecisionRequirementsByTenantAndKey(TENANT_ID, 1L);
+    cachingDecisionState.findDecisionRequirementsByTenantAndKey(TENANT_ID, 2L);
+    cachingDecisionState.findDecisionRequirementsByTenantAndKey(TENANT_ID, 1L);
+
+    // when
+    cachingDecisionState.findDecisionRequirementsByTenantAndKey(TENANT_ID, 3L);
+
+    // then - the DRG 2 was used least recently and was evicted
+    assertThat(drgCacheMeter(EngineMetricsDoc.DRG_CACHE_EVICTIONS.getName()).counter().count())
+        .isOne();
+    cachingDecisionState.findDecisionRequirementsByTenantAndKey(TENANT_ID, 1L);
+    cachingDecisionState.findDecisionRequirementsByTenantAndKey(TENANT_ID, 2L);
+    assertThat(drgCacheResults(CacheResult.HIT)).isEqualTo(2);
+    assertThat(drgCacheResults(CacheResult.MISS)).isEqualTo(4);
+  }
+
+  @Test
+  void shouldWarmUpLatestDrgsOnRecovery() {
+    // given - two versions of a DRG, and another DRG deployed later
+    final var cachingDecisionState =
+        new DbDecisionState(
+            zeebeDb, transactionContext, new EngineConfiguration().setDrgCacheWarmUpSize(2));
+    cachingDecisionState.storeDecisionRequirements(
+        sampleDecisionRequirementsRecord().setDecisionRequirementsKey(1L));
+    cachingDecisionState.storeDecisionRequirements(
+        sampleDecisionRequirementsRecord()
+            .setDecisionRequirementsKey(2L)
+            .setDecisionRequirementsVersion(2));
+    cachingDecisionState.storeDecisionRequirements(
+        sampleDecisionRequirementsRecord()
+            .setDecisionRequirementsId("other-drg-id")
+            .setDecisionRequirementsKey(3L));
+    // the cache is empty after a restart
+    cachingDecisionState.clearCache();
+    final var previousMisses = drgCacheResults(CacheResult.MISS);
+
+    // when
+    cachingDecisionState.onRecovered(Mockito.mock(ReadonlyStreamProcessorContext.class));
+
+    // then - only the latest versions were parsed
+    assertThat(drgCacheMeter(EngineMetricsDoc.DRG_CACHE_WARMED_UP.getName()).counter().count())
+        .isEqualTo(2);
+    cachingDecisionState.findDecisionRequirementsByTenantAndKey(TENANT_ID, 2L);
+    cachingDecisionState.findDecisionRequirementsByTenantAndKey(TENANT_ID, 3L);
+    cachingDecisionState.findDecisionRequirementsByTenantAndKey(TENANT_ID, 1L);
+    assertThat(drgCacheResults(CacheResult.HIT)).isEqualTo(2);
+    assertThat(drgCacheResults(CacheResult.MISS)).isEqualTo(previousMisses + 1);
+  }
+
+  private RequiredSearch drgCacheMeter(final String name) {
+    return zeebeDb.getMeterRegistry().get(name);
+  }
+
+  private double drgCacheResults(final CacheResult result) {
+    return drgCacheMeter(EngineMetricsDoc.DRG_CACHE_RESULT.getName())
+        .tag(EngineKeyNames.CACHE_RESULT.asString(), result.toString())
+        .counter()
+        .count();
+  }
+
   private DecisionRecord sampleDecisionRecord() {
     return new DecisionRecord()
         .setDecisionId("decision-id")
@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures collecting a batch of activatable jobs, including reading their records, as done when
+ * activating jobs.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JobStatePerformanceTest {
+  private static final int JOB_COUNT = 5_000;
+  private static final DirectBuffer JOB_TYPE = wrapString("test");
+  private static final List<String> TENANT_IDS = List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+  @Param({"32", "1000"})
+  public int batchSize;
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private DbJobState jobState;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("jobs");
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(directory.toFile());
+    jobState = new DbJobState(zeebeDb, zeebeDb.createContext());
+
+    final JobRecord jobRecord =
+        new JobRecord()
+            .setType(JOB_TYPE)
+            .setRetries(3)
+            .setBpmnProcessId("process")
+            .setElementId("task")
+            .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    for (long key = 1; key <= JOB_COUNT; key++) {
+      jobRecord.setProcessInstanceKey(key).setElementInstanceKey(key);
+      jobState.create(key, jobRecord);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public void measureCollectActivatableJobs(final Blackhole blackhole) {
+    final var collected = new MutableInteger();
+    jobState.forEachActivatableJobs(
+        JOB_TYPE,
+        TENANT_IDS,
+        batchSize,
+        (key, job) -> {
+          blackhole.consume(job.getElementInstanceKey());
+          return collected.incrementAndGet() < batchSize;
+        });
+  }
+
+  @JMHTest("measureCollectActivatableJobs")
+  void shouldCollectLargeBatchOfActivatableJobs(final JMHTestCase testCase) {
+    // given - an ops/s score as measured locally with batches of 1000 jobs
+    // when running this test on different hardware, you're likely to have a different score
+    final var referenceScore = 170;
+
+    // when
+    final var assertResult = testCase.withOptions(o -> o.param("batchSize", "1000")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
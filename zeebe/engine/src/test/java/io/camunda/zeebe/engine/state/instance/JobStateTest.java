@@ -641,6 +641,41 @@ public final class JobStateTest {
     assertThat(jobKeys).containsExactly(256L, 65536L);
   }
 
+  @Test
+  public void shouldListActivatableJobsAcrossBatchesInOrder() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    for (long key = 1; key <= 300; key++) {
+      jobState.create(key, newJobRecord().setType(type));
+    }
+
+    // when
+    final List<Long> jobKeys = getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+    // then
+    assertThat(jobKeys).hasSize(300).isSorted();
+  }
+
+  @Test
+  public void shouldStopListingActivatableJobsWhenCallbackReturnsFalse() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    for (long key = 1; key <= 10; key++) {
+      jobState.create(key, newJobRecord().setType(type));
+    }
+    final List<Long> jobKeys = new ArrayList<>();
+
+    // when - more jobs are read than the callback accepts
+    jobState.forEachActivatableJobs(
+        type,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        5,
+        (key, record) -> jobKeys.add(key) && jobKeys.size() < 3);
+
+    // then
+    assertThat(jobKeys).containsExactly(1L, 2L, 3L);
+  }
+
   @Test
   public void shouldNotDoAnythingIfNoActivatableJobs() {
     // given
@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures collecting the variables of many sibling scopes below a chain of nested scopes, as done
+ * when activating the jobs of a multi-instance body nested in sub-processes, with and without the
+ * read cache enabled.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class VariableStatePerformanceTest {
+  private static final int SIBLING_COUNT = 50;
+  private static final DirectBuffer VARIABLE_NAME = wrapString("var0");
+
+  @Param({"1", "5", "20"})
+  public int depth;
+
+  @Param({"10", "50"})
+  public int variablesPerScope;
+
+  @Param({"false", "true"})
+  public boolean cacheEnabled;
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private DbVariableState variableState;
+  private long firstSiblingKey;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("variables");
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(directory.toFile());
+    variableState = new DbVariableState(zeebeDb, zeebeDb.createContext());
+
+    long key = 1;
+    long parentKey = VariableState.NO_PARENT;
+    for (int scope = 0; scope < depth; scope++) {
+      final long scopeKey = key++;
+      variableState.createScope(scopeKey, parentKey);
+      for (int i = 0; i < variablesPerScope; i++) {
+        variableState.setVariableLocal(
+            key++, scopeKey, 1, wrapString("var" + i), asMsgPack("value", "scope-" + scope));
+      }
+      parentKey = scopeKey;
+    }
+
+    firstSiblingKey = key;
+    for (int i = 0; i < SIBLING_COUNT; i++) {
+      final long siblingKey = key++;
+      variableState.createScope(siblingKey, parentKey);
+      variableState.setVariableLocal(
+          key++, siblingKey, 1, wrapString("inputElement"), asMsgPack("index", i));
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public void measureCollectVariablesOfSiblings(final Blackhole blackhole) {
+    if (cacheEnabled) {
+      variableState.enableCache();
+    }
+
+    try {
+      for (long siblingKey = firstSiblingKey;
+          siblingKey < firstSiblingKey + 2 * SIBLING_COUNT;
+          siblingKey += 2) {
+        blackhole.consume(variableState.getVariablesAsDocument(siblingKey));
+        blackhole.consume(variableState.getVariable(siblingKey, VARIABLE_NAME));
+      }
+    } finally {
+      variableState.disableCache();
+    }
+  }
+
+  @JMHTest("measureCollectVariablesOfSiblings")
+  void shouldCollectVariablesOfNestedScopesWithCache(final JMHTestCase testCase) {
+    // given - an ops/s score as measured locally with the cache, 20 nested scopes and 50 variables
+    // per scope; when running this test on different hardware, you're likely to have a different
+    // score
+    final var referenceScore = 300;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(
+                o ->
+                    o.param("cacheEnabled", "true")
+                        .param("depth", "20")
+                        .param("variablesPerScope", "50"))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
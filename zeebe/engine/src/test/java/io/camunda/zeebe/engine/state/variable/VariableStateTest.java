@@ -66,6 +66,7 @@ public final class VariableStateTest {
 
   @After
   public void cleanUp() {
+    variableState.disableCache();
     elementInstanceState.removeInstance(child2);
     elementInstanceState.removeInstance(child);
     elementInstanceState.removeInstance(parent);
@@ -462,6 +463,87 @@ public final class VariableStateTest {
             tuple(keyVariableC, child, wrapString("c"), wrapString("3")));
   }
 
+  @Test
+  public void shouldCollectVariablesAsDocumentWithCache() {
+    // given
+    final long grandparent = parent;
+    final long parent = child;
+    final long child = child2;
+    declareScope(grandparent);
+    declareScope(grandparent, parent);
+    declareScope(parent, child);
+    setVariableLocal(grandparent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+    setVariableLocal(child, wrapString("c"), asMsgPack("3"));
+
+    variableState.enableCache();
+    variableState.getVariablesAsDocument(child);
+
+    // when
+    setVariableLocal(parent, wrapString("b"), asMsgPack("4"));
+    setVariableLocal(parent, wrapString("c"), asMsgPack("5"));
+
+    // then
+    assertEquality(variableState.getVariablesAsDocument(child), "{'a': 1, 'b': 4, 'c': 3}");
+    assertEquality(
+        variableState.getVariablesAsDocument(child, List.of(wrapString("a"), wrapString("b"))),
+        "{'a': 1, 'b': 4}");
+    assertEquality(variableState.getVariablesAsDocument(parent), "{'a': 1, 'b': 4, 'c': 5}");
+  }
+
+  @Test
+  public void shouldGetVariableWithCache() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+
+    variableState.enableCache();
+    variableState.getVariablesAsDocument(child);
+
+    // when
+    setVariableLocal(parent, wrapString("a"), asMsgPack("2"));
+
+    // then
+    assertEquality(variableState.getVariable(child, wrapString("a")), "2");
+    assertThat(variableState.getVariable(child, wrapString("b"))).isNull();
+  }
+
+  @Test
+  public void shouldNotUseCachedParentOfRemovedScope() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+
+    variableState.enableCache();
+    variableState.getVariablesAsDocument(child);
+
+    // when
+    elementInstanceState.removeInstance(child);
+    declareScope(child);
+
+    // then
+    assertThat(variableState.getParentScopeKey(child)).isEqualTo(VariableState.NO_PARENT);
+    assertEquality(variableState.getVariablesAsDocument(child), "{}");
+  }
+
+  @Test
+  public void shouldClearCacheWhenDisabled() {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variableState.enableCache();
+    variableState.getVariablesAsDocument(parent);
+
+    // when
+    variableState.disableCache();
+    variableState.removeAllVariables(parent);
+
+    // then
+    assertEquality(variableState.getVariablesAsDocument(parent), "{}");
+  }
+
   private void declareScope(final long key) {
     declareScope(-1, key);
   }
@@ -42,6 +42,7 @@ import io.camunda.exporter.exceptions.PersistenceException;
 import io.camunda.exporter.metrics.CamundaExporterMetrics;
 import io.camunda.exporter.store.BatchRequest;
 import io.camunda.exporter.store.ExporterBatchWriter;
+import io.camunda.exporter.store.InFlightBatch;
 import io.camunda.exporter.tasks.BackgroundTaskManager;
 import io.camunda.exporter.tasks.BackgroundTaskManagerFactory;
 import io.camunda.search.schema.MappingSource;
@@ -58,10 +59,13 @@ import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.VisibleForTesting;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 import java.util.Set;
 import org.agrona.CloseHelper;
@@ -77,6 +81,7 @@ public class CamundaExporter implements Exporter {
   private ExporterBatchWriter writer;
   private long lastPosition = -1;
   private final ExporterResourceProvider provider;
+  private final Deque<InFlightFlush> inFlightFlushes = new ArrayDeque<>();
   private CamundaExporterMetrics metrics;
   private BackgroundTaskManager taskManager;
   private ExporterMetadata metadata;
@@ -145,10 +150,14 @@ public class CamundaExporter implements Exporter {
     if (writer != null) {
       try {
         flush();
+        while (!inFlightFlushes.isEmpty()) {
+          completeOldestFlush();
+        }
         writer = null;
       } catch (final Exception e) {
         LOG.warn("Failed to flush records before closing exporter.", e);
       }
+      inFlightFlushes.clear();
     }
 
     if (clientAdapter != null) {
@@ -174,6 +183,8 @@ public class CamundaExporter implements Exporter {
 
   @Override
   public void export(final Record<?> record) {
+    completeAcknowledgedFlushes();
+
     if (writer.getBatchSize() == 0) {
       metrics.startFlushLatencyMeasurement();
     }
@@ -308,7 +319,10 @@ public class CamundaExporter implements Exporter {
   private void flushAndReschedule() {
     try {
       flush();
-      updateLastExportedPosition(lastPosition);
+      completeAcknowledgedFlushes();
+      if (inFlightFlushes.isEmpty()) {
+        updateLastExportedPosition(lastPosition);
+      }
     } catch (final Exception e) {
       LOG.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -320,6 +334,11 @@ public class CamundaExporter implements Exporter {
       return;
     }
 
+    if (configuration.getBulk().getMaxInFlightRequests() > 1) {
+      flushAsync();
+      return;
+    }
+
     try (final var ignored = metrics.measureFlushDuration()) {
       metrics.recordBulkSize(writer.getBatchSize());
       final BatchRequest batchRequest = clientAdapter.createBatchRequest().withMetrics(metrics);
@@ -336,11 +355,76 @@ public class CamundaExporter implements Exporter {
     updateLastExportedPosition(lastPosition);
   }
 
+  /**
+   * Sends the current bulk without waiting for its response, such that up to {@code
+   * maxInFlightRequests} bulks are in flight while the next one is collected. The exported position
+   * is only updated once a bulk and all bulks sent before it were acknowledged, see {@link
+   * #completeOldestFlush()}.
+   */
+  private void flushAsync() {
+    // the next bulk only contains the changes of its own records, so it must not be sent while an
+    // older bulk which updates the same entities may still be applied after it
+    while (!inFlightFlushes.isEmpty()
+        && (inFlightFlushes.size() >= configuration.getBulk().getMaxInFlightRequests()
+            || inFlightFlushes.stream()
+                .anyMatch(flush -> writer.updatesAnyEntityOf(flush.batch())))) {
+      completeOldestFlush();
+    }
+
+    metrics.recordBulkSize(writer.getBatchSize());
+    final var flushDuration = metrics.measureFlushDuration();
+    final InFlightBatch batch;
+    try {
+      batch = writer.flushAsync(clientAdapter.createBatchRequest().withMetrics(metrics));
+    } catch (final PersistenceException ex) {
+      flushDuration.close();
+      metrics.recordFailedFlush();
+      throw new ExporterException(ex.getMessage(), ex);
+    }
+    metrics.stopFlushLatencyMeasurement();
+    inFlightFlushes.add(
+        new InFlightFlush(batch, lastPosition, metadata.serialize(), flushDuration));
+  }
+
+  /** Completes the in-flight bulks whose responses were received, in the order they were sent. */
+  private void completeAcknowledgedFlushes() {
+    while (!inFlightFlushes.isEmpty() && inFlightFlushes.peek().batch().isDone()) {
+      completeOldestFlush();
+    }
+  }
+
+  /**
+   * Waits for the oldest in-flight bulk and validates its response. If it failed, it stays the
+   * oldest in-flight bulk and is retried on the next call, such that the exported position never
+   * moves past a bulk which was not applied.
+   */
+  private void completeOldestFlush() {
+    final var flush = inFlightFlushes.peek();
+    try {
+      flush.batch().complete();
+    } catch (final PersistenceException ex) {
+      metrics.recordFailedFlush();
+      throw new ExporterException(ex.getMessage(), ex);
+    }
+
+    inFlightFlushes.poll();
+    flush.duration().close();
+    metrics.recordFlushOccurrence(Instant.now());
+    controller.updateLastExportedRecordPosition(flush.position(), flush.metadata());
+  }
+
   private void updateLastExportedPosition(final long lastPosition) {
     final var serialized = metadata.serialize();
     controller.updateLastExportedRecordPosition(lastPosition, serialized);
   }
 
+  /**
+   * A bulk sent by {@link #flushAsync()}, with the position and metadata to acknowledge once it was
+   * applied.
+   */
+  private record InFlightFlush(
+      InFlightBatch batch, long position, byte[] metadata, CloseableSilently duration) {}
+
   private record CamundaExporterRecordFilter() implements RecordFilter {
     private static final Set<ValueType> VALUE_TYPES_2_EXPORT =
         Set.of(
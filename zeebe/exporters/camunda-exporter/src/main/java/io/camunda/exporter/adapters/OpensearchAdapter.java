@@ -24,11 +24,13 @@ import io.camunda.search.schema.opensearch.OpensearchEngineClient;
 import io.camunda.zeebe.exporter.common.cache.batchoperation.CachedBatchOperationEntity;
 import io.camunda.zeebe.exporter.common.cache.process.CachedProcessEntity;
 import java.io.IOException;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch.core.BulkRequest;
 
 class OpensearchAdapter implements ClientAdapter {
   private final OpenSearchClient client;
+  private final OpenSearchAsyncClient asyncClient;
   private final OpensearchEngineClient searchEngineClient;
   private final OpensearchExporterEntityCacheProvider entityCacheLoader;
   private final ObjectMapper objectMapper;
@@ -36,6 +38,8 @@ class OpensearchAdapter implements ClientAdapter {
   OpensearchAdapter(final ConnectConfiguration configuration) {
     final var connector = new OpensearchConnector(configuration);
     client = connector.createClient();
+    // shares the transport, and thus the connection pool, with the synchronous client
+    asyncClient = new OpenSearchAsyncClient(client._transport(), client._transportOptions());
     objectMapper = connector.objectMapper();
     searchEngineClient = new OpensearchEngineClient(client, objectMapper);
     entityCacheLoader = new OpensearchExporterEntityCacheProvider(client);
@@ -54,7 +58,7 @@ class OpensearchAdapter implements ClientAdapter {
   @Override
   public BatchRequest createBatchRequest() {
     return new OpensearchBatchRequest(
-        client, new BulkRequest.Builder(), new OpensearchScriptBuilder());
+        client, asyncClient, new BulkRequest.Builder(), new OpensearchScriptBuilder());
   }
 
   @Override
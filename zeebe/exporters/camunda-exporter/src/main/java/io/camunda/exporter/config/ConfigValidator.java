@@ -115,6 +115,13 @@ public final class ConfigValidator {
               + delayBetweenRuns);
     }
 
+    final int maxInFlightRequests = configuration.getBulk().getMaxInFlightRequests();
+    if (maxInFlightRequests < 1) {
+      throw new ExporterException(
+          "CamundaExporter bulk.maxInFlightRequests must be >= 1. Current value: "
+              + maxInFlightRequests);
+    }
+
     final int processCacheMaxCacheSize = configuration.getProcessCache().getMaxCacheSize();
     if (processCacheMaxCacheSize < 1) {
       throw new ExporterException(
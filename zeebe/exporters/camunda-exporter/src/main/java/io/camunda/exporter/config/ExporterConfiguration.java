@@ -146,6 +146,8 @@ public class ExporterConfiguration {
     private int size = 1_000;
     // bulk memory utilisation before flush (in Mb)
     private int memoryLimit = 20;
+    // how many bulk requests may be sent concurrently; with 1, each bulk is flushed synchronously
+    private int maxInFlightRequests = 1;
 
     public int getDelay() {
       return delay;
@@ -172,6 +174,8 @@ public class ExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
 
@@ -182,6 +186,14 @@ public class ExporterConfiguration {
     public void setMemoryLimit(final int memoryLimit) {
       this.memoryLimit = memoryLimit;
     }
+
+    public int getMaxInFlightRequests() {
+      return maxInFlightRequests;
+    }
+
+    public void setMaxInFlightRequests(final int maxInFlightRequests) {
+      this.maxInFlightRequests = maxInFlightRequests;
+    }
   }
 
   public static class HistoryConfiguration {
@@ -12,6 +12,7 @@ import io.camunda.exporter.exceptions.PersistenceException;
 import io.camunda.exporter.metrics.CamundaExporterMetrics;
 import io.camunda.webapps.schema.entities.ExporterEntity;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 
 /** A {@link BatchRequest} contains updates to one or more {@link ExporterEntity} */
@@ -77,4 +78,25 @@ public interface BatchRequest {
   }
 
   void executeWithRefresh() throws PersistenceException;
+
+  /**
+   * Sends all updates in this batch without waiting for the response. The response must then be
+   * validated via {@link #awaitResponse(BiConsumer)}. If it failed, the same updates can be sent
+   * again via {@link #execute(BiConsumer)}.
+   *
+   * @return a future which is completed once the response was received or the request failed; it is
+   *     never completed exceptionally
+   */
+  CompletableFuture<Void> executeAsync();
+
+  /**
+   * Waits for the response of a batch sent via {@link #executeAsync()} and validates it on the
+   * calling thread, with the same semantics as {@link #execute(BiConsumer)}.
+   *
+   * @param customErrorHandlers see {@link #execute(BiConsumer)}
+   * @throws PersistenceException if the request failed, or if any update failed without a custom
+   *     error handler
+   */
+  void awaitResponse(final BiConsumer<String, Error> customErrorHandlers)
+      throws PersistenceException;
 }
@@ -7,6 +7,7 @@
  */
 package io.camunda.exporter.store;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.Refresh;
@@ -23,6 +24,8 @@ import java.io.IOException;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -34,15 +37,27 @@ public class ElasticsearchBatchRequest implements BatchRequest {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ElasticsearchBatchRequest.class);
   private final ElasticsearchClient esClient;
+  private final ElasticsearchAsyncClient esAsyncClient;
   private final BulkRequest.Builder bulkRequestBuilder;
   private final ElasticsearchScriptBuilder scriptBuilder;
   private CamundaExporterMetrics metrics;
+  private BulkRequest bulkRequest;
+  private CompletableFuture<BulkResponse> pendingResponse;
 
   public ElasticsearchBatchRequest(
       final ElasticsearchClient esClient,
       final BulkRequest.Builder bulkRequestBuilder,
       final ElasticsearchScriptBuilder scriptBuilder) {
+    this(esClient, null, bulkRequestBuilder, scriptBuilder);
+  }
+
+  public ElasticsearchBatchRequest(
+      final ElasticsearchClient esClient,
+      final ElasticsearchAsyncClient esAsyncClient,
+      final BulkRequest.Builder bulkRequestBuilder,
+      final ElasticsearchScriptBuilder scriptBuilder) {
     this.esClient = esClient;
+    this.esAsyncClient = esAsyncClient;
     this.bulkRequestBuilder = bulkRequestBuilder;
     this.scriptBuilder = scriptBuilder;
   }
@@ -244,13 +259,49 @@ public class ElasticsearchBatchRequest implements BatchRequest {
     execute(null, true);
   }
 
+  @Override
+  public CompletableFuture<Void> executeAsync() {
+    if (esAsyncClient == null) {
+      throw new IllegalStateException(
+          "Expected an asynchronous Elasticsearch client to execute the bulk request asynchronously, but none was configured");
+    }
+
+    final BulkRequest request = buildRequest(false);
+    if (request.operations().isEmpty()) {
+      pendingResponse = CompletableFuture.completedFuture(null);
+    } else {
+      pendingResponse = esAsyncClient.bulk(request);
+    }
+
+    return pendingResponse.handle((response, error) -> null);
+  }
+
+  @Override
+  public void awaitResponse(final BiConsumer<String, Error> customErrorHandlers)
+      throws PersistenceException {
+    if (pendingResponse == null) {
+      throw new IllegalStateException(
+          "Expected to await the response of an asynchronously executed bulk request, but it was not executed yet");
+    }
+
+    final BulkResponse bulkResponse;
+    try {
+      bulkResponse = pendingResponse.join();
+    } catch (final CompletionException ex) {
+      final Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+      throw new PersistenceException(
+          "Error when processing bulk request against Elasticsearch: " + cause.getMessage(), cause);
+    }
+
+    if (bulkResponse != null) {
+      validateNoErrors(bulkResponse.items(), customErrorHandlers);
+    }
+  }
+
   private void execute(
       final BiConsumer<String, Error> customErrorHandlers, final boolean shouldRefresh)
       throws PersistenceException {
-    if (shouldRefresh) {
-      bulkRequestBuilder.refresh(Refresh.True);
-    }
-    final BulkRequest bulkRequest = bulkRequestBuilder.build();
+    final BulkRequest bulkRequest = buildRequest(shouldRefresh);
     if (bulkRequest.operations().isEmpty()) {
       return;
     }
@@ -265,6 +316,20 @@ public class ElasticsearchBatchRequest implements BatchRequest {
     }
   }
 
+  /**
+   * Builds the bulk request only once, such that a request whose asynchronous execution failed can
+   * be retried by executing it again.
+   */
+  private BulkRequest buildRequest(final boolean shouldRefresh) {
+    if (bulkRequest == null) {
+      if (shouldRefresh) {
+        bulkRequestBuilder.refresh(Refresh.True);
+      }
+      bulkRequest = bulkRequestBuilder.build();
+    }
+    return bulkRequest;
+  }
+
   private void validateNoErrors(
       final List<BulkResponseItem> items, final BiConsumer<String, Error> customErrorHandlers) {
     final var errorItems = items.stream().filter(item -> item.error() != null).toList();
@@ -21,6 +21,7 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -31,8 +32,10 @@ import java.util.function.BiConsumer;
 @SuppressWarnings({"rawtypes", "unchecked"})
 public final class ExporterBatchWriter {
   private final Map<EntityIdAndEntityType, EntityAndHandlers> cachedEntities = new HashMap<>();
-  private final Map<EntityIdAndEntityType, Long> cachedEntitySizes = new HashMap<>();
   private final Map<Long, Long> cachedRecordTimestamps = new HashMap<>();
+  // the sum of the estimated sizes of all cached entities, updated by the difference whenever an
+  // entity is updated, such that checking the memory limit doesn't iterate over the whole batch
+  private long batchMemoryEstimate;
 
   private final Map<ValueType, List<ExportHandler>> handlers;
   private final BiConsumer<String, Error> customErrorHandler;
@@ -77,36 +80,68 @@ public final class ExporterBatchWriter {
     handler.updateEntity(record, entity);
     cachedRecordTimestamps.put(record.getPosition(), record.getTimestamp());
 
-    cachedEntitySizes.put(cacheKey, EntitySizeEstimator.estimateEntitySize(entity));
+    final long estimatedSize = EntitySizeEstimator.estimateEntitySize(entity);
+    batchMemoryEstimate += estimatedSize - entityAndHandlers.estimatedSize;
+    entityAndHandlers.estimatedSize = estimatedSize;
 
     // we store all handlers for an entity to make sure not to miss any flushes
     entityAndHandlers.handlers.add(handler);
   }
 
   public void flush(final BatchRequest batchRequest) throws PersistenceException {
-    // some handlers modify the same entity (e.g. list view flow node instances are
-    // updated from process instance and incident records)
-    //
-    // the handler that modified the entity last will also flush it
     if (cachedEntities.isEmpty()) {
       return;
     }
 
+    addCachedEntities(batchRequest);
+    batchRequest.execute(customErrorHandler);
+    observeRecordTimestamps();
+    reset();
+  }
+
+  /**
+   * Adds all cached entities to the given request and sends it without waiting for the response,
+   * such that the writer can already cache the entities of the next batch.
+   *
+   * <p>As the entities of the next batch are created anew, and only contain the changes of the next
+   * records, a batch must not be sent while an in-flight batch updates the same entities, see
+   * {@link #updatesAnyEntityOf(InFlightBatch)}. Otherwise, the older batch may be applied last.
+   */
+  public InFlightBatch flushAsync(final BatchRequest batchRequest) throws PersistenceException {
+    addCachedEntities(batchRequest);
+
+    final var batch =
+        new InFlightBatch(
+            batchRequest,
+            new HashSet<>(cachedEntities.keySet()),
+            new ArrayList<>(cachedRecordTimestamps.values()),
+            customErrorHandler,
+            metrics);
+    cachedRecordTimestamps.clear();
+    reset();
+    return batch;
+  }
+
+  /** Returns true if any of the currently cached entities is also updated by the given batch. */
+  public boolean updatesAnyEntityOf(final InFlightBatch batch) {
+    return batch.updatesAnyOf(cachedEntities.keySet());
+  }
+
+  private void addCachedEntities(final BatchRequest batchRequest) {
+    // some handlers modify the same entity (e.g. list view flow node instances are
+    // updated from process instance and incident records)
+    //
+    // the handler that modified the entity last will also flush it
     for (final var entityAndHandler : cachedEntities.values()) {
       final ExporterEntity entity = entityAndHandler.entity();
       for (final var handler : entityAndHandler.handlers()) {
         handler.flush(entity, batchRequest);
       }
     }
-
-    batchRequest.execute(customErrorHandler);
-    observeRecordTimestamps();
-    reset();
   }
 
   public int getBatchMemoryEstimateInMb() {
-    return (int) cachedEntitySizes.values().stream().mapToLong(Long::longValue).sum()
-        / (1024 * 1024);
+    return (int) (batchMemoryEstimate / (1024 * 1024));
   }
 
   private void observeRecordTimestamps() {
@@ -121,7 +156,7 @@ public final class ExporterBatchWriter {
 
   private void reset() {
     cachedEntities.clear();
-    cachedEntitySizes.clear();
+    batchMemoryEstimate = 0;
   }
 
   public static final class Builder {
@@ -159,7 +194,24 @@ public final class ExporterBatchWriter {
     }
   }
 
-  private record EntityIdAndEntityType(String entityId, Class<?> entityType) {}
+  record EntityIdAndEntityType(String entityId, Class<?> entityType) {}
 
-  private record EntityAndHandlers(ExporterEntity entity, Set<ExportHandler> handlers) {}
+  private static final class EntityAndHandlers {
+    private final ExporterEntity entity;
+    private final Set<ExportHandler> handlers;
+    private long estimatedSize;
+
+    private EntityAndHandlers(final ExporterEntity entity, final Set<ExportHandler> handlers) {
+      this.entity = entity;
+      this.handlers = handlers;
+    }
+
+    private ExporterEntity entity() {
+      return entity;
+    }
+
+    private Set<ExportHandler> handlers() {
+      return handlers;
+    }
+  }
 }
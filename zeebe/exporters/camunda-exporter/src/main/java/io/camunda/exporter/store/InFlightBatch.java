@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.store;
+
+import io.camunda.exporter.errorhandling.Error;
+import io.camunda.exporter.exceptions.PersistenceException;
+import io.camunda.exporter.metrics.CamundaExporterMetrics;
+import io.camunda.exporter.store.ExporterBatchWriter.EntityIdAndEntityType;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+/**
+ * A batch which was sent asynchronously by {@link ExporterBatchWriter#flushAsync(BatchRequest)},
+ * and whose response was not yet handled.
+ *
+ * <p>The response is only validated when the batch is completed via {@link #complete()}, on the
+ * calling thread, such that custom error handlers never run concurrently with the exporter. If the
+ * batch failed, completing it again re-sends the same updates synchronously.
+ */
+public final class InFlightBatch {
+  private final BatchRequest request;
+  private final Set<EntityIdAndEntityType> entities;
+  private final List<Long> recordTimestamps;
+  private final BiConsumer<String, Error> customErrorHandler;
+  private final CamundaExporterMetrics metrics;
+  private final CompletableFuture<Void> response;
+  private boolean failed;
+
+  InFlightBatch(
+      final BatchRequest request,
+      final Set<EntityIdAndEntityType> entities,
+      final List<Long> recordTimestamps,
+      final BiConsumer<String, Error> customErrorHandler,
+      final CamundaExporterMetrics metrics) {
+    this.request = request;
+    this.entities = entities;
+    this.recordTimestamps = recordTimestamps;
+    this.customErrorHandler = customErrorHandler;
+    this.metrics = metrics;
+    response = request.executeAsync();
+  }
+
+  /** Returns true if the response was received, i.e. {@link #complete()} won't block. */
+  public boolean isDone() {
+    return failed || response.isDone();
+  }
+
+  /**
+   * Waits for the response of the batch and validates it. If the batch failed before, it is sent
+   * again and the call blocks until it was applied.
+   *
+   * @throws PersistenceException if the batch failed; it can be completed again to retry it
+   */
+  public void complete() throws PersistenceException {
+    try {
+      if (failed) {
+        request.execute(customErrorHandler);
+      } else {
+        request.awaitResponse(customErrorHandler);
+      }
+    } catch (final PersistenceException e) {
+      failed = true;
+      throw e;
+    }
+
+    metrics.observeRecordExportLatencies(recordTimestamps);
+  }
+
+  boolean updatesAnyOf(final Set<EntityIdAndEntityType> otherEntities) {
+    if (otherEntities.size() < entities.size()) {
+      return otherEntities.stream().anyMatch(entities::contains);
+    }
+    return entities.stream().anyMatch(otherEntities::contains);
+  }
+}
@@ -16,8 +16,11 @@ import java.io.IOException;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.OpenSearchException;
 import org.opensearch.client.opensearch._types.Refresh;
@@ -34,15 +37,27 @@ public class OpensearchBatchRequest implements BatchRequest {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(OpensearchBatchRequest.class);
   private final OpenSearchClient osClient;
+  private final OpenSearchAsyncClient osAsyncClient;
   private final BulkRequest.Builder bulkRequestBuilder;
   private final OpensearchScriptBuilder scriptBuilder;
   private CamundaExporterMetrics metrics;
+  private BulkRequest bulkRequest;
+  private CompletableFuture<BulkResponse> pendingResponse;
 
   public OpensearchBatchRequest(
       final OpenSearchClient osClient,
       final BulkRequest.Builder bulkRequestBuilder,
       final OpensearchScriptBuilder scriptBuilder) {
+    this(osClient, null, bulkRequestBuilder, scriptBuilder);
+  }
+
+  public OpensearchBatchRequest(
+      final OpenSearchClient osClient,
+      final OpenSearchAsyncClient osAsyncClient,
+      final BulkRequest.Builder bulkRequestBuilder,
+      final OpensearchScriptBuilder scriptBuilder) {
     this.osClient = osClient;
+    this.osAsyncClient = osAsyncClient;
     this.bulkRequestBuilder = bulkRequestBuilder;
     this.scriptBuilder = scriptBuilder;
   }
@@ -237,14 +252,67 @@ public class OpensearchBatchRequest implements BatchRequest {
     execute(null, true);
   }
 
+  @Override
+  public CompletableFuture<Void> executeAsync() {
+    if (osAsyncClient == null) {
+      throw new IllegalStateException(
+          "Expected an asynchronous OpenSearch client to execute the bulk request asynchronously, but none was configured");
+    }
+
+    final BulkRequest request = buildRequest(false);
+    if (request.operations().isEmpty()) {
+      pendingResponse = CompletableFuture.completedFuture(null);
+    } else {
+      try {
+        pendingResponse = osAsyncClient.bulk(request);
+      } catch (final IOException | OpenSearchException ex) {
+        pendingResponse = CompletableFuture.failedFuture(ex);
+      }
+    }
+
+    return pendingResponse.handle((response, error) -> null);
+  }
+
+  @Override
+  public void awaitResponse(final BiConsumer<String, Error> customErrorHandlers)
+      throws PersistenceException {
+    if (pendingResponse == null) {
+      throw new IllegalStateException(
+          "Expected to await the response of an asynchronously executed bulk request, but it was not executed yet");
+    }
+
+    final BulkResponse bulkResponse;
+    try {
+      bulkResponse = pendingResponse.join();
+    } catch (final CompletionException ex) {
+      final Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+      throw new PersistenceException(
+          "Error when processing bulk request against OpenSearch: " + cause.getMessage(), cause);
+    }
+
+    if (bulkResponse != null) {
+      validateNoErrors(bulkResponse.items(), customErrorHandlers);
+    }
+  }
+
   private void execute(
       final BiConsumer<String, Error> customErrorHandlers, final boolean shouldRefresh)
       throws PersistenceException {
-    if (shouldRefresh) {
-      bulkRequestBuilder.refresh(Refresh.True);
+    processBulkRequest(buildRequest(shouldRefresh), customErrorHandlers);
+  }
+
+  /**
+   * Builds the bulk request only once, such that a request whose asynchronous execution failed can
+   * be retried by executing it again.
+   */
+  private BulkRequest buildRequest(final boolean shouldRefresh) {
+    if (bulkRequest == null) {
+      if (shouldRefresh) {
+        bulkRequestBuilder.refresh(Refresh.True);
+      }
+      bulkRequest = bulkRequestBuilder.build();
     }
-    final BulkRequest bulkRequest = bulkRequestBuilder.build();
-    processBulkRequest(bulkRequest, customErrorHandlers);
+    return bulkRequest;
   }
 
   private void processBulkRequest(
@@ -10,7 +10,6 @@ package io.camunda.exporter.utils;
 import com.esotericsoftware.kryo.Kryo;
 import com.esotericsoftware.kryo.io.Output;
 import io.camunda.webapps.schema.entities.ExporterEntity;
-import org.apache.commons.io.output.CountingOutputStream;
 import org.apache.commons.io.output.NullOutputStream;
 
 public class EntitySizeEstimator {
@@ -24,21 +23,24 @@ public class EntitySizeEstimator {
             return kryo;
           });
 
+  // the output only counts the written bytes and discards them, so its 8KB buffer can be reused
+  // for every estimation instead of being allocated per entity
+  private static final ThreadLocal<Output> THREAD_LOCAL_OUTPUT =
+      ThreadLocal.withInitial(() -> new Output(NullOutputStream.INSTANCE, 8192));
+
   public static long estimateEntitySize(final ExporterEntity<?> entity) {
     final Kryo kryo = THREAD_LOCAL_KRYO.get();
+    final Output output = THREAD_LOCAL_OUTPUT.get();
 
-    try (final CountingOutputStream countingStream =
-            new CountingOutputStream(NullOutputStream.INSTANCE);
-        final Output output = new Output(countingStream, 8192)) { // 8KB buffer
-
+    try {
+      output.reset();
       kryo.writeObject(output, entity);
-
-      // Optionally reset Kryo to clear internal references after large objects
-      kryo.reset();
-
-      return countingStream.getByteCount();
+      return output.total();
     } catch (final Exception e) {
       throw new RuntimeException("Failed to estimate object size", e);
+    } finally {
+      // Optionally reset Kryo to clear internal references after large objects
+      kryo.reset();
     }
   }
 }
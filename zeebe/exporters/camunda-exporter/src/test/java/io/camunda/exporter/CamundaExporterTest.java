@@ -7,11 +7,19 @@
  */
 package io.camunda.exporter;
 
+import static io.camunda.zeebe.protocol.record.ValueType.NULL_VAL;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.benmanes.caffeine.cache.CacheLoader;
@@ -19,16 +27,27 @@ import io.camunda.exporter.adapters.ClientAdapter;
 import io.camunda.exporter.cache.ExporterEntityCacheProvider;
 import io.camunda.exporter.cache.form.CachedFormEntity;
 import io.camunda.exporter.config.ExporterConfiguration;
+import io.camunda.exporter.entities.TestExporterEntity;
+import io.camunda.exporter.exceptions.PersistenceException;
+import io.camunda.exporter.handlers.ExportHandler;
 import io.camunda.exporter.store.BatchRequest;
+import io.camunda.protocol.TestRecord;
+import io.camunda.protocol.TestValue;
 import io.camunda.search.schema.SearchEngineClient;
 import io.camunda.search.test.utils.TestObjectMapper;
 import io.camunda.webapps.schema.entities.usertask.TaskEntity.TaskImplementation;
+import io.camunda.zeebe.exporter.api.ExporterException;
 import io.camunda.zeebe.exporter.common.cache.batchoperation.CachedBatchOperationEntity;
 import io.camunda.zeebe.exporter.common.cache.process.CachedProcessEntity;
 import io.camunda.zeebe.exporter.test.ExporterTestConfiguration;
 import io.camunda.zeebe.exporter.test.ExporterTestContext;
 import io.camunda.zeebe.exporter.test.ExporterTestController;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.BeforeEach;
@@ -49,7 +68,7 @@ final class CamundaExporterTest {
       new ExporterTestContext()
           .setConfiguration(new ExporterTestConfiguration<>("test", configuration));
   private final ExporterTestController testController = new ExporterTestController();
-  private ClientAdapter stubbedClientAdapterInUse;
+  private StubClientAdapter stubbedClientAdapterInUse;
 
   @SuppressWarnings("FieldCanBeLocal")
   @AutoClose
@@ -98,6 +117,11 @@ final class CamundaExporterTest {
         mock(
             SearchEngineClient.class,
             Mockito.withSettings().defaultAnswer(Answers.RETURNS_SMART_NULLS));
+    private Supplier<BatchRequest> batchRequestFactory =
+        () ->
+            mock(
+                BatchRequest.class,
+                Mockito.withSettings().defaultAnswer(Answers.RETURNS_SMART_NULLS));
 
     @Override
     public ObjectMapper objectMapper() {
@@ -111,8 +135,7 @@ final class CamundaExporterTest {
 
     @Override
     public BatchRequest createBatchRequest() {
-      return mock(
-          BatchRequest.class, Mockito.withSettings().defaultAnswer(Answers.RETURNS_SMART_NULLS));
+      return batchRequestFactory.get();
     }
 
     @Override
@@ -176,4 +199,127 @@ final class CamundaExporterTest {
       assertThat(actual.getFirstUserTaskKey(TaskImplementation.ZEEBE_USER_TASK)).isEqualTo(10);
     }
   }
+
+  @Nested
+  final class AsyncFlushTest {
+    private final ExportHandler<TestExporterEntity, TestValue> handler = mock(ExportHandler.class);
+    private final List<BatchRequest> batchRequests = new ArrayList<>();
+    private final List<CompletableFuture<Void>> responses = new ArrayList<>();
+
+    @BeforeEach
+    void beforeEach() {
+      configuration.getBulk().setSize(1);
+      configuration.getBulk().setMaxInFlightRequests(2);
+
+      when(handler.getHandledValueType()).thenReturn(NULL_VAL);
+      when(handler.getEntityType()).thenReturn(TestExporterEntity.class);
+      when(handler.handlesRecord(any())).thenReturn(true);
+      when(handler.createNewEntity(any()))
+          .thenAnswer(invocation -> new TestExporterEntity().setId(invocation.getArgument(0)));
+      doReturn(Set.of(handler)).when(resourceProvider).getExportHandlers();
+
+      stubbedClientAdapterInUse.batchRequestFactory =
+          () -> {
+            final var batchRequest = mock(BatchRequest.class);
+            final var response = new CompletableFuture<Void>();
+            when(batchRequest.withMetrics(any())).thenReturn(batchRequest);
+            when(batchRequest.executeAsync()).thenReturn(response);
+            batchRequests.add(batchRequest);
+            responses.add(response);
+            return batchRequest;
+          };
+
+      exporter = new CamundaExporter(resourceProvider);
+      exporter.configure(testContext);
+      exporter.open(testController);
+    }
+
+    @Test
+    void shouldOnlyUpdatePositionOnceAllPreviousBulksAreAcknowledged() {
+      // given
+      updateEntityPerRecord();
+      exporter.export(new TestRecord(1, NULL_VAL));
+      exporter.export(new TestRecord(2, NULL_VAL));
+
+      // when
+      responses.get(1).complete(null);
+      testController.runScheduledTasks(Duration.ofHours(1));
+
+      // then
+      assertThat(batchRequests).hasSize(2);
+      assertThat(testController.getPosition()).isEqualTo(-1);
+
+      // when
+      responses.get(0).complete(null);
+      testController.runScheduledTasks(Duration.ofHours(1));
+
+      // then
+      assertThat(testController.getPosition()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldAwaitOldestBulkWhenMaxInFlightRequestsIsReached() throws PersistenceException {
+      // given
+      updateEntityPerRecord();
+      exporter.export(new TestRecord(1, NULL_VAL));
+      exporter.export(new TestRecord(2, NULL_VAL));
+
+      // when
+      exporter.export(new TestRecord(3, NULL_VAL));
+
+      // then
+      final var inOrder = inOrder(batchRequests.toArray());
+      inOrder.verify(batchRequests.get(0)).awaitResponse(any());
+      inOrder.verify(batchRequests.get(2)).executeAsync();
+      verify(batchRequests.get(1), never()).awaitResponse(any());
+      assertThat(testController.getPosition()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAwaitInFlightBulkUpdatingTheSameEntity() throws PersistenceException {
+      // given
+      when(handler.generateIds(any())).thenReturn(List.of("1"));
+      exporter.export(new TestRecord(1, NULL_VAL));
+
+      // when
+      exporter.export(new TestRecord(2, NULL_VAL));
+
+      // then
+      final var inOrder = inOrder(batchRequests.toArray());
+      inOrder.verify(batchRequests.get(0)).awaitResponse(any());
+      inOrder.verify(batchRequests.get(1)).executeAsync();
+      assertThat(testController.getPosition()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRetryFailedBulkBeforeUpdatingPosition() throws PersistenceException {
+      // given
+      updateEntityPerRecord();
+      exporter.export(new TestRecord(1, NULL_VAL));
+      final var failedRequest = batchRequests.getFirst();
+      doThrow(new PersistenceException("expected")).when(failedRequest).awaitResponse(any());
+      responses.getFirst().complete(null);
+
+      // when
+      final var record = new TestRecord(2, NULL_VAL);
+      assertThatThrownBy(() -> exporter.export(record)).isInstanceOf(ExporterException.class);
+
+      // then
+      assertThat(testController.getPosition()).isEqualTo(-1);
+
+      // when
+      exporter.export(record);
+
+      // then
+      verify(failedRequest).execute(any());
+      assertThat(testController.getPosition()).isEqualTo(1);
+    }
+
+    private void updateEntityPerRecord() {
+      when(handler.generateIds(any()))
+          .thenAnswer(
+              invocation ->
+                  List.of(String.valueOf(invocation.<TestRecord>getArgument(0).getPosition())));
+    }
+  }
 }
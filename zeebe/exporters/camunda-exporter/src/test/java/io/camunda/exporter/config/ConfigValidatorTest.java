@@ -142,6 +142,18 @@ public class ConfigValidatorTest {
             "CamundaExporter archiver.delayBetweenRuns must be >= 1. Current value: 0");
   }
 
+  @Test
+  void shouldForbidMaxInFlightRequestsToBeLessThanOne() {
+    // given
+    config.getBulk().setMaxInFlightRequests(0);
+
+    // when - then
+    assertThatCode(() -> ConfigValidator.validate(config))
+        .isInstanceOf(ExporterException.class)
+        .hasMessageContaining(
+            "CamundaExporter bulk.maxInFlightRequests must be >= 1. Current value: 0");
+  }
+
   @Test
   void shouldAssureRolloverIntervalToBeValid() {
     // given
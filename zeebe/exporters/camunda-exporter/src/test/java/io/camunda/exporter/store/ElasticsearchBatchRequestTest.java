@@ -11,9 +11,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.ErrorCause;
@@ -33,6 +35,7 @@ import io.camunda.exporter.utils.ElasticsearchScriptBuilder;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeEach;
@@ -480,4 +483,67 @@ class ElasticsearchBatchRequestTest {
     verify(errorHandler)
         .accept(INDEX_WITH_HANDLER, new Error(message, item.error().type(), notFound));
   }
+
+  @Test
+  void shouldValidateResponseOfAsynchronousExecutionOnAwait() throws IOException {
+    // given
+    final ElasticsearchAsyncClient asyncClient = mock(ElasticsearchAsyncClient.class);
+    final CompletableFuture<BulkResponse> response = new CompletableFuture<>();
+    when(asyncClient.bulk(any(BulkRequest.class))).thenReturn(response);
+    final var asyncBatchRequest =
+        new ElasticsearchBatchRequest(
+            elasticsearchClient, asyncClient, new Builder(), scriptBuilder);
+    asyncBatchRequest.add(INDEX, new TestExporterEntity().setId(ID));
+
+    // when
+    final CompletableFuture<Void> executed = asyncBatchRequest.executeAsync();
+
+    // then
+    assertThat(executed).isNotDone();
+    verify(asyncClient).bulk(any(BulkRequest.class));
+    verify(elasticsearchClient, never()).bulk(any(BulkRequest.class));
+
+    // when
+    final BulkResponseItem item = mock(BulkResponseItem.class);
+    when(item.error()).thenReturn(new ErrorCause.Builder().reason("error").build());
+    final BulkResponse bulkResponse = mock(BulkResponse.class);
+    when(bulkResponse.items()).thenReturn(List.of(item));
+    response.complete(bulkResponse);
+
+    // then
+    assertThat(executed).isCompleted();
+    assertThatThrownBy(() -> asyncBatchRequest.awaitResponse(null))
+        .isInstanceOf(PersistenceException.class);
+  }
+
+  @Test
+  void shouldResendSameRequestWhenRetryingFailedAsynchronousExecution() throws IOException {
+    // given
+    final ElasticsearchAsyncClient asyncClient = mock(ElasticsearchAsyncClient.class);
+    when(asyncClient.bulk(any(BulkRequest.class)))
+        .thenReturn(CompletableFuture.failedFuture(new IOException("expected")));
+    final var asyncBatchRequest =
+        new ElasticsearchBatchRequest(
+            elasticsearchClient, asyncClient, new Builder(), scriptBuilder);
+    asyncBatchRequest.add(INDEX, new TestExporterEntity().setId(ID));
+
+    // when
+    final CompletableFuture<Void> executed = asyncBatchRequest.executeAsync();
+
+    // then
+    assertThat(executed).isCompleted();
+    assertThatThrownBy(() -> asyncBatchRequest.awaitResponse(null))
+        .isInstanceOf(PersistenceException.class)
+        .hasMessageContaining("expected");
+
+    // when
+    asyncBatchRequest.execute();
+
+    // then
+    final ArgumentCaptor<BulkRequest> asyncCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+    verify(asyncClient).bulk(asyncCaptor.capture());
+    final ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+    verify(elasticsearchClient).bulk(captor.capture());
+    assertThat(captor.getValue()).isSameAs(asyncCaptor.getValue());
+  }
 }
@@ -0,0 +1,300 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.store;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import io.camunda.exporter.DefaultExporterResourceProvider;
+import io.camunda.exporter.ExporterMetadata;
+import io.camunda.exporter.cache.ExporterEntityCacheProvider;
+import io.camunda.exporter.cache.form.CachedFormEntity;
+import io.camunda.exporter.config.ExporterConfiguration;
+import io.camunda.exporter.metrics.CamundaExporterMetrics;
+import io.camunda.search.test.utils.TestObjectMapper;
+import io.camunda.zeebe.exporter.common.cache.batchoperation.CachedBatchOperationEntity;
+import io.camunda.zeebe.exporter.common.cache.process.CachedProcessEntity;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ImmutableProcessInstanceRecordValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how many records per second the {@link ExporterBatchWriter} handles, using the default
+ * export handlers and the process instance records of a simple process (start event, service task,
+ * end event). Bulks are flushed like the exporter does, i.e. when the bulk size or the memory limit
+ * is reached, to a batch request which discards the updates, such that only the writer itself is
+ * measured. Run with JMH's {@code gc} profiler to see the allocation per record.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ExporterBatchWriterPerformanceTest {
+  private static final int PROCESS_INSTANCES = 500;
+  private static final int RECORDS_PER_INSTANCE = 18;
+  private static final int RECORDS = PROCESS_INSTANCES * RECORDS_PER_INSTANCE;
+
+  private final ProtocolFactory factory = new ProtocolFactory();
+  private final List<Record<?>> records = new ArrayList<>(RECORDS);
+  private final ExporterConfiguration configuration = new ExporterConfiguration();
+  private ExporterBatchWriter writer;
+  private BatchRequest batchRequest;
+  private long position;
+  private long key;
+
+  @Setup
+  public void setup() {
+    // the test logging configuration logs every added flow node on debug level, which would
+    // dominate the measurement
+    Configurator.setLevel("io.camunda", Level.INFO);
+
+    final var provider = new DefaultExporterResourceProvider();
+    provider.init(
+        configuration,
+        new NoopExporterEntityCacheProvider(),
+        new SimpleMeterRegistry(),
+        new ExporterMetadata(TestObjectMapper.objectMapper()),
+        TestObjectMapper.objectMapper());
+
+    final var builder =
+        ExporterBatchWriter.Builder.begin(new CamundaExporterMetrics(new SimpleMeterRegistry()));
+    provider.getExportHandlers().forEach(builder::withHandler);
+    writer = builder.build();
+    // stub only, such that the mock doesn't record the invocations of all iterations
+    batchRequest = mock(BatchRequest.class, withSettings().stubOnly());
+
+    for (int i = 0; i < PROCESS_INSTANCES; i++) {
+      generateProcessInstance();
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public void measureAddRecords(final Blackhole blackhole) {
+    for (final Record<?> record : records) {
+      writer.addRecord(record);
+
+      if (writer.getBatchSize() >= configuration.getBulk().getSize()
+          || writer.getBatchMemoryEstimateInMb() >= configuration.getBulk().getMemoryLimit()) {
+        writer.flush(batchRequest);
+      }
+    }
+
+    blackhole.consume(writer.getBatchSize());
+    writer.flush(batchRequest);
+  }
+
+  @JMHTest("measureAddRecords")
+  void shouldAddRecords(final JMHTestCase testCase) {
+    // given - an ops/s score as measured locally, i.e. records added per second
+    // when running this test on different hardware, you're likely to have a different score
+    final var referenceScore = 350_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private void generateProcessInstance() {
+    final long processInstanceKey = ++key;
+    final long processDefinitionKey = factory.generateObject(Long.class);
+
+    final long startEventKey = ++key;
+    final long serviceTaskKey = ++key;
+    final long endEventKey = ++key;
+
+    generateElementLifecycle(
+        processDefinitionKey,
+        processInstanceKey,
+        processInstanceKey,
+        -1,
+        "process",
+        BpmnElementType.PROCESS,
+        true);
+    generateElementLifecycle(
+        processDefinitionKey,
+        processInstanceKey,
+        startEventKey,
+        processInstanceKey,
+        "start",
+        BpmnElementType.START_EVENT,
+        false);
+    generateRecord(
+        processDefinitionKey,
+        processInstanceKey,
+        ++key,
+        processInstanceKey,
+        "flow-1",
+        BpmnElementType.SEQUENCE_FLOW,
+        ProcessInstanceIntent.SEQUENCE_FLOW_TAKEN);
+    generateElementLifecycle(
+        processDefinitionKey,
+        processInstanceKey,
+        serviceTaskKey,
+        processInstanceKey,
+        "task",
+        BpmnElementType.SERVICE_TASK,
+        false);
+    generateRecord(
+        processDefinitionKey,
+        processInstanceKey,
+        ++key,
+        processInstanceKey,
+        "flow-2",
+        BpmnElementType.SEQUENCE_FLOW,
+        ProcessInstanceIntent.SEQUENCE_FLOW_TAKEN);
+    generateElementLifecycle(
+        processDefinitionKey,
+        processInstanceKey,
+        endEventKey,
+        processInstanceKey,
+        "end",
+        BpmnElementType.END_EVENT,
+        false);
+  }
+
+  /**
+   * Generates the activation and completion of an element; for the process itself, the completion
+   * is generated after all records of its children were generated.
+   */
+  private void generateElementLifecycle(
+      final long processDefinitionKey,
+      final long processInstanceKey,
+      final long elementInstanceKey,
+      final long flowScopeKey,
+      final String elementId,
+      final BpmnElementType elementType,
+      final boolean isProcess) {
+    final var intents =
+        isProcess
+            ? List.of(
+                ProcessInstanceIntent.ELEMENT_ACTIVATING, ProcessInstanceIntent.ELEMENT_ACTIVATED)
+            : List.of(
+                ProcessInstanceIntent.ELEMENT_ACTIVATING,
+                ProcessInstanceIntent.ELEMENT_ACTIVATED,
+                ProcessInstanceIntent.ELEMENT_COMPLETING,
+                ProcessInstanceIntent.ELEMENT_COMPLETED);
+    intents.forEach(
+        intent ->
+            generateRecord(
+                processDefinitionKey,
+                processInstanceKey,
+                elementInstanceKey,
+                flowScopeKey,
+                elementId,
+                elementType,
+                intent));
+
+    if (elementType == BpmnElementType.END_EVENT) {
+      // the end event completes the process
+      List.of(ProcessInstanceIntent.ELEMENT_COMPLETING, ProcessInstanceIntent.ELEMENT_COMPLETED)
+          .forEach(
+              intent ->
+                  generateRecord(
+                      processDefinitionKey,
+                      processInstanceKey,
+                      processInstanceKey,
+                      -1,
+                      "process",
+                      BpmnElementType.PROCESS,
+                      intent));
+    }
+  }
+
+  private void generateRecord(
+      final long processDefinitionKey,
+      final long processInstanceKey,
+      final long elementInstanceKey,
+      final long flowScopeKey,
+      final String elementId,
+      final BpmnElementType elementType,
+      final ProcessInstanceIntent intent) {
+    final ProcessInstanceRecordValue value =
+        ImmutableProcessInstanceRecordValue.builder()
+            .from(factory.generateObject(ProcessInstanceRecordValue.class))
+            .withBpmnProcessId("process")
+            .withProcessDefinitionKey(processDefinitionKey)
+            .withProcessInstanceKey(processInstanceKey)
+            .withFlowScopeKey(flowScopeKey)
+            .withElementId(elementId)
+            .withBpmnElementType(elementType)
+            .withParentProcessInstanceKey(-1)
+            .withParentElementInstanceKey(-1)
+            .withElementInstancePath(
+                List.of(
+                    elementInstanceKey == processInstanceKey
+                        ? List.of(processInstanceKey)
+                        : List.of(processInstanceKey, elementInstanceKey)))
+            .withProcessDefinitionPath(List.of(processDefinitionKey))
+            .withCallingElementPath(List.of())
+            .build();
+
+    records.add(
+        factory.generateRecord(
+            ValueType.PROCESS_INSTANCE,
+            r ->
+                r.withPosition(++position)
+                    .withKey(elementInstanceKey)
+                    .withRecordType(RecordType.EVENT)
+                    .withIntent(intent)
+                    .withValue(value)));
+  }
+
+  private static final class NoopExporterEntityCacheProvider
+      implements ExporterEntityCacheProvider {
+
+    @Override
+    public CacheLoader<String, CachedBatchOperationEntity> getBatchOperationCacheLoader(
+        final String batchOperationIndexName) {
+      return k -> null;
+    }
+
+    @Override
+    public CacheLoader<Long, CachedProcessEntity> getProcessCacheLoader(
+        final String processIndexName) {
+      return k -> null;
+    }
+
+    @Override
+    public CacheLoader<String, CachedFormEntity> getFormCacheLoader(final String formIndexName) {
+      return k -> null;
+    }
+  }
+}
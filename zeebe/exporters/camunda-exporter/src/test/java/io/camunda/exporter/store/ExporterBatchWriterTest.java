@@ -10,10 +10,13 @@ package io.camunda.exporter.store;
 import static io.camunda.zeebe.protocol.record.ValueType.JOB;
 import static io.camunda.zeebe.protocol.record.ValueType.NULL_VAL;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -25,6 +28,7 @@ import io.camunda.exporter.handlers.ExportHandler;
 import io.camunda.protocol.TestRecord;
 import io.camunda.protocol.TestValue;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -134,4 +138,119 @@ class ExporterBatchWriterTest {
     verify(batchRequest).execute(any());
     assertThat(batchWriter.getBatchSize()).isEqualTo(0);
   }
+
+  @Test
+  void shouldTrackBatchMemoryEstimateByLatestEntitySizes() {
+    // given
+    final TestRecord record = new TestRecord(0, NULL_VAL);
+    final TestExporterEntity entity = cacheEntity(record, "1");
+    doAnswer(invocation -> entity.setId("x".repeat(2 * 1024 * 1024)))
+        .when(handler)
+        .updateEntity(eq(record), eq(entity));
+
+    // when
+    batchWriter.addRecord(record);
+
+    // then
+    assertThat(batchWriter.getBatchMemoryEstimateInMb()).isEqualTo(2);
+
+    // when - the same entity shrinks again, its previous size is not counted anymore
+    doAnswer(invocation -> entity.setId("1")).when(handler).updateEntity(eq(record), eq(entity));
+    batchWriter.addRecord(record);
+
+    // then
+    assertThat(batchWriter.getBatchMemoryEstimateInMb()).isZero();
+  }
+
+  @Test
+  void shouldResetBatchMemoryEstimateOnFlush() throws PersistenceException {
+    // given
+    final TestRecord record = new TestRecord(0, NULL_VAL);
+    final TestExporterEntity entity = cacheEntity(record, "1");
+    doAnswer(invocation -> entity.setId("x".repeat(2 * 1024 * 1024)))
+        .when(handler)
+        .updateEntity(eq(record), eq(entity));
+    batchWriter.addRecord(record);
+
+    // when
+    batchWriter.flush(mock(BatchRequest.class));
+
+    // then
+    assertThat(batchWriter.getBatchMemoryEstimateInMb()).isZero();
+  }
+
+  @Test
+  void shouldFlushCachedEntitiesAsynchronously() throws PersistenceException {
+    // given
+    final TestExporterEntity entity = cacheEntity(new TestRecord(0, NULL_VAL), "1");
+    final BatchRequest batchRequest = mock(BatchRequest.class);
+    final CompletableFuture<Void> response = new CompletableFuture<>();
+    when(batchRequest.executeAsync()).thenReturn(response);
+
+    // when
+    final InFlightBatch batch = batchWriter.flushAsync(batchRequest);
+
+    // then
+    verify(handler).flush(entity, batchRequest);
+    verify(batchRequest).executeAsync();
+    assertThat(batchWriter.getBatchSize()).isEqualTo(0);
+    assertThat(batch.isDone()).isFalse();
+
+    // when
+    response.complete(null);
+    batch.complete();
+
+    // then
+    assertThat(batch.isDone()).isTrue();
+    verify(batchRequest).awaitResponse(any());
+    verify(batchRequest, never()).execute(any());
+  }
+
+  @Test
+  void shouldDetectEntitiesUpdatedByInFlightBatch() {
+    // given
+    final BatchRequest batchRequest = mock(BatchRequest.class);
+    when(batchRequest.executeAsync()).thenReturn(new CompletableFuture<>());
+    cacheEntity(new TestRecord(0, NULL_VAL), "1");
+    final InFlightBatch batch = batchWriter.flushAsync(batchRequest);
+
+    // when
+    cacheEntity(new TestRecord(1, NULL_VAL), "2");
+
+    // then
+    assertThat(batchWriter.updatesAnyEntityOf(batch)).isFalse();
+
+    // when
+    cacheEntity(new TestRecord(2, NULL_VAL), "1");
+
+    // then
+    assertThat(batchWriter.updatesAnyEntityOf(batch)).isTrue();
+  }
+
+  @Test
+  void shouldResendFailedInFlightBatchOnRetry() throws PersistenceException {
+    // given
+    cacheEntity(new TestRecord(0, NULL_VAL), "1");
+    final BatchRequest batchRequest = mock(BatchRequest.class);
+    when(batchRequest.executeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+    doThrow(new PersistenceException("expected")).when(batchRequest).awaitResponse(any());
+    final InFlightBatch batch = batchWriter.flushAsync(batchRequest);
+
+    // when
+    assertThatThrownBy(batch::complete).isInstanceOf(PersistenceException.class);
+    batch.complete();
+
+    // then
+    verify(batchRequest).awaitResponse(any());
+    verify(batchRequest).execute(any());
+  }
+
+  private TestExporterEntity cacheEntity(final TestRecord record, final String id) {
+    final TestExporterEntity entity = new TestExporterEntity().setId(id);
+    when(handler.handlesRecord(eq(record))).thenReturn(true);
+    when(handler.generateIds(eq(record))).thenReturn(List.of(id));
+    when(handler.createNewEntity(eq(id))).thenReturn(entity);
+    batchWriter.addRecord(record);
+    return entity;
+  }
 }
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -21,6 +22,7 @@ import io.camunda.exporter.utils.OpensearchScriptBuilder;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.ErrorCause;
 import org.opensearch.client.opensearch._types.OpenSearchException;
@@ -474,4 +477,66 @@ class OpensearchBatchRequestTest {
     verify(errorHandler)
         .accept(INDEX_WITH_HANDLER, new Error(message, item.error().type(), notFound));
   }
+
+  @Test
+  void shouldValidateResponseOfAsynchronousExecutionOnAwait() throws IOException {
+    // given
+    final OpenSearchAsyncClient asyncClient = mock(OpenSearchAsyncClient.class);
+    final CompletableFuture<BulkResponse> response = new CompletableFuture<>();
+    when(asyncClient.bulk(any(BulkRequest.class))).thenReturn(response);
+    final var asyncBatchRequest =
+        new OpensearchBatchRequest(osClient, asyncClient, new Builder(), scriptBuilder);
+    asyncBatchRequest.add(INDEX, new TestExporterEntity().setId(ID));
+
+    // when
+    final CompletableFuture<Void> executed = asyncBatchRequest.executeAsync();
+
+    // then
+    assertThat(executed).isNotDone();
+    verify(asyncClient).bulk(any(BulkRequest.class));
+    verify(osClient, never()).bulk(any(BulkRequest.class));
+
+    // when
+    final BulkResponseItem item = mock(BulkResponseItem.class);
+    when(item.error())
+        .thenReturn(new ErrorCause.Builder().type("string_error").reason("error").build());
+    final BulkResponse bulkResponse = mock(BulkResponse.class);
+    when(bulkResponse.items()).thenReturn(List.of(item));
+    response.complete(bulkResponse);
+
+    // then
+    assertThat(executed).isCompleted();
+    assertThatThrownBy(() -> asyncBatchRequest.awaitResponse(null))
+        .isInstanceOf(PersistenceException.class);
+  }
+
+  @Test
+  void shouldResendSameRequestWhenRetryingFailedAsynchronousExecution() throws IOException {
+    // given
+    final OpenSearchAsyncClient asyncClient = mock(OpenSearchAsyncClient.class);
+    when(asyncClient.bulk(any(BulkRequest.class)))
+        .thenReturn(CompletableFuture.failedFuture(new IOException("expected")));
+    final var asyncBatchRequest =
+        new OpensearchBatchRequest(osClient, asyncClient, new Builder(), scriptBuilder);
+    asyncBatchRequest.add(INDEX, new TestExporterEntity().setId(ID));
+
+    // when
+    final CompletableFuture<Void> executed = asyncBatchRequest.executeAsync();
+
+    // then
+    assertThat(executed).isCompleted();
+    assertThatThrownBy(() -> asyncBatchRequest.awaitResponse(null))
+        .isInstanceOf(PersistenceException.class)
+        .hasMessageContaining("expected");
+
+    // when
+    asyncBatchRequest.execute();
+
+    // then
+    final ArgumentCaptor<BulkRequest> asyncCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+    verify(asyncClient).bulk(asyncCaptor.capture());
+    final ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+    verify(osClient).bulk(captor.capture());
+    assertThat(captor.getValue()).isSameAs(asyncCaptor.getValue());
+  }
 }
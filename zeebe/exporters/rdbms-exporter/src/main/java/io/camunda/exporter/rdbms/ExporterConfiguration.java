@@ -21,6 +21,8 @@ public class ExporterConfiguration {
 
   private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
   private int queueSize = RdbmsWriterConfig.DEFAULT_QUEUE_SIZE;
+  private int multiRowInsertBlockSize = RdbmsWriterConfig.DEFAULT_MULTI_ROW_INSERT_BLOCK_SIZE;
+  private boolean asyncFlush = RdbmsWriterConfig.DEFAULT_ASYNC_FLUSH;
 
   private HistoryConfiguration history = new HistoryConfiguration();
 
@@ -50,6 +52,22 @@ public class ExporterConfiguration {
     this.queueSize = queueSize;
   }
 
+  public int getMultiRowInsertBlockSize() {
+    return multiRowInsertBlockSize;
+  }
+
+  public void setMultiRowInsertBlockSize(final int multiRowInsertBlockSize) {
+    this.multiRowInsertBlockSize = multiRowInsertBlockSize;
+  }
+
+  public boolean isAsyncFlush() {
+    return asyncFlush;
+  }
+
+  public void setAsyncFlush(final boolean asyncFlush) {
+    this.asyncFlush = asyncFlush;
+  }
+
   public boolean isExportBatchOperationItemsOnCreation() {
     return exportBatchOperationItemsOnCreation;
   }
@@ -104,6 +122,13 @@ public class ExporterConfiguration {
       errors.add(String.format("queueSize must be greater or equal 0 but was %d", queueSize));
     }
 
+    if (multiRowInsertBlockSize < 1) {
+      errors.add(
+          String.format(
+              "multiRowInsertBlockSize must be greater than 0 but was %d",
+              multiRowInsertBlockSize));
+    }
+
     if (batchOperationItemInsertBlockSize < 1) {
       errors.add(
           String.format(
@@ -152,6 +177,8 @@ public class ExporterConfiguration {
     return new RdbmsWriterConfig.Builder()
         .partitionId(partitionId)
         .queueSize(queueSize)
+        .multiRowInsertBlockSize(multiRowInsertBlockSize)
+        .asyncFlush(asyncFlush)
         .batchOperationItemInsertBlockSize(batchOperationItemInsertBlockSize)
         .exportBatchOperationItemsOnCreation(exportBatchOperationItemsOnCreation)
         .history(historyConfig)
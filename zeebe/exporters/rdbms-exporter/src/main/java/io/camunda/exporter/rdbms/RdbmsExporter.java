@@ -42,7 +42,9 @@ public final class RdbmsExporter {
 
   // volatile runtime properties
   private ExporterPositionModel exporterRdbmsPosition;
-  private long lastPosition = -1;
+  private volatile long lastPosition = -1;
+  // the position up to which the records are part of the current flush
+  private volatile long flushedPosition = -1;
   private ScheduledTask currentFlushTask = null;
   private ScheduledTask currentCleanupTask = null;
   private ScheduledTask currentUsageMetricsCleanupTask = null;
@@ -81,6 +83,7 @@ public final class RdbmsExporter {
       // This is needed since the brokers last exported position is from its last snapshot and can
       // be different from ours.
       lastPosition = exporterRdbmsPosition.lastExportedPosition();
+      flushedPosition = lastPosition;
       updatePositionInBroker();
     }
 
@@ -112,6 +115,8 @@ public final class RdbmsExporter {
       rdbmsWriter.flush();
     } catch (final Exception e) {
       LOG.warn("[RDBMS Exporter] Failed to flush records before closing exporter.", e);
+    } finally {
+      rdbmsWriter.close();
     }
 
     LOG.info("[RDBMS Exporter] Exporter closed");
@@ -175,12 +180,18 @@ public final class RdbmsExporter {
     rdbmsWriter.getRdbmsPurger().purgeRdbms();
   }
 
+  /**
+   * Called once a flush is committed. With asynchronous flushes this is called by the flush thread,
+   * while further records are exported, so only the position of the committed records is used.
+   */
   private void updatePositionInBroker() {
-    LOG.trace("[RDBMS Exporter] Updating position to {} in broker", lastPosition);
-    controller.updateLastExportedRecordPosition(lastPosition);
+    LOG.trace("[RDBMS Exporter] Updating position to {} in broker", flushedPosition);
+    controller.updateLastExportedRecordPosition(flushedPosition);
   }
 
+  /** Called before a flush, by the thread exporting the records. */
   private void updatePositionInRdbms() {
+    flushedPosition = lastPosition;
     if (lastPosition > exporterRdbmsPosition.lastExportedPosition()) {
       LOG.trace("[RDBMS Exporter] Updating position to {} in rdbms", lastPosition);
       exporterRdbmsPosition =
@@ -225,8 +236,31 @@ public final class RdbmsExporter {
   }
 
   private void flushAndReschedule() {
-    flushExecutionQueue();
-    currentFlushTask = controller.scheduleCancellableTask(flushInterval, this::flushAndReschedule);
+    try {
+      // doesn't wait for the records to be committed, if the writer flushes asynchronously
+      rdbmsWriter.flushAsync().whenComplete(this::onFlushCompleted);
+    } catch (final Exception e) {
+      // the previous asynchronous flush failed; its records were queued again
+      LOG.warn("[RDBMS Exporter] Failed to flush records, retrying with the next flush", e);
+    } finally {
+      currentFlushTask =
+          controller.scheduleCancellableTask(flushInterval, this::flushAndReschedule);
+    }
+  }
+
+  /**
+   * The position is only reported to the broker by the post flush listener, i.e. once a flush is
+   * committed. A failed flush therefore leaves the exported position as it was; its records,
+   * including the position update in the database, are queued again and retried with the next
+   * flush.
+   */
+  private void onFlushCompleted(final Integer flushedItems, final Throwable error) {
+    if (error != null) {
+      LOG.warn(
+          "[RDBMS Exporter] Failed to flush records up to position {}, keeping the exported position until they are retried",
+          flushedPosition,
+          error);
+    }
   }
 
   private void cleanupHistory() {
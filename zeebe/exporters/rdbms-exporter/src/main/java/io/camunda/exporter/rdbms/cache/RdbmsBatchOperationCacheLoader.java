@@ -8,6 +8,7 @@
 package io.camunda.exporter.rdbms.cache;
 
 import com.github.benmanes.caffeine.cache.CacheLoader;
+import io.camunda.db.rdbms.read.routing.ReadRouting;
 import io.camunda.db.rdbms.read.service.BatchOperationDbReader;
 import io.camunda.zeebe.exporter.common.cache.batchoperation.CachedBatchOperationEntity;
 import org.jetbrains.annotations.NotNull;
@@ -26,7 +27,8 @@ public class RdbmsBatchOperationCacheLoader
 
   @Override
   public CachedBatchOperationEntity load(final @NotNull String key) throws Exception {
-    final var response = reader.findOne(key);
+    // the exporter must see the entities it has just written, which a read replica may lack
+    final var response = ReadRouting.readYourWrites(() -> reader.findOne(key));
     if (response.isPresent()) {
       final var batchOperationEntity = response.get();
       return new CachedBatchOperationEntity(
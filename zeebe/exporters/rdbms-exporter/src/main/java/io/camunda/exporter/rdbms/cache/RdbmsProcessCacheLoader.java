@@ -8,6 +8,7 @@
 package io.camunda.exporter.rdbms.cache;
 
 import com.github.benmanes.caffeine.cache.CacheLoader;
+import io.camunda.db.rdbms.read.routing.ReadRouting;
 import io.camunda.db.rdbms.read.service.ProcessDefinitionDbReader;
 import io.camunda.search.entities.ProcessDefinitionEntity;
 import io.camunda.search.query.ProcessDefinitionQuery;
@@ -32,7 +33,8 @@ public class RdbmsProcessCacheLoader implements CacheLoader<Long, CachedProcessE
 
   @Override
   public CachedProcessEntity load(final @NotNull Long key) throws Exception {
-    final var response = reader.findOne(key);
+    // the exporter must see the entities it has just written, which a read replica may lack
+    final var response = ReadRouting.readYourWrites(() -> reader.findOne(key));
     if (response.isPresent()) {
       final var processDefinitionEntity = response.get();
       final var processDiagramData =
@@ -51,7 +53,7 @@ public class RdbmsProcessCacheLoader implements CacheLoader<Long, CachedProcessE
   public @NotNull Map<Long, CachedProcessEntity> loadAll(final @NotNull Set<? extends Long> keys) {
     final var query =
         ProcessDefinitionQuery.of(b -> b.filter(f -> f.processDefinitionKeys(List.copyOf(keys))));
-    final var response = reader.search(query);
+    final var response = ReadRouting.readYourWrites(() -> reader.search(query));
     return response.items().stream()
         .collect(
             Collectors.toMap(
@@ -311,6 +311,15 @@ class ExporterConfigurationTest {
         .hasMessageContaining("historyCleanupBatchSize must be");
   }
 
+  @Test
+  public void shouldFailWithZeroMultiRowInsertBlockSize() {
+    final ExporterConfiguration configuration = new ExporterConfiguration();
+    configuration.setMultiRowInsertBlockSize(0);
+
+    assertThatThrownBy(configuration::validate)
+        .hasMessageContaining("multiRowInsertBlockSize must be");
+  }
+
   @Test
   public void shouldFailWithNegativeBatchOperationItemInsertBlockSize() {
     final ExporterConfiguration configuration = new ExporterConfiguration();
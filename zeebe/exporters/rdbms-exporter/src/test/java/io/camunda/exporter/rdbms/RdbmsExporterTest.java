@@ -103,6 +103,34 @@ class RdbmsExporterTest {
     verify(positionService).update(Mockito.argThat(p -> p.lastExportedPosition() == 2));
   }
 
+  @Test
+  void shouldOnlyUpdatePositionInBrokerUpToFlushedRecords() {
+    // given
+    createExporter(b -> b.withHandler(ValueType.JOB, mockHandler(ValueType.JOB)));
+    exporter.export(mockRecord(ValueType.JOB, 1));
+
+    // when - a record is exported while the previous ones are flushed asynchronously
+    executionQueue.preFlushListeners.forEach(PreFlushListener::onPreFlush);
+    exporter.export(mockRecord(ValueType.JOB, 2));
+    executionQueue.postFlushListeners.forEach(PostFlushListener::onPostFlush);
+
+    // then
+    verify(controller).updateLastExportedRecordPosition(1);
+    verify(controller, never()).updateLastExportedRecordPosition(2);
+  }
+
+  @Test
+  void shouldCloseWriterOnClose() {
+    // given
+    createExporter(b -> b);
+
+    // when
+    exporter.close();
+
+    // then
+    verify(rdbmsWriter).close();
+  }
+
   @Test
   void shouldNotUpdatePositionOnFlushWhenNoRecordsHandled() {
     // given
@@ -211,6 +239,25 @@ class RdbmsExporterTest {
     verify(positionService).update(Mockito.argThat(p -> p.lastExportedPosition() == 1));
   }
 
+  @Test
+  void shouldRescheduleFlushWhenFlushFails() {
+    // given
+    createExporter(b -> b.withHandler(ValueType.JOB, mockHandler(ValueType.JOB)));
+    final var runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(controller, times(3))
+        .scheduleCancellableTask(any(Duration.class), runnableCaptor.capture());
+    final var runnable = runnableCaptor.getAllValues().getFirst();
+    executionQueue.failure = new IllegalStateException("expected");
+
+    // when
+    exporter.export(mockRecord(ValueType.JOB, 1));
+    runnable.run();
+
+    // then
+    verify(controller, times(4)).scheduleCancellableTask(any(Duration.class), any());
+    verify(controller, never()).updateLastExportedRecordPosition(1);
+  }
+
   @Test
   void shouldClearFlushTaskOnPurge() {
     // given
@@ -278,6 +325,7 @@ class RdbmsExporterTest {
     when(rdbmsWriter.getExecutionQueue()).thenReturn(executionQueue);
     when(rdbmsWriter.getRdbmsPurger()).thenReturn(rdbmsPurger);
     doAnswer((invocation) -> executionQueue.flush()).when(rdbmsWriter).flush();
+    doAnswer((invocation) -> executionQueue.flushAsync()).when(rdbmsWriter).flushAsync();
 
     final var builder =
         new RdbmsExporter.Builder()
@@ -294,6 +342,7 @@ class RdbmsExporterTest {
 
     final List<PreFlushListener> preFlushListeners = new ArrayList<>();
     final List<PostFlushListener> postFlushListeners = new ArrayList<>();
+    RuntimeException failure;
 
     @Override
     public void executeInQueue(final QueueItem entry) {
@@ -313,6 +362,9 @@ class RdbmsExporterTest {
     @Override
     public int flush() {
       preFlushListeners.forEach(PreFlushListener::onPreFlush);
+      if (failure != null) {
+        throw failure;
+      }
       postFlushListeners.forEach(PostFlushListener::onPostFlush);
       return 0;
     }
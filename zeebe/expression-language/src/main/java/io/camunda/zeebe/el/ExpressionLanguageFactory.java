@@ -7,16 +7,29 @@
  */
 package io.camunda.zeebe.el;
 
+import io.camunda.zeebe.el.impl.FeelExpressionCache;
 import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.camunda.feel.FeelEngineClock;
 
 /** The entry point to create the default {@link ExpressionLanguage}. */
 public class ExpressionLanguageFactory {
 
   /**
-   * @return a new instance of the {@link ExpressionLanguage}
+   * @return a new instance of the {@link ExpressionLanguage}, which uses the {@link
+   *     FeelExpressionCache#shared() shared} expression cache without reporting its metrics
    */
   public static ExpressionLanguage createExpressionLanguage(final FeelEngineClock feelEngineClock) {
     return new FeelExpressionLanguage(feelEngineClock);
   }
+
+  /**
+   * @return a new instance of the {@link ExpressionLanguage}, which uses the {@link
+   *     FeelExpressionCache#shared() shared} expression cache and reports its hits and misses to
+   *     the given registry
+   */
+  public static ExpressionLanguage createExpressionLanguage(
+      final FeelEngineClock feelEngineClock, final MeterRegistry meterRegistry) {
+    return new FeelExpressionLanguage(feelEngineClock, FeelExpressionCache.shared(), meterRegistry);
+  }
 }
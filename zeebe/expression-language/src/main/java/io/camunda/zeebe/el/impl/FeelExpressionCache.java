@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.camunda.zeebe.el.Expression;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of parsed FEEL expressions, keyed by their text (i.e. without the leading {@code
+ * =}). Both valid and invalid expressions are cached, such that an invalid expression isn't parsed
+ * again either.
+ *
+ * <p>A parsed expression is immutable and doesn't depend on the engine which parsed it, since the
+ * clock, the value mapper and the function provider are only used on evaluation. The {@link
+ * #shared() shared} cache is therefore used by all expression languages of the broker, i.e. across
+ * the processors of all partitions, and across redeployments of the same models.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class FeelExpressionCache {
+
+  /** The maximum number of expressions kept by the shared cache. */
+  public static final int DEFAULT_MAX_SIZE = 10_000;
+
+  private static final FeelExpressionCache SHARED = new FeelExpressionCache(DEFAULT_MAX_SIZE);
+
+  private final Cache<String, Expression> cache;
+
+  public FeelExpressionCache(final long maxSize) {
+    cache = Caffeine.newBuilder().maximumSize(maxSize).build();
+  }
+
+  /** Returns the cache shared by all expression languages of this JVM. */
+  public static FeelExpressionCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * Returns the cached expression for the given text, or parses it with the given parser and caches
+   * the result.
+   *
+   * @param expression the text of the FEEL expression, without the leading {@code =}
+   * @param parser parses the expression if it isn't cached yet
+   * @param metrics records whether the expression was cached
+   * @return the cached or parsed expression
+   */
+  Expression get(
+      final String expression,
+      final Function<String, Expression> parser,
+      final FeelExpressionCacheMetrics metrics) {
+    final var cached = cache.getIfPresent(expression);
+    if (cached != null) {
+      metrics.countHit();
+      return cached;
+    }
+
+    metrics.countMiss();
+    // parsing concurrently the same expression is harmless, the last result wins
+    final var parsed = parser.apply(expression);
+    cache.put(expression, parsed);
+    return parsed;
+  }
+
+  /** Returns the approximate number of cached expressions. */
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  /** Removes all cached expressions. */
+  public void clear() {
+    cache.invalidateAll();
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.el.impl.FeelExpressionCacheMetricsDoc.CacheResultKeyNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counts the hits and misses of the {@link FeelExpressionCache} for a single expression language.
+ * Since the cache is shared, the counters are registered on the registry of the user of the
+ * expression language, e.g. a partition, such that the sum over all registries is the total of the
+ * shared cache.
+ */
+public final class FeelExpressionCacheMetrics {
+
+  private final Counter hits;
+  private final Counter misses;
+
+  public FeelExpressionCacheMetrics(final MeterRegistry meterRegistry) {
+    hits = registerCounter(meterRegistry, "hit");
+    misses = registerCounter(meterRegistry, "miss");
+  }
+
+  void countHit() {
+    hits.increment();
+  }
+
+  void countMiss() {
+    misses.increment();
+  }
+
+  private static Counter registerCounter(final MeterRegistry meterRegistry, final String result) {
+    final var meterDoc = FeelExpressionCacheMetricsDoc.CACHE_RESULT;
+    return Counter.builder(meterDoc.getName())
+        .description(meterDoc.getDescription())
+        .tag(CacheResultKeyNames.RESULT.asString(), result)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil.PartitionKeyNames;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter.Type;
+
+/** Documents the metrics of the {@link FeelExpressionCache}. */
+@SuppressWarnings("NullableProblems")
+public enum FeelExpressionCacheMetricsDoc implements ExtendedMeterDocumentation {
+  /** Counts the lookups of parsed FEEL expressions in the shared cache, by result */
+  CACHE_RESULT {
+    @Override
+    public String getDescription() {
+      return "Number of lookups of parsed FEEL expressions in the shared expression cache, by result (hit or miss)";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.feel.expression.cache.result";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return CacheResultKeyNames.values();
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  };
+
+  @SuppressWarnings("NullableProblems")
+  public enum CacheResultKeyNames implements KeyName {
+    /** Whether the expression was found in the cache ({@code hit}) or parsed ({@code miss}) */
+    RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
+    }
+  }
+}
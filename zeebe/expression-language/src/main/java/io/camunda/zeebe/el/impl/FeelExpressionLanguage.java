@@ -17,6 +17,8 @@ import io.camunda.zeebe.el.ExpressionLanguage;
 import io.camunda.zeebe.feel.impl.FeelFunctionProvider;
 import io.camunda.zeebe.feel.impl.FeelToMessagePackTransformer;
 import io.camunda.zeebe.feel.impl.MessagePackValueMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -42,8 +44,19 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       new FeelToMessagePackTransformer();
 
   private final FeelEngine feelEngine;
+  private final FeelExpressionCache expressionCache;
+  private final FeelExpressionCacheMetrics cacheMetrics;
 
   public FeelExpressionLanguage(final FeelEngineClock clock) {
+    this(clock, FeelExpressionCache.shared(), new SimpleMeterRegistry());
+  }
+
+  public FeelExpressionLanguage(
+      final FeelEngineClock clock,
+      final FeelExpressionCache expressionCache,
+      final MeterRegistry meterRegistry) {
+    this.expressionCache = expressionCache;
+    cacheMetrics = new FeelExpressionCacheMetrics(meterRegistry);
     feelEngine =
         new FeelEngine.Builder()
             .customValueMapper(new MessagePackValueMapper())
@@ -90,6 +103,10 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
   }
 
   private Expression parseFeelExpression(final String expression) {
+    return expressionCache.get(expression, this::parseUncachedFeelExpression, cacheMetrics);
+  }
+
+  private Expression parseUncachedFeelExpression(final String expression) {
     final Either<Failure, ParsedExpression> parseResult = feelEngine.parseExpression(expression);
 
     if (parseResult.isLeft()) {
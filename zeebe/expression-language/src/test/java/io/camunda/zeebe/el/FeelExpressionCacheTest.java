@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.impl.FeelExpressionCache;
+import io.camunda.zeebe.el.impl.FeelExpressionCacheMetricsDoc;
+import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+final class FeelExpressionCacheTest {
+
+  private static final EvaluationContext EMPTY_CONTEXT = name -> null;
+
+  private final FeelExpressionCache cache = new FeelExpressionCache(100);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final TestFeelEngineClock clock = new TestFeelEngineClock();
+  private final ExpressionLanguage expressionLanguage =
+      new FeelExpressionLanguage(clock, cache, meterRegistry);
+
+  @Test
+  void shouldReuseParsedExpression() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x + 1");
+
+    // when
+    final var cachedExpression = expressionLanguage.parseExpression("=x + 1");
+
+    // then
+    assertThat(cachedExpression).isSameAs(expression);
+    assertThat(cache.size()).isOne();
+    assertThat(cacheResults("hit")).isOne();
+    assertThat(cacheResults("miss")).isOne();
+  }
+
+  @Test
+  void shouldReuseInvalidExpression() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x ?! 1");
+
+    // when
+    final var cachedExpression = expressionLanguage.parseExpression("=x ?! 1");
+
+    // then
+    assertThat(cachedExpression).isSameAs(expression);
+    assertThat(cachedExpression.isValid()).isFalse();
+    assertThat(cacheResults("hit")).isOne();
+  }
+
+  @Test
+  void shouldNotCacheStaticExpression() {
+    // when
+    expressionLanguage.parseExpression("x");
+
+    // then
+    assertThat(cache.size()).isZero();
+    assertThat(cacheResults("miss")).isZero();
+  }
+
+  @Test
+  void shouldEvaluateSharedExpressionWithOwnClock() {
+    // given - two expression languages with different clocks sharing the same cache
+    final var otherClock = new TestFeelEngineClock();
+    final var otherExpressionLanguage =
+        new FeelExpressionLanguage(otherClock, cache, new SimpleMeterRegistry());
+    clock.setCurrentTime(Instant.parse("2020-09-21T07:20:00Z"));
+    otherClock.setCurrentTime(Instant.parse("2024-01-01T00:00:00Z"));
+    final var expression = expressionLanguage.parseExpression("=now()");
+
+    // when
+    final var otherExpression = otherExpressionLanguage.parseExpression("=now()");
+    final var result = expressionLanguage.evaluateExpression(expression, EMPTY_CONTEXT);
+    final var otherResult =
+        otherExpressionLanguage.evaluateExpression(otherExpression, EMPTY_CONTEXT);
+
+    // then
+    assertThat(otherExpression).isSameAs(expression);
+    assertThat(result.getDateTime().toInstant()).isEqualTo(Instant.parse("2020-09-21T07:20:00Z"));
+    assertThat(otherResult.getDateTime().toInstant())
+        .isEqualTo(Instant.parse("2024-01-01T00:00:00Z"));
+  }
+
+  private double cacheResults(final String result) {
+    return meterRegistry
+        .get(FeelExpressionCacheMetricsDoc.CACHE_RESULT.getName())
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+}
@@ -142,6 +142,16 @@ public class StreamJobsHandler extends Actor {
       return result;
     }
 
+    /**
+     * The gRPC stream is ready as long as the client keeps reading the pushed jobs, i.e. as long as
+     * the worker has free slots; once it stops, flow control fills the stream's buffers and pushing
+     * more jobs would only fail with {@link ClientStreamBlockedException}.
+     */
+    @Override
+    public int credits() {
+      return responseObserver.isReady() ? 1 : 0;
+    }
+
     private void handlePushedJob(
         final DirectBuffer payload, final CompletableActorFuture<Void> result) {
       final var deserializedJob = new ActivatedJobImpl();
@@ -951,6 +951,96 @@ public final class LongPollingActivateJobsTest {
     assertThat(brokerRequestValue.getErrorMessageBuffer()).isNotNull();
   }
 
+  @Test
+  public void shouldNotActivateMoreJobsThanRequestedWhenFanningOut() {
+    // given
+    handler = buildFanOutHandler();
+    submitActorToActivateJobs(handler);
+    activateJobsStub.addAvailableJobs(TYPE, 10);
+    final InflightActivateJobsRequest<ActivateJobsResponse> request =
+        getLongPollingActivateJobsRequest();
+
+    // when
+    handler.internalActivateJobsRetry(request);
+    Awaitility.await().until(request::isCompleted);
+
+    // then
+    final ArgumentCaptor<ActivateJobsResponse> responseCaptor =
+        ArgumentCaptor.forClass(ActivateJobsResponse.class);
+    verify(request.getResponseObserver(), atLeast(1)).onNext(responseCaptor.capture());
+    assertThat(responseCaptor.getAllValues())
+        .flatMap(ActivateJobsResponse::getJobsList)
+        .hasSize(MAX_JOBS_TO_ACTIVATE);
+    assertThat(brokerClient.getBrokerRequests())
+        .describedAs("Expected the jobs to be requested from different partitions at once")
+        .hasSize(MAX_JOBS_TO_ACTIVATE)
+        .extracting(r -> ((BrokerActivateJobsRequest) r).getPartitionId())
+        .doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void shouldSkipPartitionsWithoutJobsUntilJobsAvailable() throws Exception {
+    // given
+    handler = buildFanOutHandler();
+    submitActorToActivateJobs(handler);
+    activateJobsAndWaitUntilBlocked(1);
+    verify(activateJobsStub, times(partitionsCount)).handle(any());
+
+    // when
+    final InflightActivateJobsRequest<ActivateJobsResponse> request =
+        getLongPollingActivateJobsRequest();
+    handler.internalActivateJobsRetry(request);
+    waitUntil(request::hasScheduledTimer);
+
+    // then - no partition is asked again until jobs become available
+    verify(activateJobsStub, times(partitionsCount)).handle(any());
+
+    // when - jobs become available
+    activateJobsStub.addAvailableJobs(TYPE, 1);
+    brokerClient.notifyJobsAvailable(TYPE);
+
+    // then - the partitions are asked again
+    verify(activateJobsStub, timeout(2000).atLeast(partitionsCount + 1)).handle(any());
+  }
+
+  @Test
+  public void shouldNotSkipPartitionsWithoutJobsForOtherTenants() {
+    // given - no partition has jobs the first request can activate
+    handler = buildFanOutHandler();
+    submitActorToActivateJobs(handler);
+    final InflightActivateJobsRequest<ActivateJobsResponse> firstRequest =
+        getLongPollingActivateJobsRequest();
+    firstRequest.getRequest().setTenantIds(List.of("tenant-a"));
+    handler.internalActivateJobsRetry(firstRequest);
+    waitUntil(firstRequest::hasScheduledTimer);
+    verify(activateJobsStub, times(partitionsCount)).handle(any());
+
+    // when
+    final InflightActivateJobsRequest<ActivateJobsResponse> secondRequest =
+        getLongPollingActivateJobsRequest();
+    secondRequest.getRequest().setTenantIds(List.of("tenant-b"));
+    handler.internalActivateJobsRetry(secondRequest);
+    waitUntil(secondRequest::hasScheduledTimer);
+
+    // then - the partitions may still have jobs of the other tenant
+    verify(activateJobsStub, times(2 * partitionsCount)).handle(any());
+  }
+
+  private LongPollingActivateJobsHandler<ActivateJobsResponse> buildFanOutHandler() {
+    return LongPollingActivateJobsHandler.<ActivateJobsResponse>newBuilder()
+        .setBrokerClient(brokerClient)
+        .setMaxMessageSize(MAX_MESSAGE_SIZE)
+        .setLongPollingTimeout(LONG_POLLING_TIMEOUT)
+        .setProbeTimeoutMillis(PROBE_TIMEOUT)
+        .setMinEmptyResponses(FAILED_RESPONSE_THRESHOLD)
+        .setPartitionFanOut(partitionsCount)
+        .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
+        .setNoJobsReceivedExceptionProvider(Gateway.NO_JOBS_RECEIVED_EXCEPTION_PROVIDER)
+        .setRequestCanceledExceptionProvider(Gateway.REQUEST_CANCELED_EXCEPTION_PROVIDER)
+        .setMetrics(LongPollingMetrics.noop())
+        .build();
+  }
+
   private List<InflightActivateJobsRequest<ActivateJobsResponse>> activateJobsAndWaitUntilBlocked(
       final int amount) {
     return IntStream.range(0, amount)
@@ -100,6 +100,18 @@ final class JobStreamConsumerTest {
     assertThat(clientObserver.pushed).extracting(ActivatedJob::getKey).containsExactly(1L);
   }
 
+  @Test
+  void shouldAdvertiseCreditsWhileClientStreamIsReady() {
+    // given
+    final var clientObserver = new TestStreamObserver();
+    final var consumer = new JobStreamConsumer(clientObserver, executor);
+
+    // when - then
+    assertThat(consumer.credits()).isOne();
+    clientObserver.isReady = false;
+    assertThat(consumer.credits()).isZero();
+  }
+
   private static final class TestStreamObserver extends ServerCallStreamObserver<ActivatedJob>
       implements StreamObserver<ActivatedJob> {
     private final List<ActivatedJob> pushed = new ArrayList<>();
@@ -19,6 +19,7 @@ import io.camunda.search.filter.ProcessDefinitionStatisticsFilter;
 import io.camunda.search.filter.UsageMetricsFilter;
 import io.camunda.search.filter.VariableFilter;
 import io.camunda.search.page.SearchQueryPage;
+import io.camunda.search.page.SearchQueryPage.TotalItemsMode;
 import io.camunda.search.query.AuthorizationQuery;
 import io.camunda.search.query.BatchOperationItemQuery;
 import io.camunda.search.query.BatchOperationQuery;
@@ -639,13 +640,18 @@ public final class SearchQueryRequestMapper {
       return Either.left(List.of(ERROR_SEARCH_BEFORE_AND_AFTER_AND_FROM));
     }
 
+    final var totalItemsMode =
+        requestedPage.getTotalItemsMode() == null
+            ? null
+            : TotalItemsMode.valueOf(requestedPage.getTotalItemsMode().name());
     return Either.right(
         SearchQueryPage.of(
             (p) ->
                 p.size(requestedPage.getLimit())
                     .from(requestedPage.getFrom())
                     .after(requestedPage.getAfter())
-                    .before(requestedPage.getBefore())));
+                    .before(requestedPage.getBefore())
+                    .totalItemsMode(totalItemsMode)));
   }
 
   private static Either<List<String>, SearchQueryPage> toSearchQueryPage(
@@ -16,6 +16,7 @@ import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.List;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBatchRecord> {
 
@@ -55,6 +56,21 @@ public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBat
     return this;
   }
 
+  /**
+   * Returns a copy of this request, including its authorization, which can be sent concurrently to
+   * this one, e.g. to another partition. A request can't be in flight more than once, as it also
+   * holds its response.
+   */
+  public BrokerActivateJobsRequest copy() {
+    final var copy = new BrokerActivateJobsRequest(requestDto.getType());
+    final var buffer = new UnsafeBuffer(new byte[requestDto.getLength()]);
+    requestDto.write(buffer, 0);
+    copy.requestDto.wrap(buffer);
+    copy.request.setAuthorization(request.getAuthorization());
+    copy.setOperationReference(getOperationReference());
+    return copy;
+  }
+
   @Override
   public JobBatchRecord getRequestWriter() {
     return requestDto;
@@ -16,6 +16,7 @@ public final class LongPollingCfg {
   private long probeTimeout = ConfigurationDefaults.DEFAULT_PROBE_TIMEOUT;
   private int minEmptyResponses =
       ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+  private int partitionFanOut = ConfigurationDefaults.DEFAULT_LONG_POLLING_PARTITION_FAN_OUT;
 
   public long getTimeout() {
     return timeout;
@@ -41,6 +42,14 @@ public final class LongPollingCfg {
     this.minEmptyResponses = minEmptyResponses;
   }
 
+  public int getPartitionFanOut() {
+    return partitionFanOut;
+  }
+
+  public void setPartitionFanOut(final int partitionFanOut) {
+    this.partitionFanOut = partitionFanOut;
+  }
+
   public boolean isEnabled() {
     return enabled;
   }
@@ -52,7 +61,7 @@ public final class LongPollingCfg {
 
   @Override
   public int hashCode() {
-    return Objects.hash(enabled, timeout, probeTimeout, minEmptyResponses);
+    return Objects.hash(enabled, timeout, probeTimeout, minEmptyResponses, partitionFanOut);
   }
 
   @Override
@@ -67,7 +76,8 @@ public final class LongPollingCfg {
     return enabled == that.enabled
         && timeout == that.timeout
         && probeTimeout == that.probeTimeout
-        && minEmptyResponses == that.minEmptyResponses;
+        && minEmptyResponses == that.minEmptyResponses
+        && partitionFanOut == that.partitionFanOut;
   }
 
   @Override
@@ -81,6 +91,8 @@ public final class LongPollingCfg {
         + probeTimeout
         + ", minEmptyResponses="
         + minEmptyResponses
+        + ", partitionFanOut="
+        + partitionFanOut
         + '}';
   }
 }
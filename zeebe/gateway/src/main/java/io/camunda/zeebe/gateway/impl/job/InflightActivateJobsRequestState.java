@@ -8,38 +8,105 @@
 package io.camunda.zeebe.gateway.impl.job;
 
 import io.camunda.zeebe.broker.client.impl.PartitionIdIterator;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.IntPredicate;
 
+/**
+ * Tracks the partitions which are left to ask for jobs, and how many jobs are left to activate.
+ * Requests to several partitions can be in flight at the same time; each of them reserves a share
+ * of the remaining jobs, such that never more jobs than requested are activated in total.
+ */
 public class InflightActivateJobsRequestState {
 
+  private static final int NO_PARTITION = -1;
+
   private final PartitionIdIterator iterator;
+  private final IntPredicate skipPartition;
+  private final Deque<Integer> partitionsToPollAgain = new ArrayDeque<>();
+  private int nextPartitionId = NO_PARTITION;
   private int remainingAmount;
-  private boolean pollPrevPartition;
+  private int reservedAmount;
+  private int inflightRequests;
   private boolean resourceExhaustedWasPresent;
+  private boolean done;
 
   public InflightActivateJobsRequestState(
       final PartitionIdIterator iterator, final int remainingAmount) {
+    this(iterator, remainingAmount, partitionId -> false);
+  }
+
+  public InflightActivateJobsRequestState(
+      final PartitionIdIterator iterator,
+      final int remainingAmount,
+      final IntPredicate skipPartition) {
     this.iterator = iterator;
     this.remainingAmount = remainingAmount;
+    this.skipPartition = skipPartition;
   }
 
   private boolean hasNextPartition() {
-    return iterator.hasNext();
-  }
+    while (nextPartitionId == NO_PARTITION && iterator.hasNext()) {
+      final int partitionId = iterator.next();
+      if (!skipPartition.test(partitionId)) {
+        nextPartitionId = partitionId;
+      }
+    }
 
-  public int getCurrentPartition() {
-    return iterator.getCurrentPartitionId();
+    return nextPartitionId != NO_PARTITION;
   }
 
+  /**
+   * Returns the next partition to ask for jobs; partitions which should be polled again are
+   * returned before the ones which weren't asked yet.
+   */
   public int getNextPartition() {
-    return pollPrevPartition ? iterator.getCurrentPartitionId() : iterator.next();
+    if (!partitionsToPollAgain.isEmpty()) {
+      return partitionsToPollAgain.poll();
+    }
+
+    hasNextPartition();
+    final int partitionId = nextPartitionId;
+    nextPartitionId = NO_PARTITION;
+    return partitionId;
+  }
+
+  /** Polls the given partition again, e.g. because it had more jobs than it returned. */
+  public void pollAgain(final int partitionId) {
+    partitionsToPollAgain.add(partitionId);
   }
 
   public int getRemainingAmount() {
     return remainingAmount;
   }
 
-  public void setRemainingAmount(int remainingAmount) {
-    this.remainingAmount = remainingAmount;
+  /**
+   * Reserves a share of the jobs which are left to activate for a new request, such that the
+   * remaining jobs are spread over the requests which can still be sent concurrently.
+   *
+   * @param maxInflightRequests how many requests may be in flight at the same time
+   * @return the amount of jobs to activate with the new request
+   */
+  public int reserveAmount(final int maxInflightRequests) {
+    final int unreservedAmount = remainingAmount - reservedAmount;
+    final int freeSlots = Math.max(1, maxInflightRequests - inflightRequests);
+    final int amount = Math.ceilDiv(unreservedAmount, freeSlots);
+
+    reservedAmount += amount;
+    inflightRequests++;
+    return amount;
+  }
+
+  /**
+   * Releases the amount reserved by a request once its response was received.
+   *
+   * @param reservedAmount the amount which was reserved for the request
+   * @param activatedAmount the amount of jobs which were activated by the request
+   */
+  public void releaseAmount(final int reservedAmount, final int activatedAmount) {
+    this.reservedAmount -= reservedAmount;
+    remainingAmount -= activatedAmount;
+    inflightRequests--;
   }
 
   public boolean wasResourceExhaustedPresent() {
@@ -50,11 +117,38 @@ public class InflightActivateJobsRequestState {
     this.resourceExhaustedWasPresent = resourceExhaustedWasPresent;
   }
 
-  public void setPollPrevPartition(boolean pollPrevPartition) {
-    this.pollPrevPartition = pollPrevPartition;
+  /**
+   * Returns true if another request can be sent, i.e. there are jobs left to activate which aren't
+   * reserved by other requests, partitions left to ask, and fewer than the given number of requests
+   * in flight.
+   */
+  public boolean shouldActivateJobs(final int maxInflightRequests) {
+    return !done
+        && inflightRequests < maxInflightRequests
+        && remainingAmount - reservedAmount > 0
+        && (!partitionsToPollAgain.isEmpty() || hasNextPartition());
+  }
+
+  /**
+   * Returns true if no more requests are in flight, and either enough jobs were activated or no
+   * partitions are left to ask.
+   */
+  public boolean shouldComplete() {
+    return !done
+        && inflightRequests == 0
+        && (remainingAmount <= 0 || (partitionsToPollAgain.isEmpty() && !hasNextPartition()));
   }
 
-  public boolean shouldActivateJobs() {
-    return remainingAmount > 0 && (pollPrevPartition || hasNextPartition());
+  /**
+   * Marks the request as done, i.e. it was completed or failed; returns false if it was already
+   * done before, in which case it must not be completed or failed again.
+   */
+  public boolean markDone() {
+    if (done) {
+      return false;
+    }
+
+    done = true;
+    return true;
   }
 }
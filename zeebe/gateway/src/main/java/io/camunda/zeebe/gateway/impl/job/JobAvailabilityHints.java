@@ -0,0 +1,169 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static io.camunda.zeebe.scheduler.clock.ActorClock.currentTimeMillis;
+
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Remembers per job type on which partitions no jobs were available, such that these partitions can
+ * be skipped when activating jobs of that type.
+ *
+ * <p>Which jobs a request can activate also depends on its tenants and authorization, so a
+ * partition without jobs for one request may still have jobs for another one of the same type.
+ * Hints are therefore only shared between requests with the same {@link Scope}.
+ *
+ * <p>Brokers broadcast a notification whenever jobs of a type become available. As it doesn't tell
+ * on which partition, a notification forgets all hints of its type. Hints also expire after a
+ * while, in case jobs became available without a notification, or the notification was missed.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class JobAvailabilityHints {
+  private static final JobAvailabilityHints DISABLED = new JobAvailabilityHints(0);
+
+  private final ConcurrentMap<String, JobTypeHints> jobTypeHints = new ConcurrentHashMap<>();
+  private final long expiryMillis;
+
+  /**
+   * @param expiryMillis how long a partition is skipped after it had no jobs available, unless a
+   *     notification arrives before
+   */
+  public JobAvailabilityHints(final long expiryMillis) {
+    this.expiryMillis = expiryMillis;
+  }
+
+  /** Returns hints which never skip any partition. */
+  public static JobAvailabilityHints disabled() {
+    return DISABLED;
+  }
+
+  /**
+   * Returns the scope of the given request, or null if hints are disabled, in which case there is
+   * no need to decode the request's authorization.
+   */
+  Scope scopeOf(final BrokerActivateJobsRequest request) {
+    if (expiryMillis <= 0) {
+      return null;
+    }
+
+    return new Scope(
+        Set.copyOf(request.getRequestWriter().getTenantIds()),
+        request.getAuthorization().getClaims());
+  }
+
+  /** Returns true if the partition had no jobs of the given type available recently. */
+  boolean isEmpty(final String jobType, final Scope scope, final int partitionId) {
+    final var hints = jobTypeHints.get(jobType);
+    return hints != null && hints.isEmpty(scope, partitionId, currentTimeMillis() - expiryMillis);
+  }
+
+  /**
+   * Marks the partition as having no jobs of the given type available, unless jobs became available
+   * since the request was sent, which was thus answered before they were.
+   *
+   * @param requestedAt the time at which the request to the partition was sent
+   */
+  void markEmpty(
+      final String jobType, final Scope scope, final int partitionId, final long requestedAt) {
+    if (expiryMillis <= 0) {
+      return;
+    }
+
+    final var now = currentTimeMillis();
+    jobTypeHints
+        .computeIfAbsent(jobType, type -> new JobTypeHints())
+        .markEmpty(scope, partitionId, requestedAt, now, now - expiryMillis);
+  }
+
+  /**
+   * Marks the partition as having jobs of the given type available. As other scopes may be able to
+   * activate these jobs too, the partition isn't skipped for any scope anymore.
+   */
+  void markAvailable(final String jobType, final int partitionId) {
+    final var hints = jobTypeHints.get(jobType);
+    if (hints != null) {
+      hints.markAvailable(partitionId);
+    }
+  }
+
+  /** Forgets all hints of the given job type, as jobs of that type became available. */
+  void onJobsAvailable(final String jobType) {
+    final var hints = jobTypeHints.get(jobType);
+    if (hints != null) {
+      hints.onJobsAvailable(currentTimeMillis());
+    }
+  }
+
+  /**
+   * Limits which jobs of a type a request can activate, besides the type itself.
+   *
+   * @param tenantIds the tenants of which jobs are activated
+   * @param claims the claims of the request's authorization
+   */
+  record Scope(Set<String> tenantIds, Map<String, Object> claims) {}
+
+  private static final class JobTypeHints {
+    private final Map<Scope, Map<Integer, Long>> emptyPartitions = new HashMap<>();
+    private long notifiedAt = Long.MIN_VALUE;
+
+    private synchronized boolean isEmpty(
+        final Scope scope, final int partitionId, final long notExpiredAfter) {
+      final var partitions = emptyPartitions.get(scope);
+      if (partitions == null) {
+        return false;
+      }
+
+      final var emptySince = partitions.get(partitionId);
+      return emptySince != null && emptySince > notExpiredAfter;
+    }
+
+    private synchronized void markEmpty(
+        final Scope scope,
+        final int partitionId,
+        final long requestedAt,
+        final long now,
+        final long notExpiredAfter) {
+      if (requestedAt <= notifiedAt) {
+        return;
+      }
+
+      // the claims change e.g. whenever a worker gets a new token, so expired scopes are dropped
+      // here to not accumulate them
+      emptyPartitions
+          .values()
+          .removeIf(
+              partitions -> {
+                partitions.values().removeIf(emptySince -> emptySince <= notExpiredAfter);
+                return partitions.isEmpty();
+              });
+      emptyPartitions.computeIfAbsent(scope, ignored -> new HashMap<>()).put(partitionId, now);
+    }
+
+    private synchronized void markAvailable(final int partitionId) {
+      emptyPartitions
+          .values()
+          .removeIf(
+              partitions -> {
+                partitions.remove(partitionId);
+                return partitions.isEmpty();
+              });
+    }
+
+    private synchronized void onJobsAvailable(final long now) {
+      notifiedAt = now;
+      emptyPartitions.clear();
+    }
+  }
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.gateway.impl.job;
 
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_PARTITION_FAN_OUT;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_TIMEOUT;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_PROBE_TIMEOUT;
 import static io.camunda.zeebe.scheduler.clock.ActorClock.currentTimeMillis;
@@ -40,6 +41,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       "Expected to activate jobs of type '%s', but no jobs available and at least one broker returned 'RESOURCE_EXHAUSTED'. Please try again later.";
 
   private final RoundRobinActivateJobsHandler<T> activateJobsHandler;
+  private final JobAvailabilityHints availabilityHints;
   private final BrokerClient brokerClient;
 
   private final Map<String, InFlightLongPollingActivateJobsRequestsState<T>> jobTypeState =
@@ -60,14 +62,26 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       final long longPollingTimeout,
       final long probeTimeoutMillis,
       final int failedAttemptThreshold,
+      final int partitionFanOut,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Exception> noJobsReceivedExceptionProvider,
       final Function<String, Throwable> requestCanceledExceptionProvider,
       final LongPollingMetrics metrics) {
     this.brokerClient = brokerClient;
+    // when fanning out, partitions without jobs are skipped until jobs become available, or at most
+    // until the next probe, which is also when pending requests are retried without notification
+    availabilityHints =
+        partitionFanOut > 1
+            ? new JobAvailabilityHints(probeTimeoutMillis)
+            : JobAvailabilityHints.disabled();
     activateJobsHandler =
         new RoundRobinActivateJobsHandler<>(
-            brokerClient, maxMessageSize, activationResultMapper, requestCanceledExceptionProvider);
+            brokerClient,
+            maxMessageSize,
+            activationResultMapper,
+            requestCanceledExceptionProvider,
+            partitionFanOut,
+            availabilityHints);
     this.noJobsReceivedExceptionProvider = noJobsReceivedExceptionProvider;
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
@@ -289,6 +303,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
 
   private void onJobAvailableNotification(final String jobType) {
     LOG.trace("Received jobs available notification for type {}.", jobType);
+    availabilityHints.onJobsAvailable(jobType);
 
     // instead of calling #getJobTypeState(), do only a
     // get to avoid the creation of a state instance.
@@ -381,6 +396,8 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
     private long probeTimeoutMillis = DEFAULT_PROBE_TIMEOUT;
     // Minimum number of responses with jobCount 0 to infer that no jobs are available
     private int minEmptyResponses = DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+    // Maximum number of partitions which are asked for jobs concurrently
+    private int partitionFanOut = DEFAULT_LONG_POLLING_PARTITION_FAN_OUT;
     private Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
     private Function<String, Exception> noJobsReceivedExceptionProvider;
     private Function<String, Throwable> requestCanceledExceptionProvider;
@@ -411,6 +428,11 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       return this;
     }
 
+    public Builder<T> setPartitionFanOut(final int partitionFanOut) {
+      this.partitionFanOut = partitionFanOut;
+      return this;
+    }
+
     public Builder<T> setActivationResultMapper(
         final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper) {
       this.activationResultMapper = activationResultMapper;
@@ -442,6 +464,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
           longPollingTimeout,
           probeTimeoutMillis,
           minEmptyResponses,
+          partitionFanOut,
           activationResultMapper,
           noJobsReceivedExceptionProvider,
           requestCanceledExceptionProvider,
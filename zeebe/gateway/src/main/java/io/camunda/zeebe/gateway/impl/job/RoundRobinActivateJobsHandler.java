@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.gateway.impl.job;
 
+import static io.camunda.zeebe.scheduler.clock.ActorClock.currentTimeMillis;
+
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerErrorException;
 import io.camunda.zeebe.broker.client.api.BrokerRejectionException;
@@ -32,6 +34,11 @@ import java.util.function.Function;
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
  * partition-IDs to determine the next partition to use.
+ *
+ * <p>By default, partitions are asked one after the other. With a partition fan-out greater than
+ * one, up to that many partitions are asked concurrently, each for a share of the remaining jobs.
+ * Partitions which recently had no jobs of the requested type are skipped, as long as the given
+ * {@link JobAvailabilityHints} don't say otherwise.
  */
 public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandler<T> {
 
@@ -47,6 +54,8 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
   private final BrokerTopologyManager topologyManager;
   private final long maxMessageSize;
   private final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
+  private final int partitionFanOut;
+  private final JobAvailabilityHints availabilityHints;
 
   private ActorControl actor;
   private final Function<String, Throwable> requestCanceledExceptionProvider;
@@ -56,11 +65,34 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       final long maxMessageSize,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Throwable> requestCanceledExceptionProvider) {
+    this(
+        brokerClient,
+        maxMessageSize,
+        activationResultMapper,
+        requestCanceledExceptionProvider,
+        1,
+        JobAvailabilityHints.disabled());
+  }
+
+  public RoundRobinActivateJobsHandler(
+      final BrokerClient brokerClient,
+      final long maxMessageSize,
+      final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
+      final Function<String, Throwable> requestCanceledExceptionProvider,
+      final int partitionFanOut,
+      final JobAvailabilityHints availabilityHints) {
+    if (partitionFanOut < 1) {
+      throw new IllegalArgumentException(
+          "Expected partition fan-out to be at least 1, but was " + partitionFanOut);
+    }
+
     this.brokerClient = brokerClient;
     topologyManager = brokerClient.getTopologyManager();
     this.maxMessageSize = maxMessageSize;
     this.activationResultMapper = activationResultMapper;
     this.requestCanceledExceptionProvider = requestCanceledExceptionProvider;
+    this.partitionFanOut = partitionFanOut;
+    this.availabilityHints = availabilityHints;
   }
 
   @Override
@@ -98,9 +130,13 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
     final var jobType = request.getType();
     final var maxJobsToActivate = request.getMaxJobsToActivate();
     final var partitionIterator = partitionIdIteratorForType(jobType, partitionsCount);
+    final var hintsScope = availabilityHints.scopeOf(request.getRequest());
 
     final var requestState =
-        new InflightActivateJobsRequestState(partitionIterator, maxJobsToActivate);
+        new InflightActivateJobsRequestState(
+            partitionIterator,
+            maxJobsToActivate,
+            partitionId -> availabilityHints.isEmpty(jobType, hintsScope, partitionId));
     final var delegate = new ResponseObserverDelegate(onError, onCompleted);
 
     activateJobs(request, requestState, delegate);
@@ -116,20 +152,29 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
             return;
           }
 
-          if (requestState.shouldActivateJobs()) {
-            final var brokerRequest = request.getRequest();
+          // partitions to check and jobs to activate left
+          while (requestState.shouldActivateJobs(partitionFanOut)) {
+            // a request can only be in flight once, as it also holds the response
+            final var brokerRequest =
+                partitionFanOut == 1 ? request.getRequest() : request.getRequest().copy();
             final var partitionId = requestState.getNextPartition();
-            final var remainingAmount = requestState.getRemainingAmount();
+            final var amount = requestState.reserveAmount(partitionFanOut);
+            final var requestedAt = currentTimeMillis();
 
-            // partitions to check and jobs to activate left
             brokerRequest.setPartitionId(partitionId);
-            brokerRequest.setMaxJobsToActivate(remainingAmount);
+            brokerRequest.setMaxJobsToActivate(amount);
 
             brokerClient
                 .sendRequest(brokerRequest)
-                .whenComplete(handleBrokerResponse(request, requestState, delegate));
+                .whenComplete(
+                    handleBrokerResponse(
+                        request,
+                        requestState,
+                        delegate,
+                        new PartitionRequest(partitionId, amount, requestedAt)));
+          }
 
-          } else {
+          if (requestState.shouldComplete() && requestState.markDone()) {
             // enough jobs activated or no more partitions left to check
             final var remainingAmount = requestState.getRemainingAmount();
             final var resourceExhaustedWasPresent = requestState.wasResourceExhaustedPresent();
@@ -141,12 +186,13 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
   private BiConsumer<BrokerResponse<JobBatchRecord>, Throwable> handleBrokerResponse(
       final InflightActivateJobsRequest<T> request,
       final InflightActivateJobsRequestState requestState,
-      final ResponseObserverDelegate delegate) {
+      final ResponseObserverDelegate delegate,
+      final PartitionRequest partitionRequest) {
     return (brokerResponse, error) -> {
       if (error == null) {
-        handleResponseSuccess(request, requestState, delegate, brokerResponse);
+        handleResponseSuccess(request, requestState, delegate, partitionRequest, brokerResponse);
       } else {
-        handleResponseError(request, requestState, delegate, error);
+        handleResponseError(request, requestState, delegate, partitionRequest, error);
       }
     };
   }
@@ -155,6 +201,7 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       final InflightActivateJobsRequest<T> request,
       final InflightActivateJobsRequestState requestState,
       final ResponseObserverDelegate delegate,
+      final PartitionRequest partitionRequest,
       final BrokerResponse<JobBatchRecord> brokerResponse) {
     actor.run(
         () -> {
@@ -188,16 +235,31 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
 
               logResponseNotSent(jobType, jobKeys, reason);
               reactivateJobs(activatedJobsToReactivate, reason);
-              cancelActivateJobsRequest(reason, delegate);
+              requestState.releaseAmount(partitionRequest.amount(), 0);
+              cancelActivateJobsRequest(reason, requestState, delegate);
               return;
             }
           }
 
-          final var remainingJobsToActivate = requestState.getRemainingAmount() - jobsCount;
-          final var shouldPollCurrentPartitionAgain = response.getTruncated();
+          final var jobType = request.getType();
+          final var partitionId = partitionRequest.partitionId();
+          requestState.releaseAmount(partitionRequest.amount(), jobsCount);
+          if (response.getTruncated()
+              || (jobsActivated && jobsCount >= partitionRequest.amount())) {
+            // the partition may have more jobs than it returned
+            requestState.pollAgain(partitionId);
+          }
+
+          if (jobsActivated) {
+            availabilityHints.markAvailable(jobType, partitionId);
+          } else if (!response.getTruncated()) {
+            availabilityHints.markEmpty(
+                jobType,
+                availabilityHints.scopeOf(request.getRequest()),
+                partitionId,
+                partitionRequest.requestedAt());
+          }
 
-          requestState.setRemainingAmount(remainingJobsToActivate);
-          requestState.setPollPrevPartition(shouldPollCurrentPartitionAgain);
           activateJobs(request, requestState, delegate);
         });
   }
@@ -237,27 +299,40 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
   }
 
   private void cancelActivateJobsRequest(
-      final String reason, final ResponseObserverDelegate delegate) {
-    delegate.onError(requestCanceledExceptionProvider.apply(reason));
+      final String reason,
+      final InflightActivateJobsRequestState state,
+      final ResponseObserverDelegate delegate) {
+    if (state.markDone()) {
+      delegate.onError(requestCanceledExceptionProvider.apply(reason));
+    }
   }
 
   private void handleResponseError(
       final InflightActivateJobsRequest<T> request,
       final InflightActivateJobsRequestState state,
       final ResponseObserverDelegate delegate,
+      final PartitionRequest partitionRequest,
       final Throwable error) {
     actor.run(
         () -> {
+          state.releaseAmount(partitionRequest.amount(), 0);
+
           final var wasResourceExhausted = wasResourceExhausted(error);
           if (isRejection(error)) {
-            delegate.onError(error);
+            if (state.markDone()) {
+              delegate.onError(error);
+            }
             return;
           } else if (!wasResourceExhausted) {
-            logErrorResponse(state.getCurrentPartition(), request.getType(), error);
+            logErrorResponse(partitionRequest.partitionId(), request.getType(), error);
           }
 
-          state.setResourceExhaustedWasPresent(wasResourceExhausted);
-          state.setPollPrevPartition(false);
+          if (partitionFanOut == 1) {
+            state.setResourceExhaustedWasPresent(wasResourceExhausted);
+          } else if (wasResourceExhausted) {
+            // keep it if any of the concurrent requests was exhausted
+            state.setResourceExhaustedWasPresent(true);
+          }
           activateJobs(request, state, delegate);
         });
   }
@@ -299,6 +374,15 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
         topologyManager);
   }
 
+  /**
+   * A request sent to a single partition.
+   *
+   * @param partitionId the partition the request was sent to
+   * @param amount the amount of jobs the request reserved
+   * @param requestedAt the time at which the request was sent
+   */
+  private record PartitionRequest(int partitionId, int amount, long requestedAt) {}
+
   private record ResponseObserverDelegate(
       Consumer<Throwable> onErrorDelegate, BiConsumer<Integer, Boolean> onCompletedDelegate) {
 
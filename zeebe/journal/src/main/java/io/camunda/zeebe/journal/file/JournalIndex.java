@@ -29,7 +29,19 @@ interface JournalIndex {
    * @param record the record that should be indexed
    * @param position the position of the given index
    */
-  void index(JournalRecord record, int position);
+  default void index(final JournalRecord record, final int position) {
+    index(record.index(), record.asqn(), position);
+  }
+
+  /**
+   * Indexes the given record index, its asqn and its position with in a segment. Used when the
+   * record itself is not available, e.g. when restoring persisted index entries.
+   *
+   * @param index the index of the record
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   * @param position the position of the record with in its segment
+   */
+  void index(long index, long asqn, int position);
 
   /**
    * Looks up the position of the given index.
@@ -79,6 +91,15 @@ interface JournalIndex {
   /** Delete all index mappings */
   void clear();
 
+  /**
+   * Visits all indexed entries between the given indexes (both inclusive) in ascending order.
+   *
+   * @param fromIndex the lowest index to visit
+   * @param toIndex the highest index to visit
+   * @param consumer called for every indexed entry
+   */
+  void forEach(long fromIndex, long toIndex, IndexEntryConsumer consumer);
+
   /**
    * Checks if the entry at this index might have been already indexed. Note that the result is
    * probabilistic. If it returns true, it does not mean the lookup return exact index. If it
@@ -89,4 +110,20 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  /**
+   * Consumes the entries of a {@link JournalIndex}, see {@link #forEach(long, long,
+   * IndexEntryConsumer)}.
+   */
+  @FunctionalInterface
+  interface IndexEntryConsumer {
+
+    /**
+     * @param index the index of the record
+     * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if none is
+     *     indexed
+     * @param position the position of the record with in its segment
+     */
+    void accept(long index, long asqn, int position);
+  }
 }
@@ -37,6 +37,7 @@ final class JournalMetrics {
   private final Counter appendRate;
   private final Counter appendDataRate;
   private final Timer seekLatency;
+  private final Timer segmentRolloverLatency;
   private final MeterRegistry registry;
 
   JournalMetrics(final MeterRegistry registry) {
@@ -67,6 +68,7 @@ final class JournalMetrics {
             .description(APPEND_DATA_RATE.getDescription())
             .register(registry);
     seekLatency = makeTimer(SEEK_LATENCY);
+    segmentRolloverLatency = makeTimer(SEGMENT_ROLLOVER_LATENCY);
   }
 
   void observeSegmentCreation(final Runnable segmentCreation) {
@@ -118,6 +120,10 @@ final class JournalMetrics {
     return MicrometerUtil.timer(seekLatency, Timer.start(registry));
   }
 
+  CloseableSilently observeSegmentRollover() {
+    return MicrometerUtil.timer(segmentRolloverLatency, Timer.start(registry));
+  }
+
   private Timer makeTimer(final JournalMetricsDoc meter) {
     return Timer.builder(meter.getName())
         .description(meter.getDescription())
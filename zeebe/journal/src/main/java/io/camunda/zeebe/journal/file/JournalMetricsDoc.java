@@ -303,6 +303,44 @@ public enum JournalMetricsDoc implements ExtendedMeterDocumentation {
       return buckets;
     }
 
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /**
+   * Distribution of time spent waiting for the next segment when rolling over to it, i.e. for it to
+   * be prepared, or created if none was prepared
+   */
+  SEGMENT_ROLLOVER_LATENCY {
+    private final Duration[] buckets =
+        Stream.of(
+                10, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000,
+                250_000, 500_000, 1_000_000)
+            .map(micros -> Duration.of(micros, ChronoUnit.MICROS))
+            .toArray(Duration[]::new);
+
+    @Override
+    public String getName() {
+      return "atomix.segment.rollover.wait.time";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Distribution of time spent waiting for the next segment when rolling over to it, i.e."
+          + " for it to be prepared, or created if none was prepared";
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return buckets;
+    }
+
     @Override
     public KeyName[] getKeyNames() {
       return new KeyName[] {PartitionKeyNames.PARTITION};
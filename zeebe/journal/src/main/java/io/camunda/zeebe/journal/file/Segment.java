@@ -45,7 +45,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private static final Logger LOG = LoggerFactory.getLogger(Segment.class);
 
   private final SegmentFile file;
-  private SegmentDescriptor descriptor;
+  // volatile as the index of a sealed segment is persisted from another thread
+  private volatile SegmentDescriptor descriptor;
   private final SegmentDescriptorSerializer descriptorSerializer;
   private final JournalIndex index;
   private final SegmentWriter writer;
@@ -238,6 +239,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
   void delete() {
     open = false;
     markForDeletion();
+    // the persisted index is never read by open readers, so it can be deleted right away
+    deleteIndexFile();
     if (readers.isEmpty()) {
       safeDelete();
     }
@@ -281,6 +284,18 @@ final class Segment implements AutoCloseable, FlushableSegment {
     markedForDeletion = true;
   }
 
+  private void deleteIndexFile() {
+    try {
+      Files.deleteIfExists(file.indexFile());
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete index file {} of segment {}. This can lead to increased disk usage.",
+          file.indexFile(),
+          this,
+          e);
+    }
+  }
+
   void updateDescriptor() {
     descriptor =
         descriptor.withUpdatedIndices(writer.getLastIndex(), writer.getLastEntryPosition());
@@ -292,5 +307,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
     descriptorSerializer.writeTo(descriptor, buffer);
     // flush immediately to prevent inconsistencies between descriptor and actual last written entry
     buffer.force(0, descriptor.encodingLength());
+    // the segment is written to again, so its persisted index, if any, is not valid anymore; this
+    // happens after resetting the descriptor, so that a concurrent persist notices the change
+    deleteIndexFile();
   }
 }
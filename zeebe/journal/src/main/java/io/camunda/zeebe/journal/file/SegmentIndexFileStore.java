@@ -0,0 +1,202 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the index entries of a sealed segment in a sidecar file next to the segment file (see
+ * {@link SegmentFile#indexFile()}), and restores them when the segment is loaded again.
+ *
+ * <p>The file consists of a header, followed by the entries and a CRC32C checksum of everything
+ * before it:
+ *
+ * <pre>
+ * version (int) | density (int) | segment id (long) | first index (long) | last index (long) |
+ * last position (int) | entry count (int) | [index (long) | asqn (long) | position (int)]* |
+ * checksum (int)
+ * </pre>
+ *
+ * <p>The header is validated against the {@link SegmentDescriptor} of the segment when restoring,
+ * so that a stale or partially written file is ignored. As the file is only a cache which can
+ * always be rebuilt by reading the segment, it is not flushed to disk.
+ */
+final class SegmentIndexFileStore implements SegmentIndexStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFileStore.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final int VERSION = 1;
+  private static final int VERSION_OFFSET = 0;
+  private static final int DENSITY_OFFSET = VERSION_OFFSET + Integer.BYTES;
+  private static final int SEGMENT_ID_OFFSET = DENSITY_OFFSET + Integer.BYTES;
+  private static final int FIRST_INDEX_OFFSET = SEGMENT_ID_OFFSET + Long.BYTES;
+  private static final int LAST_INDEX_OFFSET = FIRST_INDEX_OFFSET + Long.BYTES;
+  private static final int LAST_POSITION_OFFSET = LAST_INDEX_OFFSET + Long.BYTES;
+  private static final int COUNT_OFFSET = LAST_POSITION_OFFSET + Integer.BYTES;
+  private static final int HEADER_LENGTH = COUNT_OFFSET + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES * 2 + Integer.BYTES;
+  private static final int CHECKSUM_LENGTH = Integer.BYTES;
+
+  private final JournalIndex journalIndex;
+  private final int density;
+
+  SegmentIndexFileStore(final JournalIndex journalIndex, final int density) {
+    this.journalIndex = journalIndex;
+    this.density = density;
+  }
+
+  @Override
+  public void persist(final Segment segment) {
+    final var descriptor = segment.descriptor();
+    final long firstIndex = segment.index();
+    final long lastIndex = segment.lastIndex();
+    if (descriptor.lastPosition() == 0 || descriptor.lastIndex() != lastIndex) {
+      LOG.trace("Skip persisting index of segment {}, its descriptor is not up to date", segment);
+      return;
+    }
+
+    // the index is sparse, so every record whose index is a multiple of the density is expected
+    final long expectedCount = lastIndex / density - (firstIndex - 1) / density;
+    final long expectedLength = HEADER_LENGTH + expectedCount * ENTRY_LENGTH + CHECKSUM_LENGTH;
+    if (expectedLength > Integer.MAX_VALUE) {
+      LOG.debug("Skip persisting index of segment {}, it has too many entries", segment);
+      return;
+    }
+
+    final var buffer = ByteBuffer.allocate((int) expectedLength).order(ENDIANNESS);
+    buffer.position(HEADER_LENGTH);
+    journalIndex.forEach(
+        firstIndex,
+        lastIndex,
+        (index, asqn, position) -> {
+          if (buffer.remaining() > CHECKSUM_LENGTH) {
+            buffer.putLong(index).putLong(asqn).putInt(position);
+          } else {
+            // more entries than expected, which invalidates the file below
+            buffer.limit(buffer.position());
+          }
+        });
+
+    // segments which were loaded from disk and then appended to may only be partially indexed;
+    // skip them, they will be indexed again when read after a restart
+    if (buffer.remaining() != CHECKSUM_LENGTH) {
+      LOG.trace("Skip persisting index of segment {}, it was not fully indexed", segment);
+      return;
+    }
+
+    buffer
+        .putInt(VERSION_OFFSET, VERSION)
+        .putInt(DENSITY_OFFSET, density)
+        .putLong(SEGMENT_ID_OFFSET, descriptor.id())
+        .putLong(FIRST_INDEX_OFFSET, firstIndex)
+        .putLong(LAST_INDEX_OFFSET, lastIndex)
+        .putInt(LAST_POSITION_OFFSET, descriptor.lastPosition())
+        .putInt(COUNT_OFFSET, (int) expectedCount);
+    final var checksum = new ChecksumGenerator().compute(buffer.array(), 0, buffer.position());
+    buffer.putInt((int) checksum);
+
+    final Path indexFile = segment.file().indexFile();
+    try {
+      Files.write(indexFile, buffer.array());
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to persist index of segment {} to {}, it will be indexed when read instead",
+          segment,
+          indexFile,
+          e);
+      deleteQuietly(indexFile);
+      return;
+    }
+
+    // this runs in the background, so the segment may have been truncated or deleted meanwhile;
+    // the file would be ignored on restore, but there's no point in keeping it around
+    if (!segment.isOpen() || segment.descriptor() != descriptor) {
+      LOG.trace("Segment {} changed while persisting its index, deleting {}", segment, indexFile);
+      deleteQuietly(indexFile);
+    }
+  }
+
+  @Override
+  public boolean restore(final Segment segment) {
+    final Path indexFile = segment.file().indexFile();
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile)).order(ENDIANNESS);
+    } catch (final NoSuchFileException e) {
+      return false;
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to read index file {}, segment {} will be indexed when read",
+          indexFile,
+          segment,
+          e);
+      return false;
+    }
+
+    if (!isValid(buffer, segment)) {
+      LOG.debug(
+          "Index file {} does not match segment {}, the segment will be indexed when read",
+          indexFile,
+          segment);
+      deleteQuietly(indexFile);
+      return false;
+    }
+
+    buffer.position(HEADER_LENGTH);
+    while (buffer.remaining() > CHECKSUM_LENGTH) {
+      journalIndex.index(buffer.getLong(), buffer.getLong(), buffer.getInt());
+    }
+
+    LOG.trace("Restored index of segment {} from {}", segment, indexFile);
+    return true;
+  }
+
+  private boolean isValid(final ByteBuffer buffer, final Segment segment) {
+    final int length = buffer.capacity();
+    if (length < HEADER_LENGTH + CHECKSUM_LENGTH) {
+      return false;
+    }
+
+    final int count = buffer.getInt(COUNT_OFFSET);
+    if (count < 0
+        || (long) HEADER_LENGTH + (long) count * ENTRY_LENGTH + CHECKSUM_LENGTH != length) {
+      return false;
+    }
+
+    final var checksum =
+        new ChecksumGenerator().compute(buffer.array(), 0, length - CHECKSUM_LENGTH);
+    if ((int) checksum != buffer.getInt(length - CHECKSUM_LENGTH)) {
+      return false;
+    }
+
+    final var descriptor = segment.descriptor();
+    return buffer.getInt(VERSION_OFFSET) == VERSION
+        && buffer.getInt(DENSITY_OFFSET) == density
+        && buffer.getLong(SEGMENT_ID_OFFSET) == descriptor.id()
+        && buffer.getLong(FIRST_INDEX_OFFSET) == segment.index()
+        && buffer.getLong(LAST_INDEX_OFFSET) == descriptor.lastIndex()
+        && descriptor.lastIndex() == segment.lastIndex()
+        && buffer.getInt(LAST_POSITION_OFFSET) == descriptor.lastPosition();
+  }
+
+  private void deleteQuietly(final Path indexFile) {
+    try {
+      Files.deleteIfExists(indexFile);
+    } catch (final IOException e) {
+      LOG.debug("Failed to delete index file {}", indexFile, e);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+/**
+ * Defines the strategy when it comes to persisting the {@link JournalIndex} entries of sealed
+ * segments, such that they don't have to be rebuilt by reading the segments after a restart.
+ */
+interface SegmentIndexStore {
+
+  /**
+   * Persists the index entries of the given segment. Called once the segment is sealed, i.e. its
+   * descriptor was updated with its last entry, and no more entries will be appended to it.
+   *
+   * <p>This is called from a background thread, concurrently with the journal being written to,
+   * so the segment may be truncated or deleted while its index is persisted. Implementations must
+   * make sure that {@link #restore(Segment)} ignores such stale entries.
+   *
+   * @param segment the sealed segment
+   */
+  void persist(Segment segment);
+
+  /**
+   * Restores the previously persisted index entries of the given segment into the journal index. If
+   * nothing was persisted, or the persisted entries don't match the segment, nothing is restored,
+   * and the segment will be indexed when it is read.
+   *
+   * @param segment the segment loaded from disk
+   * @return true if the entries were restored, false otherwise
+   */
+  boolean restore(Segment segment);
+
+  /** Returns a store which does nothing, i.e. segments are always indexed when read. */
+  static SegmentIndexStore noop() {
+    return new SegmentIndexStore() {
+      @Override
+      public void persist(final Segment segment) {}
+
+      @Override
+      public boolean restore(final Segment segment) {
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Returns a store which persists the index entries of a segment in a sidecar file next to it, see
+   * {@link SegmentIndexFileStore}.
+   *
+   * @param journalIndex the index of the journal
+   * @param density the density of the journal index
+   */
+  static SegmentIndexStore file(final JournalIndex journalIndex, final int density) {
+    return new SegmentIndexFileStore(journalIndex, density);
+  }
+}
@@ -33,6 +33,9 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_SORTED_ARRAY_INDEX = false;
+  private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
+  private static final int DEFAULT_PREPARED_SEGMENT_COUNT = 1;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -44,6 +47,9 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean sortedArrayIndex = DEFAULT_SORTED_ARRAY_INDEX;
+  private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
+  private int preparedSegmentCount = DEFAULT_PREPARED_SEGMENT_COUNT;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -145,6 +151,50 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the journal index should be kept in sorted primitive arrays instead of skip list
+   * maps. This reduces the memory footprint of the index and the GC pressure it causes, at the cost
+   * of copying when the index is compacted.
+   *
+   * @param sortedArrayIndex true to use the sorted array index, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withSortedArrayIndex(final boolean sortedArrayIndex) {
+    this.sortedArrayIndex = sortedArrayIndex;
+    return this;
+  }
+
+  /**
+   * Sets whether the index entries of a segment are persisted in a sidecar file once the segment is
+   * sealed. If true, the journal index is restored from these files when the journal is opened,
+   * instead of being rebuilt by reading the segments, e.g. when seeking to an asqn after a restart.
+   *
+   * @param persistSegmentIndex true to persist the index of sealed segments, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPersistSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+    return this;
+  }
+
+  /**
+   * Sets how many segments are created and allocated ahead of time in the background, such that
+   * rolling over to a new segment only swaps in a segment which is ready. Each prepared segment
+   * takes up the maximum segment size on disk (see {@link #withMaxSegmentSize(int)}). If 0,
+   * segments are created when rolling over.
+   *
+   * <p>By default, one segment is prepared.
+   *
+   * @param preparedSegmentCount the number of segments to prepare ahead of time
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if the {@code preparedSegmentCount} is negative
+   */
+  public SegmentedJournalBuilder withPreparedSegmentCount(final int preparedSegmentCount) {
+    checkArgument(preparedSegmentCount >= 0, "preparedSegmentCount must not be negative");
+    this.preparedSegmentCount = preparedSegmentCount;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -167,11 +217,18 @@ public class SegmentedJournalBuilder {
   }
 
   public SegmentedJournal build() {
-    final var journalIndex = new SparseJournalIndex(journalIndexDensity);
+    final JournalIndex journalIndex =
+        sortedArrayIndex
+            ? new SortedArrayJournalIndex(journalIndexDensity)
+            : new SparseJournalIndex(journalIndexDensity);
     final var journalMetrics = new JournalMetrics(meterRegistry);
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
     final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var segmentIndexStore =
+        persistSegmentIndex
+            ? SegmentIndexStore.file(journalIndex, journalIndexDensity)
+            : SegmentIndexStore.noop();
     final var segmentsManager =
         new SegmentsManager(
             journalIndex,
@@ -180,7 +237,9 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            journalMetaStore);
+            journalMetaStore,
+            segmentIndexStore,
+            preparedSegmentCount);
     final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
 
     return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
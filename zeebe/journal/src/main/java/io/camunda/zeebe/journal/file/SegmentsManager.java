@@ -12,6 +12,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.util.VisibleForTesting;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.io.File;
 import java.io.IOException;
@@ -19,11 +20,13 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +35,9 @@ import java.util.SortedMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,7 +52,11 @@ final class SegmentsManager implements AutoCloseable {
   private static final Logger THROTTLED_LOG = new ThrottledLogger(LOG, Duration.ofSeconds(5));
 
   private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
-  private CompletableFuture<UninitializedSegment> nextSegment = null;
+  // segments which are created and allocated ahead of time, in the order they will be used
+  private final Deque<CompletableFuture<UninitializedSegment>> nextSegments = new ArrayDeque<>();
+  private long lastPreparedSegmentId;
+  // the last persistence of a sealed segment's index, which runs on the segment preparer
+  private CompletableFuture<Void> pendingIndexPersist = CompletableFuture.completedFuture(null);
 
   private final JournalMetrics journalMetrics;
   private final JournalIndex journalIndex;
@@ -55,6 +65,9 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final SegmentIndexStore segmentIndexStore;
+  private final int preparedSegmentCount;
+  private final ExecutorService segmentPreparer;
 
   private volatile Segment currentSegment;
 
@@ -65,7 +78,9 @@ final class SegmentsManager implements AutoCloseable {
       final String name,
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
-      final JournalMetaStore metaStore) {
+      final JournalMetaStore metaStore,
+      final SegmentIndexStore segmentIndexStore,
+      final int preparedSegmentCount) {
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -73,10 +88,22 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    this.segmentIndexStore = segmentIndexStore;
+    this.preparedSegmentCount = preparedSegmentCount;
+    // creating and allocating segments is blocking IO, so keep it off the common pool
+    segmentPreparer =
+        Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("journal-segment-preparer-" + name).daemon().factory());
   }
 
   @Override
   public void close() {
+    try {
+      pendingIndexPersist.join();
+    } catch (final Exception e) {
+      LOG.warn("Persisting segment index failed during close, ignoring and proceeding to close", e);
+    }
+
     segments
         .values()
         .forEach(
@@ -85,15 +112,16 @@ final class SegmentsManager implements AutoCloseable {
               segment.close();
             });
 
-    if (nextSegment != null) {
+    for (final var nextSegment : nextSegments) {
       try {
         nextSegment.join();
       } catch (final Exception e) {
         LOG.warn(
             "Next segment preparation failed during close, ignoring and proceeding to close", e);
       }
-      nextSegment = null;
     }
+    nextSegments.clear();
+    segmentPreparer.shutdownNow();
 
     currentSegment = null;
   }
@@ -119,6 +147,8 @@ final class SegmentsManager implements AutoCloseable {
    * @throws IllegalStateException if the segment manager is not open
    */
   Segment getNextSegment() {
+    // the current segment is sealed at this point, so its index entries will not change anymore
+    persistIndexAsync(currentSegment);
 
     final Segment lastSegment = getLastSegment();
     final var lastWrittenAsqn = lastSegment != null ? lastSegment.lastAsqn() : INITIAL_ASQN;
@@ -129,25 +159,41 @@ final class SegmentsManager implements AutoCloseable {
             .withIndex(nextSegmentIndex)
             .withMaxSegmentSize(maxSegmentSize)
             .build();
+    final var nextSegment = nextSegments.pollFirst();
     if (nextSegment != null) {
       try {
         currentSegment =
-            nextSegment.join().initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
+            awaitNextSegment(nextSegment)
+                .initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
       } catch (final CompletionException e) {
         LOG.error("Failed to acquire next segment, retrying synchronously now.", e);
-        nextSegment = null;
-        currentSegment = createSegment(descriptor, lastWrittenAsqn);
+        currentSegment = awaitSegmentCreation(descriptor, lastWrittenAsqn);
       }
     } else {
-      currentSegment = createSegment(descriptor, lastWrittenAsqn);
+      currentSegment = awaitSegmentCreation(descriptor, lastWrittenAsqn);
     }
-    prepareNextSegment();
+    prepareNextSegments();
 
     segments.put(descriptor.index(), currentSegment);
     journalMetrics.incSegmentCount();
     return currentSegment;
   }
 
+  private UninitializedSegment awaitNextSegment(
+      final CompletableFuture<UninitializedSegment> nextSegment) {
+    try (final var ignored = journalMetrics.observeSegmentRollover()) {
+      return nextSegment.join();
+    }
+  }
+
+  /** Without a prepared segment, rolling over waits until the next one is created. */
+  private Segment awaitSegmentCreation(
+      final SegmentDescriptor descriptor, final long lastWrittenAsqn) {
+    try (final var ignored = journalMetrics.observeSegmentRollover()) {
+      return createSegment(descriptor, lastWrittenAsqn);
+    }
+  }
+
   Segment getNextSegment(final long index) {
     final Map.Entry<Long, Segment> nextSegment = segments.higherEntry(index);
     return nextSegment != null ? nextSegment.getValue() : null;
@@ -316,14 +362,47 @@ final class SegmentsManager implements AutoCloseable {
     deleteDeferredFiles();
   }
 
-  private void prepareNextSegment() {
-    final var descriptor =
-        SegmentDescriptor.builder()
-            .withId(currentSegment.id() + 1)
-            .withIndex(INITIAL_INDEX)
-            .withMaxSegmentSize(maxSegmentSize)
-            .build();
-    nextSegment = CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor));
+  /**
+   * Creates and allocates the next segments in the background, such that rolling over to a new
+   * segment does not have to wait for it. Segment IDs follow the current segment, or the last
+   * segment which is already being prepared.
+   */
+  private void prepareNextSegments() {
+    if (nextSegments.isEmpty()) {
+      lastPreparedSegmentId = currentSegment.id();
+    }
+
+    while (nextSegments.size() < preparedSegmentCount) {
+      final var descriptor =
+          SegmentDescriptor.builder()
+              .withId(++lastPreparedSegmentId)
+              .withIndex(INITIAL_INDEX)
+              .withMaxSegmentSize(maxSegmentSize)
+              .build();
+      nextSegments.addLast(
+          CompletableFuture.supplyAsync(
+              () -> createUninitializedSegment(descriptor), segmentPreparer));
+    }
+  }
+
+  /**
+   * Persists the index of the given sealed segment in the background, so that rolling over does not
+   * wait for the file to be written. If the segment is truncated or deleted in the meantime, the
+   * written file will not match its descriptor anymore and is ignored when the journal is opened.
+   */
+  private void persistIndexAsync(final Segment sealedSegment) {
+    try {
+      pendingIndexPersist =
+          CompletableFuture.runAsync(
+              () -> segmentIndexStore.persist(sealedSegment), segmentPreparer);
+    } catch (final RejectedExecutionException e) {
+      LOG.debug("Skip persisting index of segment {}, the journal is closing", sealedSegment, e);
+    }
+  }
+
+  @VisibleForTesting("Indexes are persisted asynchronously, so tests need to wait for it")
+  CompletableFuture<Void> pendingIndexPersist() {
+    return pendingIndexPersist;
   }
 
   SortedMap<Long, Segment> getTailSegments(final long index) {
@@ -384,6 +463,7 @@ final class SegmentsManager implements AutoCloseable {
                   .formatted(lastFlushedIndex, segment.lastIndex()));
         }
 
+        segmentIndexStore.restore(segment);
         segments.add(segment);
         previousSegment = segment;
       } catch (final CorruptedJournalException e) {
@@ -444,6 +524,7 @@ final class SegmentsManager implements AutoCloseable {
       final File file = files.get(i);
       try {
         Files.delete(file.toPath());
+        Files.deleteIfExists(new SegmentFile(file).indexFile());
       } catch (final IOException e) {
         throw new JournalException(
             String.format(
@@ -0,0 +1,292 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A sparse {@link JournalIndex} which keeps its mappings in sorted primitive arrays instead of skip
+ * list maps. Lookups are binary searches, and since records are indexed in ascending order,
+ * indexing is usually an append to the end of the arrays.
+ *
+ * <p>Compared to {@link SparseJournalIndex}, this avoids boxing every key and value and allocating
+ * a node per entry, and the index does not produce garbage as the log grows. Each indexed record
+ * takes 28 bytes of the arrays (12 for the position mapping and 16 for the asqn mapping). As the
+ * arrays grow by half when full, and only shrink once less than a quarter is used, their capacity is
+ * up to 1.5 times the number of indexed records while the log grows, and up to 4 times after it was
+ * truncated. The index thus uses between 28 and 112 bytes per indexed record, but never less than
+ * the initial capacity of 64 entries per array.
+ *
+ * <p>The application sequence numbers are expected to be strictly increasing with the record index,
+ * which is guaranteed by the journal, so a single array sorted by index is also sorted by asqn.
+ *
+ * <p>Lookups may happen concurrently with writes (e.g. from readers), so access is guarded by a
+ * {@link StampedLock}.
+ */
+final class SortedArrayJournalIndex implements JournalIndex {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final int density;
+  private final StampedLock lock = new StampedLock();
+
+  // index -> position mappings, sorted by index
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int size;
+
+  // index -> asqn mappings for records with an asqn, sorted by index (and thus by asqn)
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private int asqnSize;
+
+  SortedArrayJournalIndex(final int density) {
+    this.density = density;
+  }
+
+  @Override
+  public void index(final long index, final long asqn, final int position) {
+    if (index % density != 0) {
+      return;
+    }
+
+    final long stamp = lock.writeLock();
+    try {
+      putPosition(index, position);
+      if (asqn != SegmentedJournal.ASQN_IGNORE) {
+        putAsqn(index, asqn);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public IndexInfo lookup(final long index) {
+    final long stamp = lock.readLock();
+    try {
+      final int slot = floorSlot(indexes, size, index);
+      return slot >= 0 ? new IndexInfo(indexes[slot], positions[slot]) : null;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn) {
+    return lookupAsqn(asqn, Long.MAX_VALUE);
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    final long stamp = lock.readLock();
+    try {
+      final int slot = floorSlot(asqns, asqnSize, asqn);
+      if (slot < 0) {
+        return null;
+      }
+
+      if (asqnIndexes[slot] <= indexUpperBound) {
+        return asqnIndexes[slot];
+      }
+
+      final int boundedSlot = floorSlot(asqnIndexes, asqnSize, indexUpperBound);
+      return boundedSlot >= 0 ? asqnIndexes[boundedSlot] : null;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public void deleteAfter(final long indexExclusive) {
+    final long stamp = lock.writeLock();
+    try {
+      size = floorSlot(indexes, size, indexExclusive) + 1;
+      asqnSize = floorSlot(asqnIndexes, asqnSize, indexExclusive) + 1;
+      shrinkIfSparse();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void deleteUntil(final long indexExclusive) {
+    final long stamp = lock.writeLock();
+    try {
+      final int firstRetained = ceilingSlot(indexes, size, indexExclusive);
+      removeHead(indexes, positions, firstRetained, size);
+      size -= firstRetained;
+
+      // keep the floor entry, so that asqn lookups right at the boundary still resolve
+      final int firstRetainedAsqn = Math.max(0, floorSlot(asqnIndexes, asqnSize, indexExclusive));
+      removeHead(asqnIndexes, asqns, firstRetainedAsqn, asqnSize);
+      asqnSize -= firstRetainedAsqn;
+
+      shrinkIfSparse();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void clear() {
+    final long stamp = lock.writeLock();
+    try {
+      size = 0;
+      asqnSize = 0;
+      shrinkIfSparse();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexEntryConsumer consumer) {
+    final long stamp = lock.readLock();
+    try {
+      int asqnSlot = ceilingSlot(asqnIndexes, asqnSize, fromIndex);
+      for (int slot = ceilingSlot(indexes, size, fromIndex);
+          slot < size && indexes[slot] <= toIndex;
+          slot++) {
+        final long index = indexes[slot];
+        while (asqnSlot < asqnSize && asqnIndexes[asqnSlot] < index) {
+          asqnSlot++;
+        }
+
+        final long asqn =
+            asqnSlot < asqnSize && asqnIndexes[asqnSlot] == index
+                ? asqns[asqnSlot]
+                : SegmentedJournal.ASQN_IGNORE;
+        consumer.accept(index, asqn, positions[slot]);
+      }
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public boolean hasIndexed(final long index) {
+    final var indexInfo = lookup(index);
+    if (indexInfo == null) {
+      return false;
+    } else {
+      return indexInfo.index() > index - density;
+    }
+  }
+
+  private void putPosition(final long index, final int position) {
+    // fast path: records are indexed in ascending order by the writer
+    if (size == 0 || indexes[size - 1] < index) {
+      if (size == indexes.length) {
+        indexes = Arrays.copyOf(indexes, grow(size));
+        positions = Arrays.copyOf(positions, indexes.length);
+      }
+
+      indexes[size] = index;
+      positions[size] = position;
+      size++;
+      return;
+    }
+
+    final int slot = Arrays.binarySearch(indexes, 0, size, index);
+    if (slot >= 0) {
+      positions[slot] = position;
+      return;
+    }
+
+    final int insertAt = -(slot + 1);
+    if (size == indexes.length) {
+      indexes = Arrays.copyOf(indexes, grow(size));
+      positions = Arrays.copyOf(positions, indexes.length);
+    }
+    System.arraycopy(indexes, insertAt, indexes, insertAt + 1, size - insertAt);
+    System.arraycopy(positions, insertAt, positions, insertAt + 1, size - insertAt);
+    indexes[insertAt] = index;
+    positions[insertAt] = position;
+    size++;
+  }
+
+  private void putAsqn(final long index, final long asqn) {
+    if (asqnSize == 0 || asqnIndexes[asqnSize - 1] < index) {
+      if (asqnSize == asqnIndexes.length) {
+        asqnIndexes = Arrays.copyOf(asqnIndexes, grow(asqnSize));
+        asqns = Arrays.copyOf(asqns, asqnIndexes.length);
+      }
+
+      asqnIndexes[asqnSize] = index;
+      asqns[asqnSize] = asqn;
+      asqnSize++;
+      return;
+    }
+
+    final int slot = Arrays.binarySearch(asqnIndexes, 0, asqnSize, index);
+    if (slot >= 0) {
+      asqns[slot] = asqn;
+      return;
+    }
+
+    final int insertAt = -(slot + 1);
+    if (asqnSize == asqnIndexes.length) {
+      asqnIndexes = Arrays.copyOf(asqnIndexes, grow(asqnSize));
+      asqns = Arrays.copyOf(asqns, asqnIndexes.length);
+    }
+    System.arraycopy(asqnIndexes, insertAt, asqnIndexes, insertAt + 1, asqnSize - insertAt);
+    System.arraycopy(asqns, insertAt, asqns, insertAt + 1, asqnSize - insertAt);
+    asqnIndexes[insertAt] = index;
+    asqns[insertAt] = asqn;
+    asqnSize++;
+  }
+
+  /** Releases memory after large deletions, e.g. after compaction or truncation. */
+  private void shrinkIfSparse() {
+    if (indexes.length > INITIAL_CAPACITY && size < indexes.length / 4) {
+      final int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+      indexes = Arrays.copyOf(indexes, capacity);
+      positions = Arrays.copyOf(positions, capacity);
+    }
+
+    if (asqnIndexes.length > INITIAL_CAPACITY && asqnSize < asqnIndexes.length / 4) {
+      final int capacity = Math.max(INITIAL_CAPACITY, asqnSize * 2);
+      asqnIndexes = Arrays.copyOf(asqnIndexes, capacity);
+      asqns = Arrays.copyOf(asqns, capacity);
+    }
+  }
+
+  private static int grow(final int capacity) {
+    return capacity + (capacity >> 1);
+  }
+
+  private static void removeHead(
+      final long[] keys, final long[] values, final int count, final int length) {
+    if (count > 0) {
+      System.arraycopy(keys, count, keys, 0, length - count);
+      System.arraycopy(values, count, values, 0, length - count);
+    }
+  }
+
+  private static void removeHead(
+      final long[] keys, final int[] values, final int count, final int length) {
+    if (count > 0) {
+      System.arraycopy(keys, count, keys, 0, length - count);
+      System.arraycopy(values, count, values, 0, length - count);
+    }
+  }
+
+  /** Returns the slot of the greatest key less than or equal to the given key, or -1 if none. */
+  private static int floorSlot(final long[] keys, final int length, final long key) {
+    final int slot = Arrays.binarySearch(keys, 0, length, key);
+    return slot >= 0 ? slot : -(slot + 1) - 1;
+  }
+
+  /** Returns the slot of the least key greater than or equal to the given key, or length. */
+  private static int ceilingSlot(final long[] keys, final int length, final long key) {
+    final int slot = Arrays.binarySearch(keys, 0, length, key);
+    return slot >= 0 ? slot : -(slot + 1);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.TestJournalRecord;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link JournalIndex} implementations on an index sized as for a multi-GB journal.
+ * The journal size can be configured via the {@code JOURNAL_INDEX_PERFORMANCE_TEST_SIZE_GB}
+ * environment variable; every record is assumed to take {@link #RECORD_SIZE} bytes.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JournalIndexPerformanceTest {
+  private static final long ONE_GB = 1024L * 1024 * 1024;
+  private static final int RECORD_SIZE = 1024;
+  private static final double SIZE_GB =
+      Double.parseDouble(
+          System.getenv().getOrDefault("JOURNAL_INDEX_PERFORMANCE_TEST_SIZE_GB", "4"));
+  private static final int TRUNCATED_ENTRIES = 1_000;
+
+  @Param({"sparse", "sortedArray"})
+  public String implementation;
+
+  @Param({"1", "100"})
+  public int density;
+
+  private JournalIndex index;
+  private long lastIndex;
+
+  @Setup
+  public void setup() {
+    index =
+        "sortedArray".equals(implementation)
+            ? new SortedArrayJournalIndex(density)
+            : new SparseJournalIndex(density);
+
+    lastIndex = Math.round(SIZE_GB * ONE_GB / RECORD_SIZE);
+    for (long i = 1; i <= lastIndex; i++) {
+      index.index(record(i), position(i));
+    }
+  }
+
+  @Benchmark
+  public IndexInfo measureLookup() {
+    return index.lookup(ThreadLocalRandom.current().nextLong(1, lastIndex + 1));
+  }
+
+  @Benchmark
+  public Long measureLookupAsqn() {
+    return index.lookupAsqn(ThreadLocalRandom.current().nextLong(1, lastIndex + 1) * 2);
+  }
+
+  /** Truncates the tail of the index and indexes it again, as done when a follower truncates. */
+  @Benchmark
+  public long measureDeleteAfterAndIndex() {
+    final long truncatedIndex = lastIndex - TRUNCATED_ENTRIES;
+    index.deleteAfter(truncatedIndex);
+    for (long i = truncatedIndex + 1; i <= lastIndex; i++) {
+      index.index(record(i), position(i));
+    }
+
+    return truncatedIndex;
+  }
+
+  @JMHTest("measureLookup")
+  void shouldLookupFasterWithSortedArrays(final JMHTestCase testCase) {
+    // given - an ops/s score as measured locally with the sorted array index and a density of 1
+    // when running this test on different hardware, you're likely to have a different score
+    final var referenceScore = 1_500_000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(o -> o.param("implementation", "sortedArray").param("density", "1"))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private static TestJournalRecord record(final long index) {
+    return new TestJournalRecord(index, index * 2, 0, null, null);
+  }
+
+  private static int position(final long index) {
+    return (int) (index * RECORD_SIZE % Integer.MAX_VALUE);
+  }
+}
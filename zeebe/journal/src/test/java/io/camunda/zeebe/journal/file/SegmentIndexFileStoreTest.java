@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SegmentIndexFileStoreTest {
+  private static final int ENTRIES_PER_SEGMENT = 2;
+
+  private final BufferWriter entry = new TestJournalFactory().entry();
+  private final List<AutoCloseable> closeables = new ArrayList<>();
+  private @TempDir Path directory;
+  private SegmentsManager segments;
+
+  @AfterEach
+  void tearDown() {
+    closeables.forEach(CloseHelper::quietClose);
+  }
+
+  @Test
+  void shouldPersistIndexOfSealedSegment() {
+    // given
+    final var journal = openJournal();
+
+    // when - fill the first segment and roll over to the second one
+    journal.append(1, entry);
+    journal.append(2, entry);
+    journal.append(3, entry);
+    segments.pendingIndexPersist().join();
+
+    // then
+    assertThat(journal.getFirstSegment().file().indexFile()).exists();
+    assertThat(journal.getLastSegment().file().indexFile()).doesNotExist();
+  }
+
+  @Test
+  void shouldRestoreIndexOfSealedSegmentsOnOpen() {
+    // given
+    var journal = openJournal();
+    for (int i = 1; i <= 5; i++) {
+      journal.append(i, entry);
+    }
+    final var indexBeforeRestart = journal.getJournalIndex();
+    final var firstPosition = indexBeforeRestart.lookup(1);
+    final var thirdPosition = indexBeforeRestart.lookup(3);
+    journal.close();
+
+    // when
+    journal = openJournal();
+
+    // then
+    final var indexAfterRestart = journal.getJournalIndex();
+    assertThat(indexAfterRestart.lookup(1)).isEqualTo(firstPosition);
+    assertThat(indexAfterRestart.lookup(3)).isEqualTo(thirdPosition);
+    assertThat(indexAfterRestart.lookupAsqn(2)).isEqualTo(2);
+    assertThat(indexAfterRestart.lookupAsqn(4)).isEqualTo(4);
+  }
+
+  @Test
+  void shouldIgnoreCorruptedIndexFile() throws IOException {
+    // given
+    var journal = openJournal();
+    for (int i = 1; i <= 3; i++) {
+      journal.append(i, entry);
+    }
+    final Path indexFile = journal.getFirstSegment().file().indexFile();
+    journal.close();
+
+    final byte[] bytes = Files.readAllBytes(indexFile);
+    bytes[bytes.length / 2] = (byte) ~bytes[bytes.length / 2];
+    Files.write(indexFile, bytes);
+
+    // when
+    journal = openJournal();
+
+    // then - the first segment was not restored, and is indexed when read instead
+    assertThat(journal.getJournalIndex().lookup(1)).isNull();
+    assertThat(indexFile).doesNotExist();
+    try (final var reader = journal.openReader()) {
+      assertThat(reader.seek(1)).isOne();
+      assertThat(reader.next().asqn()).isOne();
+    }
+  }
+
+  @Test
+  void shouldDeleteIndexFileWhenSegmentIsCompacted() {
+    // given
+    final var journal = openJournal();
+    for (int i = 1; i <= 5; i++) {
+      journal.append(i, entry);
+    }
+    final Path indexFile = journal.getFirstSegment().file().indexFile();
+    segments.pendingIndexPersist().join();
+    assertThat(indexFile).exists();
+
+    // when
+    journal.deleteUntil(3);
+
+    // then
+    assertThat(indexFile).doesNotExist();
+  }
+
+  @Test
+  void shouldDeleteIndexFileWhenSegmentIsTruncated() {
+    // given
+    var journal = openJournal();
+    for (int i = 1; i <= 5; i++) {
+      journal.append(i, entry);
+    }
+    final Path indexFile = journal.getFirstSegment().file().indexFile();
+    segments.pendingIndexPersist().join();
+    assertThat(indexFile).exists();
+
+    // when
+    journal.deleteAfter(1);
+    journal.close();
+    journal = openJournal();
+
+    // then
+    assertThat(indexFile).doesNotExist();
+    assertThat(journal.getLastIndex()).isOne();
+  }
+
+  private SegmentedJournal openJournal() {
+    final var journalFactory = new TestJournalFactory(ENTRIES_PER_SEGMENT);
+    segments = journalFactory.segmentsManager(directory, journalFactory.segmentIndexFileStore());
+    final var journal = journalFactory.journal(segments);
+    closeables.add(journal);
+    return journal;
+  }
+}
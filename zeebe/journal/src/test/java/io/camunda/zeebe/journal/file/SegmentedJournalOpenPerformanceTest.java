@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to open a journal with many segments, and to seek to an asqn in its
+ * middle, as done when replaying the log after a restart.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SegmentedJournalOpenPerformanceTest {
+  private static final int SEGMENT_SIZE = 256 * 1024;
+  private static final int RECORD_SIZE = 512;
+  private static final int INDEX_DENSITY = 100;
+
+  @Param({"500"})
+  public int segmentCount;
+
+  @Param({"false", "true"})
+  public boolean persistSegmentIndex;
+
+  private Path directory;
+  private long seekAsqn;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("journal");
+    final BufferWriter data =
+        new DirectBufferWriter().wrap(new UnsafeBuffer(new byte[RECORD_SIZE]));
+
+    try (final var journal = openJournal()) {
+      long asqn = 1;
+      while (journal.getLastSegment().descriptor().id() <= segmentCount) {
+        journal.append(asqn++, data);
+      }
+
+      seekAsqn = asqn / 2;
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public long measureOpenAndSeekToAsqn() {
+    try (final var journal = openJournal();
+        final var reader = journal.openReader()) {
+      return reader.seekToAsqn(seekAsqn);
+    }
+  }
+
+  @JMHTest("measureOpenAndSeekToAsqn")
+  void shouldOpenAndSeekFasterWithPersistedIndex(final JMHTestCase testCase) {
+    // given - an ops/s score as measured locally with the persisted index
+    // when running this test on different hardware, you're likely to have a different score
+    final var referenceScore = 5.5;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(o -> o.param("persistSegmentIndex", "true")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private SegmentedJournal openJournal() {
+    return SegmentedJournal.builder(new SimpleMeterRegistry())
+        .withDirectory(directory.toFile())
+        .withMaxSegmentSize(SEGMENT_SIZE)
+        .withJournalIndexDensity(INDEX_DENSITY)
+        .withPreallocateSegmentFiles(false)
+        .withPersistSegmentIndex(persistSegmentIndex)
+        .withMetaStore(new MockJournalMetastore())
+        .build();
+  }
+}
@@ -293,6 +293,46 @@ class SegmentsManagerTest {
     }
   }
 
+  @Test
+  void shouldPrepareConfiguredNumberOfSegments() {
+    // given
+    segments = journalFactory.segmentsManager(directory, 2);
+    segments.open();
+    final var firstSegment = segments.getCurrentSegment();
+
+    // when
+    segments.getNextSegment();
+    final var secondSegment = segments.getNextSegment();
+    final var thirdSegment = segments.getNextSegment();
+
+    // then - segments are used in order, and two more are prepared ahead of the current one
+    assertThat(secondSegment.id()).isEqualTo(firstSegment.id() + 2);
+    assertThat(thirdSegment.id()).isEqualTo(secondSegment.id() + 1);
+    segments.close(); // waits until the prepared segments are created
+    assertThat(directory.resolve("data").toFile().listFiles())
+        .filteredOn(file -> SegmentFile.isSegmentFile(JOURNAL_NAME, file))
+        .hasSize(6);
+  }
+
+  @Test
+  void shouldObserveSegmentRolloverLatency() {
+    // given
+    try (final var journal = openJournal()) {
+      // when - the first segment only holds a single entry
+      journal.append(1, journalFactory.entry());
+      journal.append(2, journalFactory.entry());
+    }
+
+    // then
+    assertThat(
+            journalFactory
+                .meterRegistry()
+                .get(JournalMetricsDoc.SEGMENT_ROLLOVER_LATENCY.getName())
+                .timer()
+                .count())
+        .isOne();
+  }
+
   private SegmentedJournal openJournal() {
     return journalFactory.journal(journalFactory.segmentsManager(directory));
   }
@@ -0,0 +1,227 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static io.camunda.zeebe.journal.file.SparseJournalIndexTest.asJournalRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class SortedArrayJournalIndexTest {
+
+  @Test
+  void shouldNotFindIndexWhenNotReachedDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+
+    // when
+    index.index(asJournalRecord(1, 1), 2);
+
+    // then
+    assertThat(index.lookup(1)).isNull();
+    assertThat(index.lookupAsqn(1)).isNull();
+  }
+
+  @Test
+  void shouldFindLowerIndexWhenNotReachedDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    for (int i = 1; i <= 8; i++) {
+      index.index(asJournalRecord(i, i), i * 2);
+    }
+
+    // when
+    final IndexInfo info = index.lookup(8);
+
+    // then
+    assertThat(info.index()).isEqualTo(5);
+    assertThat(info.position()).isEqualTo(10);
+    assertThat(index.lookupAsqn(8)).isEqualTo(5);
+  }
+
+  @Test
+  void shouldGrowBeyondInitialCapacity() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(1);
+
+    // when
+    for (int i = 1; i <= 10_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertThat(index.lookup(1).position()).isEqualTo(2);
+    assertThat(index.lookup(5_000).position()).isEqualTo(10_000);
+    assertThat(index.lookup(20_000).index()).isEqualTo(10_000);
+    assertThat(index.lookupAsqn(50_005)).isEqualTo(5_000);
+  }
+
+  @Test
+  void shouldIndexOutOfOrder() {
+    // given - a reader may index earlier entries after the writer indexed later ones
+    final JournalIndex index = new SortedArrayJournalIndex(1);
+    index.index(asJournalRecord(10, 100), 20);
+    index.index(asJournalRecord(20, 200), 40);
+
+    // when
+    index.index(asJournalRecord(15, 150), 30);
+    index.index(asJournalRecord(5, 50), 10);
+
+    // then
+    assertThat(index.lookup(7).index()).isEqualTo(5);
+    assertThat(index.lookup(17).index()).isEqualTo(15);
+    assertThat(index.lookup(17).position()).isEqualTo(30);
+    assertThat(index.lookupAsqn(160)).isEqualTo(15);
+    assertThat(index.lookupAsqn(60)).isEqualTo(5);
+  }
+
+  @Test
+  void shouldOverwriteExistingIndex() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(1);
+    index.index(asJournalRecord(1, 10), 2);
+    index.index(asJournalRecord(2, 20), 4);
+
+    // when
+    index.index(asJournalRecord(1, 10), 3);
+
+    // then
+    assertThat(index.lookup(1).position()).isEqualTo(3);
+    assertThat(index.lookup(2).position()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldIgnoreAsqnWhenNotSet() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(1);
+
+    // when
+    index.index(asJournalRecord(1, 10), 2);
+    index.index(asJournalRecord(2, SegmentedJournal.ASQN_IGNORE), 4);
+
+    // then
+    assertThat(index.lookup(2).position()).isEqualTo(4);
+    assertThat(index.lookupAsqn(Long.MAX_VALUE)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldTruncateIndex() {
+    // given - every 5 index is added
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    for (int i = 1; i <= 10; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // when
+    index.deleteAfter(8);
+
+    // then
+    assertThat(index.lookup(10).index()).isEqualTo(5);
+    assertThat(index.lookup(10).position()).isEqualTo(10);
+    assertThat(index.lookupAsqn(90)).isEqualTo(5);
+    assertThat(index.lookupAsqn(100)).isEqualTo(5);
+  }
+
+  @Test
+  void shouldTruncateCompleteIndex() {
+    // given - every 5 index is added
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    for (int i = 1; i <= 10; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // when
+    index.deleteAfter(4);
+
+    // then
+    assertThat(index.lookup(10)).isNull();
+    assertThat(index.lookupAsqn(100)).isNull();
+  }
+
+  @Test
+  void shouldCompactIndex() {
+    // given - every 5 index is added
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    for (int i = 1; i <= 15; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // when
+    index.deleteUntil(11);
+
+    // then
+    assertThat(index.lookup(8)).isNull();
+    assertThat(index.lookupAsqn(80)).isNull();
+    assertThat(index.lookup(15).index()).isEqualTo(15);
+    assertThat(index.lookup(15).position()).isEqualTo(30);
+    assertThat(index.lookupAsqn(150)).isEqualTo(15);
+  }
+
+  @Test
+  void shouldKeepIndexingAfterCompaction() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(1);
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i), i * 2);
+    }
+    index.deleteUntil(990);
+
+    // when
+    index.index(asJournalRecord(1_001, 1_001), 2_002);
+
+    // then
+    assertThat(index.lookup(989)).isNull();
+    assertThat(index.lookup(990).position()).isEqualTo(1_980);
+    assertThat(index.lookup(1_001).position()).isEqualTo(2_002);
+  }
+
+  @Test
+  void shouldFindAsqnWithInBound() {
+    // given - every 2nd index is added
+    final JournalIndex index = new SortedArrayJournalIndex(2);
+
+    // when
+    for (int i = 1; i <= 6; i++) {
+      index.index(asJournalRecord(i, i), i * 2);
+    }
+
+    // then
+    assertThat(index.lookupAsqn(5, 1)).isNull();
+    assertThat(index.lookupAsqn(5, 3)).isEqualTo(2);
+    assertThat(index.lookupAsqn(5, 4)).isEqualTo(4);
+    assertThat(index.lookupAsqn(5, 5)).isEqualTo(4);
+    assertThat(index.lookupAsqn(Long.MAX_VALUE, 5)).isEqualTo(4);
+    assertThat(index.lookupAsqn(Long.MAX_VALUE, 6)).isEqualTo(6);
+  }
+
+  @Test
+  void shouldClearIndex() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(1);
+    index.index(asJournalRecord(1, 1), 2);
+
+    // when
+    index.clear();
+
+    // then
+    assertThat(index.lookup(1)).isNull();
+    assertThat(index.lookupAsqn(1)).isNull();
+    assertThat(index.hasIndexed(1)).isFalse();
+  }
+
+  @Test
+  void shouldReturnAsIndexedWhenWithInDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    index.index(asJournalRecord(5, 1), 2);
+
+    // when - then
+    assertThat(index.hasIndexed(9)).isTrue();
+    assertThat(index.hasIndexed(10)).isFalse();
+  }
+}
@@ -109,6 +109,24 @@ final class TestJournalFactory {
 
   SegmentsManager segmentsManager(
       final Path directory, final SegmentLoader loader, final JournalMetaStore metaStore) {
+    return segmentsManager(directory, loader, metaStore, SegmentIndexStore.noop(), 1);
+  }
+
+  SegmentsManager segmentsManager(final Path directory, final SegmentIndexStore indexStore) {
+    return segmentsManager(directory, segmentLoader(), metaStore, indexStore, 1);
+  }
+
+  SegmentsManager segmentsManager(final Path directory, final int preparedSegmentCount) {
+    return segmentsManager(
+        directory, segmentLoader(), metaStore, SegmentIndexStore.noop(), preparedSegmentCount);
+  }
+
+  SegmentsManager segmentsManager(
+      final Path directory,
+      final SegmentLoader loader,
+      final JournalMetaStore metaStore,
+      final SegmentIndexStore indexStore,
+      final int preparedSegmentCount) {
     return new SegmentsManager(
         index,
         maxSegmentSize(),
@@ -116,7 +134,14 @@ final class TestJournalFactory {
         "journal",
         loader,
         metrics,
-        metaStore);
+        metaStore,
+        indexStore,
+        preparedSegmentCount);
+  }
+
+  /** Returns a store which persists the index of sealed segments, see {@link SegmentIndexStore}. */
+  SegmentIndexStore segmentIndexFileStore() {
+    return SegmentIndexStore.file(index, 1);
   }
 
   SegmentedJournal journal(final SegmentsManager segments) {
@@ -132,6 +157,10 @@ final class TestJournalFactory {
     return metrics;
   }
 
+  MeterRegistry meterRegistry() {
+    return meterRegistry;
+  }
+
   private int getSerializedSize(final DirectBuffer data) {
     final var record = new RecordData(1, 1, data);
     final var serializer = new SBESerializer();
@@ -36,13 +36,33 @@ public class UnpackedObject extends ObjectValue implements Recyclable, BufferRea
 
   @Override
   public void wrap(final DirectBuffer buff, final int offset, final int length) {
+    wrap(buff, offset, length, false);
+  }
+
+  /**
+   * Wraps the given buffer like {@link #wrap(DirectBuffer, int, int)}, but only decodes the
+   * properties when they are accessed. The buffer must not be modified as long as the object is
+   * used, and the object must not be accessed concurrently, as reading a property may decode it.
+   *
+   * @see ObjectValue#readLazily(io.camunda.zeebe.msgpack.spec.MsgPackReader)
+   */
+  public void wrapLazily(final DirectBuffer buff, final int offset, final int length) {
+    wrap(buff, offset, length, true);
+  }
+
+  private void wrap(
+      final DirectBuffer buff, final int offset, final int length, final boolean lazily) {
     reset();
     if (reader == null) {
       reader = new MsgPackReader();
     }
     reader.wrap(buff, offset, length);
     try {
-      read(reader);
+      if (lazily) {
+        readLazily(reader);
+      } else {
+        read(reader);
+      }
     } catch (final Exception e) {
       throw new RuntimeException(
           "Could not deserialize object ["
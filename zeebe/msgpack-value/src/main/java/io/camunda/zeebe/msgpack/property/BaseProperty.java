@@ -14,14 +14,22 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.BaseValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import java.util.Objects;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
+  private static final ThreadLocal<MsgPackReader> ENCODED_VALUE_READER =
+      ThreadLocal.withInitial(MsgPackReader::new);
+
   protected final StringValue key;
   protected final T value;
   protected final T defaultValue;
   protected boolean isSet;
   protected boolean isSanitized;
 
+  // the encoded value if the property was read lazily, until it is decoded on first access
+  private UnsafeBuffer encodedValue;
+  private boolean hasEncodedValue;
+
   public BaseProperty(final T value) {
     this(StringValue.EMPTY_STRING, value);
   }
@@ -48,11 +56,13 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   public void set() {
     isSet = true;
+    hasEncodedValue = false;
   }
 
   @Override
   public void reset() {
     isSet = false;
+    hasEncodedValue = false;
     value.reset();
   }
 
@@ -65,6 +75,10 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   protected T resolveValue() {
+    if (hasEncodedValue) {
+      decodeValue();
+    }
+
     if (isSet) {
       return value;
     } else if (defaultValue != null) {
@@ -76,6 +90,10 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   public int getEncodedLength() {
+    if (hasEncodedValue) {
+      return key.getEncodedLength() + encodedValue.capacity();
+    }
+
     return key.getEncodedLength() + resolveValue().getEncodedLength();
   }
 
@@ -84,7 +102,42 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     set();
   }
 
+  /**
+   * Skips the value, only remembering where it is encoded, such that it's decoded on first access.
+   * Until then, the property references the reader's buffer, which must not be modified. Writing
+   * the property copies the encoded value as is; setting it discards the encoded value.
+   */
+  public void readLazily(final MsgPackReader reader) {
+    final int offset = reader.getOffset();
+    reader.skipValue();
+
+    if (encodedValue == null) {
+      encodedValue = new UnsafeBuffer(0, 0);
+    }
+    encodedValue.wrap(reader.getBuffer(), offset, reader.getOffset() - offset);
+    set();
+    hasEncodedValue = true;
+  }
+
+  private void decodeValue() {
+    hasEncodedValue = false;
+
+    final MsgPackReader reader = ENCODED_VALUE_READER.get();
+    reader.wrap(encodedValue, 0, encodedValue.capacity());
+    try {
+      value.read(reader);
+    } catch (final Exception e) {
+      throw new MsgpackPropertyException(key, e);
+    }
+  }
+
   public void write(final MsgPackWriter writer) {
+    if (hasEncodedValue) {
+      key.write(writer);
+      writer.writeRaw(encodedValue);
+      return;
+    }
+
     T valueToWrite = value;
     if (!isSet) {
       valueToWrite = defaultValue;
@@ -148,6 +201,9 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public int hashCode() {
+    if (hasEncodedValue) {
+      decodeValue();
+    }
     return Objects.hash(getKey(), value, defaultValue, isSet);
   }
 
@@ -168,6 +224,10 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public String toString() {
+    if (hasEncodedValue && !isSanitized) {
+      decodeValue();
+    }
+
     final StringBuilder builder = new StringBuilder();
     builder.append(key.toString());
     builder.append(" => ");
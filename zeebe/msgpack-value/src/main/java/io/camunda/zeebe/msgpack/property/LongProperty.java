@@ -33,6 +33,6 @@ public final class LongProperty extends BaseProperty<LongValue> {
 
   public void setValue(final long value) {
     this.value.setValue(value);
-    isSet = true;
+    set();
   }
 }
@@ -36,7 +36,7 @@ public final class StringProperty extends BaseProperty<StringValue> {
 
   public void setValue(final String value) {
     this.value.wrap(getBytes(value));
-    isSet = true;
+    set();
   }
 
   public void setValue(final DirectBuffer buffer) {
@@ -45,6 +45,6 @@ public final class StringProperty extends BaseProperty<StringValue> {
 
   public void setValue(final DirectBuffer buffer, final int offset, final int length) {
     value.wrap(buffer, offset, length);
-    isSet = true;
+    set();
   }
 }
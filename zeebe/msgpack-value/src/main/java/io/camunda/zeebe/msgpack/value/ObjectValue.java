@@ -14,6 +14,8 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
 
 public class ObjectValue extends BaseValue {
   private final List<BaseProperty<? extends BaseValue>> declaredProperties;
@@ -22,6 +24,10 @@ public class ObjectValue extends BaseValue {
 
   private final StringValue decodedKey = new StringValue();
 
+  // open addressing hash table of the declared properties by key, storing the index of the
+  // property + 1 such that 0 marks an empty slot; built lazily on the first lookup
+  private int[] propertyLookup;
+
   /**
    * Creates a new ObjectValue
    *
@@ -34,6 +40,7 @@ public class ObjectValue extends BaseValue {
 
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    propertyLookup = null;
     return this;
   }
 
@@ -95,29 +102,42 @@ public class ObjectValue extends BaseValue {
 
   @Override
   public void read(final MsgPackReader reader) {
+    read(reader, false);
+  }
+
+  /**
+   * Reads the object like {@link #read(MsgPackReader)}, but the values of the declared properties
+   * are only decoded on first access, see {@link BaseProperty#readLazily(MsgPackReader)}. This is
+   * cheaper if only a few properties are accessed, e.g. to filter records, but decoding errors are
+   * only raised when the property is accessed.
+   */
+  public void readLazily(final MsgPackReader reader) {
+    read(reader, true);
+  }
+
+  private void read(final MsgPackReader reader, final boolean lazily) {
     final int mapSize = reader.readMapHeader();
+    int expectedIndex = 0;
 
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
-
-      if (prop == null) {
+      final BaseProperty<? extends BaseValue> prop;
+      final int index = findDeclaredProperty(decodedKey, expectedIndex);
+      final boolean declared = index >= 0;
+      if (declared) {
+        prop = declaredProperties.get(index);
+        expectedIndex = index + 1;
+      } else {
         prop = newUndeclaredProperty(decodedKey);
       }
 
       try {
-        prop.read(reader);
+        if (lazily && declared) {
+          prop.readLazily(reader);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
@@ -133,6 +153,65 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  /**
+   * Returns the index of the declared property with the given key, or -1 if there is none. As
+   * properties are written in the order in which they are declared, the property at the expected
+   * index is checked first, before looking it up by the hash of its key.
+   */
+  private int findDeclaredProperty(final StringValue key, final int expectedIndex) {
+    if (expectedIndex < declaredProperties.size()
+        && declaredProperties.get(expectedIndex).getKey().equals(key)) {
+      return expectedIndex;
+    }
+
+    final int[] lookup = getPropertyLookup();
+    final int mask = lookup.length - 1;
+    for (int slot = hashKey(key) & mask; lookup[slot] != 0; slot = (slot + 1) & mask) {
+      final int index = lookup[slot] - 1;
+      if (declaredProperties.get(index).getKey().equals(key)) {
+        return index;
+      }
+    }
+
+    return -1;
+  }
+
+  private int[] getPropertyLookup() {
+    if (propertyLookup == null) {
+      final int[] lookup =
+          new int[BitUtil.findNextPositivePowerOfTwo(Math.max(2, declaredProperties.size() * 2))];
+      final int mask = lookup.length - 1;
+
+      for (int i = 0; i < declaredProperties.size(); i++) {
+        final StringValue key = declaredProperties.get(i).getKey();
+        int slot = hashKey(key) & mask;
+        while (lookup[slot] != 0
+            && !declaredProperties.get(lookup[slot] - 1).getKey().equals(key)) {
+          slot = (slot + 1) & mask;
+        }
+
+        // keep the first declaration of a key, same as a linear search would find
+        if (lookup[slot] == 0) {
+          lookup[slot] = i + 1;
+        }
+      }
+
+      propertyLookup = lookup;
+    }
+
+    return propertyLookup;
+  }
+
+  private static int hashKey(final StringValue key) {
+    final DirectBuffer bytes = key.getValue();
+    final int length = key.getLength();
+    int hash = length;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + bytes.getByte(i);
+    }
+    return hash ^ (hash >>> 16);
+  }
+
   @Override
   public int getEncodedLength() {
     final int size = declaredProperties.size() + undeclaredProperties.size();
@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack;
+
+import io.camunda.zeebe.msgpack.property.BaseProperty;
+import io.camunda.zeebe.msgpack.property.IntegerProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.msgpack.value.BaseValue;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures decoding an object with as many properties as the largest protocol records, e.g. the job
+ * or user task records, whose keys are written either in declaration order, as done by {@link
+ * io.camunda.zeebe.msgpack.value.ObjectValue#write(MsgPackWriter)}, or in reverse order. The object
+ * is either decoded eagerly, or lazily with a single property being accessed.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ObjectValueReadPerformanceTest {
+  private static final int LONG_PROPERTIES = 14;
+  private static final int STRING_PROPERTIES = 14;
+  private static final int INTEGER_PROPERTIES = 8;
+
+  @Param({"declared", "reversed"})
+  public String keyOrder;
+
+  private final WideObject object = new WideObject();
+  private DirectBuffer encoded;
+
+  @Setup
+  public void setup() {
+    final var properties = new ArrayList<>(object.properties);
+    if ("reversed".equals(keyOrder)) {
+      Collections.reverse(properties);
+    }
+
+    final var buffer = new UnsafeBuffer(new byte[object.getLength()]);
+    final var writer = new MsgPackWriter().wrap(buffer, 0);
+    writer.writeMapHeader(properties.size());
+    properties.forEach(property -> property.write(writer));
+    encoded = buffer;
+  }
+
+  @Benchmark
+  public WideObject measureRead() {
+    object.wrap(encoded);
+    return object;
+  }
+
+  /** Wraps the object lazily and accesses a single property, as done to filter records. */
+  @Benchmark
+  public long measureReadLazily() {
+    object.wrapLazily(encoded, 0, encoded.capacity());
+    return object.firstProperty.getValue();
+  }
+
+  @JMHTest("measureRead")
+  void shouldReadObject(final JMHTestCase testCase) {
+    // given - an ops/s score as measured locally with keys in declaration order
+    // when running this test on different hardware, you're likely to have a different score
+    final var referenceScore = 500_000;
+
+    // when
+    final var assertResult = testCase.withOptions(o -> o.param("keyOrder", "declared")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  /** An object shaped like a large protocol record, with property keys sharing common prefixes. */
+  public static final class WideObject extends UnpackedObject {
+    private final List<BaseProperty<? extends BaseValue>> properties = new ArrayList<>();
+    private LongProperty firstProperty;
+
+    private WideObject() {
+      super(LONG_PROPERTIES + STRING_PROPERTIES + INTEGER_PROPERTIES);
+
+      for (int i = 0; i < LONG_PROPERTIES; i++) {
+        final var property = new LongProperty("elementInstanceKey" + i, -1L);
+        property.setValue(2251799813685249L + i);
+        declare(property);
+        if (firstProperty == null) {
+          firstProperty = property;
+        }
+      }
+      for (int i = 0; i < STRING_PROPERTIES; i++) {
+        final var property = new StringProperty("bpmnProcessId" + i, "");
+        property.setValue("process-" + i);
+        declare(property);
+      }
+      for (int i = 0; i < INTEGER_PROPERTIES; i++) {
+        final var property = new IntegerProperty("processDefinitionVersion" + i, -1);
+        property.setValue(i);
+        declare(property);
+      }
+    }
+
+    private void declare(final BaseProperty<? extends BaseValue> property) {
+      properties.add(property);
+      declareProperty(property);
+    }
+  }
+}
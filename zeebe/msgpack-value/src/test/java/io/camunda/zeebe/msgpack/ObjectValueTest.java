@@ -7,10 +7,19 @@
  */
 package io.camunda.zeebe.msgpack;
 
+import static io.camunda.zeebe.msgpack.MsgPackUtil.asMap;
+import static io.camunda.zeebe.msgpack.MsgPackUtil.encodeMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.ObjectValue;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
 
 final class ObjectValueTest {
@@ -29,6 +38,57 @@ final class ObjectValueTest {
             "{\"non-sanitized-property\":\"non-sanitized-value\",\"sanitized-property\":\"***\"}");
   }
 
+  @Test
+  void shouldReadPropertiesInAnyOrder() {
+    // given
+    final DirectBuffer encoded =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(2);
+              w.writeString(wrapString("sanitized-property"));
+              w.writeString(wrapString("bar"));
+              w.writeString(wrapString("non-sanitized-property"));
+              w.writeString(wrapString("foo"));
+            });
+    final TestObjectValue objectValue = new TestObjectValue("", "");
+
+    // when
+    objectValue.read(new MsgPackReader().wrap(encoded, 0, encoded.capacity()));
+
+    // then
+    assertThat(bufferAsString(objectValue.nonSanitizedProperty.getValue())).isEqualTo("foo");
+    assertThat(bufferAsString(objectValue.sanitizedProperty.getValue())).isEqualTo("bar");
+  }
+
+  @Test
+  void shouldReadUndeclaredPropertiesBetweenDeclaredProperties() {
+    // given
+    final DirectBuffer encoded =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(3);
+              w.writeString(wrapString("non-sanitized-property"));
+              w.writeString(wrapString("foo"));
+              w.writeString(wrapString("undeclared-property"));
+              w.writeInteger(123L);
+              w.writeString(wrapString("sanitized-property"));
+              w.writeString(wrapString("bar"));
+            });
+    final TestObjectValue objectValue = new TestObjectValue("", "");
+
+    // when
+    objectValue.read(new MsgPackReader().wrap(encoded, 0, encoded.capacity()));
+
+    // then
+    final var written = new UnsafeBuffer(new byte[objectValue.getEncodedLength()]);
+    objectValue.write(new MsgPackWriter().wrap(written, 0));
+    assertThat(asMap(written, 0, written.capacity()))
+        .containsOnly(
+            entry("non-sanitized-property", "foo"),
+            entry("sanitized-property", "bar"),
+            entry("undeclared-property", 123L));
+  }
+
   private static final class TestObjectValue extends ObjectValue {
     private final StringProperty nonSanitizedProperty =
         new StringProperty("non-sanitized-property");
@@ -10,6 +10,7 @@ package io.camunda.zeebe.msgpack;
 import static io.camunda.zeebe.msgpack.MsgPackUtil.encodeMsgPack;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.spy;
 
 import io.camunda.zeebe.msgpack.POJO.POJOEnum;
@@ -183,6 +184,111 @@ public class UnpackedObjectTest {
     }
   }
 
+  @Nested
+  class LazyDecoding {
+    private final TestSanitizedPojo pojo = new TestSanitizedPojo();
+
+    private final MutableDirectBuffer encoded;
+
+    LazyDecoding() {
+      // the packed value must be valid msgpack to be read again
+      final var packedValue = encodeMsgPack((w) -> w.writeInteger(12));
+      pojo.packedProp.setValue(packedValue, 0, packedValue.capacity());
+      encoded = new UnsafeBuffer(new byte[pojo.getLength()]);
+      pojo.write(encoded, 0);
+    }
+
+    @Test
+    void shouldDecodePropertiesOnAccess() {
+      // given
+      final TestSanitizedPojo lazyPojo = new TestSanitizedPojo();
+
+      // when
+      lazyPojo.wrapLazily(encoded, 0, encoded.capacity());
+
+      // then
+      final var expected = new StringBuilder();
+      pojo.writeJSON(expected);
+      final var actual = new StringBuilder();
+      lazyPojo.writeJSON(actual);
+      assertThat(actual.toString()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    void shouldWriteUndecodedPropertiesAsIs() {
+      // given
+      final TestSanitizedPojo lazyPojo = new TestSanitizedPojo();
+      lazyPojo.wrapLazily(encoded, 0, encoded.capacity());
+
+      // when
+      final var written = new UnsafeBuffer(new byte[lazyPojo.getLength()]);
+      lazyPojo.write(written, 0);
+
+      // then
+      assertThat(written).isEqualTo(encoded);
+    }
+
+    @Test
+    void shouldWriteOverwrittenProperties() {
+      // given
+      final POJO original = new POJO();
+      original.setEnum(POJOEnum.FOO);
+      original.setLong(1L);
+      original.setInt(2);
+      original.setString(wrapString("foo"));
+      original.setPacked(encodeMsgPack(w -> w.writeInteger(3)));
+      original.setBinary(wrapString("bar"));
+      original.nestedObject().setLong(4L);
+      final var buffer = new UnsafeBuffer(new byte[original.getLength()]);
+      original.write(buffer, 0);
+
+      final POJO lazyPojo = new POJO();
+      lazyPojo.wrapLazily(buffer, 0, buffer.capacity());
+
+      // when
+      lazyPojo.setLong(5L);
+      lazyPojo.nestedObject().setLong(6L);
+      final var written = new UnsafeBuffer(new byte[lazyPojo.getLength()]);
+      lazyPojo.write(written, 0);
+
+      // then
+      final POJO result = new POJO();
+      result.wrap(written);
+      assertThat(result.getLong()).isEqualTo(5L);
+      assertThat(result.nestedObject().getLong()).isEqualTo(6L);
+      assertThat(result.getInt()).isEqualTo(2);
+      assertThat(BufferUtil.bufferAsString(result.getString())).isEqualTo("foo");
+      assertThat(result.getEnum()).isEqualTo(POJOEnum.FOO);
+    }
+
+    @Test
+    void shouldOnlyFailWhenAccessingInvalidProperty() {
+      // given
+      final var validProperty = new LongProperty("valid");
+      final var invalidProperty = new LongProperty("invalid");
+      final var object = new UnpackedObject(2);
+      object.declareProperty(validProperty).declareProperty(invalidProperty);
+      final DirectBuffer buffer =
+          encodeMsgPack(
+              (w) -> {
+                w.writeMapHeader(2);
+                w.writeString(wrapString("valid"));
+                w.writeInteger(1L);
+                w.writeString(wrapString("invalid"));
+                w.writeString(wrapString("not a long"));
+              });
+
+      // when
+      object.wrapLazily(buffer, 0, buffer.capacity());
+
+      // then
+      assertThat(validProperty.getValue()).isEqualTo(1L);
+      assertThatThrownBy(invalidProperty::getValue)
+          .isInstanceOf(MsgpackPropertyException.class)
+          .hasMessageContaining("invalid");
+    }
+  }
+
   private static final class TestSanitizedPojo extends UnpackedObject {
     private final ArrayProperty<IntegerValue> arrayProp =
         new ArrayProperty<>("arrayProp", IntegerValue::new).sanitized();
@@ -8,6 +8,8 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.util.Set;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +32,18 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Reuses the files of the receiver's latest snapshot which are also part of this snapshot, i.e.
+   * which have the same name and checksum as in the given manifest, such that their chunks don't
+   * need to be transferred. Chunks of reused files which are still applied afterwards are ignored.
+   * Reusing files is only possible before the first chunk is applied; calling it again returns the
+   * files which were reused the first time.
+   *
+   * @param manifest the checksums of all files of the snapshot being received
+   * @return the names of the reused files, which may be empty if no files could be reused
+   */
+  default ActorFuture<Set<String>> reuseFiles(final ImmutableChecksumsSFV manifest) {
+    return CompletableActorFuture.completed(Set.of());
+  }
 }
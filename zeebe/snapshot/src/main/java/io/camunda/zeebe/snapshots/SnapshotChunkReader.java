@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Set;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -41,4 +42,16 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Skips all chunks of the given chunk names, e.g. because the receiver already has them. They
+   * remain skipped after {@link #reset()} or {@link #seek(ByteBuffer)}; seeking to a skipped chunk
+   * positions the reader on the first chunk after it which isn't skipped. The total count of the
+   * chunks is not changed, as the receiver still expects all of them.
+   *
+   * <p>Implementations may ignore this and read all chunks anyway.
+   *
+   * @param chunkNames the names of the chunks to skip
+   */
+  default void skip(final Set<String> chunkNames) {}
 }
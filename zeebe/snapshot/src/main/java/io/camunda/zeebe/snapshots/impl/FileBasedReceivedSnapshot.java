@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots.impl;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
@@ -20,10 +21,13 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +35,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedReceivedSnapshot.class);
   private static final int BLOCK_SIZE = 512 * 1024;
+  private static final String SST_FILE_EXTENSION = ".sst";
 
   private final Path directory;
   private final ConcurrencyControl actor;
@@ -42,6 +47,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private ByteBuffer metadataBuffer;
   private long writtenMetadataBytes;
   private SfvChecksumImpl checksumCollection;
+  private Set<String> reusedFiles;
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -70,6 +76,72 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         });
   }
 
+  @Override
+  public ActorFuture<Set<String>> reuseFiles(final ImmutableChecksumsSFV manifest) {
+    return actor.call(() -> reuseFilesInternal(manifest));
+  }
+
+  /**
+   * Hard links the SST files of the latest snapshot which are part of the received snapshot. SST
+   * files are immutable, but their names are only unique per node, e.g. after a leader change the
+   * same name may refer to a different file, which is why the checksums have to match as well.
+   */
+  private Set<String> reuseFilesInternal(final ImmutableChecksumsSFV manifest)
+      throws SnapshotWriteException {
+    if (reusedFiles != null) {
+      return reusedFiles;
+    }
+
+    reusedFiles = new HashSet<>();
+    final var latestSnapshot = snapshotStore.getLatestSnapshot().orElse(null);
+    final var expectedChecksums = manifest.getChecksums();
+    if (latestSnapshot == null || checksumCollection != null || expectedChecksums.isEmpty()) {
+      return reusedFiles;
+    }
+
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to ensure that directory %s exists.", directory), e);
+    }
+
+    checksumCollection = new SfvChecksumImpl();
+    // the last chunk is always transferred, as it tells the receiver that the snapshot is complete
+    final var lastFileName = expectedChecksums.lastKey();
+    for (final var entry : latestSnapshot.getChecksums().getChecksums().entrySet()) {
+      final var fileName = entry.getKey();
+      if (!fileName.endsWith(SST_FILE_EXTENSION)
+          || fileName.equals(lastFileName)
+          || !entry.getValue().equals(expectedChecksums.get(fileName))) {
+        continue;
+      }
+
+      final var snapshotFile = directory.resolve(fileName);
+      try {
+        Files.createLink(snapshotFile, latestSnapshot.getPath().resolve(fileName));
+      } catch (final IOException e) {
+        LOGGER.debug(
+            "Failed to reuse file {} of snapshot {}, will receive it instead",
+            fileName,
+            latestSnapshot.getId(),
+            e);
+        continue;
+      }
+
+      checksumCollection.updateFromChecksum(snapshotFile, entry.getValue());
+      reusedFiles.add(fileName);
+    }
+
+    LOGGER.debug(
+        "Reused {} of {} files of snapshot {} from snapshot {}",
+        reusedFiles.size(),
+        expectedChecksums.size(),
+        snapshotId,
+        latestSnapshot.getId());
+    return reusedFiles;
+  }
+
   private void applyInternal(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
     checkSnapshotIdIsValid(snapshotChunk.getSnapshotId());
 
@@ -89,6 +161,13 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
     checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
 
+    if (reusedFiles != null && reusedFiles.contains(chunkName)) {
+      LOGGER.trace(
+          "Ignore snapshot snapshotChunk {}, because it was reused from the latest snapshot",
+          chunkName);
+      return;
+    }
+
     final var tmpSnapshotDirectory = directory;
     try {
       FileUtil.ensureDirectoryExists(tmpSnapshotDirectory);
@@ -105,8 +184,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     if (checksumCollection == null) {
       checksumCollection = new SfvChecksumImpl();
     }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+    updateChecksum(snapshotChunk, snapshotFile);
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
       try {
@@ -117,6 +195,23 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  private void updateChecksum(final SnapshotChunk snapshotChunk, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final var content = snapshotChunk.getContent();
+    if (snapshotChunk.getTotalFileSize() <= content.length) {
+      checksumCollection.updateFromBytes(snapshotFile.getFileName().toString(), content);
+    } else if (snapshotChunk.getFileBlockPosition() + content.length
+        == snapshotChunk.getTotalFileSize()) {
+      // the file was split into multiple chunks, so its checksum is computed once it is complete
+      try {
+        checksumCollection.updateFromFile(snapshotFile);
+      } catch (final IOException e) {
+        throw new SnapshotWriteException(
+            String.format("Failed to compute the checksum of snapshot file %s", snapshotFile), e);
+      }
+    }
+  }
+
   private void collectMetadata(final SnapshotChunk chunk) throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
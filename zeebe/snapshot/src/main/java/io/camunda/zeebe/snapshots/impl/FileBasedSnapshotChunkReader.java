@@ -16,6 +16,7 @@ import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.NavigableSet;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
@@ -70,7 +71,8 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
     final var chunkId = new SnapshotChunkId(id);
 
-    offset = chunkId.offset();
+    // the offset only applies to the chunk's file; if it was skipped, the next file is read fully
+    offset = chunks.contains(chunkId.fileName()) ? chunkId.offset() : 0;
 
     chunksView = new TreeSet<>(chunks.tailSet(chunkId.fileName(), true));
   }
@@ -89,6 +91,16 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public void skip(final Set<String> chunkNames) {
+    if (!chunksView.isEmpty() && chunkNames.contains(chunksView.first().toString())) {
+      offset = 0;
+    }
+
+    chunkNames.forEach(chunks::remove);
+    chunkNames.forEach(chunksView::remove);
+  }
+
   @Override
   public void close() {
     chunks.clear();
@@ -327,9 +327,15 @@ public class FileBasedReceivedSnapshotTest {
       }
     }
 
-    receivedSnapshot.persist().join();
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
 
     //    then
+    assertThat(
+            receivedPersistedSnapshot
+                .getChecksums()
+                .sameChecksums(persistedSnapshot.getChecksums()))
+        .as("the checksums of chunked files are computed over the whole file")
+        .isTrue();
     try (final var files = Files.list(receivedSnapshot.getPath())) {
       files.forEach(
           filePath -> {
@@ -347,6 +353,72 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReuseUnchangedSstFilesOfLatestSnapshot() throws IOException {
+    // given
+    final var firstSnapshot =
+        takePersistedSnapshot(1L, Map.of("000001.sst", "first", "000002.sst", "second"));
+    final var firstReceivedSnapshot = receiveSnapshot(firstSnapshot).persist().join();
+    final var secondSnapshot =
+        takePersistedSnapshot(
+            2L, Map.of("000001.sst", "first", "000002.sst", "changed", "000003.sst", "third"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId()).join();
+
+    // when
+    final var reusedFiles = receivedSnapshot.reuseFiles(secondSnapshot.getChecksums()).join();
+    try (final var snapshotChunkReader = secondSnapshot.newChunkReader()) {
+      snapshotChunkReader.skip(reusedFiles);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+
+    // then
+    assertThat(reusedFiles)
+        .as("only the SST file with the same name and checksum is reused")
+        .containsExactly("000001.sst");
+    assertThat(receivedSnapshot.getPath().resolve("000001.sst"))
+        .as("the reused file is linked to the file of the latest snapshot")
+        .satisfies(
+            path ->
+                assertThat(
+                        Files.isSameFile(
+                            path, firstReceivedSnapshot.getPath().resolve("000001.sst")))
+                    .isTrue());
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+    assertThat(persistedSnapshot.getChecksums().sameChecksums(secondSnapshot.getChecksums()))
+        .as("the received snapshot has the same checksums as the sent one")
+        .isTrue();
+    assertThat(persistedSnapshot.getPath().resolve("000002.sst")).hasContent("changed");
+  }
+
+  @Test
+  public void shouldIgnoreChunksOfReusedFiles() {
+    // given
+    final var firstSnapshot = takePersistedSnapshot(1L, Map.of("000001.sst", "first"));
+    receiveSnapshot(firstSnapshot).persist().join();
+    final var secondSnapshot =
+        takePersistedSnapshot(2L, Map.of("000001.sst", "first", "000002.sst", "second"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId()).join();
+    receivedSnapshot.reuseFiles(secondSnapshot.getChecksums()).join();
+
+    // when
+    try (final var snapshotChunkReader = secondSnapshot.newChunkReader()) {
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(persistedSnapshot.getChecksums().sameChecksums(secondSnapshot.getChecksums()))
+        .as("the received snapshot has the same checksums as the sent one")
+        .isTrue();
+    assertThat(persistedSnapshot.getPath().resolve("000001.sst")).hasContent("first");
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -361,17 +433,22 @@ public class FileBasedReceivedSnapshotTest {
   }
 
   private PersistedSnapshot takePersistedSnapshot(final long index) {
+    return takePersistedSnapshot(index, SNAPSHOT_FILE_CONTENTS);
+  }
+
+  private PersistedSnapshot takePersistedSnapshot(
+      final long index, final Map<String, String> fileContents) {
     final var transientSnapshot =
         senderSnapshotStore.newTransientSnapshot(index, 0L, 1, 0, false).get();
-    transientSnapshot.take(this::writeSnapshot).join();
+    transientSnapshot.take(path -> writeSnapshot(path, fileContents)).join();
     return transientSnapshot.withLastFollowupEventPosition(100L).persist().join();
   }
 
-  private boolean writeSnapshot(final Path path) {
+  private boolean writeSnapshot(final Path path, final Map<String, String> fileContents) {
     try {
       FileUtil.ensureDirectoryExists(path);
 
-      for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      for (final var entry : fileContents.entrySet()) {
         final var fileName = path.resolve(entry.getKey());
         final var fileContent = entry.getValue().getBytes(StandardCharsets.UTF_8);
         Files.write(fileName, fileContent, CREATE_NEW, StandardOpenOption.WRITE);
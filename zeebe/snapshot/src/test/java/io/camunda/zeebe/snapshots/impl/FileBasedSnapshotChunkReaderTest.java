@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import org.junit.Rule;
@@ -164,6 +165,32 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(snapshotChunkIds).containsExactly("file1", "file2", "file3");
   }
 
+  @Test
+  public void shouldSkipChunks() throws IOException {
+    // given
+    final var snapshotChunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.seek(asByteBuffer("file1__0"));
+
+      // when
+      snapshotChunkReader.skip(Set.of("file2"));
+      snapshotChunkReader.seek(asByteBuffer("file2__0"));
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunks.add(snapshotChunkReader.next());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getChunkName)
+        .as("the skipped chunk is not read, even when seeking to it")
+        .containsExactly("file3");
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getTotalCount)
+        .as("the total count still includes the skipped chunk")
+        .containsExactly(SNAPSHOT_CHUNK.size());
+  }
+
   @Test
   public void shouldThrowExceptionOnReachingLimit() throws IOException {
     // given
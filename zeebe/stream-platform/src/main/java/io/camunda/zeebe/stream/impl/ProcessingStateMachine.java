@@ -10,6 +10,7 @@ package io.camunda.zeebe.stream.impl;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.logstreams.impl.Loggers;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
@@ -17,11 +18,13 @@ import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.impl.record.value.error.ErrorRecord;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.ErrorIntent;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
@@ -44,6 +47,7 @@ import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
 import io.camunda.zeebe.util.CloseableSilently;
+import io.camunda.zeebe.util.ReflectUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.exception.RecoverableException;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
@@ -55,6 +59,7 @@ import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.function.BooleanSupplier;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
 /**
@@ -92,6 +97,15 @@ import org.slf4j.Logger;
  *                                    +--------------+
  *
  * </pre>
+ *
+ * <p>If pipelining is enabled, i.e. {@link StreamProcessorContext#getMaxPipelinedBatches()} is
+ * greater than 1, the records of a processed batch are written to the log without waiting, and the
+ * next command is processed on top of the still uncommitted transaction, while the previous records
+ * are appended. The transaction is only committed, and the side effects of all pipelined batches
+ * executed, once the limit is reached or no command is left to process. Before processing a
+ * pipelined batch, a save point is set on the transaction: if processing fails, or its records
+ * cannot be written right away, the transaction is rolled back to that save point, the previous
+ * batches are committed, and the command is processed again on its own as described above.
  */
 public final class ProcessingStateMachine {
 
@@ -118,6 +132,8 @@ public final class ProcessingStateMachine {
   private static final String NOTIFY_SKIPPED_LISTENER_ERROR_MESSAGE =
       "Expected to invoke skipped listener for record '{} {}' successfully, but exception was thrown.";
   private static final Duration PROCESSING_RETRY_DELAY = Duration.ofMillis(250);
+  private static final String DEBUG_MESSAGE_PIPELINED_PROCESSING_FAILED =
+      "Expected to process command '{} {}' on top of the previous batches, but caught an exception. Committing the previous batches before processing it again.";
   private static final String ERROR_MESSAGE_HANDLING_PROCESSING_ERROR_FAILED =
       "Expected to process command '{} {}' successfully on stream processor, but caught unexpected exception. Failed to handle the exception gracefully.";
   private final EventFilter processingFilter;
@@ -159,6 +175,9 @@ public final class ProcessingStateMachine {
   private final LogStreamWriter logStreamWriter;
   private boolean inProcessing;
   private final int maxCommandsInBatch;
+  private final int maxPipelinedBatches;
+  // batches which were processed and written, but whose state changes are not committed yet
+  private final List<PipelinedBatch> pipelinedBatches = new ArrayList<>();
   private int processedCommandsCount;
   private final ProcessingMetrics processingMetrics;
   private final ScheduledCommandCache scheduledCommandCache;
@@ -181,6 +200,7 @@ public final class ProcessingStateMachine {
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
     maxCommandsInBatch = context.getMaxCommandsInBatch();
+    maxPipelinedBatches = context.getMaxPipelinedBatches();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -265,25 +285,12 @@ public final class ProcessingStateMachine {
     loggedEvent.readMetadata(metadata);
 
     try {
-      // Here we need to get the current time, since we want to calculate
-      // how long it took between writing to the dispatcher and processing.
-      // In all other cases we should prefer to use the Prometheus Timer API.
-      processingMetrics.processingLatency(loggedEvent.getTimestamp(), clock.millis());
-      processingTimer =
-          processingMetrics.startProcessingDurationTimer(
-              metadata.getValueType(), metadata.getIntent());
-
-      final var value = recordValues.readRecordValue(loggedEvent, metadata.getValueType());
-      typedCommand.wrap(loggedEvent, metadata, value);
-
       zeebeDbTransaction = transactionContext.getCurrentTransaction();
-      try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
-        zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
-        processingMetrics.observeCommandCount(processedCommandsCount);
-      }
+      processCommandBatch(loggedEvent);
 
-      finalizeCommandProcessing();
-      writeRecords();
+      if (maxPipelinedBatches <= 1 || !tryPipelineBatch()) {
+        writeRecords();
+      }
     } catch (final RecoverableException recoverableException) {
       // recoverable
       LOG.error(
@@ -322,6 +329,257 @@ public final class ProcessingStateMachine {
     }
   }
 
+  private void processCommandBatch(final LoggedEvent loggedEvent) throws Exception {
+    // Here we need to get the current time, since we want to calculate
+    // how long it took between writing to the dispatcher and processing.
+    // In all other cases we should prefer to use the Prometheus Timer API.
+    processingMetrics.processingLatency(loggedEvent.getTimestamp(), clock.millis());
+    processingTimer =
+        processingMetrics.startProcessingDurationTimer(
+            metadata.getValueType(), metadata.getIntent());
+
+    final var value = recordValues.readRecordValue(loggedEvent, metadata.getValueType());
+    typedCommand.wrap(loggedEvent, metadata, value);
+
+    try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
+      zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
+      processingMetrics.observeCommandCount(processedCommandsCount);
+    }
+
+    finalizeCommandProcessing();
+  }
+
+  /**
+   * Processes the given command on top of the uncommitted changes of the pipelined batches. If
+   * anything goes wrong, the pipeline is aborted and the command is processed again on its own.
+   */
+  private void processPipelinedCommand(final LoggedEvent loggedEvent) {
+    currentProcessingResult = EmptyProcessingResult.INSTANCE;
+
+    metadata.reset();
+    loggedEvent.readMetadata(metadata);
+
+    boolean pipelined;
+    try {
+      zeebeDbTransaction.setSavePoint();
+      processCommandBatch(loggedEvent);
+      pipelined = tryPipelineBatch();
+    } catch (final Exception e) {
+      LOG.debug(DEBUG_MESSAGE_PIPELINED_PROCESSING_FAILED, loggedEvent, metadata, e);
+      handlePipelinedProcessingError(e);
+      pipelined = false;
+    }
+
+    if (!pipelined) {
+      abortPipeline();
+    }
+  }
+
+  /**
+   * Lets the processor handle the error like for a command which isn't pipelined, such that it can
+   * clean up what the failed processing left behind outside of the transaction, e.g. in caches. Its
+   * result is discarded, and its changes are rolled back with the batch, as the command is
+   * processed again on its own.
+   */
+  private void handlePipelinedProcessingError(final Exception processingException) {
+    if (currentProcessor == null) {
+      return;
+    }
+
+    try {
+      zeebeDbTransaction.run(
+          () ->
+              currentProcessor.onProcessingError(
+                  processingException,
+                  typedCommand,
+                  new BufferedProcessingResultBuilder(
+                      logStreamWriter::canWriteEvents,
+                      typedCommand.getOperationReference(),
+                      typedCommand.getBatchOperationReference())));
+    } catch (final Exception e) {
+      LOG.debug(ERROR_MESSAGE_HANDLING_PROCESSING_ERROR_FAILED, currentRecord, metadata, e);
+    }
+  }
+
+  /**
+   * Tries to write the records of the current batch without waiting for it, and adds the batch to
+   * the pipeline. Continues with the next command if the pipeline isn't full yet, otherwise commits
+   * the pipeline.
+   *
+   * @return true if the batch was added to the pipeline, false if its records could not be written
+   *     right away, in which case nothing was written
+   */
+  private boolean tryPipelineBatch() {
+    if (currentProcessingResult.isEmpty()) {
+      return false;
+    }
+
+    final var continuePipeline = canContinuePipeline();
+    // the command is overwritten when reading the next one, so the processed listener gets a copy
+    final TypedRecord<?> command = continuePipeline ? copyCurrentCommand() : typedCommand;
+
+    if (!pendingWrites.isEmpty()) {
+      final var writeResult =
+          logStreamWriter.tryWrite(
+              WriteContext.processingResult(), pendingWrites, typedCommand.getPosition());
+      if (writeResult.isLeft()) {
+        return false;
+      }
+      writtenPosition = writeResult.get();
+    }
+
+    final var previousWrittenPosition =
+        pipelinedBatches.isEmpty()
+            ? lastWrittenPosition
+            : pipelinedBatches.getLast().writtenPosition();
+    processingMetrics.recordsWritten(writtenPosition - previousWrittenPosition);
+    pipelinedBatches.add(
+        new PipelinedBatch(
+            command,
+            metadata.getIntent(),
+            currentRecord.getKey(),
+            currentRecord.getPosition(),
+            writtenPosition,
+            currentProcessingResult,
+            pendingResponses,
+            processingTimer));
+
+    if (continuePipeline) {
+      actor.run(this::continuePipeline);
+    } else {
+      commitPipeline(this::onPipelineCommitted);
+    }
+    return true;
+  }
+
+  private boolean canContinuePipeline() {
+    return pipelinedBatches.size() + 1 < maxPipelinedBatches
+        && onErrorRetries == 0
+        && errorHandlingPhase == ErrorHandlingPhase.NO_ERROR
+        && shouldProcessNext.getAsBoolean()
+        && logStreamReader.hasNext();
+  }
+
+  private void continuePipeline() {
+    while (shouldProcessNext.getAsBoolean() && logStreamReader.hasNext()) {
+      currentRecord = logStreamReader.next();
+
+      if (processingFilter.applies(currentRecord)) {
+        processPipelinedCommand(currentRecord);
+        return;
+      }
+
+      notifySkippedListener(currentRecord);
+      processingMetrics.eventSkipped();
+    }
+
+    commitPipeline(this::onPipelineCommitted);
+  }
+
+  /**
+   * Discards the changes of the current batch, whose records were not written, commits the
+   * pipelined batches and then processes the current command again, without pipelining it.
+   */
+  private void abortPipeline() {
+    try {
+      zeebeDbTransaction.rollbackToSavePoint();
+    } catch (final Exception e) {
+      // the changes of the current batch can't be separated from the written batches anymore
+      throw new UncommittedStateException(e);
+    }
+
+    // start the batch from scratch, in case processing failed in the middle of it
+    processedCommandsCount = 0;
+    commitPipeline(() -> processCommand(currentRecord));
+  }
+
+  private void commitPipeline(final Runnable nextStep) {
+    final ActorFuture<Boolean> retryFuture =
+        updateStateRetryStrategy.runWithRetry(
+            () -> {
+              zeebeDbTransaction.commit();
+              final var lastBatch = pipelinedBatches.getLast();
+              lastSuccessfulProcessedRecordPosition = lastBatch.position();
+              processingMetrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
+              lastWrittenPosition = lastBatch.writtenPosition();
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            // same as in updateState(), log and state have diverged
+            throw new UncommittedStateException(throwable);
+          }
+
+          pipelinedBatches.forEach(
+              batch -> scheduledCommandCache.remove(batch.intent(), batch.key()));
+          executePipelinedSideEffects(nextStep);
+        });
+  }
+
+  private void executePipelinedSideEffects(final Runnable nextStep) {
+    final ActorFuture<Boolean> retryFuture =
+        sideEffectsRetryStrategy.runWithRetry(
+            () -> {
+              while (!pipelinedBatches.isEmpty()) {
+                final var batch = pipelinedBatches.getFirst();
+                writeResponses(batch.responses());
+                if (!executePostCommitTasks(batch.result())) {
+                  return false;
+                }
+
+                completePipelinedBatch(pipelinedBatches.removeFirst());
+              }
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(
+                ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentRecord, metadata, throwable);
+          }
+
+          while (!pipelinedBatches.isEmpty()) {
+            completePipelinedBatch(pipelinedBatches.removeFirst());
+          }
+          nextStep.run();
+        });
+  }
+
+  private void completePipelinedBatch(final PipelinedBatch batch) {
+    notifyProcessedListener(batch.command());
+    batch.processingTimer().close();
+  }
+
+  private void onPipelineCommitted() {
+    markProcessingCompleted();
+    actor.submit(this::tryToReadNextRecord);
+  }
+
+  private TypedRecord<?> copyCurrentCommand() {
+    final var buffer = new UnsafeBuffer(new byte[currentRecord.getLength()]);
+    currentRecord.write(buffer, 0);
+    final var event = new LoggedEventImpl();
+    event.wrap(buffer, 0);
+
+    final var commandMetadata = new RecordMetadata();
+    event.readMetadata(commandMetadata);
+    final UnifiedRecordValue value =
+        ReflectUtil.newInstance(
+            TypedEventRegistry.EVENT_REGISTRY.get(commandMetadata.getValueType()));
+    event.readValue(value);
+
+    final var command = new TypedRecordImpl(context.getPartitionId());
+    command.wrap(event, commandMetadata, value);
+    return command;
+  }
+
   /**
    * Finalize the command processing, which includes certain clean-up tasks, like mark the command
    * as processed and reset transient processing state, etc.
@@ -685,24 +943,8 @@ public final class ProcessingStateMachine {
             () -> {
               // TODO refactor this into two parallel tasks, which are then combined, and on the
               // completion of which the process continues
-              for (final var processingResponse : pendingResponses) {
-                final var responseWriter = context.getCommandResponseWriter();
-
-                final var responseValue = processingResponse.responseValue();
-                final var recordMetadata = responseValue.recordMetadata();
-                responseWriter
-                    .intent(recordMetadata.getIntent())
-                    .key(responseValue.key())
-                    .recordType(recordMetadata.getRecordType())
-                    .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
-                    .rejectionType(recordMetadata.getRejectionType())
-                    .partitionId(context.getPartitionId())
-                    .valueType(recordMetadata.getValueType())
-                    .valueWriter(responseValue.recordValue())
-                    .tryWriteResponse(
-                        processingResponse.requestStreamId(), processingResponse.requestId());
-              }
-              return executePostCommitTasks();
+              writeResponses(pendingResponses);
+              return executePostCommitTasks(currentProcessingResult);
             },
             abortCondition);
 
@@ -725,9 +967,28 @@ public final class ProcessingStateMachine {
         });
   }
 
-  private boolean executePostCommitTasks() {
+  private void writeResponses(final Collection<ProcessingResponse> responses) {
+    for (final var processingResponse : responses) {
+      final var responseWriter = context.getCommandResponseWriter();
+
+      final var responseValue = processingResponse.responseValue();
+      final var recordMetadata = responseValue.recordMetadata();
+      responseWriter
+          .intent(recordMetadata.getIntent())
+          .key(responseValue.key())
+          .recordType(recordMetadata.getRecordType())
+          .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
+          .rejectionType(recordMetadata.getRejectionType())
+          .partitionId(context.getPartitionId())
+          .valueType(recordMetadata.getValueType())
+          .valueWriter(responseValue.recordValue())
+          .tryWriteResponse(processingResponse.requestStreamId(), processingResponse.requestId());
+    }
+  }
+
+  private boolean executePostCommitTasks(final ProcessingResult processingResult) {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
-      return currentProcessingResult.executePostCommitTasks();
+      return processingResult.executePostCommitTasks();
     }
   }
 
@@ -785,6 +1046,17 @@ public final class ProcessingStateMachine {
   private record BatchProcessingStepResult(
       List<TypedRecord<?>> toProcess, List<LogAppendEntry> toWrite) {}
 
+  /** A batch which was processed and written, but whose state changes are not committed yet. */
+  private record PipelinedBatch(
+      TypedRecord<?> command,
+      Intent intent,
+      long key,
+      long position,
+      long writtenPosition,
+      ProcessingResult result,
+      Collection<ProcessingResponse> responses,
+      CloseableSilently processingTimer) {}
+
   @FunctionalInterface
   private interface NextProcessingStep {
     void run() throws Exception;
@@ -147,6 +147,11 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getMaxPipelinedBatches() < 1) {
+      throw new IllegalArgumentException(
+          "Pipelined batches limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxPipelinedBatches()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -154,6 +159,11 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder maxPipelinedBatches(final int maxPipelinedBatches) {
+    streamProcessorContext.maxPipelinedBatches(maxPipelinedBatches);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
@@ -35,4 +35,19 @@ public final class RecordValues {
     }
     return value;
   }
+
+  /**
+   * Reads the value of the given event like {@link #readRecordValue(LoggedEvent, ValueType)}, but
+   * its properties are only decoded when accessed. The returned value references the event's
+   * buffer, so it must not be used anymore once the buffer is reused, e.g. by reading the next
+   * event.
+   */
+  public UnifiedRecordValue readRecordValueLazily(
+      final LoggedEvent event, final ValueType valueType) {
+    final UnifiedRecordValue value = eventCache.get(valueType);
+    if (value != null) {
+      value.wrapLazily(event.getValueBuffer(), event.getValueOffset(), event.getValueLength());
+    }
+    return value;
+  }
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.verification.VerificationWithTimeout;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorPipeliningTest {
+
+  private static final long TIMEOUT_MILLIS = 2_000L;
+  private static final VerificationWithTimeout TIMEOUT = timeout(TIMEOUT_MILLIS);
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  @Test
+  void shouldProcessAndCommitPipelinedCommands() {
+    // given
+    final var processor = new KeyGeneratingProcessor(Integer.MAX_VALUE, 0);
+    startStreamProcessor(processor, 3);
+    final var firstKey = nextKey(processor);
+
+    // when
+    final var lastCommandPosition =
+        streamPlatform.writeBatch(
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+    assertThat(processor.processedCommands).hasValue(3);
+    assertThat(processor.executedPostCommitTasks).hasValue(3);
+    await("Last processed position should be updated")
+        .untilAsserted(
+            () ->
+                assertThat(
+                        streamPlatform.getStreamProcessor().getLastProcessedPositionAsync().join())
+                    .isEqualTo(lastCommandPosition));
+    assertThat(streamPlatform.getLogStream().getLastWrittenPosition())
+        .describedAs("Every command should have written its follow-up event")
+        .isEqualTo(lastCommandPosition + 3);
+    assertThat(nextKey(processor)).isEqualTo(firstKey + 4);
+  }
+
+  @Test
+  void shouldCommitPipelinedCommandsWhenLaterCommandFails() {
+    // given - the third command always fails
+    final var processor = new KeyGeneratingProcessor(2, Integer.MAX_VALUE);
+    startStreamProcessor(processor, 3);
+    final var firstKey = nextKey(processor);
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then - the failed command is processed again on its own before its error is handled
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+    assertThat(processor.processedCommands).hasValue(4);
+    assertThat(processor.handledErrors)
+        .describedAs("The error should be handled when aborting the pipeline and after replaying")
+        .hasValue(2);
+    assertThat(processor.executedPostCommitTasks).hasValue(2);
+    assertThat(nextKey(processor))
+        .describedAs("Only the keys of the successfully processed commands should be committed")
+        .isEqualTo(firstKey + 3);
+  }
+
+  @Test
+  void shouldHandleErrorOfPipelinedCommandBeforeProcessingItAgain() {
+    // given - the second command fails once, after it cached its attempt
+    final var processor = new KeyGeneratingProcessor(1, 1);
+    startStreamProcessor(processor, 3);
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then - the error handling cleared the cache before the command was processed again
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+    assertThat(processor.processedCommands).hasValue(4);
+    assertThat(processor.handledErrors).hasValue(1);
+    assertThat(processor.executedPostCommitTasks).hasValue(3);
+    assertThat(processor.cachedAttempts)
+        .describedAs("The cache should not contain the attempt of the failed processing")
+        .containsExactlyInAnyOrder(3, 4);
+  }
+
+  private void startStreamProcessor(final RecordProcessor processor, final int pipelinedBatches) {
+    streamPlatform
+        .withRecordProcessors(List.of(processor))
+        .buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxPipelinedBatches(pipelinedBatches));
+  }
+
+  private long nextKey(final KeyGeneratingProcessor processor) {
+    final var zeebeDb = processor.context.getZeebeDb();
+    return new DbKeyGenerator(1, zeebeDb, zeebeDb.createContext()).nextKey();
+  }
+
+  /**
+   * Generates a key and writes a follow-up event for every command, and fails the given number of
+   * attempts after the given number of successfully processed ones. Every attempt is cached outside
+   * of the transaction, and the cache is cleared when handling an error.
+   */
+  private static final class KeyGeneratingProcessor implements RecordProcessor {
+    private final int successfulCommands;
+    private final int failingAttempts;
+    private final AtomicInteger processedCommands = new AtomicInteger();
+    private final AtomicInteger failedAttempts = new AtomicInteger();
+    private final AtomicInteger executedPostCommitTasks = new AtomicInteger();
+    private final AtomicInteger handledErrors = new AtomicInteger();
+    private final Set<Integer> cachedAttempts = ConcurrentHashMap.newKeySet();
+    private RecordProcessorContext context;
+
+    private KeyGeneratingProcessor(final int successfulCommands, final int failingAttempts) {
+      this.successfulCommands = successfulCommands;
+      this.failingAttempts = failingAttempts;
+    }
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {
+      context = recordProcessorContext;
+    }
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return true;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {}
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      final var key =
+          new DbKeyGenerator(1, context.getZeebeDb(), context.getTransactionContext()).nextKey();
+      final var attempt = processedCommands.incrementAndGet();
+      cachedAttempts.add(attempt);
+      if (attempt > successfulCommands && failedAttempts.getAndIncrement() < failingAttempts) {
+        throw new RuntimeException("expected");
+      }
+
+      processingResultBuilder.appendRecordReturnEither(
+          key,
+          Records.processInstance(1),
+          new RecordMetadata()
+              .recordType(RecordType.EVENT)
+              .intent(ELEMENT_ACTIVATING)
+              .rejectionType(RejectionType.NULL_VAL)
+              .rejectionReason(""));
+      processingResultBuilder.appendPostCommitTask(
+          () -> {
+            executedPostCommitTasks.incrementAndGet();
+            return true;
+          });
+      return processingResultBuilder.build();
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      handledErrors.incrementAndGet();
+      cachedAttempts.clear();
+      return processingResultBuilder.build();
+    }
+  }
+}
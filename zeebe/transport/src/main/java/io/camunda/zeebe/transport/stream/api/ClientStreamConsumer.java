@@ -17,6 +17,9 @@ import org.agrona.DirectBuffer;
 @FunctionalInterface
 public interface ClientStreamConsumer {
 
+  /** Returned by {@link #credits()} if the consumer doesn't know how much it can accept. */
+  int UNKNOWN_CREDITS = -1;
+
   /**
    * Consumes the payload received from the server to the client. It is recommended to make the
    * implementation to be asynchronous. Otherwise, it could block the thread of {@link
@@ -25,4 +28,18 @@ public interface ClientStreamConsumer {
    * @param payload the data to be consumed by the client
    */
   ActorFuture<Void> push(DirectBuffer payload);
+
+  /**
+   * Returns how many more payloads this consumer can currently accept. The credits of all consumers
+   * of a stream are advertised to the server with every successful push, such that the server can
+   * prefer the streams with the most capacity.
+   *
+   * <p>Is called on the thread of the {@link ClientStreamService}, so implementations must be
+   * thread-safe and should be cheap.
+   *
+   * @return the number of payloads this consumer can accept, or {@link #UNKNOWN_CREDITS}
+   */
+  default int credits() {
+    return UNKNOWN_CREDITS;
+  }
 }
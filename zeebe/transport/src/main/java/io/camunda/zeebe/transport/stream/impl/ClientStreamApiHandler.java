@@ -33,7 +33,8 @@ final class ClientStreamApiHandler {
 
     final ActorFuture<Void> payloadPushed = new CompletableActorFuture<>();
     clientStreamManager.onPayloadReceived(request, payloadPushed);
-    payloadPushed.onComplete((ok, error) -> handlePayloadPushed(responseFuture, error), executor);
+    payloadPushed.onComplete(
+        (ok, error) -> handlePayloadPushed(request, responseFuture, error), executor);
 
     return responseFuture;
   }
@@ -45,9 +46,13 @@ final class ClientStreamApiHandler {
   }
 
   private void handlePayloadPushed(
-      final CompletableFuture<StreamResponse> response, final Throwable error) {
+      final PushStreamRequest request,
+      final CompletableFuture<StreamResponse> response,
+      final Throwable error) {
     if (error == null) {
-      response.complete(new PushStreamResponse());
+      // advertise the remaining credits, such that the server can prefer the least busy streams
+      response.complete(
+          new PushStreamResponse().credits(clientStreamManager.credits(request.streamId())));
       return;
     }
 
@@ -17,6 +17,7 @@ import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -86,6 +87,31 @@ final class ClientStreamManager<M extends BufferWriter> {
     requestManager.removeAll(servers);
   }
 
+  /**
+   * Returns the sum of the credits of all clients of the given aggregated stream, ignoring clients
+   * which don't track their credits.
+   *
+   * @param streamId the id of the aggregated stream
+   * @return the credits of the stream, or {@link ClientStreamConsumer#UNKNOWN_CREDITS} if none of
+   *     its clients track their credits
+   */
+  int credits(final UUID streamId) {
+    final var clientStream = registry.get(streamId);
+    if (clientStream.isEmpty()) {
+      return 0;
+    }
+
+    int credits = ClientStreamConsumer.UNKNOWN_CREDITS;
+    for (final var client : clientStream.get().list()) {
+      final int clientCredits = client.clientStreamConsumer().credits();
+      if (clientCredits != ClientStreamConsumer.UNKNOWN_CREDITS) {
+        credits = Math.max(credits, 0) + clientCredits;
+      }
+    }
+
+    return credits;
+  }
+
   public void onPayloadReceived(
       final PushStreamRequest pushStreamRequest, final ActorFuture<Void> responseFuture) {
     final var streamId = pushStreamRequest.streamId();
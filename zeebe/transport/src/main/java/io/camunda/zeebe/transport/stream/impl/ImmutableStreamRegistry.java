@@ -21,4 +21,12 @@ interface ImmutableStreamRegistry<M> {
    * @return set of streams for the given type
    */
   Set<AggregatedRemoteStream<M>> get(final UnsafeBuffer streamType);
+
+  /**
+   * Returns the credits advertised by the clients of the registered streams. The credits of a
+   * stream are discarded when it is removed from the registry.
+   *
+   * <p>Implementations of this must be thread-safe.
+   */
+  RemoteStreamCredits credits();
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl;
+
+import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
+import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
+import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the credits advertised by the clients of each remote stream, i.e. how many more payloads
+ * they can currently accept. The credits are updated with every push response, and optimistically
+ * consumed whenever a payload is pushed, so that a burst of payloads is spread over the streams
+ * before their responses come back.
+ *
+ * <p>Credits expire after a while: a stream which advertised no credits won't receive any payload
+ * anymore, and thus would never advertise new credits. Once expired, a stream is considered to have
+ * unknown credits again, same as a stream of a client which doesn't advertise any.
+ *
+ * <p>This class is thread-safe.
+ */
+final class RemoteStreamCredits {
+  static final Duration EXPIRY = Duration.ofSeconds(1);
+
+  private final ConcurrentMap<StreamId, Credits> credits = new ConcurrentHashMap<>();
+  private final LongSupplier nanoClock;
+
+  RemoteStreamCredits() {
+    this(System::nanoTime);
+  }
+
+  RemoteStreamCredits(final LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Returns the credits of the given stream, or {@link ClientStreamConsumer#UNKNOWN_CREDITS} if the
+   * stream never advertised any, or if they expired.
+   */
+  int get(final StreamId streamId) {
+    final var current = credits.get(streamId);
+    if (current == null || nanoClock.getAsLong() - current.updatedAt() > EXPIRY.toNanos()) {
+      return ClientStreamConsumer.UNKNOWN_CREDITS;
+    }
+
+    return current.amount();
+  }
+
+  /**
+   * Returns the weight of the given consumer when picking a stream to push to. Streams with unknown
+   * credits are assumed to accept at least one more payload, so that clients which don't advertise
+   * any credits are picked the same way as before.
+   */
+  int weight(final StreamConsumer<?> consumer) {
+    final int amount = get(consumer.id());
+    return amount == ClientStreamConsumer.UNKNOWN_CREDITS ? 1 : amount;
+  }
+
+  /** Sets the credits of the given stream as advertised by its client. */
+  void update(final StreamId streamId, final int amount) {
+    if (amount == ClientStreamConsumer.UNKNOWN_CREDITS) {
+      credits.remove(streamId);
+      return;
+    }
+
+    credits.put(streamId, new Credits(Math.max(amount, 0), nanoClock.getAsLong()));
+  }
+
+  /** Consumes a single credit of the given stream, if it has any. */
+  void consume(final StreamId streamId) {
+    credits.computeIfPresent(
+        streamId,
+        (id, current) ->
+            current.amount() > 0
+                ? new Credits(current.amount() - 1, current.updatedAt())
+                : current);
+  }
+
+  void remove(final StreamId streamId) {
+    credits.remove(streamId);
+  }
+
+  void clear() {
+    credits.clear();
+  }
+
+  private record Credits(int amount, long updatedAt) {}
+}
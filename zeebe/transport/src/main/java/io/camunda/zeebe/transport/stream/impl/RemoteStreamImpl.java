@@ -14,25 +14,34 @@ import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsu
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Pushes payloads to one of the consumers of an aggregated stream, preferring the consumers which
+ * advertised the most credits, and retrying with the remaining consumers in the same order if a
+ * push fails. Consumers with the same credits are picked randomly.
+ */
 public final class RemoteStreamImpl<M, P extends BufferWriter> implements RemoteStream<M, P> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RemoteStreamImpl.class);
   private final AggregatedRemoteStream<M> stream;
   private final RemoteStreamPusher<P> streamer;
   private final RemoteStreamErrorHandler<P> errorHandler;
+  private final RemoteStreamCredits credits;
 
   public RemoteStreamImpl(
       final AggregatedRemoteStream<M> stream,
       final RemoteStreamPusher<P> streamer,
-      final RemoteStreamErrorHandler<P> errorHandler) {
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final RemoteStreamCredits credits) {
     this.stream = stream;
     this.streamer = streamer;
     this.errorHandler = errorHandler;
+    this.credits = credits;
   }
 
   @Override
@@ -57,24 +66,34 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
   }
 
   private StreamConsumer<M> pickInitialConsumer() {
-    final var consumers = stream.streamConsumers();
-    var size = consumers.size();
-
-    // since we can get concurrent modifications of the stream consumers list, we have to handle the
-    // case where the size changes while we're picking a consumer, so we loop as long as we fail to
-    // pick a consumer or the list is empty
-    while (size > 0) {
-      final var index = ThreadLocalRandom.current().nextInt(size);
-      try {
-        return consumers.get(index);
-      } catch (final IndexOutOfBoundsException e) {
-        LOGGER.trace(
-            "Stream consumer list concurrently modified while picking consumer; retrying", e);
-        size = consumers.size();
+    // the consumers list is copy-on-write, so iterating over it is safe even if it's concurrently
+    // modified; shuffling first means ties are broken randomly
+    final var consumers = new ArrayList<>(stream.streamConsumers());
+    Collections.shuffle(consumers);
+
+    StreamConsumer<M> picked = null;
+    int pickedWeight = -1;
+    for (final var consumer : consumers) {
+      final int weight = credits.weight(consumer);
+      if (weight > pickedWeight) {
+        picked = consumer;
+        pickedWeight = weight;
       }
     }
 
-    return null;
+    return picked;
+  }
+
+  /** Returns the consumers in a random order, sorted by their credits in descending order. */
+  private List<StreamConsumer<M>> orderByCredits(final List<StreamConsumer<M>> consumers) {
+    Collections.shuffle(consumers);
+
+    // credits may change concurrently, so snapshot them to keep the sort order consistent
+    return consumers.stream()
+        .map(consumer -> new WeightedConsumer<>(consumer, credits.weight(consumer)))
+        .sorted(Comparator.comparingInt(WeightedConsumer<M>::weight).reversed())
+        .map(WeightedConsumer::consumer)
+        .toList();
   }
 
   private final class RetryHandler implements RemoteStreamErrorHandler<P> {
@@ -97,8 +116,7 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
       }
 
       consumers.remove(initialConsumer);
-      Collections.shuffle(consumers);
-      final var iterator = consumers.iterator();
+      final var iterator = orderByCredits(consumers).iterator();
       retry(error, data, iterator);
     }
 
@@ -122,4 +140,6 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
       errorHandler.handleError(throwable, payload);
     }
   }
+
+  private record WeightedConsumer<M>(StreamConsumer<M> consumer, int weight) {}
 }
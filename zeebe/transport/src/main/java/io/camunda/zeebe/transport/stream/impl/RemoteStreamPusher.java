@@ -26,9 +26,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A naive implementation to push jobs out, which performs no retries of any kind, but reports
+ * Pushes payloads out to a single remote stream, which performs no retries of any kind, but reports
  * errors on failure.
  *
+ * <p>Keeps the {@link RemoteStreamCredits} of the stream up to date: a credit is consumed when a
+ * payload is pushed, and replaced by the credits advertised in the response. If the client could
+ * not accept the payload, e.g. because all its consumers are blocked, the stream is assumed to have
+ * no credits left.
+ *
  * @param <P> the payload type to be pushed out
  */
 final class RemoteStreamPusher<P extends BufferWriter> {
@@ -41,12 +46,17 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   private final RemoteStreamMetrics metrics;
   private final Transport transport;
   private final Executor executor;
+  private final RemoteStreamCredits credits;
 
   RemoteStreamPusher(
-      final Transport transport, final Executor executor, final RemoteStreamMetrics metrics) {
+      final Transport transport,
+      final Executor executor,
+      final RemoteStreamMetrics metrics,
+      final RemoteStreamCredits credits) {
     this.metrics = Objects.requireNonNull(metrics, "must specify remote stream metrics");
     this.transport = Objects.requireNonNull(transport, "must provide a network transport");
     this.executor = Objects.requireNonNull(executor, "must provide an asynchronous executor");
+    this.credits = Objects.requireNonNull(credits, "must provide remote stream credits");
   }
 
   public void pushAsync(
@@ -107,10 +117,13 @@ final class RemoteStreamPusher<P extends BufferWriter> {
       final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
     final var request = new PushStreamRequest().streamId(streamId.streamId()).payload(payload);
     try {
+      // consume before sending, as the response may be handled before send returns
+      credits.consume(streamId);
       transport
           .send(request, streamId.receiver())
           .whenCompleteAsync(
-              (response, error) -> onPush(payload, errorHandler, response, error), executor);
+              (response, error) -> onPush(payload, errorHandler, streamId, response, error),
+              executor);
       LOG.trace("Pushed {} to stream {}", payload, streamId);
     } catch (final Exception e) {
       errorHandler.handleError(e, payload);
@@ -120,6 +133,7 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   private void onPush(
       final P payload,
       final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
       final byte[] responseBuffer,
       final Throwable error) {
     if (error != null) {
@@ -131,7 +145,23 @@ final class RemoteStreamPusher<P extends BufferWriter> {
         .decode(responseBuffer, new PushStreamResponse())
         .mapLeft(ErrorResponse::asException)
         .ifRightOrLeft(
-            ok -> metrics.pushSucceeded(), failure -> errorHandler.handleError(failure, payload));
+            response -> {
+              credits.update(streamId, response.credits());
+              metrics.pushSucceeded();
+            },
+            failure -> {
+              if (isOutOfCredits(failure)) {
+                credits.update(streamId, 0);
+              }
+              errorHandler.handleError(failure, payload);
+            });
+  }
+
+  private boolean isOutOfCredits(final StreamResponseException failure) {
+    return switch (failure.code()) {
+      case BLOCKED, EXHAUSTED, NOT_FOUND -> true;
+      default -> false;
+    };
   }
 
   /**
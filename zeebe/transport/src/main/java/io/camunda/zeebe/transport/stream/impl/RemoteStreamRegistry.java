@@ -45,6 +45,8 @@ public class RemoteStreamRegistry<M> implements ImmutableStreamRegistry<M> {
 
   private final Map<StreamId, StreamConsumer<M>> idToConsumer = new HashMap<>();
 
+  private final RemoteStreamCredits credits = new RemoteStreamCredits();
+
   public RemoteStreamRegistry(final RemoteStreamMetrics metrics) {
     this.metrics = metrics;
   }
@@ -99,6 +101,7 @@ public class RemoteStreamRegistry<M> implements ImmutableStreamRegistry<M> {
   public void remove(final UUID streamId, final MemberId receiver) {
     final var uniqueId = new StreamId(streamId, receiver);
     final var consumer = idToConsumer.remove(uniqueId);
+    credits.remove(uniqueId);
     if (consumer != null) {
       logicalIdToConsumers.computeIfPresent(
           consumer.logicalId(),
@@ -132,7 +135,13 @@ public class RemoteStreamRegistry<M> implements ImmutableStreamRegistry<M> {
     return typeToConsumers.getOrDefault(streamType, Collections.emptySet());
   }
 
+  @Override
+  public RemoteStreamCredits credits() {
+    return credits;
+  }
+
   public void clear() {
+    credits.clear();
     typeToConsumers.clear();
     idToConsumer.clear();
     logicalIdToConsumers.clear();
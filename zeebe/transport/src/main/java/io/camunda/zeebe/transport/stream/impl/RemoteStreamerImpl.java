@@ -56,7 +56,8 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     this.registry = Objects.requireNonNull(registry, "must specify a job stream registry");
     this.errorHandler = Objects.requireNonNull(errorHandler, "must specify an error handler");
 
-    remoteStreamPusher = new RemoteStreamPusher<>(this::send, actor::run, metrics);
+    remoteStreamPusher =
+        new RemoteStreamPusher<>(this::send, actor::run, metrics, registry.credits());
   }
 
   @Override
@@ -72,21 +73,42 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     }
 
     return pickStream(consumers)
-        .map(target -> new RemoteStreamImpl<>(target, remoteStreamPusher, errorHandler));
+        .map(
+            target ->
+                new RemoteStreamImpl<>(
+                    target, remoteStreamPusher, errorHandler, registry.credits()));
   }
 
+  /**
+   * Picks the stream whose consumers advertised the most credits in total; ties are broken
+   * randomly, which is also how streams are picked if no client advertises any credits.
+   */
   private Optional<AggregatedRemoteStream<M>> pickStream(
       final Set<AggregatedRemoteStream<M>> consumers) {
+    final var credits = registry.credits();
     final var targets = new ArrayList<>(consumers);
     Collections.shuffle(targets);
 
+    AggregatedRemoteStream<M> picked = null;
+    long pickedWeight = -1;
     for (final var target : targets) {
-      if (!target.streamConsumers().isEmpty()) {
-        return Optional.of(target);
+      final var streamConsumers = target.streamConsumers();
+      if (streamConsumers.isEmpty()) {
+        continue;
+      }
+
+      long weight = 0;
+      for (final var consumer : streamConsumers) {
+        weight += credits.weight(consumer);
+      }
+
+      if (weight > pickedWeight) {
+        picked = target;
+        pickedWeight = weight;
       }
     }
 
-    return Optional.empty();
+    return Optional.ofNullable(picked);
   }
 
   private CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver) {
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.transport.stream.impl.messages;
 
+import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
 import io.camunda.zeebe.util.buffer.BufferReader;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -18,9 +19,18 @@ public final class PushStreamResponse implements BufferReader, StreamResponse {
   private final PushStreamResponseEncoder messageEncoder = new PushStreamResponseEncoder();
   private final PushStreamResponseDecoder messageDecoder = new PushStreamResponseDecoder();
 
+  private int credits = ClientStreamConsumer.UNKNOWN_CREDITS;
+
   @Override
   public void wrap(final DirectBuffer buffer, final int offset, final int length) {
     messageDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+
+    // responses of older clients don't contain any credits
+    final int decodedCredits = messageDecoder.credits();
+    credits =
+        decodedCredits == PushStreamResponseDecoder.creditsNullValue()
+            ? ClientStreamConsumer.UNKNOWN_CREDITS
+            : decodedCredits;
   }
 
   @Override
@@ -30,7 +40,12 @@ public final class PushStreamResponse implements BufferReader, StreamResponse {
 
   @Override
   public void write(final MutableDirectBuffer buffer, final int offset) {
-    messageEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder);
+    messageEncoder
+        .wrapAndApplyHeader(buffer, offset, headerEncoder)
+        .credits(
+            credits == ClientStreamConsumer.UNKNOWN_CREDITS
+                ? PushStreamResponseEncoder.creditsNullValue()
+                : credits);
   }
 
   @Override
@@ -38,8 +53,21 @@ public final class PushStreamResponse implements BufferReader, StreamResponse {
     return messageDecoder.sbeTemplateId();
   }
 
+  /**
+   * Returns how many more payloads the clients of the stream can currently accept, or {@link
+   * ClientStreamConsumer#UNKNOWN_CREDITS} if the client did not advertise any credits.
+   */
+  public int credits() {
+    return credits;
+  }
+
+  public PushStreamResponse credits(final int credits) {
+    this.credits = credits;
+    return this;
+  }
+
   @Override
   public String toString() {
-    return "PushStreamResponse{}";
+    return "PushStreamResponse{" + "credits=" + credits + '}';
   }
 }
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.transport.stream.api.ClientStreamBlockedException;
@@ -20,10 +21,13 @@ import io.camunda.zeebe.transport.stream.api.StreamResponseException.ErrorDetail
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import java.time.Duration;
+import java.util.UUID;
 import java.util.stream.Stream;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
@@ -77,6 +81,28 @@ final class ClientStreamApiHandlerTest {
         .containsExactly(testCase.code());
   }
 
+  @Test
+  void shouldAdvertiseCreditsOnSuccess() {
+    // given
+    final var apiHandler = new ClientStreamApiHandler(clientStreamManager, Runnable::run);
+    final var streamId = UUID.randomUUID();
+    final var request = new PushStreamRequest().streamId(streamId);
+    final var payloadPushed = ArgumentCaptor.forClass(CompletableActorFuture.class);
+    //noinspection unchecked
+    doNothing().when(clientStreamManager).onPayloadReceived(eq(request), payloadPushed.capture());
+    when(clientStreamManager.credits(streamId)).thenReturn(3);
+
+    // when
+    final var response = apiHandler.handlePushRequest(request);
+    payloadPushed.getValue().complete(null);
+
+    // then
+    assertThat(response)
+        .succeedsWithin(Duration.ZERO)
+        .asInstanceOf(InstanceOfAssertFactories.type(PushStreamResponse.class))
+        .returns(3, PushStreamResponse::credits);
+  }
+
   private static Stream<ExceptionErrorCase> provideExceptionToErrorMap() {
     return Stream.of(
         new ExceptionErrorCase(new StreamExhaustedException("failed"), ErrorCode.EXHAUSTED),
@@ -15,6 +15,7 @@ import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.testing.TestActorFuture;
 import io.camunda.zeebe.scheduler.testing.TestConcurrencyControl;
@@ -240,6 +241,34 @@ class ClientStreamManagerTest {
     assertThat(metrics.getPushSucceeded()).isOne();
   }
 
+  @Test
+  void shouldSumCreditsOfClients() {
+    // given
+    final var clientStreamId = clientStreamManager.add(streamType, metadata, creditConsumer(2));
+    clientStreamManager.add(streamType, metadata, creditConsumer(3));
+    clientStreamManager.add(streamType, metadata, NOOP_CONSUMER);
+    final var streamId = getServerStreamId(clientStreamId);
+
+    // when
+    final int credits = clientStreamManager.credits(streamId);
+
+    // then
+    assertThat(credits).isEqualTo(5);
+  }
+
+  @Test
+  void shouldReturnUnknownCreditsIfNoClientTracksCredits() {
+    // given
+    final var clientStreamId = clientStreamManager.add(streamType, metadata, NOOP_CONSUMER);
+    final var streamId = getServerStreamId(clientStreamId);
+
+    // when
+    final int credits = clientStreamManager.credits(streamId);
+
+    // then
+    assertThat(credits).isEqualTo(ClientStreamConsumer.UNKNOWN_CREDITS);
+  }
+
   @Test
   void shouldNotPushIfNoStream() {
     // given -- no stream registered
@@ -324,6 +353,20 @@ class ClientStreamManagerTest {
     assertThat(metrics.getServerCount()).isZero();
   }
 
+  private ClientStreamConsumer creditConsumer(final int credits) {
+    return new ClientStreamConsumer() {
+      @Override
+      public ActorFuture<Void> push(final DirectBuffer payload) {
+        return CompletableActorFuture.completed(null);
+      }
+
+      @Override
+      public int credits() {
+        return credits;
+      }
+    };
+  }
+
   private UUID getServerStreamId(final ClientStreamId clientStreamId) {
     return registry.getClient(clientStreamId).orElseThrow().serverStream().streamId();
   }
@@ -38,11 +38,13 @@ class RemoteStreamImplTest {
       new AggregatedRemoteStream<>(new LogicalId<>(streamType, properties), new ArrayList<>());
   private final FailingTransport transport = new FailingTransport();
   private final Executor executor = Runnable::run;
+  private final RemoteStreamCredits credits = new RemoteStreamCredits();
   private final RemoteStreamPusher<TestSerializableData> pusher =
-      new RemoteStreamPusher<>(transport, executor, RemoteStreamMetrics.noop());
+      new RemoteStreamPusher<>(transport, executor, RemoteStreamMetrics.noop(), credits);
   private RemoteStreamErrorHandler<TestSerializableData> errorHandler = (e, d) -> {};
   private final RemoteStreamImpl<TestSerializableData, TestSerializableData> remoteStream =
-      new RemoteStreamImpl<>(aggregatedStream, pusher, (e, d) -> errorHandler.handleError(e, d));
+      new RemoteStreamImpl<>(
+          aggregatedStream, pusher, (e, d) -> errorHandler.handleError(e, d), credits);
 
   @BeforeEach
   void setup() {
@@ -98,6 +100,41 @@ class RemoteStreamImplTest {
     assertThat(transport.attemptedStreams).isEmpty();
   }
 
+  @Test
+  void shouldPushToConsumerWithMostCredits() {
+    // given
+    final var consumers = aggregatedStream.streamConsumers();
+    credits.update(consumers.get(0).id(), 1);
+    credits.update(consumers.get(1).id(), 5);
+    credits.update(consumers.get(2).id(), 0);
+    transport.succeedAfterAttempts(0);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(transport.attemptedStreams).containsExactly(consumers.get(1).id().streamId());
+  }
+
+  @Test
+  void shouldRetryInOrderOfCredits() {
+    // given
+    final var consumers = aggregatedStream.streamConsumers();
+    credits.update(consumers.get(0).id(), 0);
+    credits.update(consumers.get(1).id(), 5);
+    credits.update(consumers.get(2).id(), 3);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(transport.attemptedStreams)
+        .containsExactly(
+            consumers.get(1).id().streamId(),
+            consumers.get(2).id().streamId(),
+            consumers.get(0).id().streamId());
+  }
+
   private static final class FailingTransport implements Transport {
 
     private final List<UUID> attemptedStreams = new ArrayList<>();
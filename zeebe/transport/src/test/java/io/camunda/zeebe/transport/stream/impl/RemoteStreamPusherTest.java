@@ -38,8 +38,9 @@ final class RemoteStreamPusherTest {
   private final TestTransport transport = new TestTransport();
   private final Executor executor = Runnable::run;
   private final TestRemoteStreamMetrics metrics = new TestRemoteStreamMetrics();
+  private final RemoteStreamCredits credits = new RemoteStreamCredits();
   private final RemoteStreamPusher<Payload> pusher =
-      new RemoteStreamPusher<>(transport, executor, metrics);
+      new RemoteStreamPusher<>(transport, executor, metrics, credits);
 
   @Test
   void shouldPushPayload() {
@@ -149,6 +150,54 @@ final class RemoteStreamPusherTest {
     assertThat(metrics.getFailedPushTry(detailCode)).isOne();
   }
 
+  @Test
+  void shouldUpdateCreditsFromResponse() {
+    // given
+    final var payload = new Payload(1);
+    transport.response =
+        CompletableFuture.completedFuture(
+            BufferUtil.bufferAsArray(new PushStreamResponse().credits(5)));
+
+    // when
+    pusher.pushAsync(payload, new TestErrorHandler(), streamId);
+
+    // then
+    assertThat(credits.get(streamId)).isEqualTo(5);
+  }
+
+  @Test
+  void shouldConsumeCreditOnPush() {
+    // given
+    final var payload = new Payload(1);
+    credits.update(streamId, 3);
+    transport.response = new CompletableFuture<>();
+
+    // when
+    pusher.pushAsync(payload, new TestErrorHandler(), streamId);
+
+    // then
+    assertThat(credits.get(streamId)).isEqualTo(2);
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = ErrorCode.class,
+      names = {"BLOCKED", "EXHAUSTED", "NOT_FOUND"})
+  void shouldResetCreditsWhenClientCannotAcceptPayload(final ErrorCode code) {
+    // given
+    final var payload = new Payload(1);
+    credits.update(streamId, 3);
+    transport.response =
+        CompletableFuture.completedFuture(
+            BufferUtil.bufferAsArray(new ErrorResponse().code(code).message("failed")));
+
+    // when
+    pusher.pushAsync(payload, new TestErrorHandler(), streamId);
+
+    // then
+    assertThat(credits.get(streamId)).isZero();
+  }
+
   private record Payload(int version) implements BufferWriter {
 
     @Override
@@ -123,6 +123,26 @@ final class RemoteStreamerTest {
             Mockito.any());
   }
 
+  @Test
+  void shouldPickStreamWithMostCredits() {
+    // given
+    final var type = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var streamAId = new StreamId(UUID.randomUUID(), MemberId.from("a"));
+    final var streamAMeta = new TestMetadata(1);
+    final var streamBId = new StreamId(UUID.randomUUID(), MemberId.from("b"));
+    final var streamBMeta = new TestMetadata(2);
+    registry.add(type, streamAId.streamId(), streamAId.receiver(), streamAMeta);
+    registry.add(type, streamBId.streamId(), streamBId.receiver(), streamBMeta);
+    registry.credits().update(streamAId, 0);
+    registry.credits().update(streamBId, 3);
+
+    // when
+    final var stream = streamer.streamFor(type).orElseThrow();
+
+    // then
+    assertThat(stream.metadata()).isSameAs(streamBMeta);
+  }
+
   private record TestPayload(long key) implements BufferWriter {
 
     @Override
@@ -140,6 +140,20 @@ final class SerializationTest {
         .doesNotThrowAnyException();
   }
 
+  @Test
+  void shouldSerializePushStreamResponseCredits() {
+    // given
+    final var response = new PushStreamResponse().credits(5);
+
+    // when
+    response.write(buffer, 0);
+    final var deserialized = new PushStreamResponse();
+    deserialized.wrap(buffer, 0, response.getLength());
+
+    // then
+    assertThat(deserialized.credits()).isEqualTo(5);
+  }
+
   @Test
   void shouldSerializeErrorResponse() {
     // given
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.db;
 
 import io.camunda.zeebe.protocol.ScopedColumnFamily;
+import java.util.Collection;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -57,6 +58,19 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key, Supplier<ValueType> valueSupplier);
 
+  /**
+   * Looks up the values of all given keys at once, which is cheaper than calling {@link
+   * #get(DbKey)} for each of them. The visitor is called once per key, in the order of the given
+   * collection, with the stored value or null if the key does not exist.
+   *
+   * <p>Be aware that the given DbValue wraps the stored value and reflects the current visited key.
+   * The DbValue should not be stored, since it will change its internal value with the next key.
+   *
+   * @param keys the keys to look up; each key must be a separate instance
+   * @param visitor the visitor which accepts each key with its value, or null
+   */
+  void multiGet(Collection<KeyType> keys, BiConsumer<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -150,6 +164,23 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
   void whileEqualPrefix(
       DbKey keyPrefix, KeyType startAtKey, KeyValuePairVisitor<KeyType, ValueType> visitor);
 
+  /**
+   * Visits the key-value pairs, which are stored in the column family and which have the same
+   * common prefix. The ordering depends on the key. The visitor can indicate via the return value,
+   * whether the iteration should continue or not. This means if the visitor returns false the
+   * iteration will stop.
+   *
+   * <p>Unlike {@link #whileEqualPrefix(DbKey, KeyValuePairVisitor)}, the underlying iterator is
+   * bounded to the given prefix, which lets the storage stop at the end of the prefix instead of
+   * skipping over any deleted keys which follow it. This comes at the cost of creating a dedicated
+   * iterator, so prefer it for prefixes which are followed by many deleted keys, e.g. queue-like
+   * column families where entries are frequently inserted and removed.
+   *
+   * @param keyPrefix the prefix which should have the keys in common
+   * @param visitor the visitor which visits the key-value pairs
+   */
+  void whileEqualPrefixBounded(DbKey keyPrefix, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Deletes the key-value pair with the given key if it exists in the column family
    *
@@ -38,4 +38,23 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Marks the current state of the transaction, such that all changes made afterwards can be
+   * discarded via {@link #rollbackToSavePoint()}, while keeping the changes made before.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void setSavePoint() throws Exception;
+
+  /**
+   * Discards all changes made since the latest save point, and removes that save point. The changes
+   * made before the save point are kept, and can still be committed or rolled back.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown, e.g. if
+   *     there is no save point
+   */
+  void rollbackToSavePoint() throws Exception;
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import org.rocksdb.RocksIterator;
+
+/**
+ * A RocksDB iterator which is borrowed from a {@link ZeebeTransaction}, and handed back to it when
+ * closed, so that consecutive iterations within the same transaction don't have to create a new
+ * native iterator every time.
+ *
+ * <p>The iterator is only handed back if the transaction wasn't modified since the iterator was
+ * created, as it would otherwise not see these modifications. Otherwise, it's simply closed.
+ */
+final class ReusableIterator implements AutoCloseable {
+  private final ZeebeTransaction transaction;
+  private final RocksIterator iterator;
+  private final long writeGeneration;
+
+  ReusableIterator(
+      final ZeebeTransaction transaction,
+      final RocksIterator iterator,
+      final long writeGeneration) {
+    this.transaction = transaction;
+    this.iterator = iterator;
+    this.writeGeneration = writeGeneration;
+  }
+
+  RocksIterator iterator() {
+    return iterator;
+  }
+
+  long writeGeneration() {
+    return writeGeneration;
+  }
+
+  void release() {
+    iterator.close();
+  }
+
+  @Override
+  public void close() {
+    transaction.returnIterator(this);
+  }
+}
@@ -19,9 +19,15 @@ import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.db.impl.rocksdb.DbNullKey;
+import io.camunda.zeebe.db.impl.rocksdb.PrefixReadOptions;
 import io.camunda.zeebe.protocol.ColumnFamilyScope;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.protocol.ScopedColumnFamily;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -62,6 +68,8 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  // created on the first bounded iteration, as most column families are never iterated that way
+  private UpperBoundReadOptions upperBoundReadOptions;
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -185,6 +193,47 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public void multiGet(
+      final Collection<KeyType> keys, final BiConsumer<KeyType, ValueType> visitor) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    try (final var timer = metrics.measureGetLatency()) {
+      ensureInOpenTransaction(
+          transaction -> {
+            final List<byte[]> keysBytes = new ArrayList<>(keys.size());
+            for (final KeyType key : keys) {
+              columnFamilyContext.writeKey(key);
+              keysBytes.add(
+                  Arrays.copyOf(
+                      columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength()));
+            }
+
+            final List<byte[]> values =
+                transaction.multiGet(
+                    transactionDb.getDefaultReadOptions(),
+                    transactionDb.getDefaultHandle(),
+                    keysBytes);
+
+            final Iterator<KeyType> keyIterator = keys.iterator();
+            for (final byte[] value : values) {
+              final KeyType key = keyIterator.next();
+              if (value == null) {
+                visitor.accept(key, null);
+                continue;
+              }
+
+              columnFamilyContext.wrapValueView(value);
+              final DirectBuffer valueBuffer = columnFamilyContext.getValueView();
+              valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+              visitor.accept(key, valueInstance);
+            }
+          });
+    }
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -247,6 +296,12 @@ class TransactionalColumnFamily<
     ensureInOpenTransaction(transaction -> forEachInPrefix(startAtKey, keyPrefix, visitor));
   }
 
+  @Override
+  public void whileEqualPrefixBounded(
+      final DbKey keyPrefix, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    ensureInOpenTransaction(transaction -> forEachInBoundedPrefix(keyPrefix, visitor));
+  }
+
   @Override
   public void deleteExisting(final KeyType key) {
     try (final var timer = metrics.measureDeleteLatency()) {
@@ -378,6 +433,12 @@ class TransactionalColumnFamily<
     return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
   }
 
+  private ReusableIterator acquirePrefixIterator() {
+    final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
+    return currentTransaction.acquireIterator(
+        () -> newIterator(context, transactionDb.getPrefixReadOptions()));
+  }
+
   /**
    * This is the preferred method to implement methods that iterate over a column family.
    *
@@ -420,9 +481,8 @@ class TransactionalColumnFamily<
       columnFamilyContext.withPrefixKey(
           prefix,
           (prefixKey, prefixLength) -> {
-            try (final RocksIterator iterator =
-                newIterator(context, transactionDb.getPrefixReadOptions())) {
-
+            try (final ReusableIterator reusableIterator = acquirePrefixIterator()) {
+              final RocksIterator iterator = reusableIterator.iterator();
               boolean shouldVisitNext = true;
 
               for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
@@ -440,6 +500,68 @@ class TransactionalColumnFamily<
     }
   }
 
+  /**
+   * Similar to {@link #forEachInPrefix(DbKey, KeyValuePairVisitor)}, but sets the iterator's upper
+   * bound to the first key after the prefix, such that RocksDB stops at the end of the prefix
+   * instead of skipping over the deleted keys which may follow it. As the upper bound is part of
+   * the read options, this always creates a new iterator, but the read options and the bound are
+   * reused across calls.
+   *
+   * @param prefix of all keys that are iterated over.
+   * @param visitor called for all kv pairs where the key matches the given prefix. The visitor can
+   *     indicate whether iteration should continue or not, see {@link KeyValuePairVisitor}.
+   */
+  private void forEachInBoundedPrefix(
+      final DbKey prefix, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    try (final var timer = metrics.measureIterateLatency()) {
+      Objects.requireNonNull(prefix);
+      Objects.requireNonNull(visitor);
+
+      columnFamilyContext.withPrefixKey(
+          prefix,
+          (prefixKey, prefixLength) -> {
+            final var boundedReadOptions = upperBoundReadOptions();
+            // nested bounded iterations can't move the bound of the outer one, so they iterate
+            // without bound instead
+            final boolean acquired = boundedReadOptions.tryAcquire();
+            final ReadOptions readOptions =
+                acquired ? boundedReadOptions.withUpperBoundOf(prefixKey, prefixLength) : null;
+            try (final RocksIterator iterator =
+                newIterator(
+                    context,
+                    readOptions != null ? readOptions : transactionDb.getPrefixReadOptions())) {
+              boolean shouldVisitNext = true;
+
+              for (iterator.seek(columnFamilyContext.keyWithColumnFamily(prefix));
+                  iterator.isValid() && shouldVisitNext;
+                  iterator.next()) {
+                // the upper bound is not necessarily applied to the uncommitted writes of the
+                // transaction, so we still have to validate the key
+                final byte[] keyBytes = iterator.key();
+                if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+                  break;
+                }
+
+                shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
+              }
+            } finally {
+              if (acquired) {
+                boundedReadOptions.release();
+              }
+            }
+          });
+    }
+  }
+
+  private UpperBoundReadOptions upperBoundReadOptions() {
+    if (upperBoundReadOptions == null) {
+      upperBoundReadOptions = new UpperBoundReadOptions();
+      transactionDb.registerClosable(upperBoundReadOptions);
+    }
+
+    return upperBoundReadOptions;
+  }
+
   /**
    * This is the preferred method to implement methods that count entries in a column family.
    *
@@ -467,9 +589,8 @@ class TransactionalColumnFamily<
     columnFamilyContext.withPrefixKey(
         prefix,
         (prefixKey, prefixLength) -> {
-          try (final RocksIterator iterator =
-              newIterator(context, transactionDb.getPrefixReadOptions())) {
-
+          try (final ReusableIterator reusableIterator = acquirePrefixIterator()) {
+            final RocksIterator iterator = reusableIterator.iterator();
             for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
                 iterator.isValid();
                 iterator.next()) {
@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.impl.rocksdb.PrefixReadOptions;
+import io.camunda.zeebe.util.VisibleForTesting;
+import java.nio.ByteBuffer;
+import org.rocksdb.DirectSlice;
+import org.rocksdb.ReadOptions;
+
+/**
+ * Prefix read options with an iterate upper bound, which can be moved to the end of another prefix
+ * without allocating new native objects. The bound is kept in a direct buffer which RocksDB reads
+ * from, so it is only reallocated when a longer bound is needed.
+ *
+ * <p>Iterators read the bound when they are used, not when they are created, so the bound must not
+ * be changed while an iterator created with these options is still open. See {@link
+ * #tryAcquire()}.
+ */
+final class UpperBoundReadOptions implements AutoCloseable {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final ReadOptions readOptions = PrefixReadOptions.readOptions();
+  private ByteBuffer upperBoundBuffer;
+  private DirectSlice upperBound;
+  private int upperBoundLength;
+  private boolean acquired;
+
+  /**
+   * Acquires the read options, unless they are already used by an open iterator, e.g. when a
+   * bounded iteration is started from the visitor of another one.
+   *
+   * @return true if the options were acquired and must be released again, false otherwise
+   */
+  boolean tryAcquire() {
+    if (acquired) {
+      return false;
+    }
+
+    acquired = true;
+    return true;
+  }
+
+  void release() {
+    acquired = false;
+  }
+
+  /**
+   * Sets the upper bound to the smallest key which is greater than all keys starting with the given
+   * prefix.
+   *
+   * @return the read options, or null if there is no such key, i.e. the prefix consists only of
+   *     {@code 0xFF} bytes
+   */
+  ReadOptions withUpperBoundOf(final byte[] prefix, final int prefixLength) {
+    int length = prefixLength;
+    while (length > 0 && prefix[length - 1] == (byte) 0xFF) {
+      length--;
+    }
+
+    if (length == 0) {
+      return null;
+    }
+
+    ensureCapacity(length);
+    upperBoundBuffer.put(0, prefix, 0, length);
+    upperBoundBuffer.put(length - 1, (byte) (prefix[length - 1] + 1));
+    upperBound.setLength(length);
+    upperBoundLength = length;
+    return readOptions;
+  }
+
+  @VisibleForTesting
+  ByteBuffer upperBound() {
+    return upperBoundBuffer.slice(0, upperBoundLength);
+  }
+
+  private void ensureCapacity(final int length) {
+    if (upperBoundBuffer != null && upperBoundBuffer.capacity() >= length) {
+      return;
+    }
+
+    final var previousUpperBound = upperBound;
+    upperBoundBuffer = ByteBuffer.allocateDirect(Math.max(INITIAL_CAPACITY, length * 2));
+    upperBound = new DirectSlice(upperBoundBuffer, length);
+    readOptions.setIterateUpperBound(upperBound);
+    if (previousUpperBound != null) {
+      previousUpperBound.close();
+    }
+  }
+
+  @Override
+  public void close() {
+    readOptions.close();
+    if (upperBound != null) {
+      upperBound.close();
+    }
+  }
+}
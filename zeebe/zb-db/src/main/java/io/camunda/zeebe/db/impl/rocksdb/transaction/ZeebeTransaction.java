@@ -12,6 +12,11 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -21,12 +26,25 @@ import org.rocksdb.Transaction;
 
 public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
+  /**
+   * Nested iterations need one iterator per level, but are rarely deeper than a few levels, so
+   * there's no need to keep more idle iterators around.
+   */
+  private static final int MAX_IDLE_ITERATORS = 4;
+
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  private final Deque<ReusableIterator> idleIterators = new ArrayDeque<>(MAX_IDLE_ITERATORS);
 
   private boolean inCurrentTransaction;
   private Transaction transaction;
 
+  /**
+   * Incremented on every modification of the transaction; iterators created before it are not
+   * reused, as they may not see the modification.
+   */
+  private long writeGeneration;
+
   public ZeebeTransaction(
       final Transaction transaction, final TransactionRenovator transactionRenovator) {
     this.transactionRenovator = transactionRenovator;
@@ -47,6 +65,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final int valueOffset,
       final int valueLength)
       throws Exception {
+    invalidateIterators();
     try {
       RocksDbInternal.putWithHandle.invokeExact(
           nativeHandle,
@@ -101,6 +120,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
+    invalidateIterators();
     try {
       RocksDbInternal.removeWithHandle.invokeExact(
           nativeHandle, key, keyLength, columnFamilyHandle, false);
@@ -109,10 +129,60 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Looks up all given keys in a single call, which lets RocksDB batch the lookups instead of doing
+   * one round trip per key.
+   *
+   * @return the values in the same order as the keys, with null for keys which do not exist
+   */
+  public List<byte[]> multiGet(
+      final ReadOptions options, final ColumnFamilyHandle handle, final List<byte[]> keys)
+      throws RocksDBException {
+    return transaction.multiGetAsList(options, Collections.nCopies(keys.size(), handle), keys);
+  }
+
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
     return transaction.getIterator(options, handle);
   }
 
+  /**
+   * Returns an iterator which can be reused by later iterations in this transaction, as long as it
+   * is not modified in between. The iterator must be closed once the iteration is done, which hands
+   * it back to the transaction.
+   *
+   * <p>All iterators acquired this way are interchangeable, so the given factory must always create
+   * iterators with the same read options and over the same column family handle.
+   *
+   * @param iteratorFactory creates a new iterator if there is no idle one to reuse
+   * @return an iterator which is not used by any other iteration
+   */
+  ReusableIterator acquireIterator(final Supplier<RocksIterator> iteratorFactory) {
+    final var idleIterator = idleIterators.pollFirst();
+    if (idleIterator != null) {
+      return idleIterator;
+    }
+
+    return new ReusableIterator(this, iteratorFactory.get(), writeGeneration);
+  }
+
+  void returnIterator(final ReusableIterator iterator) {
+    if (inCurrentTransaction
+        && iterator.writeGeneration() == writeGeneration
+        && idleIterators.size() < MAX_IDLE_ITERATORS) {
+      idleIterators.addFirst(iterator);
+    } else {
+      iterator.release();
+    }
+  }
+
+  private void invalidateIterators() {
+    writeGeneration++;
+    if (!idleIterators.isEmpty()) {
+      idleIterators.forEach(ReusableIterator::release);
+      idleIterators.clear();
+    }
+  }
+
   void resetTransaction() {
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
@@ -161,18 +231,49 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public void setSavePoint() throws RocksDBException {
+    try {
+      transaction.setSavePoint();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage = "Unexpected error occurred when setting a save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
+  @Override
+  public void rollbackToSavePoint() throws RocksDBException {
+    try {
+      invalidateIterators();
+      transaction.rollbackToSavePoint();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB transaction rollback to save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
   void commitInternal() throws RocksDBException {
+    invalidateIterators();
     inCurrentTransaction = false;
     transaction.commit();
   }
 
   void rollbackInternal() throws RocksDBException {
+    invalidateIterators();
     inCurrentTransaction = false;
     transaction.rollback();
   }
 
   @Override
   public void close() {
+    invalidateIterators();
     transaction.close();
   }
 }
@@ -140,6 +140,16 @@ public class ZeebeTransactionDb<
     }
   }
 
+  /**
+   * Registers a resource which is closed together with the database, e.g. native objects which are
+   * created lazily by a column family.
+   */
+  void registerClosable(final AutoCloseable closable) {
+    synchronized (closables) {
+      closables.add(closable);
+    }
+  }
+
   protected ReadOptions getPrefixReadOptions() {
     return prefixReadOptions;
   }
@@ -148,6 +158,10 @@ public class ZeebeTransactionDb<
     return defaultHandle;
   }
 
+  protected ReadOptions getDefaultReadOptions() {
+    return defaultReadOptions;
+  }
+
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
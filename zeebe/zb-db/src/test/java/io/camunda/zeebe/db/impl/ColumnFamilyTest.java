@@ -521,6 +521,48 @@ public final class ColumnFamilyTest {
     assertThat(result2.getValue()).isEqualTo(4);
   }
 
+  @Test
+  public void shouldMultiGetValuesInOrderOfKeys() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    upsertKeyValuePair(3, 30);
+    final List<DbLong> keys = List.of(longKey(3), longKey(4), longKey(1));
+    final List<Long> visitedKeys = new ArrayList<>();
+    final List<Long> visitedValues = new ArrayList<>();
+
+    // when
+    columnFamily.multiGet(
+        keys,
+        (key, value) -> {
+          visitedKeys.add(key.getValue());
+          visitedValues.add(value == null ? null : value.getValue());
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly(3L, 4L, 1L);
+    assertThat(visitedValues).containsExactly(30L, null, 10L);
+  }
+
+  @Test
+  public void shouldNotVisitAnythingOnMultiGetWithoutKeys() {
+    // given
+    upsertKeyValuePair(1, 10);
+    final List<DbLong> visitedKeys = new ArrayList<>();
+
+    // when
+    columnFamily.multiGet(List.of(), (key, value) -> visitedKeys.add(key));
+
+    // then
+    assertThat(visitedKeys).isEmpty();
+  }
+
+  private DbLong longKey(final long value) {
+    final DbLong key = new DbLong();
+    key.wrapLong(value);
+    return key;
+  }
+
   private void upsertKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
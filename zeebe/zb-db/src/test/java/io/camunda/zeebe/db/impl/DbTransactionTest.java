@@ -19,7 +19,9 @@ import io.camunda.zeebe.protocol.ColumnFamilyScope;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.protocol.ScopedColumnFamily;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
@@ -94,6 +96,34 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isTrue();
   }
 
+  @Test
+  public void shouldMultiGetUncommittedValuesInTransaction() {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(10);
+    oneColumnFamily.insert(oneKey, oneValue);
+    final DbLong deletedKey = new DbLong();
+    deletedKey.wrapLong(1);
+    final DbLong insertedKey = new DbLong();
+    insertedKey.wrapLong(2);
+    final List<Long> values = new ArrayList<>();
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          oneColumnFamily.deleteExisting(deletedKey);
+          oneValue.wrapLong(20);
+          oneColumnFamily.insert(insertedKey, oneValue);
+
+          oneColumnFamily.multiGet(
+              List.of(deletedKey, insertedKey),
+              (key, value) -> values.add(value == null ? null : value.getValue()));
+        });
+
+    // then
+    assertThat(values).containsExactly(null, 20L);
+  }
+
   @Test
   public void shouldStartNewTransaction() throws Exception {
     // given
@@ -237,6 +267,44 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldRollbackToSavePoint() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.setSavePoint();
+    transaction.run(
+        () -> {
+          twoColumnFamily.insert(twoKey, twoValue);
+          oneValue.wrapLong(-2);
+          oneColumnFamily.update(oneKey, oneValue);
+        });
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.get(oneKey).getValue()).isEqualTo(-1);
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+  }
+
+  @Test
+  public void shouldFailToRollbackWithoutSavePoint() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> {});
+
+    // when - then
+    assertThatThrownBy(transaction::rollbackToSavePoint).isInstanceOf(Exception.class);
+  }
+
   @Test
   public void shouldGetValueInTransaction() {
     // given
@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures scanning a small prefix which is followed by many deleted keys, as is the case for
+ * queue-like column families (e.g. activatable jobs of different types), with and without bounding
+ * the iteration to the prefix. Every operation scans the prefix multiple times in the same
+ * transaction, as done when activating jobs for several requests in a row.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PrefixIterationPerformanceTest {
+  private static final long SCANNED_PREFIX = 1;
+  private static final long DELETED_PREFIX = 2;
+  private static final int LIVE_KEYS = 10;
+  private static final int SCANS_PER_TRANSACTION = 10;
+
+  @Param({"10000"})
+  public int deletedKeys;
+
+  @Param({"false", "true"})
+  public boolean bounded;
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> columnFamily;
+  private DbLong prefixKey;
+  private DbLong suffixKey;
+  private DbCompositeKey<DbLong, DbLong> compositeKey;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("prefix-iteration");
+    zeebeDb =
+        DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory().createDb(directory.toFile());
+    transactionContext = zeebeDb.createContext();
+    prefixKey = new DbLong();
+    suffixKey = new DbLong();
+    compositeKey = new DbCompositeKey<>(prefixKey, suffixKey);
+    columnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, transactionContext, compositeKey, DbNil.INSTANCE);
+
+    transactionContext.runInTransaction(
+        () -> {
+          prefixKey.wrapLong(SCANNED_PREFIX);
+          for (int i = 0; i < LIVE_KEYS; i++) {
+            suffixKey.wrapLong(i);
+            columnFamily.insert(compositeKey, DbNil.INSTANCE);
+          }
+
+          prefixKey.wrapLong(DELETED_PREFIX);
+          for (int i = 0; i < deletedKeys; i++) {
+            suffixKey.wrapLong(i);
+            columnFamily.insert(compositeKey, DbNil.INSTANCE);
+          }
+        });
+
+    // delete in a separate transaction, such that the tombstones are actually written
+    transactionContext.runInTransaction(
+        () -> {
+          prefixKey.wrapLong(DELETED_PREFIX);
+          for (int i = 0; i < deletedKeys; i++) {
+            suffixKey.wrapLong(i);
+            columnFamily.deleteExisting(compositeKey);
+          }
+        });
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public void measureScanPrefixFollowedByDeletedKeys(final Blackhole blackhole) {
+    transactionContext.runInTransaction(
+        () -> {
+          for (int i = 0; i < SCANS_PER_TRANSACTION; i++) {
+            prefixKey.wrapLong(SCANNED_PREFIX);
+            if (bounded) {
+              columnFamily.whileEqualPrefixBounded(
+                  prefixKey,
+                  (key, value) -> {
+                    blackhole.consume(key.second().getValue());
+                    return true;
+                  });
+            } else {
+              columnFamily.whileEqualPrefix(
+                  prefixKey,
+                  (key, value) -> {
+                    blackhole.consume(key.second().getValue());
+                    return true;
+                  });
+            }
+          }
+        });
+  }
+
+  @JMHTest("measureScanPrefixFollowedByDeletedKeys")
+  void shouldScanPrefixFollowedByDeletedKeys(final JMHTestCase testCase) {
+    // given - an ops/s score as measured locally with a bounded iteration, which is roughly two
+    // orders of magnitude faster than an unbounded one
+    // when running this test on different hardware, you're likely to have a different score
+    final var referenceScore = 9000;
+
+    // when
+    final var assertResult = testCase.withOptions(o -> o.param("bounded", "true")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
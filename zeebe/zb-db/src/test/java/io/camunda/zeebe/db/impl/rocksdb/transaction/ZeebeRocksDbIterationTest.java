@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -15,6 +17,9 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Before;
 import org.junit.Rule;
@@ -35,6 +40,7 @@ public final class ZeebeRocksDbIterationTest {
   private DbLong firstKey;
   private DbLong secondKey;
   private DbCompositeKey<DbLong, DbLong> compositeKey;
+  private TransactionContext transactionContext;
 
   @Before
   public void setup() throws Exception {
@@ -44,14 +50,12 @@ public final class ZeebeRocksDbIterationTest {
     firstKey = new DbLong();
     secondKey = new DbLong();
     compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+    transactionContext = zeebeDb.createContext();
     columnFamily =
         Mockito.spy(
             (TransactionalColumnFamily)
                 zeebeDb.createColumnFamily(
-                    DefaultColumnFamily.DEFAULT,
-                    zeebeDb.createContext(),
-                    compositeKey,
-                    DbNil.INSTANCE));
+                    DefaultColumnFamily.DEFAULT, transactionContext, compositeKey, DbNil.INSTANCE));
   }
 
   @Test
@@ -85,4 +89,187 @@ public final class ZeebeRocksDbIterationTest {
     // then
     Mockito.verify(spyIterator.get(), Mockito.times((int) suffixes)).next();
   }
+
+  @Test
+  public void shouldReuseIteratorWithinTransaction() {
+    // given
+    insertKeys(3, 5);
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          firstKey.wrapLong(0);
+          columnFamily.whileEqualPrefix(firstKey, ((key, value) -> {}));
+          firstKey.wrapLong(1);
+          columnFamily.whileEqualPrefix(firstKey, ((key, value) -> {}));
+        });
+
+    // then
+    Mockito.verify(columnFamily, Mockito.times(1))
+        .newIterator(Mockito.any(TransactionContext.class), Mockito.any(ReadOptions.class));
+  }
+
+  @Test
+  public void shouldNotReuseIteratorAfterTransactionWasModified() {
+    // given
+    insertKeys(3, 5);
+    final List<Long> visitedSuffixes = new ArrayList<>();
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          firstKey.wrapLong(1);
+          columnFamily.whileEqualPrefix(firstKey, ((key, value) -> {}));
+
+          secondKey.wrapLong(5);
+          columnFamily.insert(compositeKey, DbNil.INSTANCE);
+
+          firstKey.wrapLong(1);
+          columnFamily.whileEqualPrefix(
+              firstKey,
+              (key, value) -> {
+                visitedSuffixes.add(key.second().getValue());
+              });
+        });
+
+    // then
+    assertThat(visitedSuffixes).containsExactly(0L, 1L, 2L, 3L, 4L, 5L);
+    Mockito.verify(columnFamily, Mockito.times(2))
+        .newIterator(Mockito.any(TransactionContext.class), Mockito.any(ReadOptions.class));
+  }
+
+  @Test
+  public void shouldOnlyVisitPrefixInBoundedIteration() {
+    // given
+    insertKeys(3, 5);
+    final List<Long> visitedSuffixes = new ArrayList<>();
+
+    // when
+    firstKey.wrapLong(1);
+    columnFamily.whileEqualPrefixBounded(
+        firstKey,
+        (key, value) -> {
+          assertThat(key.first().getValue()).isOne();
+          return visitedSuffixes.add(key.second().getValue());
+        });
+
+    // then
+    assertThat(visitedSuffixes).containsExactly(0L, 1L, 2L, 3L, 4L);
+  }
+
+  @Test
+  public void shouldVisitUncommittedKeysInBoundedIteration() {
+    // given
+    insertKeys(3, 5);
+    final List<Long> visitedSuffixes = new ArrayList<>();
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          firstKey.wrapLong(1);
+          secondKey.wrapLong(2);
+          columnFamily.deleteExisting(compositeKey);
+          secondKey.wrapLong(7);
+          columnFamily.insert(compositeKey, DbNil.INSTANCE);
+
+          columnFamily.whileEqualPrefixBounded(
+              firstKey, (key, value) -> visitedSuffixes.add(key.second().getValue()));
+        });
+
+    // then
+    assertThat(visitedSuffixes).containsExactly(0L, 1L, 3L, 4L, 7L);
+  }
+
+  @Test
+  public void shouldStopBoundedIterationWhenVisitorReturnsFalse() {
+    // given
+    insertKeys(3, 5);
+    final List<Long> visitedSuffixes = new ArrayList<>();
+
+    // when
+    firstKey.wrapLong(1);
+    columnFamily.whileEqualPrefixBounded(
+        firstKey,
+        (key, value) -> visitedSuffixes.add(key.second().getValue()) && visitedSuffixes.size() < 2);
+
+    // then
+    assertThat(visitedSuffixes).containsExactly(0L, 1L);
+  }
+
+  @Test
+  public void shouldReuseReadOptionsInBoundedIteration() {
+    // given
+    insertKeys(3, 5);
+    final List<ReadOptions> readOptions = new ArrayList<>();
+    Mockito.doAnswer(
+            invocation -> {
+              readOptions.add(invocation.getArgument(1));
+              return invocation.callRealMethod();
+            })
+        .when(columnFamily)
+        .newIterator(Mockito.any(TransactionContext.class), Mockito.any(ReadOptions.class));
+
+    // when
+    firstKey.wrapLong(0);
+    columnFamily.whileEqualPrefixBounded(firstKey, (key, value) -> true);
+    firstKey.wrapLong(1);
+    columnFamily.whileEqualPrefixBounded(firstKey, (key, value) -> true);
+
+    // then
+    assertThat(readOptions).hasSize(2);
+    assertThat(readOptions.get(0)).isSameAs(readOptions.get(1));
+  }
+
+  @Test
+  public void shouldVisitPrefixInNestedBoundedIteration() {
+    // given
+    insertKeys(3, 2);
+    final DbLong nestedFirstKey = new DbLong();
+    final List<Long> visitedPrefixes = new ArrayList<>();
+
+    // when
+    firstKey.wrapLong(1);
+    columnFamily.whileEqualPrefixBounded(
+        firstKey,
+        (key, value) -> {
+          nestedFirstKey.wrapLong(2);
+          columnFamily.whileEqualPrefixBounded(
+              nestedFirstKey, (nestedKey, nestedValue) -> visitedPrefixes.add(2L));
+          return visitedPrefixes.add(1L);
+        });
+
+    // then
+    assertThat(visitedPrefixes).containsExactly(2L, 2L, 1L, 2L, 2L, 1L);
+  }
+
+  @Test
+  public void shouldComputeUpperBoundOfPrefix() {
+    // given
+    final byte[] prefix = {0x01, 0x7F, (byte) 0xFF, 0x42};
+
+    // when - then
+    try (final var readOptions = new UpperBoundReadOptions()) {
+      assertThat(readOptions.withUpperBoundOf(prefix, 4)).isNotNull();
+      assertThat(bytes(readOptions.upperBound())).containsExactly(0x01, 0x7F, 0xFF, 0x43);
+      assertThat(readOptions.withUpperBoundOf(prefix, 3)).isNotNull();
+      assertThat(bytes(readOptions.upperBound())).containsExactly(0x01, 0x80);
+      assertThat(readOptions.withUpperBoundOf(new byte[] {(byte) 0xFF, (byte) 0xFF}, 2)).isNull();
+    }
+  }
+
+  private static byte[] bytes(final ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  private void insertKeys(final long prefixes, final long suffixes) {
+    for (long prefix = 0; prefix < prefixes; prefix++) {
+      firstKey.wrapLong(prefix);
+      for (long suffix = 0; suffix < suffixes; suffix++) {
+        secondKey.wrapLong(suffix);
+        columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+      }
+    }
+  }
 }